@@ -0,0 +1,132 @@
+/**
+ * CloudSim Plus: A highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristicsSimple;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Bandwidth;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.resources.Ram;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerCompletelyFair;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A benchmark for the {@link CloudletSchedulerCompletelyFair}, that runs
+ * the same scenario of the CompletelyFairSchedulerRunner testbed
+ * (a single 32-PE VM running Cloudlets of 10000 MI requiring from 1 to 4 PEs),
+ * but with a configurable number of Cloudlets.
+ * As the number of Cloudlets grows above the number of VM PEs,
+ * most of them stay into the scheduler runqueue.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class CloudletSchedulerCompletelyFairBenchmark {
+    private static final int HOST_PES = 32;
+    private static final int VM_PES = HOST_PES;
+    private static final double MIPS = 1000;
+    private static final long CLOUDLET_LENGTH = 10000;
+    private static final int MAX_CLOUDLET_PES = 4;
+
+    @Param({"32", "1000", "5000"})
+    private int cloudlets;
+
+    private CloudSim simulation;
+
+    @Setup(Level.Invocation)
+    public void doSetup() {
+        Log.disable();
+        final Random random = new Random(1);
+        simulation = new CloudSim();
+        new DatacenterSimple(simulation, new DatacenterCharacteristicsSimple(Collections.singletonList(createHost())), new VmAllocationPolicySimple());
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final Vm vm = new VmSimple(0, MIPS, VM_PES)
+            .setRam(512).setBw(1000).setSize(10000)
+            .setCloudletScheduler(new CloudletSchedulerCompletelyFair())
+            .setBroker(broker);
+        broker.submitVmList(Collections.singletonList(vm));
+
+        final List<Cloudlet> cloudletList = new ArrayList<>(cloudlets);
+        for (int i = 0; i < cloudlets; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(i, CLOUDLET_LENGTH, 1 + random.nextInt(MAX_CLOUDLET_PES))
+                .setFileSize(300)
+                .setOutputSize(300)
+                .setUtilizationModel(new UtilizationModelFull())
+                .setBroker(broker);
+            cloudlet.setPriority(random.nextInt(11) - 5);
+            cloudletList.add(cloudlet);
+        }
+        broker.submitCloudletList(cloudletList);
+    }
+
+    private Host createHost() {
+        final List<Pe> peList = new ArrayList<>(HOST_PES);
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(i, new PeProvisionerSimple(MIPS)));
+        }
+
+        return new HostSimple(0, 1000000, peList)
+            .setRamProvisioner(new ResourceProvisionerSimple(new Ram(2048)))
+            .setBwProvisioner(new ResourceProvisionerSimple(new Bandwidth(10000)))
+            .setVmScheduler(new VmSchedulerTimeShared());
+    }
+
+    @Benchmark
+    public double testRunSimulation() {
+        return simulation.start();
+    }
+}
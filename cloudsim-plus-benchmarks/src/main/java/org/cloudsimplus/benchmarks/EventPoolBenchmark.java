@@ -0,0 +1,131 @@
+/**
+ * CloudSim Plus: A highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.util.Log;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A benchmark that measures the effect of enabling the recycling of simulation events
+ * by means of {@link CloudSim#setEventPoolCapacity(int)}.
+ * A set of entities exchange messages until a given number of events is sent.
+ *
+ * <p>The allocation rate should be checked running the benchmark
+ * with the JMH GC profiler (the {@code -prof gc} command line option),
+ * comparing the {@code gc.alloc.rate.norm} metric for the different pool capacities.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class EventPoolBenchmark {
+    private static final int PING_TAG = 1;
+
+    /**
+     * The total number of events to be sent by all entities.
+     */
+    private static final int EVENTS = 1_000_000;
+
+    private static final int ENTITIES = 100;
+
+    /**
+     * The capacity of the event pool, where 0 disables event recycling.
+     */
+    @Param({"0", "1024"})
+    private int poolCapacity;
+
+    private CloudSim simulation;
+
+    /**
+     * The number of events sent by all entities.
+     */
+    private int sentEvents;
+
+    @Setup(Level.Invocation)
+    public void doSetup() {
+        Log.disable();
+        sentEvents = 0;
+        simulation = new CloudSim().setEventPoolCapacity(poolCapacity);
+        final PingEntity first = new PingEntity(simulation);
+        PingEntity previous = first;
+        for (int i = 1; i < ENTITIES; i++) {
+            final PingEntity entity = new PingEntity(simulation);
+            previous.next = entity;
+            previous = entity;
+        }
+
+        previous.next = first;
+    }
+
+    @Benchmark
+    public double testRunSimulation() {
+        return simulation.start();
+    }
+
+    /**
+     * An entity that, when receives an event, sends a new one to the next entity,
+     * until the total number of {@link #EVENTS} is reached.
+     */
+    private class PingEntity extends CloudSimEntity {
+        private PingEntity next;
+
+        PingEntity(CloudSim simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startEntity() {
+            sendToNextEntity();
+        }
+
+        @Override
+        public void processEvent(SimEvent ev) {
+            if (sentEvents < EVENTS) {
+                sendToNextEntity();
+            }
+        }
+
+        private void sendToNextEntity() {
+            sentEvents++;
+            schedule(next.getId(), 1, PING_TAG);
+        }
+
+        @Override
+        public void shutdownEntity() {}
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * CloudSim Plus: A highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudbus.cloudsim.network.BlockedFloydWarshall;
+import org.cloudbus.cloudsim.network.FloydWarshall;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A benchmark that compares the time to calculate the delay between all pairs of nodes
+ * of a random network topology using the {@link FloydWarshall} and
+ * the {@link BlockedFloydWarshall} implementations, the last one
+ * both sequentially and in parallel.
+ * Each node is linked to a few random other ones.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class FloydWarshallBenchmark {
+    /**
+     * The number of links from each node to random other ones.
+     */
+    private static final int LINKS_PER_NODE = 4;
+
+    @Param({"256", "1024"})
+    private int nodes;
+
+    private double[][] adjMatrix;
+
+    private BlockedFloydWarshall sequentialBlocked;
+
+    private BlockedFloydWarshall parallelBlocked;
+
+    @Setup(Level.Trial)
+    public void doSetup() {
+        final Random random = new Random(nodes);
+        adjMatrix = new double[nodes][nodes];
+        for (int i = 0; i < nodes; i++) {
+            for (int l = 0; l < LINKS_PER_NODE; l++) {
+                final int j = random.nextInt(nodes);
+                final double delay = 1 + random.nextDouble() * 10;
+                adjMatrix[i][j] = delay;
+                adjMatrix[j][i] = delay;
+            }
+        }
+
+        sequentialBlocked = new BlockedFloydWarshall(BlockedFloydWarshall.DEFAULT_BLOCK_SIZE, false);
+        parallelBlocked = new BlockedFloydWarshall();
+    }
+
+    @Benchmark
+    public double[][] testFloydWarshall() {
+        return new FloydWarshall(nodes).allPairsShortestPaths(adjMatrix);
+    }
+
+    @Benchmark
+    public double[][] testSequentialBlockedFloydWarshall() {
+        return sequentialBlocked.allPairsShortestPaths(adjMatrix);
+    }
+
+    @Benchmark
+    public double[][] testParallelBlockedFloydWarshall() {
+        return parallelBlocked.allPairsShortestPaths(adjMatrix);
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * CloudSim Plus: A highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.benchmarks;
+
+import java.util.Random;
+
+import org.cloudbus.cloudsim.core.events.CalendarQueue;
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.core.events.FutureEventQueue;
+import org.cloudbus.cloudsim.core.events.FutureQueue;
+import org.cloudbus.cloudsim.core.events.HeapQueue;
+import org.cloudbus.cloudsim.core.events.LadderQueue;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A set of benchmarks comparing the {@link FutureEventQueue} implementations
+ * using the classic hold model: the queue is filled with a given number of events
+ * and each operation polls the first event and schedules a new one
+ * at the time of the polled event plus a random increment.
+ * This way, the queue size remains constant along the benchmark.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Thread)
+public class FutureEventQueueBenchmark {
+    /**
+     * The number of pre-computed random time increments,
+     * avoiding the cost of random number generation to be measured.
+     */
+    private static final int INCREMENTS = 1 << 16;
+
+    @Param({"FutureQueue", "HeapQueue", "CalendarQueue", "LadderQueue"})
+    private String queueType;
+
+    @Param({"1000", "100000", "1000000"})
+    private int queueSize;
+
+    /**
+     * The distribution of the time increments for new events.
+     */
+    @Param({"exponential", "uniform", "bimodal"})
+    private String distribution;
+
+    private FutureEventQueue queue;
+    private double[] increments;
+    private int nextIncrement;
+
+    @Setup(Level.Trial)
+    public void doSetup() {
+        final Random random = new Random(1);
+        increments = new double[INCREMENTS];
+        for (int i = 0; i < INCREMENTS; i++) {
+            increments[i] = nextIncrement(random);
+        }
+
+        queue = createQueue();
+        for (int i = 0; i < queueSize; i++) {
+            queue.addEvent(createEvent(increments[i % INCREMENTS]));
+        }
+    }
+
+    private double nextIncrement(Random random) {
+        switch (distribution) {
+            case "uniform": return random.nextDouble() * 2;
+            case "bimodal": return random.nextDouble() < 0.9 ? random.nextDouble() * 0.1 : 10 + random.nextDouble();
+            default: return -Math.log(1 - random.nextDouble());
+        }
+    }
+
+    private FutureEventQueue createQueue() {
+        switch (queueType) {
+            case "HeapQueue": return new HeapQueue();
+            case "CalendarQueue": return new CalendarQueue();
+            case "LadderQueue": return new LadderQueue();
+            default: return new FutureQueue();
+        }
+    }
+
+    private SimEvent createEvent(double time) {
+        return new CloudSimEvent(null, SimEvent.Type.SEND, time, 0, 0, 0, null);
+    }
+
+    @Benchmark
+    public SimEvent testHold() {
+        final SimEvent first = queue.pollFirst();
+        nextIncrement = (nextIncrement + 1) & (INCREMENTS - 1);
+        queue.addEvent(createEvent(first.eventTime() + increments[nextIncrement]));
+        return first;
+    }
+}
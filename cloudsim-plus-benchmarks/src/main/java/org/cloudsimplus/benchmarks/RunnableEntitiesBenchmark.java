@@ -0,0 +1,119 @@
+/**
+ * CloudSim Plus: A highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.util.Log;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A benchmark that measures the cost of simulation ticks when
+ * just a few of the simulation entities are {@link SimEntity.State#RUNNABLE}.
+ * Each active entity sends an event to itself at every simulation second
+ * until a given number of ticks is reached, while the other entities
+ * keep waiting for events during the entire simulation.
+ * The execution time is expected to depend on the number of active entities,
+ * not on the total number of entities.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class RunnableEntitiesBenchmark {
+    private static final int TICK_TAG = 1;
+
+    /**
+     * The number of simulation ticks each active entity generates.
+     */
+    private static final int TICKS = 1000;
+
+    @Param({"1000", "10000", "100000"})
+    private int totalEntities;
+
+    @Param({"10", "100"})
+    private int activeEntities;
+
+    private CloudSim simulation;
+
+    @Setup(Level.Invocation)
+    public void doSetup() {
+        Log.disable();
+        simulation = new CloudSim();
+        for (int i = 0; i < totalEntities; i++) {
+            new TickEntity(simulation, i < activeEntities);
+        }
+    }
+
+    @Benchmark
+    public double testRunSimulation() {
+        return simulation.start();
+    }
+
+    /**
+     * An entity that, if active, sends an event to itself at every second
+     * until the number of {@link #TICKS} is reached.
+     * Otherwise, it waits for events along the entire simulation.
+     */
+    private static class TickEntity extends CloudSimEntity {
+        private final boolean active;
+
+        TickEntity(CloudSim simulation, boolean active) {
+            super(simulation);
+            this.active = active;
+        }
+
+        @Override
+        protected void startEntity() {
+            if (active) {
+                schedule(getId(), 1, TICK_TAG);
+            } else {
+                setState(State.WAITING);
+            }
+        }
+
+        @Override
+        public void processEvent(SimEvent ev) {
+            if (getSimulation().clock() < TICKS) {
+                schedule(getId(), 1, TICK_TAG);
+            }
+        }
+
+        @Override
+        public void shutdownEntity() {}
+    }
+}
@@ -27,10 +27,21 @@ import org.apache.commons.math3.distribution.TDistribution;
 import org.apache.commons.math3.exception.MathIllegalArgumentException;
 import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.LogContext;
 import org.cloudbus.cloudsim.distributions.UniformDistr;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * A base class to run a given experiment a defined number of times
@@ -41,6 +52,15 @@ import java.util.List;
  * @author Manoel Campos da Silva Filho
  */
 public abstract class ExperimentRunner<T extends SimulationExperiment> implements Runnable {
+	/**
+	 * The maximum number of experiments, per available processor, whose simulations
+	 * may be running at the same time when the experiments are run in parallel.
+	 * Up to the same number of experiments whose simulations are over
+	 * may be waiting for the previous experiments to be finished.
+	 * @see #setExperimentsExecutor(ExecutorService)
+	 */
+	public static final int MAX_PENDING_EXPERIMENTS_PER_PROCESSOR = 2;
+
 	protected boolean verbose = false;
 	/**
 	 * @see #getBaseSeed()
@@ -76,6 +96,11 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
 	 */
 	private int numberOfBatches;
 
+	/**
+	 * @see #getExperimentsExecutor()
+	 */
+	private ExecutorService experimentsExecutor;
+
 	/**
 	 * Creates an experiment runner, setting the {@link #getBaseSeed() base seed}
 	 * as the current time.
@@ -418,6 +443,13 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
 
 	/**
 	 * Setup and starts the execution of the experiments.
+	 * The experiments are executed using a {@link LogContext} where the {@link Log} is disabled,
+	 * without changing the logging settings of the rest of the application.
+	 *
+	 * <p>If an {@link #getExperimentsExecutor() experiments executor} is set,
+	 * the simulations of the experiments are executed in parallel.
+	 * However, the experiments are always created and finished in order by the thread
+	 * calling this method, so that results are the same of a sequential execution.</p>
 	 */
 	@Override
 	public void run() {
@@ -425,24 +457,134 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
 
 		printSimulationParameters();
 
-		Log.disable();
-        try {
-            experimentsStartTime = System.currentTimeMillis();
-            for(int i = 0; i < getNumberOfSimulationRuns(); i++){
-	            if(isVerbose()) {
-		            System.out.print(((i+1) % 100 == 0 ? String.format(". Run #%d\n", i+1) : "."));
-	            }
-	            createExperiment(i).run();
-            }
-            System.out.println();
-            experimentsFinishTime = (System.currentTimeMillis() - experimentsStartTime)/1000;
-        } finally {
-            Log.enable();
+		final LogContext experimentsLog = new LogContext();
+		experimentsLog.disable();
+        experimentsStartTime = System.currentTimeMillis();
+        if(Objects.isNull(experimentsExecutor)) {
+            runExperimentsSequentially(experimentsLog);
+        } else {
+            runExperimentsInParallel(experimentsLog);
         }
+        System.out.println();
+        experimentsFinishTime = (System.currentTimeMillis() - experimentsStartTime)/1000;
 
         printFinalResults(computeFinalStatistics());
 	}
 
+	private void runExperimentsSequentially(final LogContext experimentsLog) {
+        Log.runInContext(experimentsLog, () -> {
+            for(int i = 0; i < getNumberOfSimulationRuns(); i++){
+                printProgress(i);
+                createExperiment(i).run();
+            }
+            return null;
+        });
+    }
+
+	/**
+	 * Creates the experiments in order and submits their simulations to the
+	 * {@link #getExperimentsExecutor() experiments executor}.
+	 * Simulations are collected as soon as they are over, in any order, by means of an {@link ExecutorCompletionService}.
+	 * However, each experiment is {@link SimulationExperiment#finish() finished} by the current thread,
+	 * in the same order it was created, when its simulation and the ones of the
+	 * previous experiments are over. This way, the seeds are generated and the
+	 * {@link SimulationExperiment#setAfterExperimentFinish(java.util.function.Consumer) after finish Consumers}
+	 * aggregate the results in the same order of a sequential execution.
+	 * Up to {@link #MAX_PENDING_EXPERIMENTS_PER_PROCESSOR} simulations per processor
+	 * are running at the same time, so that all experiments aren't kept in memory at the same time.
+	 * Experiments are also created inside the given logging context,
+	 * so that nothing they log while being created is output.
+	 * If any experiment fails, the simulations of the other ones are cancelled
+	 * and the failure is rethrown.
+	 *
+	 * @param experimentsLog the logging context to run the experiments
+	 */
+	private void runExperimentsInParallel(final LogContext experimentsLog) {
+	    final int maxPendingExperiments =
+            MAX_PENDING_EXPERIMENTS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors();
+	    final CompletionService<T> completionService = new ExecutorCompletionService<>(experimentsExecutor);
+        /* A map where each key is the Future of a running simulation and each value is the index of its experiment. */
+	    final Map<Future<T>, Integer> runningExperiments = new HashMap<>();
+        /* The experiments whose simulations are over, waiting the previous ones to be finished, sorted by index. */
+	    final SortedMap<Integer, T> simulatedExperiments = new TreeMap<>();
+	    int createdExperiments = 0;
+	    int finishedExperiments = 0;
+        try {
+            while (finishedExperiments < getNumberOfSimulationRuns()) {
+                while (createdExperiments < getNumberOfSimulationRuns() &&
+                       runningExperiments.size() < maxPendingExperiments &&
+                       simulatedExperiments.size() < maxPendingExperiments)
+                {
+                    final int experimentIndex = createdExperiments++;
+                    final T experiment = Log.runInContext(experimentsLog, () -> createExperiment(experimentIndex));
+                    final Future<T> runningExperiment = completionService.submit(() -> Log.runInContext(experimentsLog, () -> {
+                        experiment.buildScenarioAndStart();
+                        return experiment;
+                    }));
+                    runningExperiments.put(runningExperiment, experimentIndex);
+                }
+
+                final Future<T> simulatedExperiment = takeSimulatedExperiment(completionService);
+                final int experimentIndex = runningExperiments.remove(simulatedExperiment);
+                simulatedExperiments.put(experimentIndex, getExperiment(simulatedExperiment));
+                while (!simulatedExperiments.isEmpty() && simulatedExperiments.firstKey() == finishedExperiments) {
+                    finishExperiment(simulatedExperiments.remove(finishedExperiments), finishedExperiments++, experimentsLog);
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            runningExperiments.keySet().forEach(runningExperiment -> runningExperiment.cancel(true));
+            throw e;
+        }
+    }
+
+    private Future<T> takeSimulatedExperiment(final CompletionService<T> completionService) {
+        try {
+            return completionService.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting an experiment to finish.", e);
+        }
+    }
+
+	/**
+	 * Finishes an experiment whose simulation is over.
+	 *
+	 * @param experiment the experiment to finish
+	 * @param i the number that identifies the experiment
+	 * @param experimentsLog the logging context to finish the experiment
+	 */
+	private void finishExperiment(final T experiment, final int i, final LogContext experimentsLog) {
+        printProgress(i);
+        Log.runInContext(experimentsLog, () -> {
+            experiment.finish();
+            return null;
+        });
+    }
+
+    private T getExperiment(final Future<T> simulatedExperiment) {
+        try {
+            return simulatedExperiment.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting an experiment to finish.", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+	private void printProgress(final int i) {
+        if(isVerbose()) {
+            System.out.print(((i+1) % 100 == 0 ? String.format(". Run #%d\n", i+1) : "."));
+        }
+    }
+
 	/**
 	 * Creates an experiment to be run for the i'th time.
 	 *
@@ -511,6 +653,30 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
 		return this;
 	}
 
+	/**
+	 * Gets the {@link ExecutorService} used to run the simulations of the experiments in parallel,
+	 * or null if they are run sequentially by the thread calling {@link #run()}.
+	 *
+	 * @return the experiments executor or null
+	 */
+	public ExecutorService getExperimentsExecutor() {
+		return experimentsExecutor;
+	}
+
+	/**
+	 * Sets an {@link ExecutorService} to run the simulations of the experiments in parallel.
+	 * Any executor can be used, such as a fixed thread pool
+	 * or, in newer JDKs, an executor that starts a virtual thread for each task.
+	 * The executor is not shut down by the runner.
+	 *
+	 * @param experimentsExecutor the executor to run the experiments or null to run them sequentially
+	 * @return the ExperimentRunner instance
+	 */
+	public ExperimentRunner setExperimentsExecutor(ExecutorService experimentsExecutor) {
+		this.experimentsExecutor = experimentsExecutor;
+		return this;
+	}
+
 	/**
 	 * Indicates if the runner will output execution logs or not.
      * This doesn't affect the verbosity of individual experiments executed.
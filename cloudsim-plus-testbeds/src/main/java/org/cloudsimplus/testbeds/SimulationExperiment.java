@@ -167,11 +167,28 @@ public abstract class SimulationExperiment implements Runnable {
 	 */
 	@Override
 	public void run() {
-		buildScenario();
+		buildScenarioAndStart();
+		finish();
+	}
 
+	/**
+	 * Builds the simulation scenario and starts execution,
+	 * without performing the post-processing of the experiment.
+	 * It enables an {@link ExperimentRunner} to execute experiments in parallel
+	 * and then {@link #finish() finish} them in order.
+	 */
+	void buildScenarioAndStart() {
+		buildScenario();
 		cloudsim.start();
-		getAfterExperimentFinish().accept(this);
+	}
 
+	/**
+	 * Performs the post-processing of the experiment after its simulation has finished,
+	 * calling the {@link #setAfterExperimentFinish(Consumer) after finish Consumer}
+	 * and printing the results.
+	 */
+	void finish() {
+		getAfterExperimentFinish().accept(this);
 		printResultsInternal();
 	}
 
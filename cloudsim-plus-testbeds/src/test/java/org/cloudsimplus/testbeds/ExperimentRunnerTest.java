@@ -0,0 +1,306 @@
+/**
+ * CloudSim Plus: A highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.testbeds;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Bandwidth;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.resources.Ram;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.LogContext;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class ExperimentRunnerTest {
+    private static final int SIMULATION_RUNS = 6;
+    private static final int FAILING_EXPERIMENT = 0;
+
+    @Test
+    public void testRun_ParallelExecutionIsEqualToSequential() throws InterruptedException {
+        final ByteArrayOutputStream sequentialLog = new ByteArrayOutputStream();
+        final TestRunner sequential = new TestRunner(-1);
+        runWithLogOutput(sequential, sequentialLog);
+
+        final ByteArrayOutputStream parallelLog = new ByteArrayOutputStream();
+        final TestRunner parallel = new TestRunner(-1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            parallel.setExperimentsExecutor(executor);
+            runWithLogOutput(parallel, parallelLog);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(SIMULATION_RUNS, sequential.finishTimes.size());
+        assertEquals(sequential.getSeeds(), parallel.getSeeds());
+        assertEquals(sequential.finishTimes, parallel.finishTimes);
+        assertEquals(sequential.finishedExperiments, parallel.finishedExperiments);
+        assertEquals("", sequentialLog.toString());
+        assertEquals("", parallelLog.toString());
+    }
+
+    @Test
+    public void testRun_ParallelExecutionFinishesExperimentsInOrderWhenSimulationsAreOverOutOfOrder() {
+        final TestRunner runner = new TestRunner(-1);
+        runner.holdFirstExperiment = true;
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            runner.setExperimentsExecutor(executor);
+            runWithLogOutput(runner, new ByteArrayOutputStream());
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(Arrays.asList(1, 0), runner.simulatedExperiments.subList(0, 2));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5), runner.finishedExperiments);
+    }
+
+    @Test
+    public void testRun_ParallelExecutionCancelsPendingExperimentsWhenOneFails() throws InterruptedException {
+        final TestRunner runner = new TestRunner(FAILING_EXPERIMENT);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        runner.setExperimentsExecutor(executor);
+        try {
+            runWithLogOutput(runner, new ByteArrayOutputStream());
+            fail("The failure of an experiment should be rethrown");
+        } catch (IllegalStateException e) {
+            assertEquals("Experiment " + FAILING_EXPERIMENT + " failed", e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(0, runner.startedSimulations.get());
+        assertTrue(runner.finishedExperiments.isEmpty());
+    }
+
+    private static void runWithLogOutput(final TestRunner runner, final ByteArrayOutputStream output) {
+        final LogContext log = new LogContext();
+        log.setOutput(output);
+        log.enable();
+        Log.runInContext(log, runner);
+    }
+
+    /**
+     * A runner whose experiments log while they are created
+     * and record their results in the order they are finished.
+     */
+    private static final class TestRunner extends ExperimentRunner<TestExperiment> {
+        private final int failingExperiment;
+        private final List<Integer> finishedExperiments = Collections.synchronizedList(new ArrayList<>());
+        private final List<List<Double>> finishTimes = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger startedSimulations = new AtomicInteger();
+        private final List<Integer> simulatedExperiments = Collections.synchronizedList(new ArrayList<>());
+
+        /**
+         * Indicates if the simulation of the first experiment has to wait
+         * the simulation of the second one to be over.
+         */
+        private boolean holdFirstExperiment;
+
+        /**
+         * A latch released when the simulation of the second experiment is over.
+         */
+        private final CountDownLatch secondExperimentLatch = new CountDownLatch(1);
+
+        /**
+         * A latch that is never released, to hold the simulation of experiments
+         * after a failing one until they are cancelled.
+         */
+        private final CountDownLatch failureLatch = new CountDownLatch(1);
+
+        /**
+         * @param failingExperiment the index of the experiment that has to fail, or -1 if none
+         */
+        private TestRunner(final int failingExperiment) {
+            super();
+            this.failingExperiment = failingExperiment;
+            setBaseSeed(1475098589732L);
+            setNumberOfSimulationRuns(SIMULATION_RUNS);
+        }
+
+        @Override
+        protected TestExperiment createExperiment(final int i) {
+            Log.printFormattedLine("Creating experiment %d", i);
+            final TestExperiment experiment = new TestExperiment(i, this, createRandomGenAndAddSeedToList(i, 1000, 10000));
+            experiment.setAfterExperimentFinish(this::afterExperimentFinish);
+            return experiment;
+        }
+
+        private void afterExperimentFinish(final TestExperiment experiment) {
+            finishedExperiments.add(experiment.getIndex());
+            final List<Double> times = new ArrayList<>();
+            for (final Cloudlet cloudlet : experiment.getBrokerList().get(0).getCloudletsFinishedList()) {
+                times.add(cloudlet.getFinishTime());
+            }
+            finishTimes.add(times);
+        }
+
+        @Override
+        protected void setup() {}
+
+        @Override
+        protected void printSimulationParameters() {}
+
+        @Override
+        protected SummaryStatistics computeFinalStatistics() {
+            return new SummaryStatistics();
+        }
+
+        @Override
+        protected void printFinalResults(final SummaryStatistics stats) {}
+    }
+
+    private static final class TestExperiment extends SimulationExperiment {
+        private static final int HOSTS = 2;
+        private static final int VMS = 4;
+        private static final int CLOUDLETS = 8;
+
+        private final TestRunner testRunner;
+        private final UniformDistr cloudletLengthRandom;
+
+        private TestExperiment(final int index, final TestRunner runner, final UniformDistr cloudletLengthRandom) {
+            super(index, runner);
+            this.testRunner = runner;
+            this.cloudletLengthRandom = cloudletLengthRandom;
+        }
+
+        @Override
+        protected void buildScenario() {
+            if (getIndex() == testRunner.failingExperiment) {
+                throw new IllegalStateException("Experiment " + getIndex() + " failed");
+            }
+
+            if (testRunner.failingExperiment >= 0) {
+                try {
+                    testRunner.failureLatch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Experiment " + getIndex() + " cancelled", e);
+                }
+            }
+
+            if (testRunner.holdFirstExperiment && getIndex() == 0) {
+                awaitSecondExperiment();
+            }
+
+            testRunner.startedSimulations.incrementAndGet();
+            super.buildScenario();
+        }
+
+        @Override
+        void buildScenarioAndStart() {
+            super.buildScenarioAndStart();
+            testRunner.simulatedExperiments.add(getIndex());
+            if (getIndex() == 1) {
+                testRunner.secondExperimentLatch.countDown();
+            }
+        }
+
+        private void awaitSecondExperiment() {
+            try {
+                testRunner.secondExperimentLatch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Experiment " + getIndex() + " interrupted", e);
+            }
+        }
+
+        @Override
+        protected DatacenterBroker createBroker() {
+            return new DatacenterBrokerSimple(getCloudsim());
+        }
+
+        @Override
+        protected void createHosts() {
+            for (int i = 0; i < HOSTS; i++) {
+                addNewHostToList(() -> {
+                    final List<Pe> peList = new ArrayList<>();
+                    for (int j = 0; j < 4; j++) {
+                        peList.add(new PeSimple(j, new PeProvisionerSimple(1000)));
+                    }
+
+                    return new HostSimple(getNumberOfCreatedHosts(), 1000000, peList)
+                        .setRamProvisioner(new ResourceProvisionerSimple(new Ram(2048)))
+                        .setBwProvisioner(new ResourceProvisionerSimple(new Bandwidth(10000)))
+                        .setVmScheduler(new VmSchedulerTimeShared());
+                });
+            }
+        }
+
+        @Override
+        protected void createVms(final DatacenterBroker broker) {
+            for (int i = 0; i < VMS; i++) {
+                addNewVmToList(() ->
+                    new VmSimple(getNumberOfCreatedVms(), 1000, 2)
+                        .setRam(512).setBw(1000).setSize(10000)
+                        .setCloudletScheduler(new CloudletSchedulerTimeShared())
+                        .setBroker(broker));
+            }
+        }
+
+        @Override
+        protected void createCloudlets(final DatacenterBroker broker) {
+            for (int i = 0; i < CLOUDLETS; i++) {
+                addNewCloudletToList(() ->
+                    new CloudletSimple(getNumberOfCreatedCloudlets(), (long) cloudletLengthRandom.sample(), 1)
+                        .setFileSize(300)
+                        .setOutputSize(300)
+                        .setUtilizationModel(new UtilizationModelFull())
+                        .setBroker(broker));
+            }
+        }
+
+        @Override
+        public void printResults() {}
+    }
+}
@@ -67,6 +67,24 @@ public interface VmAllocationPolicy {
      */
      <T extends Host> List<T> getHostList();
 
+    /**
+     * Notifies the policy that a Host was added to the {@link #getHostList() Host list}
+     * of its {@link Datacenter}, so that it can update the data it keeps about Hosts.
+     * The default implementation does nothing.
+     *
+     * @param host the added Host
+     */
+    default void processHostAddition(Host host) {}
+
+    /**
+     * Notifies the policy that a Host was removed from the {@link #getHostList() Host list}
+     * of its {@link Datacenter}, so that it can update the data it keeps about Hosts.
+     * The default implementation does nothing.
+     *
+     * @param host the removed Host
+     */
+    default void processHostRemoval(Host host) {}
+
     /**
      * Optimize allocation of the VMs according to current utilization.
      *
@@ -154,6 +154,16 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
         getHostList().forEach(host -> hostFreePesMap.put(host, host.getNumberOfPes()));
     }
 
+    @Override
+    public void processHostAddition(Host host) {
+        hostFreePesMap.put(host, host.getNumberOfPes());
+    }
+
+    @Override
+    public void processHostRemoval(Host host) {
+        hostFreePesMap.remove(host);
+    }
+
     /**
      * Gets a map with the number of free PEs for each host from {@link #getHostList()}.
      *
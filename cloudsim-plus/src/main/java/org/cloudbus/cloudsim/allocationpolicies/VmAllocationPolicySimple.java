@@ -26,6 +26,25 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Toolkit 1.0
  */
 public class VmAllocationPolicySimple extends VmAllocationPolicyAbstract {
+    /**
+     * The Hosts from the {@link #getHostFreePesMap()} grouped by their number of free PEs,
+     * where the groups are sorted in decreasing order of free PEs.
+     * Inside a group, Hosts are kept in the order they were included into it.
+     * It enables getting the Hosts with most free PEs without checking all of them.
+     *
+     * @see #getHostsByFreePes()
+     */
+    private final NavigableMap<Integer, Set<Host>> hostsByFreePes = new TreeMap<>(Comparator.reverseOrder());
+
+    /**
+     * The free PEs map the {@link #hostsByFreePes} was built from.
+     */
+    private Map<Host, Integer> indexedHostFreePesMap;
+
+    /**
+     * The number of Hosts into the {@link #hostsByFreePes}.
+     */
+    private int indexedHosts;
 
     /**
      * Creates a new VmAllocationPolicySimple object.
@@ -59,22 +78,21 @@ public class VmAllocationPolicySimple extends VmAllocationPolicyAbstract {
             return false;
         }
 
-        List<Host> hostsWhereVmCreationFailed = new ArrayList<>();
         //We still trying until we find a host or until we try all of them
-        for(int tries = 0; tries < getHostFreePesMap().size(); tries++) {
-            Map.Entry<Host, Integer> entry = getHostWithLessUsedPes(hostsWhereVmCreationFailed);
-            Host host = entry.getKey();
-            final int hostFreePes = entry.getValue();
-            if (host.vmCreate(vm)) {
-                mapVmToPm(vm, host);
-                addUsedPes(vm);
-                getHostFreePesMap().put(host, hostFreePes - vm.getNumberOfPes());
-                if(!hostsWhereVmCreationFailed.isEmpty()){
-                    Log.printFormattedLine("[VmAllocationPolicy] VM #%d was successfully allocated to Host #%d", vm.getId(), host.getId());
+        boolean vmCreationFailed = false;
+        for (Set<Host> hosts : getHostsByFreePes().values()) {
+            for (Host host : hosts) {
+                if (host.vmCreate(vm)) {
+                    mapVmToPm(vm, host);
+                    addUsedPes(vm);
+                    updateHostFreePes(host, getHostFreePesMap().get(host) - vm.getNumberOfPes());
+                    if (vmCreationFailed) {
+                        Log.printFormattedLine("[VmAllocationPolicy] VM #%d was successfully allocated to Host #%d", vm.getId(), host.getId());
+                    }
+                    return true;
                 }
-                return true;
-            } else {
-                hostsWhereVmCreationFailed.add(host);
+
+                vmCreationFailed = true;
             }
         }
 
@@ -90,7 +108,7 @@ public class VmAllocationPolicySimple extends VmAllocationPolicyAbstract {
         mapVmToPm(vm, host);
         final int requiredPes = vm.getNumberOfPes();
         addUsedPes(vm);
-        getHostFreePesMap().put(host, getHostFreePesMap().get(host) - requiredPes);
+        updateHostFreePes(host, getHostFreePesMap().get(host) - requiredPes);
 
         Log.printFormattedLine(
             "%.2f: VM #%d has been allocated to the host #%d",
@@ -99,23 +117,64 @@ public class VmAllocationPolicySimple extends VmAllocationPolicyAbstract {
     }
 
     /**
-     * Gets the host from the {@link #getHostList()} that has
-     * the less number of used PEs.
+     * Gets the Hosts from the {@link #getHostFreePesMap()} grouped by their number of free PEs,
+     * sorted in decreasing order of free PEs, so that the Hosts with less used PEs come first.
+     * Hosts with the same number of free PEs are ordered according to the time
+     * they reached such a number, that initially is the order of the {@link #getHostList()}.
      *
-     * <b>The method must not be called without checking if the host list is empty first.</b>
+     * <p>The groups are rebuilt if the free PEs map was replaced or has
+     * a different number of Hosts than when the groups were built.
+     * Changes in the number of free PEs of a Host must be performed by
+     * {@link #updateHostFreePes(Host, int)}.</p>
      *
-     * @param ignoredHosts the list of hosts that have to be ignored when selecting the
-     *                     host with less used PEs. These list can be, for instance,
-     *                     the list of hosts that the creation of a given VM failed.
-     * @return an Entry where the key is the Host and the value is
-     * the number of used PEs if a Host is found, or an Entry with a {@link Host#NULL}
-     * key if not found
+     * @return a map where each key is a number of free PEs and each value is the set of Hosts having such a number
      */
-    private Map.Entry<Host, Integer> getHostWithLessUsedPes(List<Host> ignoredHosts) {
-        return getHostFreePesMap().entrySet().stream()
-            .filter(entry -> !ignoredHosts.contains(entry.getKey()))
-            .max(Comparator.comparing(Map.Entry::getValue))
-            .orElseGet(() -> new TreeMap.SimpleEntry<>(Host.NULL, 0));
+    private NavigableMap<Integer, Set<Host>> getHostsByFreePes() {
+        final Map<Host, Integer> hostFreePesMap = getHostFreePesMap();
+        if (indexedHostFreePesMap == hostFreePesMap && indexedHosts == hostFreePesMap.size()) {
+            return hostsByFreePes;
+        }
+
+        hostsByFreePes.clear();
+        indexedHosts = 0;
+        final Set<Host> hosts = new LinkedHashSet<>(getHostList());
+        hosts.addAll(hostFreePesMap.keySet());
+        for (Host host : hosts) {
+            final Integer freePes = hostFreePesMap.get(host);
+            if (Objects.nonNull(freePes)) {
+                addHostToFreePesGroup(host, freePes);
+            }
+        }
+
+        indexedHostFreePesMap = hostFreePesMap;
+        return hostsByFreePes;
+    }
+
+    /**
+     * Sets the number of free PEs of a Host, moving it to the
+     * {@link #getHostsByFreePes() group} of Hosts with such a number of free PEs.
+     *
+     * @param host the Host to update
+     * @param freePes the new number of free PEs of the Host
+     */
+    private void updateHostFreePes(Host host, int freePes) {
+        getHostsByFreePes();
+        final Integer previousFreePes = getHostFreePesMap().put(host, freePes);
+        if (Objects.nonNull(previousFreePes)) {
+            final Set<Host> hosts = hostsByFreePes.get(previousFreePes);
+            hosts.remove(host);
+            if (hosts.isEmpty()) {
+                hostsByFreePes.remove(previousFreePes);
+            }
+            indexedHosts--;
+        }
+
+        addHostToFreePesGroup(host, freePes);
+    }
+
+    private void addHostToFreePesGroup(Host host, int freePes) {
+        hostsByFreePes.computeIfAbsent(freePes, pes -> new LinkedHashSet<>()).add(host);
+        indexedHosts++;
     }
 
     @Override
@@ -124,7 +183,7 @@ public class VmAllocationPolicySimple extends VmAllocationPolicyAbstract {
         int pes = removeUsedPes(vm);
         if (host != Host.NULL) {
             host.destroyVm(vm);
-            getHostFreePesMap().put(host, getHostFreePesMap().get(host) + pes);
+            updateHostFreePes(host, getHostFreePesMap().get(host) + pes);
         }
     }
 
@@ -0,0 +1,96 @@
+package org.cloudbus.cloudsim.allocationpolicies.power;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.power.PowerHost;
+
+/**
+ * Keeps the current power consumption and the planned CPU utilization of Hosts
+ * computed while a {@link PowerVmAllocationPolicyMigrationAbstract} looks for Hosts
+ * to place a list of VMs, so that they are computed just once for each Host
+ * along such a pass, instead of once for each VM being placed.
+ *
+ * <p>Values are just kept while a pass is {@link #open() open}.
+ * Since Hosts are not changed while migrations are planned, the power consumption of a Host
+ * is kept until the pass is {@link #close() closed}, while its utilization has to be
+ * {@link #invalidate(Host) invalidated} every time a VM is planned to be placed into or removed from it.
+ * It may be accessed by multiple threads scoring Hosts in parallel.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ */
+final class HostScoreCache {
+    private final Map<PowerHost, Double> power = new ConcurrentHashMap<>();
+    private final Map<PowerHost, Double> utilizationMips = new ConcurrentHashMap<>();
+
+    /**
+     * Indicates if a pass is open, so that values are kept.
+     */
+    private volatile boolean open;
+
+    /**
+     * Starts keeping the values computed for Hosts.
+     */
+    void open() {
+        clearValues();
+        open = true;
+    }
+
+    /**
+     * Stops keeping the values computed for Hosts, discarding the kept ones.
+     */
+    void close() {
+        open = false;
+        clearValues();
+    }
+
+    private void clearValues() {
+        power.clear();
+        utilizationMips.clear();
+    }
+
+    /**
+     * Discards the utilization kept for a Host, which is required when
+     * a VM is planned to be placed into or removed from it.
+     *
+     * @param host the Host to discard its utilization
+     */
+    void invalidate(Host host) {
+        utilizationMips.remove(host);
+    }
+
+    /**
+     * Gets the current power consumption of a Host, computing it
+     * just once while the pass is open.
+     *
+     * @param host the Host to get its power consumption
+     * @return the Host power consumption
+     * @see PowerHost#getPower()
+     */
+    double getPower(PowerHost host) {
+        return get(power, host, PowerHost::getPower);
+    }
+
+    /**
+     * Gets the planned CPU utilization of a Host in MIPS, computing it
+     * just once while the pass is open, until it's {@link #invalidate(Host) invalidated}.
+     *
+     * @param host the Host to get its utilization
+     * @param computation the function that computes the utilization of a Host
+     * @return the Host CPU utilization in MIPS
+     */
+    double getUtilizationOfCpuMips(PowerHost host, ToDoubleFunction<PowerHost> computation) {
+        return get(utilizationMips, host, computation);
+    }
+
+    private double get(Map<PowerHost, Double> values, PowerHost host, ToDoubleFunction<PowerHost> computation) {
+        if (!open) {
+            return computation.applyAsDouble(host);
+        }
+
+        return values.computeIfAbsent(host, computation::applyAsDouble);
+    }
+}
@@ -0,0 +1,280 @@
+package org.cloudbus.cloudsim.allocationpolicies.power;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostDynamicWorkloadSimple;
+import org.cloudbus.cloudsim.hosts.power.PowerHost;
+import org.cloudsimplus.listeners.EventListener;
+import org.cloudsimplus.listeners.HostEventInfo;
+
+/**
+ * Keeps the Hosts used by a {@link PowerVmAllocationPolicyMigrationAbstract}
+ * indexed by their {@link PowerHost#getUtilizationOfCpu() CPU utilization}:
+ * switched off Hosts (which have zero utilization) are stored into a set,
+ * the other ones are sorted in increasing order of utilization
+ * and the over utilized ones are stored into another set.
+ *
+ * <p>Instead of checking the utilization of every Host when the policy
+ * needs it, the index registers itself as an
+ * {@link HostDynamicWorkloadSimple#addOnUtilizationUpdateListener(EventListener) utilization update listener}
+ * for each Host, just moving the Hosts whose utilization changed
+ * and checking again if the updated Hosts are over utilized.
+ * Hosts that don't provide such a listener are checked again every time the index is used.</p>
+ *
+ * <p>The index is built from the Host list of a Datacenter and has to be
+ * {@link #invalidate() invalidated} when Hosts are added to or removed from such a list.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ */
+final class HostUtilizationIndex {
+    private final EventListener<HostEventInfo> utilizationUpdateListener = info -> onUtilizationUpdate((PowerHost) info.getHost());
+
+    /**
+     * The Host list the index was built from.
+     */
+    private List<? extends Host> hostList = Collections.emptyList();
+
+    /**
+     * Indicates if the index has to be built again from the {@link #hostList}.
+     */
+    private boolean invalid;
+
+    /**
+     * The utilization of each Host when it was included into the index,
+     * used to sort the {@link #activeHosts}.
+     */
+    private final Map<PowerHost, Double> utilization = new HashMap<>();
+
+    /**
+     * The position of each Host into the {@link #hostList},
+     * used to sort the {@link #activeHosts} with the same utilization
+     * and the {@link #overUtilizedHosts}.
+     */
+    private final Map<PowerHost, Integer> positions = new HashMap<>();
+
+    /**
+     * Hosts which don't notify utilization updates,
+     * that have to be checked again every time the index is used.
+     */
+    private final List<PowerHost> unobservedHosts = new ArrayList<>();
+
+    /**
+     * Hosts having zero utilization.
+     */
+    private final Set<PowerHost> switchedOffHosts = new LinkedHashSet<>();
+
+    /**
+     * Hosts having some utilization, sorted in increasing order of utilization.
+     */
+    private final NavigableSet<PowerHost> activeHosts = new TreeSet<>(this::compareHosts);
+
+    /**
+     * Hosts found to be over utilized, sorted in the order they are in the {@link #hostList}.
+     */
+    private final NavigableSet<PowerHost> overUtilizedHosts = new TreeSet<>(this::compareHostPositions);
+
+    /**
+     * Hosts whose utilization was updated since the last time the {@link #overUtilizedHosts} were got,
+     * which have to be checked again to know if they are over utilized.
+     */
+    private final Set<PowerHost> overUtilizationCheckPendingHosts = new HashSet<>();
+
+    /**
+     * A number that is incremented every time the index changes,
+     * used to invalidate the {@link #cursor}.
+     */
+    private long version;
+
+    /**
+     * An iterator over the {@link #activeHosts} used by
+     * {@link #findActiveHost(Set, Predicate)} to continue a search from
+     * where the previous one stopped.
+     */
+    private Iterator<PowerHost> cursor = Collections.emptyIterator();
+
+    /**
+     * The Host the {@link #cursor} is pointing to, which
+     * wasn't excluded from the last search, or null if the cursor must be advanced.
+     */
+    private PowerHost cursorHost;
+
+    /**
+     * The excluded Hosts set given to the search the {@link #cursor} belongs to.
+     */
+    private Set<? extends Host> cursorExcludedHosts;
+
+    /**
+     * The {@link #version} of the index when the {@link #cursor} was created.
+     */
+    private long cursorVersion = -1;
+
+    /**
+     * Builds the index again if it was {@link #invalidate() invalidated}
+     * or the given Host list is not the one it was built from.
+     * Otherwise, just checks again the Hosts that don't notify utilization updates.
+     *
+     * @param hostList the list of Hosts to index
+     */
+    void update(List<? extends Host> hostList) {
+        if (this.hostList == hostList && !invalid) {
+            unobservedHosts.forEach(this::onUtilizationUpdate);
+            return;
+        }
+
+        clear();
+        this.hostList = hostList;
+        int position = 0;
+        for (Host host : hostList) {
+            final PowerHost powerHost = (PowerHost) host;
+            positions.put(powerHost, position++);
+            if (host instanceof HostDynamicWorkloadSimple) {
+                ((HostDynamicWorkloadSimple) host).addOnUtilizationUpdateListener(utilizationUpdateListener);
+            } else {
+                unobservedHosts.add(powerHost);
+            }
+
+            add(powerHost);
+        }
+    }
+
+    /**
+     * Makes the index to be built again the next time it is {@link #update(List) updated},
+     * which is required when Hosts are added to or removed from the Host list.
+     */
+    void invalidate() {
+        invalid = true;
+    }
+
+    private void clear() {
+        for (Host host : hostList) {
+            if (host instanceof HostDynamicWorkloadSimple) {
+                ((HostDynamicWorkloadSimple) host).removeOnUtilizationUpdateListener(utilizationUpdateListener);
+            }
+        }
+
+        invalid = false;
+        utilization.clear();
+        positions.clear();
+        unobservedHosts.clear();
+        switchedOffHosts.clear();
+        activeHosts.clear();
+        overUtilizedHosts.clear();
+        overUtilizationCheckPendingHosts.clear();
+        version++;
+    }
+
+    private void onUtilizationUpdate(PowerHost host) {
+        final Double previousUtilization = utilization.get(host);
+        if (Objects.isNull(previousUtilization)) {
+            return;
+        }
+
+        overUtilizationCheckPendingHosts.add(host);
+        if (previousUtilization == host.getUtilizationOfCpu()) {
+            return;
+        }
+
+        if (!switchedOffHosts.remove(host)) {
+            activeHosts.remove(host);
+        }
+
+        add(host);
+    }
+
+    private void add(PowerHost host) {
+        final double hostUtilization = host.getUtilizationOfCpu();
+        utilization.put(host, hostUtilization);
+        if (hostUtilization > 0) {
+            activeHosts.add(host);
+        } else {
+            switchedOffHosts.add(host);
+        }
+
+        overUtilizationCheckPendingHosts.add(host);
+        version++;
+    }
+
+    /**
+     * Gets the Hosts having zero utilization.
+     *
+     * @return a read-only set of switched off Hosts
+     */
+    Set<PowerHost> getSwitchedOffHosts() {
+        return Collections.unmodifiableSet(switchedOffHosts);
+    }
+
+    /**
+     * Gets the over utilized Hosts, in the order they were in the Host list when the index was built.
+     * Just the Hosts whose utilization was updated since the last call are checked
+     * using the given condition, so the condition must only change
+     * when the utilization of a Host is updated.
+     *
+     * @param overUtilized the condition to check if a Host is over utilized
+     * @param <T> the class of Hosts
+     * @return a read-only set of over utilized Hosts
+     */
+    <T extends PowerHost> Set<T> getOverUtilizedHosts(Predicate<PowerHost> overUtilized) {
+        for (PowerHost host : overUtilizationCheckPendingHosts) {
+            if (overUtilized.test(host)) {
+                overUtilizedHosts.add(host);
+            } else {
+                overUtilizedHosts.remove(host);
+            }
+        }
+
+        overUtilizationCheckPendingHosts.clear();
+        return (Set<T>) Collections.unmodifiableSet(overUtilizedHosts);
+    }
+
+    /**
+     * Finds the Host with the lowest utilization (greater than zero) which is not into a given
+     * set of excluded Hosts and meets a given condition.
+     * Hosts with the same utilization are selected in the order they appear in the Host list.
+     *
+     * <p>While the index doesn't change, subsequent calls with the same set of excluded Hosts
+     * continue the search from the Host found in the previous call, since a loop looking for Hosts
+     * usually excludes every Host it has found. Thus, Hosts may be excluded
+     * from the set while it's being used, but never included again.
+     * The given condition must not change for the Hosts already checked along such a loop.</p>
+     *
+     * @param excludedHosts the Hosts to ignore
+     * @param condition the condition the Host must meet
+     * @return the found Host or {@link PowerHost#NULL} if not found
+     */
+    PowerHost findActiveHost(Set<? extends Host> excludedHosts, Predicate<PowerHost> condition) {
+        if (excludedHosts != cursorExcludedHosts || version != cursorVersion) {
+            cursor = activeHosts.iterator();
+            cursorHost = null;
+            cursorExcludedHosts = excludedHosts;
+            cursorVersion = version;
+        }
+
+        while (true) {
+            if (Objects.isNull(cursorHost)) {
+                if (!cursor.hasNext()) {
+                    return PowerHost.NULL;
+                }
+
+                cursorHost = cursor.next();
+            }
+
+            if (!excludedHosts.contains(cursorHost) && condition.test(cursorHost)) {
+                return cursorHost;
+            }
+
+            cursorHost = null;
+        }
+    }
+
+    private int compareHosts(PowerHost host1, PowerHost host2) {
+        final int result = Double.compare(utilization.get(host1), utilization.get(host2));
+        return result != 0 ? result : compareHostPositions(host1, host2);
+    }
+
+    private int compareHostPositions(PowerHost host1, PowerHost host2) {
+        return Integer.compare(positions.get(host1), positions.get(host2));
+    }
+}
@@ -8,13 +8,17 @@
 package org.cloudbus.cloudsim.allocationpolicies.power;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.cloudbus.cloudsim.hosts.Host;
-import org.cloudbus.cloudsim.hosts.HostDynamicWorkload;
 import org.cloudbus.cloudsim.hosts.power.PowerHost;
 import org.cloudbus.cloudsim.lists.VmList;
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.LogContext;
 import org.cloudbus.cloudsim.hosts.power.PowerHostUtilizationHistory;
 import org.cloudbus.cloudsim.selectionpolicies.power.PowerVmSelectionPolicy;
 import org.cloudbus.cloudsim.vms.power.PowerVm;
@@ -44,6 +48,11 @@ import org.cloudbus.cloudsim.util.ExecutionTimeMeasurer;
  */
 public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAllocationPolicyAbstract
     implements PowerVmAllocationPolicyMigration {
+    /**
+     * The number of chunks of candidate Hosts per available processor
+     * the candidates are split into when they are {@link #getHostScoringExecutor() scored in parallel}.
+     */
+    private static final int HOST_CHUNKS_PER_PROCESSOR = 4;
 
     /**@see #getUnderUtilizationThreshold() */
     private double underUtilizationThreshold = 0.35;
@@ -54,9 +63,13 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
     private PowerVmSelectionPolicy vmSelectionPolicy;
 
     /**
-     * A list of maps between a VM and the host where it is placed.
+     * Records the changes in VM placement planned along an allocation optimization,
+     * without changing the Hosts, which are discarded when it finishes.
+     *
+     * @see #saveAllocation()
+     * @see #restoreAllocation()
      */
-    private final Map<Vm, Host> savedAllocation = new HashMap<>();
+    private VmPlacementLedger placementLedger = new VmPlacementLedger();
 
     /**
      * A map of CPU utilization history (in percentage) for each host, where
@@ -111,6 +124,26 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
      */
     private final List<Double> executionTimeHistoryTotal = new LinkedList<>();
 
+    /**
+     * The Hosts indexed by their CPU utilization, which is updated
+     * as the utilization of each Host changes.
+     *
+     * @see #getHostUtilizationIndex()
+     */
+    private final HostUtilizationIndex hostUtilizationIndex = new HostUtilizationIndex();
+
+    /**
+     * The power consumption and planned CPU utilization of Hosts computed
+     * while looking for Hosts to place a list of VMs.
+     *
+     * @see #getNewVmPlacement(List, Set)
+     * @see #getNewVmPlacementFromUnderUtilizedHost(List, Set)
+     */
+    private final HostScoreCache hostScoreCache = new HostScoreCache();
+
+    /** @see #getHostScoringExecutor() */
+    private ExecutorService hostScoringExecutor;
+
     /**
      * Creates a PowerVmAllocationPolicyMigrationAbstract.
      *
@@ -250,7 +283,7 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
     protected double getPowerAfterAllocationDifference(PowerHost host, Vm vm){
         final double powerAfterAllocation = getPowerAfterAllocation(host, vm);
         if (powerAfterAllocation > 0) {
-            return powerAfterAllocation - host.getPower();
+            return powerAfterAllocation - hostScoreCache.getPower(host);
         }
 
         return 0;
@@ -258,6 +291,8 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
 
     /**
      * Checks if a host will be over utilized after placing of a candidate VM.
+     * The VM is just tentatively placed into the Host while checking it,
+     * without changing the Host.
      *
      * @param host the host to verify
      * @param vm the candidate vm
@@ -266,13 +301,66 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
      */
     protected boolean isHostNotOverusedAfterAllocation(PowerHost host, Vm vm) {
         boolean isHostOverUtilizedAfterAllocation = true;
-        if (host.vmCreate(vm)) {
+        if (placementLedger.createVm(host, vm)) {
             isHostOverUtilizedAfterAllocation = isHostOverUtilized(host);
-            host.destroyVm(vm);
+            placementLedger.destroyVm(host, vm);
         }
         return !isHostOverUtilizedAfterAllocation;
     }
 
+    /**
+     * Checks if a Host has enough resources to place a VM, considering the
+     * VM placement changes planned along the current allocation optimization.
+     *
+     * @param host the Host to check
+     * @param vm the VM to check
+     * @return true if the VM can be placed into the Host, false otherwise
+     * @see Host#isSuitableForVm(Vm)
+     */
+    protected boolean isHostSuitableForVm(PowerHost host, Vm vm) {
+        return placementLedger.isSuitableForVm(host, vm);
+    }
+
+    /**
+     * Gets the VMs placed into a Host, considering the VM placement changes
+     * planned along the current allocation optimization.
+     * Outside an allocation optimization, it's just the {@link Host#getVmList() Host's VM list}.
+     *
+     * @param host the Host to get its VMs
+     * @param <T> the class of VMs inside the list
+     * @return the list of VMs placed or planned to be placed into the Host
+     */
+    protected <T extends Vm> List<T> getPlannedVmList(Host host) {
+        return placementLedger.getVmList(host);
+    }
+
+    /**
+     * Gets the CPU utilization percentage history of a Host, considering the VM placement changes
+     * planned along the current allocation optimization.
+     *
+     * @param host the Host to get its utilization history
+     * @return the host CPU utilization percentage history,
+     * where the first element is the most recent value
+     * @see PowerHostUtilizationHistory#getUtilizationHistory()
+     */
+    protected double[] getUtilizationHistory(PowerHostUtilizationHistory host) {
+        if (placementLedger.getChangedHosts().contains(host)) {
+            return host.getUtilizationHistory(placementLedger.<PowerVm>getVmList(host));
+        }
+
+        return host.getUtilizationHistory();
+    }
+
+    /**
+     * Makes another policy use the same record of planned VM placement changes as this one,
+     * so that it sees the same tentative placements when called by this policy.
+     *
+     * @param policy the policy to share the planned changes with
+     */
+    void sharePlacementLedgerWith(PowerVmAllocationPolicyMigrationAbstract policy) {
+        policy.placementLedger = this.placementLedger;
+    }
+
     @Override
     public PowerHost findHostForVm(Vm vm) {
         Set<Host> excludedHosts = new HashSet<>();
@@ -290,16 +378,117 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
      * @return the PM found to host the VM or {@link PowerHost#NULL} if not found
      */
     public PowerHost findHostForVm(Vm vm, Set<? extends Host> excludedHosts) {
-        Comparator<PowerHost> hostPowerConsumptionComparator =
-            Comparator.comparingDouble(h -> getPowerAfterAllocationDifference(h, vm));
-
-        return this.<PowerHost>getHostList().stream()
+        final PowerHost[] candidates = this.<PowerHost>getHostList().stream()
             .filter(h -> !excludedHosts.contains(h))
-            .filter(h -> h.isSuitableForVm(vm))
+            .filter(h -> isHostSuitableForVm(h, vm))
             .filter(h -> isHostNotOverusedAfterAllocation(h, vm))
-            .filter(h -> getPowerAfterAllocation(h, vm) > 0)
-            .min(hostPowerConsumptionComparator)
-            .orElse(PowerHost.NULL);
+            .toArray(PowerHost[]::new);
+
+        final double[] powerDifferences = scoreHosts(candidates, vm);
+        PowerHost selectedHost = PowerHost.NULL;
+        double minPowerDifference = Double.MAX_VALUE;
+        for (int i = 0; i < candidates.length; i++) {
+            if (!Double.isNaN(powerDifferences[i]) &&
+                (selectedHost == PowerHost.NULL || Double.compare(powerDifferences[i], minPowerDifference) < 0))
+            {
+                selectedHost = candidates[i];
+                minPowerDifference = powerDifferences[i];
+            }
+        }
+
+        return selectedHost;
+    }
+
+    /**
+     * Computes the {@link #getPowerAfterAllocationDifference(PowerHost, Vm) power consumption difference}
+     * after the supposed placement of a VM into each one of a list of candidate Hosts,
+     * computing the power after allocation just once for each Host.
+     * The Hosts are scored in parallel if a {@link #setHostScoringExecutor(ExecutorService) Host scoring executor}
+     * is set.
+     *
+     * @param candidates the candidate Hosts
+     * @param vm the VM to be placed
+     * @return an array where each element is the power consumption difference for the Host at the same index,
+     * or {@link Double#NaN} if the power consumption after allocation could not be determined
+     */
+    private double[] scoreHosts(PowerHost[] candidates, Vm vm) {
+        final double[] powerDifferences = new double[candidates.length];
+        final int chunks = Objects.isNull(hostScoringExecutor) ? 1 :
+            Math.min(candidates.length, HOST_CHUNKS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors());
+        if (chunks < 2) {
+            scoreHosts(candidates, vm, powerDifferences, 0, candidates.length);
+            return powerDifferences;
+        }
+
+        final LogContext logContext = Log.getContext();
+        final List<Callable<Void>> tasks = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            final int from = (int)((long)candidates.length * i / chunks);
+            final int to = (int)((long)candidates.length * (i + 1) / chunks);
+            tasks.add(() -> {
+                Log.runInContext(logContext, () -> scoreHosts(candidates, vm, powerDifferences, from, to));
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> future : hostScoringExecutor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scoring Hosts for " + vm, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+
+        return powerDifferences;
+    }
+
+    private void scoreHosts(PowerHost[] candidates, Vm vm, double[] powerDifferences, int from, int to) {
+        for (int i = from; i < to; i++) {
+            final double powerAfterAllocation = getPowerAfterAllocation(candidates[i], vm);
+            powerDifferences[i] = powerAfterAllocation > 0 ?
+                powerAfterAllocation - hostScoreCache.getPower(candidates[i]) : Double.NaN;
+        }
+    }
+
+    /**
+     * Gets the executor used to score, in parallel, the candidate Hosts for placing a VM
+     * when looking for the Host which will have the lowest increase in power consumption,
+     * or null if the candidates are scored sequentially (the default).
+     *
+     * @return the Host scoring executor or null
+     * @see #setHostScoringExecutor(ExecutorService)
+     * @see #findHostForVm(Vm, Set)
+     */
+    public ExecutorService getHostScoringExecutor() {
+        return hostScoringExecutor;
+    }
+
+    /**
+     * Sets an executor to score, in parallel, the candidate Hosts for placing a VM,
+     * such as a {@link java.util.concurrent.ForkJoinPool}, which is useful
+     * for Datacenters with a large number of Hosts.
+     * The executor is not shut down by the policy.
+     *
+     * <p>Since the scoring just reads the state of the Hosts, the selected Host is the same
+     * either an executor is set or not. However, subclasses overriding
+     * {@link #getPowerAfterAllocation(PowerHost, Vm)} or {@link #getUtilizationOfCpuMips(PowerHost)}
+     * must be thread-safe to use it.</p>
+     *
+     * @param hostScoringExecutor the executor to score Hosts in parallel
+     * or null to score them sequentially
+     * @see #findHostForVm(Vm, Set)
+     */
+    public void setHostScoringExecutor(ExecutorService hostScoringExecutor) {
+        this.hostScoringExecutor = hostScoringExecutor;
     }
 
     /**
@@ -316,6 +505,9 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
 
     /**
      * Gets a new vm placement considering the list of VM to migrate.
+     * The power consumption and CPU utilization of each Host are
+     * computed just once along the placement of all VMs,
+     * except for the Hosts VMs are placed into.
      *
      * @param vmsToMigrate the list of VMs to migrate
      * @param excludedHosts the list of hosts that aren't selected as
@@ -327,20 +519,28 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
             List<Vm> vmsToMigrate, Set<Host> excludedHosts) {
         Map<Vm, Host> migrationMap = new HashMap<>();
         VmList.sortByCpuUtilization(vmsToMigrate, getDatacenter().getSimulation().clock());
-        for (Vm vm : vmsToMigrate) {
-            PowerHost allocatedHost = findHostForVm(vm, excludedHosts);
-            if (allocatedHost != PowerHost.NULL) {
-                allocatedHost.vmCreate(vm);
-                Log.printConcatLine("VM #", vm.getId(), " allocated to host #", allocatedHost.getId());
+        hostScoreCache.open();
+        try {
+            for (Vm vm : vmsToMigrate) {
+                PowerHost allocatedHost = findHostForVm(vm, excludedHosts);
+                if (allocatedHost != PowerHost.NULL) {
+                    placeVm(allocatedHost, vm);
+                    Log.printConcatLine("VM #", vm.getId(), " allocated to host #", allocatedHost.getId());
 
-                migrationMap.put(vm, allocatedHost);
+                    migrationMap.put(vm, allocatedHost);
+                }
             }
+        } finally {
+            hostScoreCache.close();
         }
         return migrationMap;
     }
 
     /**
      * Gets the new vm placement from under utilized host.
+     * The power consumption and CPU utilization of each Host are
+     * computed just once along the placement of all VMs,
+     * except for the Hosts VMs are placed into.
      *
      * @param vmsToMigrate the list of VMs to migrate
      * @param excludedHosts the list of hosts that aren't selected as
@@ -352,23 +552,40 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
             Set<? extends Host> excludedHosts) {
         Map<Vm, Host> migrationMap = new HashMap<>();
         VmList.sortByCpuUtilization(vmsToMigrate, getDatacenter().getSimulation().clock());
-        for (Vm vm : vmsToMigrate) {
-            PowerHost allocatedHost = findHostForVm(vm, excludedHosts);
-            if (allocatedHost != PowerHost.NULL) {
-                allocatedHost.vmCreate(vm);
-                Log.printConcatLine("VM #", vm.getId(), " allocated to host #", allocatedHost.getId());
-                migrationMap.put(vm, allocatedHost);
-            } else {
-                Log.printLine("Not all VMs can be reallocated from the host, reallocation cancelled");
-                migrationMap.entrySet().forEach(e -> e.getValue().destroyVm(e.getKey()));
-                migrationMap.clear();
-                break;
+        hostScoreCache.open();
+        try {
+            for (Vm vm : vmsToMigrate) {
+                PowerHost allocatedHost = findHostForVm(vm, excludedHosts);
+                if (allocatedHost != PowerHost.NULL) {
+                    placeVm(allocatedHost, vm);
+                    Log.printConcatLine("VM #", vm.getId(), " allocated to host #", allocatedHost.getId());
+                    migrationMap.put(vm, allocatedHost);
+                } else {
+                    Log.printLine("Not all VMs can be reallocated from the host, reallocation cancelled");
+                    migrationMap.entrySet().forEach(e -> placementLedger.destroyVm(e.getValue(), e.getKey()));
+                    migrationMap.clear();
+                    break;
+                }
             }
+        } finally {
+            hostScoreCache.close();
         }
 
         return migrationMap;
     }
 
+    /**
+     * Plans the placement of a VM into a Host, discarding the
+     * CPU utilization computed for such a Host along the current placement of VMs.
+     *
+     * @param host the Host to place the VM into
+     * @param vm the VM to place
+     */
+    private void placeVm(PowerHost host, Vm vm) {
+        placementLedger.createVm(host, vm);
+        hostScoreCache.invalidate(host);
+    }
+
     /**
      * Gets the VMs to migrate from hosts.
      *
@@ -378,13 +595,14 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
     protected List<Vm> getVmsToMigrateFromHosts(List<PowerHostUtilizationHistory> overUtilizedHosts) {
         List<Vm> vmsToMigrate = new LinkedList<>();
         for (PowerHostUtilizationHistory host : overUtilizedHosts) {
+            final Set<Vm> selectedVms = new HashSet<>();
             while (true) {
-                Vm vm = getVmSelectionPolicy().getVmToMigrate(host);
-                if (vm == Vm.NULL) {
+                Vm vm = getVmSelectionPolicy().getVmToMigrate(host, selectedVms);
+                if (vm == Vm.NULL || !selectedVms.add(vm)) {
                     break;
                 }
                 vmsToMigrate.add(vm);
-                host.destroyVm(vm);
+                placementLedger.destroyVm(host, vm);
                 if (!isHostOverUtilized(host)) {
                     break;
                 }
@@ -401,7 +619,7 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
      * @return the vms to migrate from under utilized host
      */
     protected List<? extends Vm> getVmsToMigrateFromUnderUtilizedHost(PowerHost host) {
-        return host.getVmList().stream()
+        return getPlannedVmList(host).stream()
             .filter(vm -> !vm.isInMigration())
             .collect(Collectors.toCollection(LinkedList::new));
     }
@@ -409,12 +627,15 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
     /**
      * Gets the over utilized hosts.
      *
+     * <p>The over utilized Hosts are kept into a set that is updated
+     * just for the Hosts whose CPU utilization was updated since the last call,
+     * which are checked again using {@link #isHostOverUtilized(PowerHost)}.
+     * Therefore, the other Hosts don't get a new entry in the {@link #getMetricHistory() metric history}.</p>
+     *
      * @return the over utilized hosts
      */
     protected List<PowerHostUtilizationHistory> getOverUtilizedHosts() {
-        return this.<PowerHostUtilizationHistory>getHostList().stream()
-            .filter(this::isHostOverUtilized)
-            .collect(Collectors.toCollection(LinkedList::new));
+        return new LinkedList<>(getHostUtilizationIndex().getOverUtilizedHosts(this::isHostOverUtilized));
     }
 
     /**
@@ -423,25 +644,47 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
      * @return the switched off hosts
      */
     protected List<PowerHost> getSwitchedOffHosts() {
-        return this.<PowerHost>getHostList().stream()
-            .filter(host -> host.getUtilizationOfCpu() == 0)
-            .collect(Collectors.toCollection(LinkedList::new));
+        return new LinkedList<>(getHostUtilizationIndex().getSwitchedOffHosts());
     }
 
     /**
      * Gets the most under utilized Host.
      *
+     * <p>Hosts are kept sorted by CPU utilization, so that the search just
+     * checks Hosts in increasing order of utilization, stopping at the first one
+     * that isn't excluded. Successive calls passing the same set of excluded Hosts,
+     * where every Host returned is added to such a set, continue the search
+     * from where the previous call stopped.</p>
+     *
      * @param excludedHosts the Hosts that have to be disconsidering when looking for the under utilized Host
      * @return the most under utilized host or {@link PowerHost#NULL}
      * if no Host was found
      */
     protected PowerHost getUnderUtilizedHost(Set<? extends Host> excludedHosts) {
-        return this.<PowerHost>getHostList().stream()
-            .filter(h -> !excludedHosts.contains(h))
-            .filter(h -> h.getUtilizationOfCpu() > 0)
-            .filter(h -> isNotAllVmsMigratingOutNorVmsAreMigratingIn(h))
-            .min(Comparator.comparingDouble(HostDynamicWorkload::getUtilizationOfCpu))
-            .orElse(PowerHost.NULL);
+        return getHostUtilizationIndex().findActiveHost(excludedHosts, this::isNotAllVmsMigratingOutNorVmsAreMigratingIn);
+    }
+
+    @Override
+    public void processHostAddition(Host host) {
+        super.processHostAddition(host);
+        hostUtilizationIndex.invalidate();
+    }
+
+    @Override
+    public void processHostRemoval(Host host) {
+        super.processHostRemoval(host);
+        hostUtilizationIndex.invalidate();
+    }
+
+    /**
+     * Gets the index of Hosts by CPU utilization,
+     * building it if Hosts were added or removed.
+     *
+     * @return
+     */
+    private HostUtilizationIndex getHostUtilizationIndex() {
+        hostUtilizationIndex.update(getDatacenter().getHostList());
+        return hostUtilizationIndex;
     }
 
     /**
@@ -453,7 +696,7 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
      * @return
      */
     protected boolean isNotAllVmsMigratingOutNorVmsAreMigratingIn(PowerHost host) {
-        for (PowerVm vm : host.<PowerVm>getVmList()) {
+        for (PowerVm vm : this.<PowerVm>getPlannedVmList(host)) {
             if (!vm.isInMigration()) { //VM is not in migration process (in or out)
                 //there is at least one VM that is not migrating anywhere (nor ir or out)
                 return true;
@@ -472,42 +715,25 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
     }
 
     /**
-     * Updates the list of maps between a VM and the host where it is place.
+     * Starts recording the changes in VM placement planned along an allocation optimization,
+     * which are discarded by {@link #restoreAllocation()}.
+     * Hosts are not changed while migrations are planned.
      *
-     * @see #savedAllocation
+     * <p>Subclasses that place or remove VMs while planning migrations
+     * have to do that through {@link #getVmsToMigrateFromHosts(List)},
+     * {@link #getNewVmPlacement(List, Set)} or {@link #getNewVmPlacementFromUnderUtilizedHost(List, Set)},
+     * and read the VMs of a Host using {@link #getPlannedVmList(Host)}.</p>
      */
     protected void saveAllocation() {
-        getSavedAllocation().clear();
-        for (Host host : getHostList()) {
-            for (Vm vm : host.getVmList()) {
-                if (!host.getVmsMigratingIn().contains(vm)) {
-                    getSavedAllocation().put(vm, host);
-                }
-            }
-        }
+        placementLedger.clear();
     }
 
     /**
-     * Restore VM allocation from the allocation history.
-     *
-     * @see #savedAllocation
+     * Discards the VM placement changes planned since the last call to {@link #saveAllocation()}.
+     * Since Hosts are not changed while migrations are planned, there is nothing to undo.
      */
     protected void restoreAllocation() {
-        for (Host host : getHostList()) {
-            host.destroyAllVms();
-            host.reallocateMigratingInVms();
-        }
-
-        for (Vm vm : getSavedAllocation().keySet()) {
-            PowerHost host = (PowerHost) getSavedAllocation().get(vm);
-            if (!host.vmCreate(vm)) {
-                throw new RuntimeException(
-                    String.format(
-                        "Couldn't restore VM #%d on host #%d",
-                        vm.getId(), host.getId()));
-            }
-            getVmHostMap().put(vm, host);
-        }
+        placementLedger.clear();
     }
 
     /**
@@ -533,7 +759,9 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
     /**
      * Gets the max power consumption of a host after placement of a candidate
      * VM. The VM is not in fact placed at the host. We assume that load is
-     * balanced between PEs. The only restriction is: VM's max MIPS < PE's MIPS
+     * balanced between PEs. The only restriction is: VM's max MIPS < PE's MIPS.
+     * While VMs are being placed, the CPU utilization of the Host is computed
+     * just once until a VM is placed into it.
      *
      * @param host the host
      * @param vm the vm
@@ -542,7 +770,7 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
      */
     protected double getMaxUtilizationAfterAllocation(PowerHost host, Vm vm) {
         double requestedTotalMips = vm.getCurrentRequestedTotalMips();
-        double hostUtilizationMips = getUtilizationOfCpuMips(host);
+        double hostUtilizationMips = hostScoreCache.getUtilizationOfCpuMips(host, this::getUtilizationOfCpuMips);
         double hostPotentialUtilizationMips = hostUtilizationMips + requestedTotalMips;
         return hostPotentialUtilizationMips / host.getTotalMips();
     }
@@ -557,12 +785,13 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
      */
     protected double getUtilizationOfCpuMips(PowerHost host) {
         double hostUtilizationMips = 0;
-        for (Vm vm2 : host.getVmList()) {
+        for (Vm vm2 : getPlannedVmList(host)) {
+            final double allocatedMips = placementLedger.getTotalAllocatedMipsForVm(host, vm2);
             if (host.getVmsMigratingIn().contains(vm2)) {
                 // calculate additional potential CPU usage of a migrating in VM
-                hostUtilizationMips += host.getTotalAllocatedMipsForVm(vm2) * 0.9 / 0.1;
+                hostUtilizationMips += allocatedMips * 0.9 / 0.1;
             }
-            hostUtilizationMips += host.getTotalAllocatedMipsForVm(vm2);
+            hostUtilizationMips += allocatedMips;
         }
         return hostUtilizationMips;
     }
@@ -588,11 +817,26 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
     }
 
     /**
-     * Gets the saved allocation.
+     * Gets the placement of VMs when the current allocation optimization started.
+     * Since Hosts are not changed while migrations are planned anymore,
+     * it is just the current placement of VMs which are not migrating into a Host.
      *
-     * @return the saved allocation
+     * @return a new map between each VM and the Host where it is placed
+     * @deprecated Hosts are not changed while planning migrations anymore, so there is no
+     * allocation to save. Use {@link #getPlannedVmList(Host)} to get the VMs placed into a Host,
+     * considering the planned changes.
      */
+    @Deprecated
     protected Map<Vm, Host> getSavedAllocation() {
+        final Map<Vm, Host> savedAllocation = new HashMap<>();
+        for (Host host : getHostList()) {
+            for (Vm vm : host.getVmList()) {
+                if (!host.getVmsMigratingIn().contains(vm)) {
+                    savedAllocation.put(vm, host);
+                }
+            }
+        }
+
         return savedAllocation;
     }
 
@@ -701,7 +945,7 @@ public abstract class PowerVmAllocationPolicyMigrationAbstract extends PowerVmAl
      * @return
      */
     private double getHostTotalRequestedMips(PowerHost host) {
-        return host.getVmList().stream()
+        return getPlannedVmList(host).stream()
             .mapToDouble(Vm::getCurrentRequestedTotalMips)
             .sum();
     }
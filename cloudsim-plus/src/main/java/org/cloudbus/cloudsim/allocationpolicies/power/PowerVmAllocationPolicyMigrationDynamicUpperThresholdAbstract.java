@@ -114,6 +114,11 @@ public abstract class PowerVmAllocationPolicyMigrationDynamicUpperThresholdAbstr
             fallbackVmAllocationPolicy = PowerVmAllocationPolicyMigration.NULL;
         }
 
+        //the fallback policy has to see the VM placement changes this policy is planning
+        if(fallbackVmAllocationPolicy instanceof PowerVmAllocationPolicyMigrationAbstract){
+            sharePlacementLedgerWith((PowerVmAllocationPolicyMigrationAbstract)fallbackVmAllocationPolicy);
+        }
+
         this.fallbackVmAllocationPolicy = fallbackVmAllocationPolicy;
     }
 
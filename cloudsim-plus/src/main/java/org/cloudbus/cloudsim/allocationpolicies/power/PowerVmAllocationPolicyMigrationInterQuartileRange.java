@@ -62,7 +62,7 @@ public class PowerVmAllocationPolicyMigrationInterQuartileRange extends PowerVmA
      */
     @Override
     public double computeHostUtilizationMeasure(PowerHostUtilizationHistory host) throws IllegalArgumentException {
-        double[] data = host.getUtilizationHistory();
+        double[] data = getUtilizationHistory(host);
         if (MathUtil.countNonZeroBeginning(data) >= 12) { // 12 has been suggested as a safe value
             return MathUtil.iqr(data);
         }
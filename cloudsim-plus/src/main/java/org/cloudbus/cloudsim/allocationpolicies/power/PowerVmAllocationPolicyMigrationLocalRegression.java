@@ -110,7 +110,7 @@ public class PowerVmAllocationPolicyMigrationLocalRegression extends PowerVmAllo
      */
     @Override
     public double computeHostUtilizationMeasure(PowerHostUtilizationHistory host) throws IllegalArgumentException{
-        double[] utilizationHistory = host.getUtilizationHistory();
+        double[] utilizationHistory = getUtilizationHistory(host);
         final int length = 10; // we use 10 to make the regression responsive enough to latest values
         if (utilizationHistory.length < length) {
             throw new IllegalArgumentException("There is not enough Host history to estimate its utilization using Local Regression");
@@ -142,7 +142,7 @@ public class PowerVmAllocationPolicyMigrationLocalRegression extends PowerVmAllo
      * @return the maximum vm migration time
      */
     protected double getMaximumVmMigrationTime(PowerHost host) {
-        final double maxRam = host.getVmList().stream().mapToDouble(Vm::getRam).max().orElse(0);
+        final double maxRam = getPlannedVmList(host).stream().mapToDouble(Vm::getRam).max().orElse(0);
         return maxRam / (host.getBwCapacity() / (2 * 8));
     }
 
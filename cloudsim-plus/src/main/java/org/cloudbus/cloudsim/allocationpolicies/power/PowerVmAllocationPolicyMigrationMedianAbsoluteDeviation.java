@@ -63,7 +63,7 @@ public class PowerVmAllocationPolicyMigrationMedianAbsoluteDeviation extends Pow
      */
     @Override
     public double computeHostUtilizationMeasure(PowerHostUtilizationHistory host) throws IllegalArgumentException {
-        double[] data = host.getUtilizationHistory();
+        double[] data = getUtilizationHistory(host);
         if (MathUtil.countNonZeroBeginning(data) >= 12) { // 12 has been suggested as a safe value
             return MathUtil.mad(data);
         }
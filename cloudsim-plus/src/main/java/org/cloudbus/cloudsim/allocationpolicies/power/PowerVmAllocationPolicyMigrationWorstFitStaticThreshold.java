@@ -22,15 +22,17 @@
 package org.cloudbus.cloudsim.allocationpolicies.power;
 
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
 import org.cloudbus.cloudsim.hosts.Host;
-import org.cloudbus.cloudsim.hosts.HostDynamicWorkload;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.hosts.power.PowerHost;
 import org.cloudbus.cloudsim.hosts.power.PowerHostSimple;
+import org.cloudbus.cloudsim.hosts.power.PowerHostUtilizationHistory;
 import org.cloudbus.cloudsim.selectionpolicies.power.PowerVmSelectionPolicy;
 
 /**
@@ -54,6 +56,7 @@ public class PowerVmAllocationPolicyMigrationWorstFitStaticThreshold extends Pow
     /**
      * Gets an ascending sorted list of hosts based on CPU utilization,
      * providing a Worst Fit host allocation policy for VMs.
+     * The CPU utilization of each Host is computed just once for sorting.
      *
      * @param <T> The generic type.
      * @return The sorted list of hosts.
@@ -61,21 +64,24 @@ public class PowerVmAllocationPolicyMigrationWorstFitStaticThreshold extends Pow
      */
     @Override
     public <T extends Host> List<T> getHostList() {
-        super.<PowerHost>getHostList().sort(this::compareHosts);
+        final Map<PowerHost, Double> utilizationMips = new IdentityHashMap<>();
+        super.<PowerHost>getHostList().sort(
+            Comparator.comparingDouble(host -> utilizationMips.computeIfAbsent(host, this::getUtilizationOfCpuMips)));
         return (List<T>) super.<PowerHostSimple>getHostList();
     }
 
     /**
-     * Compares two hosts. The host with the most available CPU MIPS
-     * is considered to be greater than the other one. Thus, in a sort operation,
-     * the host will be sorted in increasing order of available CPU MIPS.
+     * {@inheritDoc}
+     * The Hosts are sorted in ascending order of CPU utilization,
+     * as the {@link #getHostList() Host list}.
      *
-     * @param host1 the first host to be compared
-     * @param host2 the second host to be compared
-     * @return
+     * @return {@inheritDoc}
      */
-    private int compareHosts(PowerHost host1, PowerHost host2) {
-        return Double.compare(getUtilizationOfCpuMips(host1), getUtilizationOfCpuMips(host2));
+    @Override
+    protected List<PowerHostUtilizationHistory> getOverUtilizedHosts() {
+        final List<PowerHostUtilizationHistory> hosts = super.getOverUtilizedHosts();
+        hosts.sort(Comparator.comparingDouble(this::getUtilizationOfCpuMips));
+        return hosts;
     }
 
     /**
@@ -92,7 +98,7 @@ public class PowerVmAllocationPolicyMigrationWorstFitStaticThreshold extends Pow
     public PowerHost findHostForVm(Vm vm, Set<? extends Host> excludedHosts) {
         return this.<PowerHost>getHostList().stream()
             .filter(host -> !excludedHosts.contains(host))
-            .filter(host -> host.isSuitableForVm(vm))
+            .filter(host -> isHostSuitableForVm(host, vm))
             .filter(host -> isHostNotOverusedAfterAllocation(host, vm))
             .findFirst()
             .orElse(PowerHost.NULL);
@@ -101,22 +107,13 @@ public class PowerVmAllocationPolicyMigrationWorstFitStaticThreshold extends Pow
     /**
      * Gets the first under utilized host based on the {@link #getUnderUtilizationThreshold()}.
      * @param excludedHosts the list of hosts to ignore
-     * @return the first under utilized host or null if there isn't any one
+     * @return the first under utilized host or {@link PowerHost#NULL} if there isn't any one
      */
     @Override
     protected PowerHost getUnderUtilizedHost(Set<? extends Host> excludedHosts) {
-        /*@todo there is duplication with the method in the PowerVmAllocationPolicyMigrationAbstract class.
-        * The only difference is that here is defined an underUtilizationThreshold.
-        * Maybe the super class could defined an abstract Predicate (boolean method)
-        * that performs the additional check to validate
-        * */
-        return this.<PowerHost>getHostList().stream()
-            .filter(h -> !excludedHosts.contains(h))
-            .filter(h -> h.getUtilizationOfCpu() > 0)
-            .filter(h -> h.getUtilizationOfCpu() < getUnderUtilizationThreshold())
-            .filter(h -> isNotAllVmsMigratingOutNorVmsAreMigratingIn(h))
-            .min(Comparator.comparingDouble(HostDynamicWorkload::getUtilizationOfCpu))
-            .orElse(PowerHost.NULL);
+        //Since the most under utilized Host is returned, there is no Host below the threshold if it isn't
+        final PowerHost host = super.getUnderUtilizedHost(excludedHosts);
+        return host.getUtilizationOfCpu() < getUnderUtilizationThreshold() ? host : PowerHost.NULL;
     }
 
 }
@@ -0,0 +1,245 @@
+package org.cloudbus.cloudsim.allocationpolicies.power;
+
+import java.util.*;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+/**
+ * Records the tentative VM placement changes a {@link PowerVmAllocationPolicyMigrationAbstract}
+ * plans while looking for VMs to migrate, without changing any {@link Host}.
+ *
+ * <p>For each Host changed since the ledger was cleared, it keeps the VMs planned to be
+ * placed into and removed from such a Host, together with the MIPS, PEs, RAM, BW and storage
+ * these VMs are planned to use or release.
+ * The Host's VM list, provisioners and {@link org.cloudbus.cloudsim.schedulers.vm.VmScheduler}
+ * are just read, so that discarding a plan is just a matter of {@link #clear() clearing} the ledger.
+ * Hosts are only changed when the VMs are actually migrated.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ */
+final class VmPlacementLedger {
+    /**
+     * A map where each key is a Host changed since the ledger was cleared
+     * and each value is the plan of changes for such a Host.
+     */
+    private final Map<Host, HostPlan> plans = new LinkedHashMap<>();
+
+    /**
+     * Tentatively places a VM into a Host, if the Host has enough resources for it,
+     * considering the resources already planned to be used or released.
+     * The Host the VM is currently placed into, if any, is not changed.
+     *
+     * @param host the Host to place the VM into
+     * @param vm the VM to place
+     * @return true if the VM was placed, false otherwise
+     */
+    boolean createVm(Host host, Vm vm) {
+        final HostPlan plan = plans.get(host);
+        if (Objects.nonNull(plan) && plan.vmsOut.containsKey(vm)) {
+            plan.release(plan.vmsOut.remove(vm), -1);
+            removePlanIfEmpty(host, plan);
+            return true;
+        }
+
+        if (getAvailableStorage(host) < vm.getSize() || !isSuitableForVm(host, vm)) {
+            return false;
+        }
+
+        final Allocation allocation = new Allocation(
+            vm.getCurrentRequestedTotalMips(), vm.getNumberOfPes(),
+            vm.getCurrentRequestedRam(), vm.getCurrentRequestedBw(), vm.getSize());
+        final HostPlan newPlan = getPlan(host);
+        newPlan.vmsIn.put(vm, allocation);
+        newPlan.release(allocation, -1);
+        return true;
+    }
+
+    /**
+     * Tentatively removes a VM from a Host, releasing the resources it is using
+     * or was planned to use.
+     *
+     * @param host the Host to remove the VM from
+     * @param vm the VM to remove
+     */
+    void destroyVm(Host host, Vm vm) {
+        final HostPlan plan = getPlan(host);
+        final Allocation planned = plan.vmsIn.remove(vm);
+        if (Objects.nonNull(planned)) {
+            plan.release(planned, 1);
+            removePlanIfEmpty(host, plan);
+            return;
+        }
+
+        if (plan.vmsOut.containsKey(vm) || !host.getVmList().contains(vm)) {
+            removePlanIfEmpty(host, plan);
+            return;
+        }
+
+        final Allocation allocation = new Allocation(
+            host.getTotalAllocatedMipsForVm(vm), vm.getNumberOfPes(),
+            host.getRamProvisioner().getAllocatedResourceForVm(vm),
+            host.getBwProvisioner().getAllocatedResourceForVm(vm),
+            vm.getSize());
+        plan.vmsOut.put(vm, allocation);
+        plan.release(allocation, 1);
+    }
+
+    /**
+     * Checks if a Host has enough resources to place a VM,
+     * considering the resources already planned to be used or released.
+     * The VM is considered to request the resources it currently requests,
+     * as it does when it's actually placed into the Host.
+     * Whether the PEs of the Host can be allocated to the VM is decided
+     * by the Host's {@link org.cloudbus.cloudsim.schedulers.vm.VmScheduler}.
+     *
+     * @param host the Host to check
+     * @param vm the VM to check
+     * @return true if the VM can be placed into the Host, false otherwise
+     * @see org.cloudbus.cloudsim.schedulers.vm.VmScheduler#isSuitableForVm(Vm, double, int)
+     */
+    boolean isSuitableForVm(Host host, Vm vm) {
+        final HostPlan plan = plans.getOrDefault(host, HostPlan.NONE);
+        return host.getVmScheduler().isSuitableForVm(vm, plan.mips, plan.pes)
+            && host.getRamProvisioner().getAvailableResource() + plan.ram >= vm.getCurrentRequestedRam()
+            && host.getBwProvisioner().getAvailableResource() + plan.bw >= vm.getCurrentRequestedBw();
+    }
+
+    private long getAvailableStorage(Host host) {
+        return host.getAvailableStorage() + plans.getOrDefault(host, HostPlan.NONE).storage;
+    }
+
+    /**
+     * Gets the VMs placed into a Host after the planned changes:
+     * the VMs currently placed into it, except the ones planned to be removed,
+     * followed by the ones planned to be placed into it.
+     *
+     * @param host the Host to get its VMs
+     * @param <T> the class of VMs inside the list
+     * @return the Host's VM list itself if it has no planned changes or a new list otherwise
+     */
+    <T extends Vm> List<T> getVmList(Host host) {
+        final HostPlan plan = plans.get(host);
+        if (Objects.isNull(plan)) {
+            return host.getVmList();
+        }
+
+        final List<T> vms = new ArrayList<>(host.getVmList().size() + plan.vmsIn.size());
+        for (T vm : host.<T>getVmList()) {
+            if (!plan.vmsOut.containsKey(vm)) {
+                vms.add(vm);
+            }
+        }
+
+        for (Vm vm : plan.vmsIn.keySet()) {
+            vms.add((T) vm);
+        }
+
+        return vms;
+    }
+
+    /**
+     * Gets the MIPS allocated to a VM placed into a Host,
+     * or planned to be allocated if it was tentatively placed into the Host.
+     *
+     * @param host the Host where the VM is placed
+     * @param vm the VM to get its MIPS
+     * @return the total MIPS allocated to the VM
+     */
+    double getTotalAllocatedMipsForVm(Host host, Vm vm) {
+        final HostPlan plan = plans.get(host);
+        if (Objects.nonNull(plan) && plan.vmsIn.containsKey(vm)) {
+            return plan.vmsIn.get(vm).mips;
+        }
+
+        return host.getTotalAllocatedMipsForVm(vm);
+    }
+
+    /**
+     * Gets the Hosts which were changed since the ledger was cleared.
+     *
+     * @return a read-only set of changed Hosts
+     */
+    Set<Host> getChangedHosts() {
+        return Collections.unmodifiableSet(plans.keySet());
+    }
+
+    /**
+     * Discards all planned changes.
+     * Since Hosts are not changed while planning, there is nothing to undo.
+     */
+    void clear() {
+        plans.clear();
+    }
+
+    private HostPlan getPlan(Host host) {
+        return plans.computeIfAbsent(host, h -> new HostPlan());
+    }
+
+    /**
+     * Removes the plan of a Host when all its changes were undone,
+     * so that the Host is not considered changed anymore.
+     *
+     * @param host the Host the plan belongs to
+     * @param plan the plan to check
+     */
+    private void removePlanIfEmpty(Host host, HostPlan plan) {
+        if (plan.vmsIn.isEmpty() && plan.vmsOut.isEmpty()) {
+            plans.remove(host);
+        }
+    }
+
+    /**
+     * The resources a VM uses or is planned to use inside a Host.
+     */
+    private static final class Allocation {
+        private final double mips;
+        private final int pes;
+        private final long ram;
+        private final long bw;
+        private final long storage;
+
+        private Allocation(double mips, int pes, long ram, long bw, long storage) {
+            this.mips = mips;
+            this.pes = pes;
+            this.ram = ram;
+            this.bw = bw;
+            this.storage = storage;
+        }
+    }
+
+    /**
+     * The planned changes for a Host.
+     * The amount of each resource is the one that will be released (if positive)
+     * or used (if negative) by the planned changes.
+     */
+    private static final class HostPlan {
+        /**
+         * An empty plan for Hosts without planned changes, which must not be changed.
+         */
+        private static final HostPlan NONE = new HostPlan();
+
+        private final Map<Vm, Allocation> vmsIn = new LinkedHashMap<>();
+        private final Map<Vm, Allocation> vmsOut = new HashMap<>();
+        private double mips;
+        private int pes;
+        private long ram;
+        private long bw;
+        private long storage;
+
+        /**
+         * Adds the resources of an allocation to the amount of released resources.
+         *
+         * @param allocation the allocation to add
+         * @param signal 1 to release the resources or -1 to use them
+         */
+        private void release(Allocation allocation, int signal) {
+            mips += signal * allocation.mips;
+            pes += signal * allocation.pes;
+            ram += signal * allocation.ram;
+            bw += signal * allocation.bw;
+            storage += signal * allocation.storage;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.core.SimEntity;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.util.WorkloadIterator;
 
 /**
  * Represents a broker acting on behalf of a cloud customer.
@@ -64,7 +65,13 @@ public interface DatacenterBroker extends SimEntity {
     <T extends Vm> List<T> getVmsWaitingList();
 
     /**
-     * Gets the list of VMs created by the broker.
+     * Gets a read-only list of VMs created by the broker.
+     *
+     * <p><b>This is a breaking change</b> for {@link DatacenterBrokerAbstract} subclasses:
+     * previous versions returned the internal list itself, which could be changed directly.
+     * Now, trying to change the returned list throws an {@link UnsupportedOperationException}.
+     * Subclasses have to use {@link DatacenterBrokerAbstract#addVmToCreatedList(Vm)}
+     * and {@link DatacenterBrokerAbstract#removeVmFromCreatedList(Vm)} instead.</p>
      *
      * @param <T> the class of VMs inside the list
      * @return the list of created VMs
@@ -112,6 +119,27 @@ public interface DatacenterBroker extends SimEntity {
      */
     void submitCloudletList(List<? extends Cloudlet>  list, double submissionDelay);
 
+    /**
+     * Submits the Cloudlets of a workload to the broker one time window at a time,
+     * instead of adding all of them to the {@link #getCloudletsWaitingList()} upfront.
+     * The {@link Cloudlet#getSubmissionDelay() submission delay} of each Cloudlet is considered
+     * as the time, since the beginning of the simulation, it has to be submitted
+     * and the Cloudlets are expected to be generated in the order of such a time
+     * (as in a trace file read by a {@link org.cloudbus.cloudsim.util.WorkloadFileReader}
+     * with the submission delay enabled).
+     *
+     * <p>The Cloudlets are pulled from the iterator just before their submission time
+     * is inside the next window and the broker schedules a single event to pull the Cloudlets of
+     * the following window. This way, just the Cloudlets about to be submitted and
+     * the ones already running are kept into memory, instead of all the Cloudlets in the workload.
+     * The iterator is closed after all its Cloudlets are pulled.</p>
+     *
+     * @param workload the iterator to pull the Cloudlets from
+     * @param window the length of each time window (in seconds)
+     * @see org.cloudbus.cloudsim.util.WorkloadModel#workloadIterator()
+     */
+    void submitWorkload(WorkloadIterator workload, double window);
+
 
     /**
      * Sends to the broker a list with VMs that their creation inside a Host will be requested to some
@@ -205,6 +233,7 @@ public interface DatacenterBroker extends SimEntity {
         @Override public void submitCloudlet(Cloudlet cloudlet) {}
         @Override public void submitCloudletList(List<? extends Cloudlet> list) {}
 		@Override public void submitCloudletList(List<? extends Cloudlet> list, double submissionDelay) {}
+        @Override public void submitWorkload(WorkloadIterator workload, double window) {}
 		@Override public void submitVmList(List<? extends Vm> list) {}
         @Override public void submitVmList(List<? extends Vm> list, double submissionDelay) {}
         @Override public boolean hasMoreCloudletsToBeExecuted() { return false; }
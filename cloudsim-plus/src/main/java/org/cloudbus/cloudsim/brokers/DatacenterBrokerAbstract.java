@@ -8,11 +8,13 @@
 package org.cloudbus.cloudsim.brokers;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.WorkloadIterator;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.core.*;
 
@@ -49,6 +51,22 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * @see #getVmsCreatedList()
      */
     private List<Vm> vmsCreatedList;
+
+    /**
+     * A read-only view of the {@link #vmsCreatedList},
+     * ensuring such a list is changed only by the broker,
+     * which keeps the {@link #vmsCreatedIndexes} updated.
+     * @see #getVmsCreatedList()
+     */
+    private List<Vm> vmsCreatedListView;
+
+    /**
+     * The index of each VM into the {@link #getVmsCreatedList() list of created VMs},
+     * enabling to check if a VM was created and to find its position in constant time.
+     * @see #getVmCreatedIndex(Vm)
+     */
+    private Map<Vm, Integer> vmsCreatedIndexes;
+
     /**
      * @see #getCloudletsWaitingList()
      */
@@ -72,6 +90,25 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 	 * @see #getCloudletsCreated()
 	 */
     private int cloudletsCreated;
+    /**
+     * @see #getNumberOfCloudletCreationRequests()
+     */
+    private long cloudletCreationRequests;
+    /**
+     * The iterator the Cloudlets of a workload are being pulled from,
+     * or null if no workload is being submitted.
+     * @see #submitWorkload(WorkloadIterator, double)
+     */
+    private WorkloadIterator workload;
+    /**
+     * The length of the time windows the Cloudlets of the {@link #workload} are submitted.
+     */
+    private double workloadWindow;
+    /**
+     * The last Cloudlet pulled from the {@link #workload} that is after the current time window
+     * and will be submitted in the next one, or null if no such a Cloudlet was pulled.
+     */
+    private Cloudlet nextWorkloadCloudlet;
     /**
      * @see #getVmCreationRequests()
      */
@@ -92,6 +129,10 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * @see #getVmsToDatacentersMap()
      */
     private Map<Vm, Datacenter> vmsToDatacentersMap;
+    /**
+     * @see #isSubmittingCloudletsInBatches()
+     */
+    private boolean submittingCloudletsInBatches;
 
     /**
      * Creates a new DatacenterBroker object.
@@ -104,6 +145,8 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
         this.vmsWaitingList = new ArrayList<>();
         this.vmsCreatedList = new ArrayList<>();
+        this.vmsCreatedListView = Collections.unmodifiableList(vmsCreatedList);
+        this.vmsCreatedIndexes = new HashMap<>();
         this.cloudletsWaitingList = new ArrayList<>();
         this.cloudletsFinishedList = new ArrayList<>();
 
@@ -142,10 +185,12 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         vmsWaitingList.addAll(list);
 
         if(isStarted()){
-            Log.printFormattedLine(
-                "%.2f: %s: List of %d VMs submitted to the broker during simulation execution. VMs creation request sent to Datacenter.",
-                getSimulation().clock(), getName(), list.size());
-            requestDatacenterToCreateWaitingVms();
+            Log.runInContext(getSimulation().getLog(), () -> {
+                Log.printFormattedLine(
+                    "%.2f: %s: List of %d VMs submitted to the broker during simulation execution. VMs creation request sent to Datacenter.",
+                    getSimulation().clock(), getName(), list.size());
+                requestDatacenterToCreateWaitingVms();
+            });
         }
     }
 
@@ -180,13 +225,15 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     @Override
     public void submitCloudletList(List<? extends Cloudlet> list) {
         getCloudletsWaitingList().addAll(list);
-        Log.printFormattedLine(
-            "%.2f: %s: List of %d Cloudlets submitted to the broker during simulation execution.",
-            getSimulation().clock(), getName(), list.size());
-        if(isStarted() && getVmsWaitingList().isEmpty()){
-            Log.printLine(" Cloudlets creation request sent to Datacenter.");
-            requestDatacentersToCreateWaitingCloudlets();
-        } else Log.printLine(" Waiting VMs creation to send Cloudlets creation request to Datacenter.");
+        Log.runInContext(getSimulation().getLog(), () -> {
+            Log.printFormattedLine(
+                "%.2f: %s: List of %d Cloudlets submitted to the broker during simulation execution.",
+                getSimulation().clock(), getName(), list.size());
+            if(isStarted() && getVmsWaitingList().isEmpty()){
+                Log.printLine(" Cloudlets creation request sent to Datacenter.");
+                requestDatacentersToCreateWaitingCloudlets();
+            } else Log.printLine(" Waiting VMs creation to send Cloudlets creation request to Datacenter.");
+        });
     }
 
     @Override
@@ -195,6 +242,139 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         submitCloudletList(list);
     }
 
+    @Override
+    public void submitWorkload(WorkloadIterator workload, double window) {
+        Objects.requireNonNull(workload);
+        if (window <= 0) {
+            throw new IllegalArgumentException("The workload window must be greater than zero.");
+        }
+
+        if (!Objects.isNull(this.workload)) {
+            throw new IllegalStateException("The broker is already submitting the Cloudlets of another workload.");
+        }
+
+        this.workload = workload;
+        this.workloadWindow = window;
+        this.nextWorkloadCloudlet = null;
+        submitNextWorkloadWindow();
+    }
+
+    /**
+     * Submits the Cloudlets from the {@link #workload} whose submission time is up to
+     * the end of the window starting at the current simulation time.
+     * Then, {@link #scheduleNextWorkloadWindow() schedules} an event to submit the Cloudlets
+     * of the next window or closes the workload iterator if it has no more Cloudlets.
+     *
+     * <p>Since Cloudlets are sent to a Datacenter with the submission delay counted from
+     * the time they are sent, the submission delay of each pulled Cloudlet
+     * is reduced by the current simulation time.</p>
+     */
+    private void submitNextWorkloadWindow() {
+        final double clock = getSimulation().clock();
+        final double windowEnd = clock + workloadWindow;
+        final List<Cloudlet> list = new ArrayList<>();
+        while (!Objects.isNull(nextWorkloadCloudlet) || workload.hasNext()) {
+            final Cloudlet cloudlet = Objects.isNull(nextWorkloadCloudlet) ? workload.next() : nextWorkloadCloudlet;
+            if (cloudlet.getSubmissionDelay() > windowEnd) {
+                nextWorkloadCloudlet = cloudlet;
+                break;
+            }
+
+            nextWorkloadCloudlet = null;
+            cloudlet.setSubmissionDelay(Math.max(cloudlet.getSubmissionDelay() - clock, 0));
+            list.add(cloudlet);
+        }
+
+        if (!list.isEmpty()) {
+            submitCloudletList(list);
+        }
+
+        if (Objects.isNull(nextWorkloadCloudlet)) {
+            closeWorkload();
+        } else if (isStarted()) {
+            scheduleNextWorkloadWindow();
+        }
+    }
+
+    /**
+     * Schedules an event to submit the Cloudlets of the window following the one
+     * starting at the current simulation time, skipping empty windows.
+     * That is, the event is scheduled to the first window which
+     * includes the submission time of the {@link #nextWorkloadCloudlet}.
+     *
+     * <p>Since events can't be sent before the simulation starts,
+     * if the workload is submitted before that, the event is scheduled
+     * when the broker {@link #startEntity() starts}.</p>
+     */
+    private void scheduleNextWorkloadWindow() {
+        final double windowEnd = getSimulation().clock() + workloadWindow;
+        final double delay = Math.max(workloadWindow, nextWorkloadCloudlet.getSubmissionDelay() - windowEnd);
+        schedule(getId(), delay, CloudSimTags.CLOUDLET_WORKLOAD_WINDOW);
+    }
+
+    /**
+     * Closes the {@link #workload} being submitted, if there is one.
+     */
+    private void closeWorkload() {
+        if (Objects.isNull(workload)) {
+            return;
+        }
+
+        workload.close();
+        workload = null;
+        nextWorkloadCloudlet = null;
+    }
+
+    /**
+     * Checks if the broker is submitting the Cloudlets of a workload
+     * that has Cloudlets yet to be submitted.
+     *
+     * @return true if there are Cloudlets of a workload to be submitted, false otherwise
+     * @see #submitWorkload(WorkloadIterator, double)
+     */
+    public boolean isSubmittingWorkload() {
+        return !Objects.isNull(workload);
+    }
+
+    /**
+     * Checks if waiting Cloudlets are sent to each Datacenter in batches,
+     * using a single {@link CloudSimTags#CLOUDLET_SUBMIT_LIST} event
+     * for all Cloudlets with the same submission delay,
+     * instead of a {@link CloudSimTags#CLOUDLET_SUBMIT} event for each Cloudlet.
+     *
+     * @return true if Cloudlets are submitted in batches, false otherwise (the default)
+     * @see #setSubmittingCloudletsInBatches(boolean)
+     */
+    public boolean isSubmittingCloudletsInBatches() {
+        return submittingCloudletsInBatches;
+    }
+
+    /**
+     * Defines if waiting Cloudlets are sent to each Datacenter in batches,
+     * using a single {@link CloudSimTags#CLOUDLET_SUBMIT_LIST} event
+     * for all Cloudlets with the same submission delay,
+     * instead of a {@link CloudSimTags#CLOUDLET_SUBMIT} event for each Cloudlet.
+     *
+     * <p>Batches reduce the number of events for large bag-of-tasks workloads,
+     * whose Cloudlets share a few submission delays.
+     * Since a batch only groups Cloudlets having exactly the same delay,
+     * workloads where each Cloudlet has a distinct delay (such as the ones read from traces)
+     * get about one Cloudlet per batch and have no benefit.</p>
+     *
+     * <p>Each Cloudlet in a batch is processed by
+     * {@link org.cloudbus.cloudsim.datacenters.DatacenterSimple#processCloudletSubmit(SimEvent, boolean)},
+     * using a {@link CloudSimTags#CLOUDLET_SUBMIT} event that is a view of the batch event.
+     * However, listeners of the {@link Simulation} are notified just
+     * about the {@link CloudSimTags#CLOUDLET_SUBMIT_LIST} event.</p>
+     *
+     * @param submittingCloudletsInBatches true to submit Cloudlets in batches, false to submit them one by one
+     * @return this broker
+     */
+    public DatacenterBrokerAbstract setSubmittingCloudletsInBatches(boolean submittingCloudletsInBatches) {
+        this.submittingCloudletsInBatches = submittingCloudletsInBatches;
+        return this;
+    }
+
     /**
      * Sets the delay for a list of {@link Delayable} entities that don't
      * have a delay already assigned. Such entities can be a {@link Cloudlet},
@@ -231,6 +411,11 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             case CloudSimTags.CLOUDLET_RETURN:
                 processCloudletReturn(ev);
             break;
+            case CloudSimTags.CLOUDLET_WORKLOAD_WINDOW:
+                if (isSubmittingWorkload()) {
+                    submitNextWorkloadWindow();
+                }
+            break;
             case CloudSimTags.END_OF_SIMULATION:
                 shutdownEntity();
             break;
@@ -340,10 +525,10 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     protected void processSuccessVmCreationInDatacenter(Vm vm, Datacenter datacenter) {
         getVmsToDatacentersMap().put(vm, datacenter);
         vmsWaitingList.remove(vm);
-        getVmsCreatedList().add(vm);
-        Log.printFormattedLine(
+        addVmToCreatedList(vm);
+        Log.printLine(() -> String.format(
             "%.2f: %s: VM #%s has been created in Host #%d of Datacenter #%s",
-            getSimulation().clock(), getName(), vm.getId(), vm.getHost().getId(), datacenter.getId());
+            getSimulation().clock(), getName(), vm.getId(), vm.getHost().getId(), datacenter.getId()));
     }
 
     /**
@@ -355,9 +540,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      */
     protected void processFailedVmCreationInDatacenter(Vm vm, Datacenter datacenter) {
         vm.notifyOnVmCreationFailureListeners(datacenter);
-        Log.printFormattedLine(
+        Log.printLine(() -> String.format(
             "%.2f: %s: Creation of VM #%s failed in Datacenter #%s",
-            getSimulation().clock(), getName(), vm.getId(), datacenter.getId());
+            getSimulation().clock(), getName(), vm.getId(), datacenter.getId()));
     }
 
     /**
@@ -370,10 +555,11 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     protected void processCloudletReturn(SimEvent ev) {
         Cloudlet cloudlet = (Cloudlet) ev.getData();
         getCloudletsFinishedList().add(cloudlet);
-        Log.printFormattedLine("%.2f: %s: %s %d received",
-            getSimulation().clock(), getName(), cloudlet.getClass().getSimpleName(), cloudlet.getId());
+        Log.printLine(() -> String.format("%.2f: %s: %s %d received",
+            getSimulation().clock(), getName(), cloudlet.getClass().getSimpleName(), cloudlet.getId()));
+        cloudletCreationRequestsMap.remove(cloudlet);
         cloudletsCreated--;
-        if (getCloudletsWaitingList().isEmpty() && cloudletsCreated == 0) {
+        if (getCloudletsWaitingList().isEmpty() && cloudletsCreated == 0 && !isSubmittingWorkload()) {
             // all cloudlets executed
             Log.printFormattedLine(
                 "%.2f: %s: All Cloudlets executed. Finishing...",
@@ -435,9 +621,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         int requestedVms = 0;
         for (Vm vm : getVmsWaitingList()) {
             if (!vmsToDatacentersMap.containsKey(vm) && !vmCreationRequestsMap.containsKey(vm)) {
-                Log.printFormattedLine(
+                Log.printLine(() -> String.format(
                     "%.2f: %s: Trying to Create VM #%d in %s",
-                    getSimulation().clock(), getName(), vm.getId(), datacenter.getName());
+                    getSimulation().clock(), getName(), vm.getId(), datacenter.getName()));
                 sendNow(datacenter.getId(), CloudSimTags.VM_CREATE_ACK, vm);
                 vmCreationRequestsMap.put(vm, datacenter);
                 requestedVms++;
@@ -463,33 +649,61 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * a cloudlet was submitted has the required resources?
      */
     protected void requestDatacentersToCreateWaitingCloudlets() {
-        List<Cloudlet> successfullySubmitted = new ArrayList<>();
-        for (Cloudlet cloudlet : getCloudletsWaitingList()) {
-            if(cloudletCreationRequestsMap.containsKey(cloudlet)){
-                continue;
-            }
+        if (!submittingCloudletsInBatches) {
+            getCloudletsWaitingList().removeIf(cloudlet -> requestDatacenterToCreateCloudlet(cloudlet, this::sendCloudlet));
+            return;
+        }
 
-            lastSelectedVm = selectVmForWaitingCloudlet(cloudlet);
-            if (lastSelectedVm == Vm.NULL) {
-                // vm was not created
-                Log.printFormattedLine(
-                    "%.2f: %s: : Postponing execution of cloudlet %d: bind VM not available.",
-                    getSimulation().clock(), getName(), cloudlet.getId());
-                continue;
-            }
-            Log.printFormattedLine(
-                "%.2f: %s: Sending %s %d to VM #%d. %d VMs created.",
-                getSimulation().clock(), getName(), cloudlet.getClass().getSimpleName(), cloudlet.getId(),
-                lastSelectedVm.getId(), getVmsCreatedList().size());
-            cloudlet.setVm(lastSelectedVm);
-            send(getVmDatacenter(lastSelectedVm).getId(),
-                    cloudlet.getSubmissionDelay(), CloudSimTags.CLOUDLET_SUBMIT, cloudlet);
-            cloudletCreationRequestsMap.put(cloudlet, getVmDatacenter(lastSelectedVm));
-            cloudletsCreated++;
-            successfullySubmitted.add(cloudlet);
+        final Map<Datacenter, Map<Double, List<Cloudlet>>> cloudletBatches = new LinkedHashMap<>();
+        getCloudletsWaitingList().removeIf(cloudlet -> requestDatacenterToCreateCloudlet(cloudlet,
+            (datacenter, cl) -> cloudletBatches
+                .computeIfAbsent(datacenter, dc -> new LinkedHashMap<>())
+                .computeIfAbsent(cl.getSubmissionDelay(), delay -> new ArrayList<>())
+                .add(cl)));
+        cloudletBatches.forEach((datacenter, batchesByDelay) ->
+            batchesByDelay.forEach((delay, batch) ->
+                send(datacenter.getId(), delay, CloudSimTags.CLOUDLET_SUBMIT_LIST, batch)));
+    }
+
+    private void sendCloudlet(Datacenter datacenter, Cloudlet cloudlet) {
+        send(datacenter.getId(), cloudlet.getSubmissionDelay(), CloudSimTags.CLOUDLET_SUBMIT, cloudlet);
+    }
+
+    /**
+     * Request the Datacenter of the VM selected for a waiting Cloudlet to create it.
+     * It is called for every Cloudlet into the waiting list in a single pass,
+     * which removes the ones that were sent to some Datacenter.
+     *
+     * @param cloudlet the waiting Cloudlet to request the creation
+     * @param sender a {@link BiConsumer} that sends the Cloudlet to the Datacenter of the selected VM,
+     *               alone or inside a batch of Cloudlets
+     * @return true if the Cloudlet was sent to a Datacenter, false if its creation was postponed
+     * or it was already requested
+     */
+    private boolean requestDatacenterToCreateCloudlet(Cloudlet cloudlet, BiConsumer<Datacenter, Cloudlet> sender) {
+        if(cloudletCreationRequestsMap.containsKey(cloudlet)){
+            return false;
         }
-        // remove created cloudlets from waiting list
-        getCloudletsWaitingList().removeAll(successfullySubmitted);
+
+        lastSelectedVm = selectVmForWaitingCloudlet(cloudlet);
+        if (lastSelectedVm == Vm.NULL) {
+            // vm was not created
+            Log.printLine(() -> String.format(
+                "%.2f: %s: : Postponing execution of cloudlet %d: bind VM not available.",
+                getSimulation().clock(), getName(), cloudlet.getId()));
+            return false;
+        }
+        Log.printLine(() -> String.format(
+            "%.2f: %s: Sending %s %d to VM #%d. %d VMs created.",
+            getSimulation().clock(), getName(), cloudlet.getClass().getSimpleName(), cloudlet.getId(),
+            lastSelectedVm.getId(), getVmsCreatedList().size()));
+        cloudlet.setVm(lastSelectedVm);
+        final Datacenter datacenter = getVmDatacenter(lastSelectedVm);
+        sender.accept(datacenter, cloudlet);
+        cloudletCreationRequestsMap.put(cloudlet, datacenter);
+        cloudletsCreated++;
+        cloudletCreationRequests++;
+        return true;
     }
 
     /**
@@ -500,10 +714,12 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      */
     protected void destroyVms() {
         for (Vm vm : getVmsCreatedList()) {
-            Log.printFormattedLine("%.2f: %s: Destroying VM #%d",  getSimulation().clock(), getName(), vm.getId());
+            Log.printLine(() -> String.format(
+                "%.2f: %s: Destroying VM #%d", getSimulation().clock(), getName(), vm.getId()));
             sendNow(getVmDatacenter(vm).getId(), CloudSimTags.VM_DESTROY, vm);
         }
-        getVmsCreatedList().clear();
+        vmsCreatedList.clear();
+        vmsCreatedIndexes.clear();
     }
 
     /**
@@ -518,6 +734,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
     @Override
     public void shutdownEntity() {
+        closeWorkload();
         Log.printConcatLine(getName(), " is shutting down...");
     }
 
@@ -525,6 +742,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     public void startEntity() {
         Log.printConcatLine(getName(), " is starting...");
         schedule(getSimulation().getCloudInfoServiceEntityId(), 0, CloudSimTags.DATACENTER_LIST_REQUEST);
+        if (isSubmittingWorkload()) {
+            scheduleNextWorkloadWindow();
+        }
     }
 
     @Override
@@ -552,7 +772,47 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
     @Override
     public <T extends Vm> List<T> getVmsCreatedList() {
-        return (List<T>) vmsCreatedList;
+        return (List<T>) vmsCreatedListView;
+    }
+
+    /**
+     * Adds a VM to the end of the {@link #getVmsCreatedList() list of created VMs}.
+     * Since such a list is read-only, it is the way subclasses can change it,
+     * keeping the index of each created VM updated.
+     *
+     * @param vm the VM to add
+     * @see #removeVmFromCreatedList(Vm)
+     */
+    protected void addVmToCreatedList(Vm vm) {
+        vmsCreatedIndexes.putIfAbsent(vm, vmsCreatedList.size());
+        vmsCreatedList.add(vm);
+    }
+
+    /**
+     * Removes the first occurrence of a VM from the {@link #getVmsCreatedList() list of created VMs}.
+     * It takes time proportional to the number of VMs after the removed one,
+     * whose indexes have to be updated.
+     *
+     * @param vm the VM to remove
+     * @return true if the VM was in the list and was removed, false otherwise
+     * @see #addVmToCreatedList(Vm)
+     */
+    protected boolean removeVmFromCreatedList(Vm vm) {
+        final Integer index = vmsCreatedIndexes.remove(vm);
+        if (Objects.isNull(index)) {
+            return false;
+        }
+
+        vmsCreatedList.remove((int) index);
+        for (int i = index; i < vmsCreatedList.size(); i++) {
+            //Just the VMs whose first occurrence was shifted have their index updated
+            final Vm shifted = vmsCreatedList.get(i);
+            if (vmsCreatedIndexes.getOrDefault(shifted, i + 1) == i + 1) {
+                vmsCreatedIndexes.put(shifted, i);
+            }
+        }
+
+        return true;
     }
 
     /**
@@ -565,6 +825,28 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return vmIndex >= 0 && vmIndex < vmsCreatedList.size() ? vmsCreatedList.get(vmIndex) : Vm.NULL;
     }
 
+    /**
+     * Gets the index of a VM into the {@link #getVmsCreatedList() list of created VMs}
+     * in constant time.
+     *
+     * @param vm the VM to get its index
+     * @return the index of the VM or -1 if it wasn't created
+     */
+    protected int getVmCreatedIndex(Vm vm) {
+        return vmsCreatedIndexes.getOrDefault(vm, -1);
+    }
+
+    /**
+     * Checks if a VM is into the {@link #getVmsCreatedList() list of created VMs}
+     * in constant time.
+     *
+     * @param vm the VM to check
+     * @return true if the VM was created, false otherwise
+     */
+    protected boolean isVmCreated(Vm vm) {
+        return vmsCreatedIndexes.containsKey(vm);
+    }
+
     /**
      * Gets the number of VM creation requests.
      *
@@ -649,7 +931,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
     @Override
     public long getNumberOfCloudletCreationRequests(){
-        return cloudletCreationRequestsMap.size();
+        return cloudletCreationRequests;
     }
 
 }
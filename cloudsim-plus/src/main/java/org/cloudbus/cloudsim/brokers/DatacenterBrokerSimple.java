@@ -75,7 +75,7 @@ public class DatacenterBrokerSimple extends DatacenterBrokerAbstract {
      */
     @Override
     public Vm selectVmForWaitingCloudlet(Cloudlet cloudlet) {
-        if (cloudlet.isBindToVm() && getVmsCreatedList().contains(cloudlet.getVm())) {
+        if (cloudlet.isBindToVm() && isVmCreated(cloudlet.getVm())) {
             return cloudlet.getVm();
         }
 
@@ -88,6 +88,8 @@ public class DatacenterBrokerSimple extends DatacenterBrokerAbstract {
      * Gets the index of next VM in the broker's created VM list.
      * If not VM was selected yet, selects the first one,
      * otherwise, cyclically selects the next VM.
+     * The index of the last selected VM, which works as the round-robin cursor,
+     * is got in constant time.
      *
      * @return the index of the next VM to bind a cloudlet to
      */
@@ -96,7 +98,7 @@ public class DatacenterBrokerSimple extends DatacenterBrokerAbstract {
             return -1;
         }
 
-        final int vmIndex = getVmsCreatedList().indexOf(getLastSelectedVm());
+        final int vmIndex = getVmCreatedIndex(getLastSelectedVm());
         return (vmIndex + 1) % getVmsCreatedList().size();
     }
 
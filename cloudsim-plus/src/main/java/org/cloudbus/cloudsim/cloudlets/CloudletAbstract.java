@@ -18,6 +18,7 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.util.SideEffectBuffer;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.CloudletVmEventInfo;
@@ -233,7 +234,7 @@ public abstract class CloudletAbstract implements Cloudlet {
     @Override
     public void notifyOnCloudletProcessingListeners(double time) {
         CloudletVmEventInfo info = CloudletVmEventInfo.of(time, this);
-        onUpdateCloudletProcessingListeners.forEach(l -> l.update(info));
+        onUpdateCloudletProcessingListeners.forEach(l -> SideEffectBuffer.notify(l, info));
     }
 
     @Override
@@ -343,7 +344,7 @@ public abstract class CloudletAbstract implements Cloudlet {
     private void notifyListenersIfCloudletIsFinished() {
         if(isFinished()) {
             CloudletVmEventInfo info = CloudletVmEventInfo.of(this);
-            onCloudletFinishListeners.forEach(l -> l.update(info));
+            onCloudletFinishListeners.forEach(l -> SideEffectBuffer.notify(l, info));
         }
     }
 
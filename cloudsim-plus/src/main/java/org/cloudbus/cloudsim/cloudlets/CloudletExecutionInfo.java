@@ -232,6 +232,16 @@ public class CloudletExecutionInfo {
         return (long) Math.floor(length / Conversion.MILLION);
     }
 
+    /**
+     * Gets the length of the Cloudlet finished so far, in number of Instructions (I).
+     *
+     * @return
+     * @see #updateCloudletFinishedSoFar(long)
+     */
+    public long getInstructionsFinishedSoFar() {
+        return instructionsFinishedSoFar;
+    }
+
     /**
      * Finalizes all relevant information before <tt>exiting</tt> the Datacenter
      * entity. This method sets the final data of:
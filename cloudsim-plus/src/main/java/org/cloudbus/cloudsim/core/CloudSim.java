@@ -11,9 +11,12 @@ import java.util.*;
 import java.util.stream.Stream;
 
 import org.cloudbus.cloudsim.core.events.*;
+import org.cloudbus.cloudsim.core.predicates.PredicateType;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.LogContext;
+import org.cloudbus.cloudsim.util.SideEffectBuffer;
 import java.util.function.Predicate;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
@@ -47,6 +50,11 @@ public class CloudSim implements Simulation {
      */
     private NetworkTopology networkTopology;
 
+    /**
+     * @see #getLog()
+     */
+    private final LogContext log;
+
     /**
      * The Cloud Information Service (CIS) entity.
      */
@@ -72,10 +80,31 @@ public class CloudSim implements Simulation {
      */
     private List<CloudSimEntity> entities;
 
+    /**
+     * The ids of the entities that are in {@link SimEntity.State#RUNNABLE} state,
+     * which is updated every time the state of an entity changes.
+     *
+     * @see #updateEntityState(CloudSimEntity)
+     */
+    private final BitSet runnableEntityIds;
+
+    /**
+     * A list used to store the entities that are runnable at the beginning of
+     * a simulation tick, since they may change their state while they are executed.
+     * It's reused along the simulation to avoid creating a new list every tick.
+     */
+    private final List<SimEntity> runnableEntities;
+
     /**
      * The queue of events that will be sent in a future simulation time.
      */
-    private FutureQueue future;
+    private final FutureEventQueue future;
+
+    /**
+     * The pool of processed events that can be reused to create new ones.
+     * @see #setEventPoolCapacity(int)
+     */
+    private CloudSimEventPool eventPool;
 
     /**
      * The deferred event queue.
@@ -141,7 +170,7 @@ public class CloudSim implements Simulation {
      * @post $none
      */
     public CloudSim(){
-        this(null);
+        this((Calendar) null);
     }
 
     /**
@@ -156,11 +185,52 @@ public class CloudSim implements Simulation {
      * @post $none
      */
     public CloudSim(Calendar cal) {
-        Log.printFormattedLine("Initialising CloudSim Plus %s...", CloudSim.CLOUDSIMPLUS_VERSION_STRING);
+        this(cal, new FutureQueue());
+    }
+
+    /**
+     * Creates a CloudSim simulation using a default calendar and a given
+     * queue to store future events.
+     * Internally it creates a CloudInformationService.
+     *
+     * @param futureQueue the queue that will store the events to be processed in a future simulation time,
+     *                    which defines the data structure used to order such events.
+     *                    If it is <tt>null</tt>, a {@link FutureQueue} is used.
+     * @see CloudInformationService
+     * @see FutureQueue
+     * @see CalendarQueue
+     * @see LadderQueue
+     * @see HeapQueue
+     */
+    public CloudSim(FutureEventQueue futureQueue) {
+        this(null, futureQueue);
+    }
+
+    /**
+     * Creates a CloudSim simulation with the given parameters.
+     * Internally it creates a CloudInformationService.
+     *
+     * @param cal starting time for this simulation. If it is <tt>null</tt>,
+     * then the time will be taken from <tt>Calendar.getInstance()</tt>
+     * @param futureQueue the queue that will store the events to be processed in a future simulation time,
+     *                    which defines the data structure used to order such events.
+     *                    If it is <tt>null</tt>, a {@link FutureQueue} is used.
+     * @see CloudInformationService
+     * @see FutureQueue
+     * @see CalendarQueue
+     * @see LadderQueue
+     * @see HeapQueue
+     */
+    public CloudSim(Calendar cal, FutureEventQueue futureQueue) {
+        this.log = new LogContext();
+        printMessage(String.format("Initialising CloudSim Plus %s...", CloudSim.CLOUDSIMPLUS_VERSION_STRING));
         this.entities = new ArrayList<>();
+        this.runnableEntityIds = new BitSet();
+        this.runnableEntities = new ArrayList<>();
         this.entitiesByName = new LinkedHashMap<>();
-        this.future = new FutureQueue();
+        this.future = Objects.isNull(futureQueue) ? new FutureQueue() : futureQueue;
         this.deferred = new DeferredQueue();
+        this.eventPool = new CloudSimEventPool(0);
         this.waitPredicates = new HashMap<>();
         this.networkTopology = NetworkTopology.NULL;
         this.clock = 0;
@@ -172,7 +242,7 @@ public class CloudSim implements Simulation {
 
         // NOTE: the order for the lines below is important
         this.calendar = (Objects.isNull(calendar) ? Calendar.getInstance() : calendar);
-        this.cis = new CloudInformationService(this);
+        this.cis = Log.runInContext(log, () -> new CloudInformationService(this));
     }
 
     /**
@@ -204,10 +274,18 @@ public class CloudSim implements Simulation {
         minTimeBetweenEvents = periodBetweenEvents;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>While the simulation is running, the {@link Log} uses the
+     * {@link #getLog() simulation logging context}.</p>
+     * @return {@inheritDoc}
+     */
     @Override
     public double start() {
-        Log.printConcatLine("Starting CloudSim Plus version ", CLOUDSIMPLUS_VERSION_STRING);
-        return run();
+        return Log.runInContext(log, () -> {
+            Log.printConcatLine("Starting CloudSim Plus version ", CLOUDSIMPLUS_VERSION_STRING);
+            return run();
+        });
     }
 
     @Override
@@ -236,6 +314,50 @@ public class CloudSim implements Simulation {
         return minTimeBetweenEvents;
     }
 
+    /**
+     * Gets the maximum number of processed events that are kept to be reused as new events.
+     *
+     * @return the event pool capacity, where 0 means event recycling is disabled
+     * @see #setEventPoolCapacity(int)
+     */
+    public int getEventPoolCapacity() {
+        return eventPool.getCapacity();
+    }
+
+    /**
+     * Sets the maximum number of processed events that are kept to be reused as new events,
+     * reducing the pressure on the garbage collector in simulations with a high event rate.
+     * Event recycling is disabled by default (the capacity is 0).
+     *
+     * <p><b>When event recycling is enabled, the {@link SimEvent} objects are owned by the simulation.</b>
+     * A {@link SimEvent} received by a {@link #addOnEventProcessingListener(EventListener) listener}
+     * or by {@link SimEntity#processEvent(SimEvent)} is valid only until such methods return,
+     * because it can be reused right after that to represent another event.
+     * If an event needs to be kept, a copy must be created using the
+     * {@link CloudSimEvent#CloudSimEvent(SimEvent)} constructor.
+     * Events returned by {@link #cancel(int, Predicate)} are never reused.</p>
+     *
+     * @param capacity the maximum number of events to keep for reuse, or 0 to disable event recycling
+     * @return
+     */
+    public CloudSim setEventPoolCapacity(int capacity) {
+        this.eventPool = new CloudSimEventPool(capacity);
+        return this;
+    }
+
+    /**
+     * Informs the simulation that an event was already processed by its destination entity
+     * and no reference to it is kept anymore, so that the event can be reused.
+     * It has effect only when event recycling is enabled.
+     * It is just called by {@link CloudSimEntity}.
+     *
+     * @param evt the processed event
+     * @see #setEventPoolCapacity(int)
+     */
+    void releaseEvent(SimEvent evt) {
+        eventPool.release(evt);
+    }
+
     @Override
     public Calendar getCalendar() {
         return calendar;
@@ -309,7 +431,7 @@ public class CloudSim implements Simulation {
     public void addEntity(CloudSimEntity e) {
         if (running) {
             // Post an event to make this entity
-            SimEvent evt = new CloudSimEvent(this, SimEvent.Type.CREATE, clock, 1, 0, 0, e);
+            SimEvent evt = eventPool.newEvent(this, SimEvent.Type.CREATE, clock, 1, 0, 0, e);
             future.addEvent(evt);
         }
 
@@ -317,7 +439,26 @@ public class CloudSim implements Simulation {
             e.setId(entities.size());
             entities.add(e);
             entitiesByName.put(e.getName(), e);
+            updateEntityState(e);
+        }
+    }
+
+    /**
+     * Updates the internal list of {@link SimEntity.State#RUNNABLE} entities
+     * according to the current state of a given entity.
+     * It is called by the entity every time its state changes,
+     * so that the simulation doesn't need to check the state of every entity
+     * at each simulation tick.
+     *
+     * @param entity the entity that had its state changed
+     * @see CloudSimEntity#setState(SimEntity.State)
+     */
+    void updateEntityState(CloudSimEntity entity) {
+        if (entity.getId() < 0) {
+            return;
         }
+
+        runnableEntityIds.set(entity.getId(), entity.getState() == SimEntity.State.RUNNABLE);
     }
 
     @Override
@@ -361,34 +502,43 @@ public class CloudSim implements Simulation {
             printMessage("Simulation: No more future events");
         } else {
             // If there are more future events, then deal with them
-            future.stream().findFirst().ifPresent(this::processAllFutureEventsHappeningAtSameTimeOfTheFirstOne);
+            processAllFutureEventsHappeningAtSameTimeOfTheFirstOne(future.pollFirst());
         }
     }
 
+    /**
+     * Processes a given event that was just removed from the head of the {@link #future} queue
+     * and then removes and processes the events at the head of the queue
+     * which happen at the same time of the first one.
+     * Since the queue is ordered by time, there is no need to search for such events.
+     *
+     * <p>The event time is got before the event is processed, since
+     * processed events may be released to the {@link CloudSimEventPool} and reused.</p>
+     *
+     * @param firstEvent the first event removed from the future queue
+     */
     private void processAllFutureEventsHappeningAtSameTimeOfTheFirstOne(SimEvent firstEvent) {
+        final double time = firstEvent.eventTime();
         processEvent(firstEvent);
-        future.remove(firstEvent);
 
-        List<SimEvent> eventsToProcess = future.stream()
-            .filter(e -> e.eventTime() == firstEvent.eventTime())
-            .collect(toList());
-
-        for(SimEvent evt: eventsToProcess) {
-            processEvent(evt);
-            future.remove(evt);
+        while (!future.isEmpty() && future.first().eventTime() == time) {
+            processEvent(future.pollFirst());
         }
     }
 
     /**
      * Gets the list of entities that are in {@link SimEntity.State#RUNNABLE}
      * and execute them.
+     * The entities are got from the {@link #runnableEntityIds},
+     * avoiding checking the state of every entity at each simulation tick.
      */
     private void executeRunnableEntities() {
-        List<SimEntity> runableEntities = entities.stream()
-                .filter(ent -> ent.getState() == SimEntity.State.RUNNABLE)
-                .collect(toList());
+        runnableEntities.clear();
+        for (int id = runnableEntityIds.nextSetBit(0); id >= 0; id = runnableEntityIds.nextSetBit(id + 1)) {
+            runnableEntities.add(entities.get(id));
+        }
 
-        runableEntities.forEach(SimEntity::run);
+        runnableEntities.forEach(SimEntity::run);
     }
 
     @Override
@@ -396,24 +546,90 @@ public class CloudSim implements Simulation {
         send(src, dest, 0, tag, data);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the current thread is {@link SideEffectBuffer#isRecording() recording side effects},
+     * such as when Hosts are processed in parallel, the event is just added to the
+     * future queue when the recorded side effects are replayed.</p>
+     *
+     * @param src {@inheritDoc}
+     * @param dest {@inheritDoc}
+     * @param delay {@inheritDoc}
+     * @param tag {@inheritDoc}
+     * @param data {@inheritDoc}
+     */
     @Override
     public void send(int src, int dest, double delay, int tag, Object data) {
         if (delay < 0) {
             throw new IllegalArgumentException("Send delay can't be negative.");
         }
 
-        SimEvent e = new CloudSimEvent(this, SimEvent.Type.SEND, clock + delay, src, dest, tag, data);
-        future.addEvent(e);
+        addFutureEvent(clock + delay, src, dest, tag, data, false);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the current thread is {@link SideEffectBuffer#isRecording() recording side effects},
+     * such as when Hosts are processed in parallel, the event is just added to the
+     * future queue when the recorded side effects are replayed.</p>
+     *
+     * @param src {@inheritDoc}
+     * @param dest {@inheritDoc}
+     * @param delay {@inheritDoc}
+     * @param tag {@inheritDoc}
+     * @param data {@inheritDoc}
+     */
     @Override
     public void sendFirst(int src, int dest, double delay, int tag, Object data) {
         if (delay < 0) {
             throw new IllegalArgumentException("Send delay can't be negative.");
         }
 
-        SimEvent e = new CloudSimEvent(this, SimEvent.Type.SEND, clock + delay, src, dest, tag, data);
-        future.addEventFirst(e);
+        addFutureEvent(clock + delay, src, dest, tag, data, true);
+    }
+
+    /**
+     * Adds a {@link SimEvent.Type#SEND} event to the future queue or records such an addition
+     * if the current thread {@link SideEffectBuffer#isRecording() is recording side effects}.
+     * This way, the future queue and the event pool, which aren't thread-safe,
+     * are just changed by the simulation thread.
+     *
+     * @param time the time the event has to be processed
+     * @param src the id of the entity sending the event
+     * @param dest the id of the entity that will receive the event
+     * @param tag the tag of the event
+     * @param data the data of the event
+     * @param first true to add the event before the other ones with the same time, false otherwise
+     */
+    private void addFutureEvent(double time, int src, int dest, int tag, Object data, boolean first) {
+        if (SideEffectBuffer.isRecording()) {
+            SideEffectBuffer.run(() -> addFutureEvent(time, src, dest, tag, data, first));
+            return;
+        }
+
+        final SimEvent e = eventPool.newEvent(this, SimEvent.Type.SEND, time, src, dest, tag, data);
+        if (first) {
+            future.addEventFirst(e);
+        } else {
+            future.addEvent(e);
+        }
+    }
+
+    /**
+     * Checks if the current thread is not {@link SideEffectBuffer#isRecording() recording side effects},
+     * since operations whose result depends on the event queues can't be postponed
+     * until the recorded side effects are replayed.
+     *
+     * @param operation the name of the operation being performed
+     * @throws IllegalStateException if the current thread is recording side effects
+     */
+    private void requireNotRecording(String operation) {
+        if (SideEffectBuffer.isRecording()) {
+            throw new IllegalStateException(
+                operation + " can't be called while side effects are recorded, such as when Hosts are processed in parallel.");
+        }
     }
 
     @Override
@@ -427,11 +643,20 @@ public class CloudSim implements Simulation {
 
     @Override
     public long waiting(int dest, Predicate<SimEvent> p) {
-        return filterEventsToDestinationEntity(deferred, p, dest).count();
+        if (p == SIM_ANY) {
+            return deferred.size(dest);
+        }
+
+        if (isTagsPredicate(p)) {
+            return deferred.size(dest, ((PredicateType) p).getTags());
+        }
+
+        return deferred.stream(dest).filter(p).count();
     }
 
     @Override
     public SimEvent select(int dest, Predicate<SimEvent> p) {
+        requireNotRecording("select");
         SimEvent evt = findFirstDeferred(dest, p);
         deferred.remove(evt);
         return evt;
@@ -439,35 +664,73 @@ public class CloudSim implements Simulation {
 
     @Override
     public SimEvent findFirstDeferred(int dest, Predicate<SimEvent> p) {
-        return filterEventsToDestinationEntity(deferred, p, dest).findFirst().orElse(SimEvent.NULL);
-    }
+        if (p == SIM_ANY) {
+            return deferred.first(dest);
+        }
 
-    /**
-     * Gets a stream of events inside a specific queue that match a given predicate
-     * and are targeted to an specific entity.
-     *
-     * @param queue the queue to get the events from
-     * @param p the event selection predicate
-     * @param dest Id of entity that the event has to be sent to
-     * @return a Stream of events from the queue
-     */
-    private Stream<SimEvent> filterEventsToDestinationEntity(EventQueue queue, Predicate<SimEvent> p, int dest) {
-        return filterEvents(queue, p.and(e -> e.getDestination() == dest));
+        if (isTagsPredicate(p)) {
+            return deferred.first(dest, ((PredicateType) p).getTags());
+        }
+
+        return deferred.stream(dest).filter(p).findFirst().orElse(SimEvent.NULL);
     }
 
     @Override
     public SimEvent cancel(int src, Predicate<SimEvent> p) {
-        SimEvent evt = future.stream().filter(p.and(e -> e.getSource() == src)).findFirst().orElse(SimEvent.NULL);
-        future.remove(evt);
+        requireNotRecording("cancel");
+        final Stream<SimEvent> events;
+        if (isTagsPredicate(p)) {
+            events = ((PredicateType) p).getTags().stream().flatMap(tag -> future.stream(src, tag));
+        } else {
+            events = filterEventsFromSourceEntity(future, p, src);
+        }
+
+        final SimEvent evt = events.min(Comparator.naturalOrder()).orElse(SimEvent.NULL);
+        if (evt != SimEvent.NULL) {
+            future.remove(evt);
+        }
+
         return evt;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the given predicate is a {@link PredicateType} (not a subclass of it), the events
+     * are directly found by their source and tags,
+     * taking time proportional just to the number of cancelled events.</p>
+     *
+     * @param src {@inheritDoc}
+     * @param p {@inheritDoc}
+     * @return {@inheritDoc}
+     */
     @Override
     public boolean cancelAll(int src, Predicate<SimEvent> p) {
-        final int previousSize = future.size();
-        List<SimEvent> cancelList = filterEventsFromSourceEntity(future, p, src).collect(toList());
-        future.removeAll(cancelList);
-        return previousSize < future.size();
+        requireNotRecording("cancelAll");
+        if (isTagsPredicate(p)) {
+            boolean cancelled = false;
+            for (final int tag : ((PredicateType) p).getTags()) {
+                cancelled |= future.removeAll(src, tag);
+            }
+
+            return cancelled;
+        }
+
+        final List<SimEvent> cancelList = filterEventsFromSourceEntity(future, p, src).collect(toList());
+        return future.removeAll(cancelList);
+    }
+
+    /**
+     * Checks if a predicate is exactly a {@link PredicateType}, so that the events
+     * it matches can be directly found by their tags.
+     * Subclasses of {@link PredicateType} aren't considered, since they may
+     * override the {@link PredicateType#test(SimEvent)} method.
+     *
+     * @param p the predicate to check
+     * @return true if the events can be found by the tags of the predicate, false otherwise
+     */
+    private static boolean isTagsPredicate(Predicate<SimEvent> p) {
+        return p != null && p.getClass() == PredicateType.class;
     }
 
     /**
@@ -495,9 +758,11 @@ public class CloudSim implements Simulation {
     }
 
     /**
-     * Processes an event.
+     * Processes an event, releasing it to be reused
+     * if it wasn't added to the {@link #deferred} queue.
      *
      * @param e the event to be processed
+     * @see #setEventPoolCapacity(int)
      */
     private void processEvent(SimEvent e) {
         int dest, src;
@@ -529,14 +794,17 @@ public class CloudSim implements Simulation {
                     if (destEnt.getState() == SimEntity.State.WAITING) {
                         Predicate<SimEvent> p = waitPredicates.get(destEnt);
                         if ((Objects.isNull(p)) || (e.getTag() == 9999) || p.test(e)) {
-                            destEnt.setEventBuffer(new CloudSimEvent(e));
+                            destEnt.setEventBuffer(eventPool.newEvent(
+                                this, e.getType(), e.getTime(), e.getSource(), e.getDestination(), e.getTag(), e.getData()));
                             destEnt.setState(SimEntity.State.RUNNABLE);
                             waitPredicates.remove(destEnt);
                         } else {
                             deferred.addEvent(e);
+                            return;
                         }
                     } else {
                         deferred.addEvent(e);
+                        return;
                     }
                 }
                 break;
@@ -553,6 +821,8 @@ public class CloudSim implements Simulation {
             default:
                 break;
         }
+
+        releaseEvent(e);
     }
 
     /**
@@ -607,14 +877,16 @@ public class CloudSim implements Simulation {
 
     @Override
     public void pauseEntity(int src, double delay) {
-        SimEvent e = new CloudSimEvent(this, SimEvent.Type.HOLD_DONE, clock + delay, src);
+        requireNotRecording("pauseEntity");
+        SimEvent e = eventPool.newEvent(this, SimEvent.Type.HOLD_DONE, clock + delay, src, -1, -1, null);
         future.addEvent(e);
         entities.get(src).setState(SimEntity.State.HOLDING);
     }
 
     @Override
     public void holdEntity(int src, long delay) {
-        SimEvent e = new CloudSimEvent(this, SimEvent.Type.HOLD_DONE, clock + delay, src);
+        requireNotRecording("holdEntity");
+        SimEvent e = eventPool.newEvent(this, SimEvent.Type.HOLD_DONE, clock + delay, src, -1, -1, null);
         future.addEvent(e);
         entities.get(src).setState(SimEntity.State.HOLDING);
     }
@@ -733,7 +1005,7 @@ public class CloudSim implements Simulation {
     }
 
     private boolean isNextFutureEventHappeningAfterTimeToPause() {
-        return future.iterator().next().eventTime() >= pauseAt;
+        return future.first().eventTime() >= pauseAt;
     }
 
     /**
@@ -757,12 +1029,14 @@ public class CloudSim implements Simulation {
     }
 
     /**
-     * Prints a message about the progress of the simulation.
+     * Prints a message about the progress of the simulation
+     * using the {@link #getLog() simulation logging context},
+     * even if the simulation isn't running yet.
      *
      * @param message the message
      */
     private void printMessage(String message) {
-        Log.printLine(message);
+        Log.runInContext(log, () -> Log.printLine(message));
     }
 
     @Override
@@ -816,6 +1090,11 @@ public class CloudSim implements Simulation {
         return networkTopology;
     }
 
+    @Override
+    public LogContext getLog() {
+        return log;
+    }
+
     @Override
     public void setNetworkTopology(NetworkTopology networkTopology) {
         this.networkTopology = networkTopology;
@@ -373,11 +373,8 @@ public abstract class CloudSimEntity implements SimEntity {
             return null;
         }
 
-        if (numEventsWaiting(p) > 0) {
-            return selectEvent(p);
-        }
-
-        return null;
+        final SimEvent evt = selectEvent(p);
+        return evt == SimEvent.NULL ? null : evt;
     }
 
     /**
@@ -392,7 +389,7 @@ public abstract class CloudSimEntity implements SimEntity {
         }
 
         simulation.wait(this, p);
-        state = State.WAITING;
+        setState(State.WAITING);
     }
 
     /**
@@ -411,6 +408,7 @@ public abstract class CloudSimEntity implements SimEntity {
 
         while (ev != null) {
             processEvent(ev);
+            releaseEvent(ev);
             if (state != State.RUNNABLE) {
                 break;
             }
@@ -499,10 +497,38 @@ public abstract class CloudSimEntity implements SimEntity {
      * @param state the new state
      */
     public SimEntity setState(State state) {
-        this.state = state;
+        if (this.state != state) {
+            this.state = state;
+            updateEntityState();
+        }
+
         return this;
     }
 
+    /**
+     * Informs the {@link CloudSim} instance running the entity that its state has changed,
+     * so that the simulation keeps track of the {@link State#RUNNABLE} entities.
+     * Other {@link Simulation} implementations aren't informed.
+     */
+    private void updateEntityState() {
+        if (simulation instanceof CloudSim) {
+            ((CloudSim) simulation).updateEntityState(this);
+        }
+    }
+
+    /**
+     * Informs the {@link CloudSim} instance running the entity that an event was processed,
+     * so that it can be reused if event recycling is enabled.
+     * Other {@link Simulation} implementations aren't informed.
+     *
+     * @param evt the processed event
+     */
+    private void releaseEvent(SimEvent evt) {
+        if (simulation instanceof CloudSim) {
+            ((CloudSim) simulation).releaseEvent(evt);
+        }
+    }
+
     /**
      * Sets the entity id.
      *
@@ -128,6 +128,14 @@ public final class CloudSimTags {
      */
     public static final int CLOUDLET_CANCEL = BASE + 23;
 
+    /**
+     * Denotes a request from a broker to itself to submit the Cloudlets
+     * of a workload whose submission time is inside the next time window.
+     *
+     * @see org.cloudbus.cloudsim.brokers.DatacenterBroker#submitWorkload(org.cloudbus.cloudsim.util.WorkloadIterator, double)
+     */
+    public static final int CLOUDLET_WORKLOAD_WINDOW = BASE + 24;
+
     /**
      * Pauses a Cloudlet submitted in the Datacenter entity.
      * When an event of this type is sent, the {@link SimEvent#getData()}
@@ -268,6 +276,31 @@ public final class CloudSimTags {
      */
     public static final int HOST_FAILURE = FAILURE + 1;
 
+    /**
+     * Denotes the submission of a list of Cloudlets to the same Datacenter
+     * at once, instead of sending a {@link #CLOUDLET_SUBMIT} event for each Cloudlet.
+     * This tag is normally used between a DatacenterBroker and a Datacenter.
+     * When an event of this type is sent, the {@link SimEvent#getData()}
+     * must be a {@link java.util.List} of {@link Cloudlet} objects.
+     * Each Cloudlet is processed as if it was submitted by a {@link #CLOUDLET_SUBMIT} event,
+     * but no acknowledgement is sent back.
+     */
+    public static final int CLOUDLET_SUBMIT_LIST = BASE + 49;
+
+    /**
+     * Denotes the submission of a list of Cloudlets to the same Datacenter
+     * with a single acknowledgement for the entire list, that is sent back using this same tag.
+     * When an event of this type is sent, the {@link SimEvent#getData()}
+     * must be a {@link java.util.List} of {@link Cloudlet} objects.
+     * Each Cloudlet is processed as if it was submitted by a {@link #CLOUDLET_SUBMIT} event.
+     * The {@link SimEvent#getData()} of the acknowledgement is a {@link java.util.Map}
+     * where each key is a submitted Cloudlet and each value is its {@link Cloudlet.Status}
+     * after the submission, in the order the Cloudlets were in the list.
+     *
+     * @see #CLOUDLET_SUBMIT_LIST
+     */
+    public static final int CLOUDLET_SUBMIT_LIST_ACK = BASE + 50;
+
     /**
      * Private constructor to avoid instantiating such a class.
      */
@@ -10,6 +10,8 @@ import org.cloudbus.cloudsim.core.predicates.PredicateAny;
 import org.cloudbus.cloudsim.core.predicates.PredicateNone;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.LogContext;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
 
@@ -203,6 +205,11 @@ public interface Simulation {
      * is processed by CloudSim. When this Listener is notified, it will receive
      * the {@link SimEvent} that was processed.
      *
+     * <p>If event recycling is enabled, the received {@link SimEvent} may be reused
+     * by the simulation after the listener returns. Therefore, the listener must
+     * not keep a reference to it, but a copy if needed.
+     * See {@link CloudSim#setEventPoolCapacity(int)} for details.</p>
+     *
      * @param listener the event listener to add
      */
     Simulation addOnEventProcessingListener(EventListener<SimEvent> listener);
@@ -409,6 +416,18 @@ public interface Simulation {
      */
     Map<String, SimEntity> getEntitiesByName();
 
+    /**
+     * Gets the logging context of the simulation, which defines the output stream and if the
+     * {@link Log} is enabled while the simulation is running.
+     * Messages the simulation and its brokers print while the simulation is being set up
+     * also use such a context.
+     * By default, such settings are the ones of the {@link Log#getContext() context}
+     * used by the thread that has created the simulation, unless they are changed for the returned context.
+     *
+     * @return the logging context of the simulation
+     */
+    LogContext getLog();
+
     /**
      * An attribute that implements the Null Object Design Pattern for {@link Simulation}
      * objects.
@@ -507,6 +526,7 @@ public interface Simulation {
         @Override public Map<String, SimEntity> getEntitiesByName() {
             return Collections.emptyMap();
         }
+        @Override public LogContext getLog() { return Log.getContext(); }
         @Override public boolean updateEntityName(String oldName) {
             return false;
         }
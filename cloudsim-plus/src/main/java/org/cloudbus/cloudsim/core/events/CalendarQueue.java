@@ -0,0 +1,297 @@
+package org.cloudbus.cloudsim.core.events;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * A {@link FutureEventQueue} implemented as a Calendar Queue,
+ * that provides O(1) average time to add and poll events.
+ *
+ * <p>Events are distributed into an array of buckets (the "days" of a "year"),
+ * where each bucket spans a time interval given by the bucket width.
+ * An event at time {@code t} is stored into the bucket {@code floor(t/width) mod buckets}.
+ * The number of buckets is doubled or halved as the queue grows or shrinks,
+ * and the bucket width is re-estimated from the average separation
+ * between the first events in the queue.</p>
+ *
+ * <p>The {@link #iterator()} and {@link #stream()} methods return events
+ * in no particular order.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ * @see <a href="https://doi.org/10.1145/63039.63045">R. Brown. Calendar queues: a fast O(1) priority queue implementation for the simulation event set problem. Communications of the ACM, 1988.</a>
+ */
+public class CalendarQueue extends FutureEventQueueAbstract {
+    private static final int MIN_BUCKETS = 2;
+
+    /**
+     * The maximum number of events used to estimate a new bucket width when the queue is resized.
+     */
+    private static final int WIDTH_SAMPLE_SIZE = 25;
+
+    /**
+     * The buckets of the calendar. Each bucket is sorted in descending order
+     * so that the first event of the bucket is always the last element,
+     * enabling it to be removed in constant time.
+     */
+    private List<List<SimEvent>> buckets;
+
+    /**
+     * The time interval covered by each bucket.
+     */
+    private double bucketWidth;
+
+    /**
+     * The number of the bucket (counting from time zero,
+     * without wrapping around the calendar) where the search for the next event starts.
+     */
+    private long currentBucket;
+
+    /**
+     * The number of events into the queue.
+     */
+    private int size;
+
+    /**
+     * Creates a CalendarQueue.
+     */
+    public CalendarQueue() {
+        this.bucketWidth = 1.0;
+        this.buckets = newBuckets(MIN_BUCKETS);
+    }
+
+    private static List<List<SimEvent>> newBuckets(int numberOfBuckets) {
+        final List<List<SimEvent>> list = new ArrayList<>(numberOfBuckets);
+        for (int i = 0; i < numberOfBuckets; i++) {
+            list.add(new ArrayList<>(2));
+        }
+
+        return list;
+    }
+
+    @Override
+    protected void insert(SimEvent newEvent) {
+        final long bucket = bucketNumber(newEvent.eventTime());
+        addToBucket(buckets.get(bucketIndex(bucket)), newEvent);
+        if (size++ == 0 || bucket < currentBucket) {
+            currentBucket = bucket;
+        }
+
+        if (size > 2 * buckets.size()) {
+            resize(2 * buckets.size());
+        }
+    }
+
+    /**
+     * Adds an event to a bucket, keeping the bucket sorted in descending order.
+     * Since events are totally ordered by time, serial and {@link SimEvent#getSequence() sequence},
+     * events having the same time and serial are polled in the order they were added.
+     *
+     * @param bucket the bucket to add the event to
+     * @param newEvent the event to add
+     */
+    private static void addToBucket(List<SimEvent> bucket, SimEvent newEvent) {
+        int low = 0;
+        int high = bucket.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (newEvent.compareTo(bucket.get(mid)) > 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        bucket.add(low, newEvent);
+    }
+
+    /**
+     * Gets the number of the bucket (counting from time zero,
+     * without wrapping around the calendar) that covers a given time.
+     *
+     * @param time the time to get the bucket number
+     * @return the bucket number
+     */
+    private long bucketNumber(double time) {
+        return (long) Math.floor(time / bucketWidth);
+    }
+
+    /**
+     * Gets the index into the {@link #buckets} array for a given bucket number.
+     *
+     * @param bucketNumber the bucket number
+     * @return the bucket index
+     * @see #bucketNumber(double)
+     */
+    private int bucketIndex(long bucketNumber) {
+        return (int) Math.floorMod(bucketNumber, (long) buckets.size());
+    }
+
+    @Override
+    protected Stream<SimEvent> storedEvents() {
+        return buckets.stream().flatMap(List::stream);
+    }
+
+    @Override
+    protected int storedEventsCount() {
+        return size;
+    }
+
+    @Override
+    protected SimEvent peek() throws NoSuchElementException {
+        final List<SimEvent> bucket = findFirstBucket();
+        return bucket.get(bucket.size() - 1);
+    }
+
+    @Override
+    protected SimEvent poll() throws NoSuchElementException {
+        final List<SimEvent> bucket = findFirstBucket();
+        final SimEvent first = bucket.remove(bucket.size() - 1);
+        if (--size < buckets.size() / 2 && buckets.size() > MIN_BUCKETS) {
+            resize(buckets.size() / 2);
+        }
+
+        return first;
+    }
+
+    /**
+     * Finds the bucket containing the first event, moving the {@link #currentBucket} to it.
+     * If no event is found after checking a whole "year" of the calendar,
+     * performs a direct search for the first event in all buckets.
+     *
+     * @return the bucket containing the first event
+     * @throws NoSuchElementException when the queue is empty
+     */
+    private List<SimEvent> findFirstBucket() {
+        if (size == 0) {
+            throw new NoSuchElementException("The Calendar Queue is empty.");
+        }
+
+        for (int i = 0; i < buckets.size(); i++) {
+            final List<SimEvent> bucket = buckets.get(bucketIndex(currentBucket));
+            if (!bucket.isEmpty() && bucketNumber(last(bucket).eventTime()) <= currentBucket) {
+                return bucket;
+            }
+
+            currentBucket++;
+        }
+
+        List<SimEvent> firstBucket = null;
+        for (final List<SimEvent> bucket : buckets) {
+            if (!bucket.isEmpty() && (firstBucket == null || last(bucket).compareTo(last(firstBucket)) < 0)) {
+                firstBucket = bucket;
+            }
+        }
+
+        currentBucket = bucketNumber(last(firstBucket).eventTime());
+        return firstBucket;
+    }
+
+    private static SimEvent last(List<SimEvent> bucket) {
+        return bucket.get(bucket.size() - 1);
+    }
+
+    @Override
+    protected boolean delete(SimEvent event) {
+        final List<SimEvent> bucket = buckets.get(bucketIndex(bucketNumber(event.eventTime())));
+        for (int i = bucket.size() - 1; i >= 0; i--) {
+            if (bucket.get(i) == event) {
+                bucket.remove(i);
+                size--;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    protected void clearStoredEvents() {
+        for (final List<SimEvent> bucket : buckets) {
+            bucket.clear();
+        }
+
+        size = 0;
+    }
+
+    /**
+     * Changes the number of buckets, re-estimating the bucket width
+     * and redistributing all events.
+     *
+     * @param numberOfBuckets the new number of buckets
+     */
+    private void resize(int numberOfBuckets) {
+        final List<List<SimEvent>> oldBuckets = buckets;
+        bucketWidth = estimateBucketWidth();
+        buckets = newBuckets(numberOfBuckets);
+        currentBucket = Long.MAX_VALUE;
+        for (final List<SimEvent> bucket : oldBuckets) {
+            for (final SimEvent evt : bucket) {
+                final long number = bucketNumber(evt.eventTime());
+                addToBucket(buckets.get(bucketIndex(number)), evt);
+                currentBucket = Math.min(currentBucket, number);
+            }
+        }
+
+        if (size == 0) {
+            currentBucket = 0;
+        }
+    }
+
+    /**
+     * Estimates a new bucket width as 3 times the average separation
+     * between the first events in the queue, disregarding separations
+     * greater than twice the overall average.
+     * If the width cannot be estimated, the current one is kept.
+     *
+     * @return the new bucket width
+     */
+    private double estimateBucketWidth() {
+        final double[] times = firstEventTimes();
+        if (times.length < 2) {
+            return bucketWidth;
+        }
+
+        final double average = (times[times.length - 1] - times[0]) / (times.length - 1);
+        double sum = 0;
+        int count = 0;
+        for (int i = 1; i < times.length; i++) {
+            final double separation = times[i] - times[i - 1];
+            if (separation <= 2 * average) {
+                sum += separation;
+                count++;
+            }
+        }
+
+        final double width = count == 0 ? 0 : 3 * sum / count;
+        return width > 0 ? width : bucketWidth;
+    }
+
+    /**
+     * Gets the times of the first events in the queue, in ascending order.
+     *
+     * @return an array with at most {@link #WIDTH_SAMPLE_SIZE} event times
+     */
+    private double[] firstEventTimes() {
+        final PriorityQueue<Double> sample = new PriorityQueue<>(WIDTH_SAMPLE_SIZE, Collections.reverseOrder());
+        for (final List<SimEvent> bucket : buckets) {
+            for (final SimEvent evt : bucket) {
+                if (sample.size() < WIDTH_SAMPLE_SIZE) {
+                    sample.add(evt.eventTime());
+                } else if (evt.eventTime() < sample.peek()) {
+                    sample.poll();
+                    sample.add(evt.eventTime());
+                }
+            }
+        }
+
+        final double[] times = sample.stream().mapToDouble(Double::doubleValue).toArray();
+        Arrays.sort(times);
+        return times;
+    }
+}
@@ -25,14 +25,14 @@ public final class CloudSimEvent implements SimEvent {
     /**
      * @see #getSimulation()
      */
-    private final Simulation simulation;
+    private Simulation simulation;
 
-    private final Type type;
+    private Type type;
 
     /**
      * The time that this event was scheduled, at which it should occur.
      */
-    private final double time;
+    private double time;
 
     /**
      * Time that the event was removed from the queue to start service.
@@ -49,15 +49,40 @@ public final class CloudSimEvent implements SimEvent {
      */
     private int dest;
 
-    private final int tag;
+    private int tag;
 
-    private final Object data;
+    private Object data;
 
     /**
      * @see #getSerial()
      */
     private long serial = -1;
 
+    /**
+     * @see #getSequence()
+     */
+    private long sequence = -1;
+
+    /**
+     * The position of the event inside the list of events from the same source entity
+     * and with the same tag kept by the {@link FutureEventQueueAbstract} storing the event,
+     * or -1 if the event isn't into such a queue.
+     */
+    private int sourceIndexPosition = -1;
+
+    /**
+     * Indicates if the event was removed from a {@link FutureEventQueueAbstract}
+     * but it is still stored into the queue data structure,
+     * waiting to be discarded when it reaches the head of the queue.
+     */
+    private boolean removedFromQueue;
+
+    /**
+     * Indicates if the event is currently stored into a {@link CloudSimEventPool},
+     * waiting to be reused.
+     */
+    private boolean pooled;
+
     /**
      * Creates a blank event.
      * @param simulation the simulation to which the event belongs to
@@ -88,6 +113,22 @@ public final class CloudSimEvent implements SimEvent {
         this.data = eventToClone.getData();
     }
 
+    /**
+     * Creates an CloudSimEvent that is a view of another given one,
+     * having the same attributes but a different tag and data.
+     * It enables processing each item of an event carrying a list of items
+     * as if it was sent by an individual event.
+     *
+     * @param event the event to create a view from
+     * @param tag the tag of the new event
+     * @param data the data of the new event
+     */
+    public CloudSimEvent(SimEvent event, int tag, Object data) {
+        this(event);
+        this.tag = tag;
+        this.data = data;
+    }
+
     public CloudSimEvent(CloudSim simulation, Type type, double time, int src, int dest, int tag, Object data) {
         this.simulation = simulation;
         this.type = type;
@@ -108,11 +149,74 @@ public final class CloudSimEvent implements SimEvent {
         this.data = null;
     }
 
+    /**
+     * Re-initializes the attributes of an event taken from a {@link CloudSimEventPool}
+     * so that it can be reused as a new event.
+     *
+     * @return this event
+     */
+    CloudSimEvent reset(CloudSim simulation, Type type, double time, int src, int dest, int tag, Object data) {
+        this.simulation = simulation;
+        this.type = type;
+        this.time = time;
+        this.endWaitingTime = 0;
+        this.src = src;
+        this.dest = dest;
+        this.tag = tag;
+        this.data = data;
+        this.serial = -1;
+        this.sequence = -1;
+        this.sourceIndexPosition = -1;
+        this.removedFromQueue = false;
+        this.pooled = false;
+        return this;
+    }
+
+    /**
+     * Clears the references held by an event that is being stored into a {@link CloudSimEventPool},
+     * so that it doesn't prevent the event data from being garbage collected.
+     */
+    void clear() {
+        this.data = null;
+        this.pooled = true;
+    }
+
+    int getSourceIndexPosition() {
+        return sourceIndexPosition;
+    }
+
+    void setSourceIndexPosition(int sourceIndexPosition) {
+        this.sourceIndexPosition = sourceIndexPosition;
+    }
+
+    boolean isRemovedFromQueue() {
+        return removedFromQueue;
+    }
+
+    void setRemovedFromQueue(boolean removedFromQueue) {
+        this.removedFromQueue = removedFromQueue;
+    }
+
+    /**
+     * Checks if the event is currently stored into a {@link CloudSimEventPool},
+     * waiting to be reused.
+     *
+     * @return true if the event is into a pool, false otherwise
+     */
+    boolean isPooled() {
+        return pooled;
+    }
+
     @Override
     public void setSerial(long serial) {
         this.serial = serial;
     }
 
+    @Override
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
     /**
      * Sets the time that the event was removed from the queue to start service.
      *
@@ -143,6 +247,12 @@ public final class CloudSimEvent implements SimEvent {
             return 1;
         } else if (serial < event.getSerial()) {
             return -1;
+        } else if (serial > event.getSerial()) {
+            return 1;
+        } else if (sequence < event.getSequence()) {
+            return -1;
+        } else if (sequence > event.getSequence()) {
+            return 1;
         } else if (this == event) {
             return 0;
         } else {
@@ -207,6 +317,11 @@ public final class CloudSimEvent implements SimEvent {
         return serial;
     }
 
+    @Override
+    public long getSequence() {
+        return sequence;
+    }
+
     @Override
     public Simulation getSimulation() {
         return simulation;
@@ -0,0 +1,109 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+
+/**
+ * A bounded pool of {@link CloudSimEvent} objects which were already processed
+ * and can be reused to create new events, reducing the number of objects
+ * the garbage collector has to reclaim in simulations with a high event rate.
+ *
+ * <p>A released event is re-initialized when it's taken from the pool
+ * to create a new event. Therefore, an event must be released just when
+ * no one holds a reference to it anymore.
+ * A pool with zero capacity never stores events, always creating new ones.</p>
+ *
+ * <p>This class is not thread-safe. Each simulation must have its own pool.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ * @see CloudSim#setEventPoolCapacity(int)
+ */
+public class CloudSimEventPool {
+    /**
+     * The events available for reuse, where the ones
+     * at positions from 0 to {@link #size}-1 are valid.
+     */
+    private final CloudSimEvent[] events;
+
+    /**
+     * The number of events into the pool.
+     */
+    private int size;
+
+    /**
+     * Creates a CloudSimEventPool.
+     *
+     * @param capacity the maximum number of events the pool can store
+     */
+    public CloudSimEventPool(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The pool capacity cannot be negative.");
+        }
+
+        this.events = new CloudSimEvent[capacity];
+    }
+
+    /**
+     * Gets a {@link CloudSimEvent} with the given attributes,
+     * reusing an event from the pool if there is any.
+     *
+     * @param simulation the simulation the event belongs to
+     * @param type the event type
+     * @param time the time the event should occur
+     * @param src the id of the entity that scheduled the event
+     * @param dest the id of the entity the event will be sent to
+     * @param tag the event tag
+     * @param data the data attached to the event
+     * @return a new or reused event
+     */
+    public CloudSimEvent newEvent(CloudSim simulation, SimEvent.Type type, double time, int src, int dest, int tag, Object data) {
+        if (size == 0) {
+            return new CloudSimEvent(simulation, type, time, src, dest, tag, data);
+        }
+
+        final CloudSimEvent evt = events[--size];
+        events[size] = null;
+        return evt.reset(simulation, type, time, src, dest, tag, data);
+    }
+
+    /**
+     * Stores a processed event into the pool, so that it can be reused.
+     * The event is just discarded if the pool is full,
+     * if it isn't a {@link CloudSimEvent} or if it's already into the pool.
+     *
+     * @param evt the event to release
+     * @return true if the event was stored into the pool, false otherwise
+     */
+    public boolean release(SimEvent evt) {
+        if (size == events.length || !(evt instanceof CloudSimEvent)) {
+            return false;
+        }
+
+        final CloudSimEvent cloudSimEvent = (CloudSimEvent) evt;
+        if (cloudSimEvent.isPooled()) {
+            return false;
+        }
+
+        cloudSimEvent.clear();
+        events[size++] = cloudSimEvent;
+        return true;
+    }
+
+    /**
+     * Gets the number of events into the pool, available for reuse.
+     *
+     * @return
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the maximum number of events the pool can store.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return events.length;
+    }
+}
@@ -15,7 +15,17 @@ import java.util.stream.Stream;
 
 /**
  * This class implements the deferred event queue used by {@link CloudSim}.
- * The event queue uses a linked list to store the events.
+ * The events are stored into a mailbox for each destination entity,
+ * which is a linked list ordered by event time.
+ * This way, finding the events sent to a given entity just depends on the
+ * number of events waiting for that entity, not on the total number of deferred events.
+ * Each mailbox also keeps the events of each {@link SimEvent#getTag() tag} into a separate list,
+ * so that the first event with some given tags is found without looking at events with other tags.
+ * Mailboxes are removed when they become empty and are kept sorted by the time of their first event,
+ * to get the {@link #first() first event} of the queue.
+ *
+ * <p>The {@link #iterator()} and {@link #stream()} methods return the events
+ * of each entity in order, but events of different entities are not interleaved by time.</p>
  *
  * @author Marcos Dias de Assuncao
  * @since CloudSim Toolkit 1.0
@@ -24,72 +34,111 @@ import java.util.stream.Stream;
  */
 public class DeferredQueue implements EventQueue {
 
-	/** The list of events. */
-	private final List<SimEvent> list = new LinkedList<>();
-
-	/** The max time that an added event is scheduled. */
-	private double maxTime = -1;
-
-	/**
-	 * Adds a new event to the queue. Adding a new event to the queue preserves the temporal order
-	 * of the events.
-	 *
-	 * @param newEvent The event to be added to the queue.
-	 */
-	public void addEvent(SimEvent newEvent) {
-		// The event has to be inserted as the last of all events
-		// with the same event_time(). Yes, this matters.
-		double eventTime = newEvent.eventTime();
-		if (eventTime >= maxTime) {
-			list.add(newEvent);
-			maxTime = eventTime;
-			return;
-		}
-
-		ListIterator<SimEvent> iterator = list.listIterator();
-		SimEvent event;
-		while (iterator.hasNext()) {
-			event = iterator.next();
-			if (event.eventTime() > eventTime) {
-				iterator.previous();
-				iterator.add(newEvent);
-				return;
-			}
-		}
-
-		list.add(newEvent);
-	}
-
-	/**
-	 * Returns an iterator to the events in the queue.
-	 *
-	 * @return the iterator
-	 */
-	public Iterator<SimEvent> iterator() {
-		return list.iterator();
-	}
+    /**
+     * A map where each key is the id of a destination entity
+     * and each value is the mailbox containing the events sent to that entity.
+     * Just entities with waiting events have a mailbox.
+     */
+    private final Map<Integer, Mailbox> mailboxes = new HashMap<>();
+
+    /**
+     * The mailboxes sorted by the time of their first event.
+     */
+    private final NavigableSet<Mailbox> heads = new TreeSet<>(DeferredQueue::compareHeads);
+
+    /** The number of events into all mailboxes. */
+    private int size;
+
+    /**
+     * Adds a new event to the queue. Adding a new event to the queue preserves the temporal order
+     * of the events sent to the same destination entity.
+     *
+     * @param newEvent The event to be added to the queue.
+     */
+    @Override
+    public void addEvent(SimEvent newEvent) {
+        final Mailbox mailbox = mailboxes.computeIfAbsent(newEvent.getDestination(), Mailbox::new);
+        final boolean newHead = mailbox.isEmpty() || newEvent.eventTime() < mailbox.first().eventTime();
+        if (newHead) {
+            heads.remove(mailbox);
+        }
+
+        mailbox.add(newEvent);
+        if (newHead) {
+            heads.add(mailbox);
+        }
+
+        size++;
+    }
+
+    /**
+     * Returns an iterator to the events in the queue.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<SimEvent> iterator() {
+        return stream().iterator();
+    }
 
     /**
      * Returns a stream to the elements into the queue.
      *
      * @return the stream
      */
+    @Override
     public Stream<SimEvent> stream() {
-        return list.stream();
+        return mailboxes.values().stream().flatMap(Mailbox::stream);
+    }
+
+    /**
+     * Returns a stream to the events sent to a given entity, ordered by time.
+     *
+     * @param dest the id of the destination entity
+     * @return the stream
+     */
+    public Stream<SimEvent> stream(int dest) {
+        final Mailbox mailbox = mailboxes.get(dest);
+        return Objects.isNull(mailbox) ? Stream.empty() : mailbox.stream();
     }
 
-	/**
-	 * Returns the size of this event queue.
-	 *
-	 * @return the number of events in the queue.
-	 */
-	public int size() {
-		return list.size();
-	}
+    /**
+     * Returns the size of this event queue.
+     *
+     * @return the number of events in the queue.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of events sent to a given entity.
+     *
+     * @param dest the id of the destination entity
+     * @return the number of events waiting for the entity
+     */
+    public int size(int dest) {
+        final Mailbox mailbox = mailboxes.get(dest);
+        return Objects.isNull(mailbox) ? 0 : mailbox.entries.size();
+    }
+
+    /**
+     * Returns the number of events sent to a given entity which have any of the given tags.
+     * It takes time proportional to the number of tags.
+     *
+     * @param dest the id of the destination entity
+     * @param tags the {@link SimEvent#getTag() tags} of the events to count
+     * @return the number of events with the given tags waiting for the entity
+     */
+    public int size(int dest, Collection<Integer> tags) {
+        final Mailbox mailbox = mailboxes.get(dest);
+        return Objects.isNull(mailbox) ? 0 : mailbox.size(tags);
+    }
 
     @Override
     public boolean isEmpty() {
-        return list.isEmpty();
+        return size == 0;
     }
 
     /**
@@ -99,23 +148,214 @@ public class DeferredQueue implements EventQueue {
      * @return true, if successful
      */
     public boolean remove(SimEvent event) {
-        return list.remove(event);
-    }
+        final Mailbox mailbox = mailboxes.get(event.getDestination());
+        if (Objects.isNull(mailbox)) {
+            return false;
+        }
+
+        final boolean head = mailbox.first() == event;
+        if (head) {
+            heads.remove(mailbox);
+        }
+
+        if (!mailbox.remove(event)) {
+            return false;
+        }
 
+        size--;
+        if (mailbox.isEmpty()) {
+            mailboxes.remove(mailbox.dest);
+        } else if (head) {
+            heads.add(mailbox);
+        }
 
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Events sent to different entities at the same time
+     * are ordered by the id of the destination entity.
+     *
+     * @return {@inheritDoc}
+     * @throws NoSuchElementException {@inheritDoc}
+     */
     @Override
     public SimEvent first() throws NoSuchElementException {
-	    if(list.isEmpty())
-	        throw new NoSuchElementException("The Deferred Queue is empty.");
+        if (heads.isEmpty()) {
+            throw new NoSuchElementException("The Deferred Queue is empty.");
+        }
+
+        return heads.first().first();
+    }
 
-        return list.get(0);
+    /**
+     * Gets the first event sent to a given entity.
+     *
+     * @param dest the id of the destination entity
+     * @return the first event or {@link SimEvent#NULL} if there is no event waiting for the entity
+     */
+    public SimEvent first(int dest) {
+        final Mailbox mailbox = mailboxes.get(dest);
+        return Objects.isNull(mailbox) ? SimEvent.NULL : mailbox.first();
     }
 
     /**
-	 * Clears the queue.
-	 */
-	public void clear() {
-		list.clear();
-	}
+     * Gets the first event sent to a given entity which has any of the given tags.
+     * It takes time proportional to the number of tags.
+     *
+     * @param dest the id of the destination entity
+     * @param tags the {@link SimEvent#getTag() tags} of the event to get
+     * @return the first event or {@link SimEvent#NULL} if there is no event
+     * with the given tags waiting for the entity
+     */
+    public SimEvent first(int dest, Collection<Integer> tags) {
+        final Mailbox mailbox = mailboxes.get(dest);
+        return Objects.isNull(mailbox) ? SimEvent.NULL : mailbox.first(tags);
+    }
+
+    /**
+     * Clears the queue.
+     */
+    public void clear() {
+        mailboxes.clear();
+        heads.clear();
+        size = 0;
+    }
+
+    private static int compareHeads(Mailbox mailbox1, Mailbox mailbox2) {
+        final int result = Double.compare(mailbox1.first().eventTime(), mailbox2.first().eventTime());
+        return result != 0 ? result : Integer.compare(mailbox1.dest, mailbox2.dest);
+    }
+
+    /**
+     * The events sent to a single entity, ordered by time.
+     */
+    private static final class Mailbox {
+        /** The id of the destination entity. */
+        private final int dest;
+
+        /** The list of events. */
+        private final LinkedList<Entry> entries = new LinkedList<>();
 
+        /**
+         * A map where each key is a tag and each value is the list of events with such a tag,
+         * ordered in the same way as the {@link #entries}.
+         */
+        private final Map<Integer, LinkedList<Entry>> entriesByTag = new HashMap<>();
+
+        /** The number of events added to the mailbox, used to define the order of added events. */
+        private long addedEvents;
+
+        Mailbox(int dest) {
+            this.dest = dest;
+        }
+
+        boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        SimEvent first() {
+            return entries.isEmpty() ? SimEvent.NULL : entries.getFirst().event;
+        }
+
+        SimEvent first(Collection<Integer> tags) {
+            Entry first = null;
+            for (final int tag : tags) {
+                final LinkedList<Entry> tagEntries = entriesByTag.get(tag);
+                if (Objects.nonNull(tagEntries) && (Objects.isNull(first) || tagEntries.getFirst().isBefore(first))) {
+                    first = tagEntries.getFirst();
+                }
+            }
+
+            return Objects.isNull(first) ? SimEvent.NULL : first.event;
+        }
+
+        int size(Collection<Integer> tags) {
+            return tags.stream()
+                .distinct()
+                .map(entriesByTag::get)
+                .filter(Objects::nonNull)
+                .mapToInt(List::size)
+                .sum();
+        }
+
+        Stream<SimEvent> stream() {
+            return entries.stream().map(entry -> entry.event);
+        }
+
+        void add(SimEvent newEvent) {
+            final Entry entry = new Entry(newEvent, addedEvents++);
+            insert(entries, entry);
+            insert(entriesByTag.computeIfAbsent(newEvent.getTag(), tag -> new LinkedList<>()), entry);
+        }
+
+        /**
+         * Inserts an event as the last of all events with the same time
+         * (yes, this matters), keeping the list ordered by time.
+         *
+         * @param entries the list to insert the event into
+         * @param entry the entry of the event to insert
+         */
+        private static void insert(LinkedList<Entry> entries, Entry entry) {
+            final double eventTime = entry.event.eventTime();
+            if (entries.isEmpty() || entries.getLast().event.eventTime() <= eventTime) {
+                entries.add(entry);
+                return;
+            }
+
+            final ListIterator<Entry> iterator = entries.listIterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().event.eventTime() > eventTime) {
+                    iterator.previous();
+                    iterator.add(entry);
+                    return;
+                }
+            }
+
+            entries.add(entry);
+        }
+
+        boolean remove(SimEvent event) {
+            final Iterator<Entry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                final Entry entry = iterator.next();
+                if (entry.event == event) {
+                    iterator.remove();
+                    removeFromTagEntries(entry);
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private void removeFromTagEntries(Entry entry) {
+            final int tag = entry.event.getTag();
+            final LinkedList<Entry> tagEntries = entriesByTag.get(tag);
+            tagEntries.removeIf(tagEntry -> tagEntry == entry);
+            if (tagEntries.isEmpty()) {
+                entriesByTag.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * An event stored into a {@link Mailbox}, together with the order it was added to it.
+     * Events in a mailbox are ordered by time and then by the order they were added.
+     */
+    private static final class Entry {
+        private final SimEvent event;
+        private final long order;
+
+        Entry(SimEvent event, long order) {
+            this.event = event;
+            this.order = order;
+        }
+
+        boolean isBefore(Entry other) {
+            final int result = Double.compare(event.eventTime(), other.event.eventTime());
+            return result < 0 || (result == 0 && order < other.order);
+        }
+    }
 }
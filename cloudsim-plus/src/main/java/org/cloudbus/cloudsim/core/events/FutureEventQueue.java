@@ -0,0 +1,92 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * An interface to be implemented by queues that store the events
+ * to be processed in a future simulation time.
+ * It defines the strategy used by a {@link CloudSim} instance to store
+ * and retrieve such events, enabling the selection of
+ * different data structures according to the simulation scale.
+ *
+ * <p>Despite the internal data structure used, every implementation
+ * must return events ordered by their time, then by their
+ * {@link SimEvent#getSerial() serial} and finally by their
+ * {@link SimEvent#getSequence() sequence}, according to the {@link SimEvent#compareTo(SimEvent)}
+ * method. However, the {@link #iterator()} and {@link #stream()} methods
+ * are not required to follow such an order.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ * @see FutureQueue
+ * @see CalendarQueue
+ * @see LadderQueue
+ * @see HeapQueue
+ */
+public interface FutureEventQueue extends EventQueue {
+    /**
+     * Adds a new event to the head of the queue,
+     * in order to be processed before the other events
+     * scheduled for the same time.
+     *
+     * @param newEvent The event to be put in the queue.
+     */
+    void addEventFirst(SimEvent newEvent);
+
+    /**
+     * Removes and returns the first element of the queue,
+     * that is the event with the lowest time
+     * (and the lowest serial among the events happening at that time).
+     *
+     * @return the removed event
+     * @throws NoSuchElementException when the queue is empty
+     */
+    SimEvent pollFirst() throws NoSuchElementException;
+
+    /**
+     * Removes the event from the queue.
+     *
+     * @param event the event
+     * @return true, if successful
+     */
+    boolean remove(SimEvent event);
+
+    /**
+     * Removes all the events from the queue.
+     *
+     * @param events the events
+     * @return true, if successful
+     */
+    boolean removeAll(Collection<SimEvent> events);
+
+    /**
+     * Returns a stream to the events into the queue which were sent by a given entity
+     * and have a given tag, in no particular order.
+     * Implementations should find such events without iterating over the entire queue.
+     *
+     * @param source the id of the entity that sent the events
+     * @param tag the {@link SimEvent#getTag() tag} of the events
+     * @return the stream of events found
+     */
+    Stream<SimEvent> stream(int source, int tag);
+
+    /**
+     * Removes all events into the queue which were sent by a given entity
+     * and have a given tag.
+     * Implementations should find such events without iterating over the entire queue.
+     *
+     * @param source the id of the entity that sent the events
+     * @param tag the {@link SimEvent#getTag() tag} of the events
+     * @return true if any event was removed, false otherwise
+     */
+    boolean removeAll(int source, int tag);
+
+    /**
+     * Clears the queue.
+     */
+    void clear();
+}
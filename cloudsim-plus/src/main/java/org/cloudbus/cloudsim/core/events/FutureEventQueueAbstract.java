@@ -0,0 +1,370 @@
+package org.cloudbus.cloudsim.core.events;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * A base class for implementing {@link FutureEventQueue}s,
+ * which is in charge of setting the {@link SimEvent#getSerial() serial}
+ * and the {@link SimEvent#getSequence() sequence} of added events,
+ * that are used to order events happening at the same time.
+ * Since events having the same time and serial are ordered by the sequence
+ * they were added, all implementations return them in the same order.
+ *
+ * <p>It also keeps an index of the events in the queue by
+ * {@link SimEvent#getSource() source entity} and {@link SimEvent#getTag() tag},
+ * enabling {@link #stream(int, int)} and {@link #removeAll(int, int)}
+ * to take time proportional just to the number of events sent by the given entity
+ * with the given tag. The index has a map for each entity, where each key is a tag and each value
+ * is an array-backed list of the events having such a tag.
+ * Each event stores its own position inside its list, thus
+ * removing a single event from the index takes constant time.
+ * Events which the underlying data structure cannot remove efficiently
+ * are just flagged as removed (lazy deletion) and are discarded
+ * when they reach the head of the queue.
+ * The source and tag of an event must not be changed while it is in the queue.</p>
+ *
+ * <p>Since such information is stored into the events,
+ * the queue just accepts {@link CloudSimEvent} objects.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ */
+public abstract class FutureEventQueueAbstract implements FutureEventQueue {
+    /**
+     * A incremental number used for {@link SimEvent#getSerial()} event attribute.
+     */
+    private long serial = 0;
+
+    /**
+     * A incremental number used for {@link SimEvent#getSequence()} event attribute,
+     * that is set for every added event, including the ones added to the head of the queue.
+     */
+    private long sequence = 0;
+
+    /**
+     * A list where each element at position {@code i} is a map of the events
+     * in the queue sent by the entity with id {@code i},
+     * where each key is a tag and each value is the list of events with such a tag.
+     * Each event stores its position inside the list of its source entity and tag.
+     * @see CloudSimEvent#getSourceIndexPosition()
+     */
+    private final List<Map<Integer, List<CloudSimEvent>>> eventsBySource = new ArrayList<>();
+
+    /**
+     * The map of events in the queue which have a negative source entity id,
+     * where each key is a tag and each value is the list of events with such a tag.
+     */
+    private final Map<Integer, List<CloudSimEvent>> eventsFromNegativeSources = new HashMap<>();
+
+    /**
+     * The number of events which were removed from the queue
+     * but are still stored in the underlying data structure
+     * (also known as tombstones).
+     * @see CloudSimEvent#isRemovedFromQueue()
+     */
+    private int removedCount;
+
+    @Override
+    public final void addEvent(SimEvent newEvent) {
+        final CloudSimEvent evt = cast(newEvent);
+        evt.setSerial(serial++);
+        evt.setSequence(sequence++);
+        insert(evt);
+        addToIndex(evt);
+    }
+
+    @Override
+    public final void addEventFirst(SimEvent newEvent) {
+        final CloudSimEvent evt = cast(newEvent);
+        evt.setSerial(0);
+        evt.setSequence(sequence++);
+        insert(evt);
+        addToIndex(evt);
+    }
+
+    private static CloudSimEvent cast(SimEvent evt) {
+        if (!(evt instanceof CloudSimEvent)) {
+            throw new IllegalArgumentException("Just CloudSimEvent objects can be added to a FutureEventQueue.");
+        }
+
+        return (CloudSimEvent) evt;
+    }
+
+    /**
+     * Inserts an event, which already has its serial defined, into the queue.
+     *
+     * @param newEvent the event to insert
+     */
+    protected abstract void insert(SimEvent newEvent);
+
+    /**
+     * Gets the first event stored in the underlying data structure,
+     * that may be an event already marked as removed.
+     *
+     * @return the first stored event
+     * @throws NoSuchElementException when there is no stored event
+     */
+    protected abstract SimEvent peek() throws NoSuchElementException;
+
+    /**
+     * Removes and returns the first event stored in the underlying data structure,
+     * that may be an event already marked as removed.
+     *
+     * @return the removed event
+     * @throws NoSuchElementException when there is no stored event
+     */
+    protected abstract SimEvent poll() throws NoSuchElementException;
+
+    /**
+     * Gets a stream of all events stored in the underlying data structure,
+     * including the ones already marked as removed.
+     *
+     * @return the stream of stored events
+     */
+    protected abstract Stream<SimEvent> storedEvents();
+
+    /**
+     * Gets the number of events stored in the underlying data structure,
+     * including the ones already marked as removed.
+     *
+     * @return the number of stored events
+     */
+    protected abstract int storedEventsCount();
+
+    /**
+     * Removes all events stored in the underlying data structure.
+     */
+    protected abstract void clearStoredEvents();
+
+    /**
+     * Tries to remove a given event from the underlying data structure.
+     * Implementations which cannot find an arbitrary event efficiently
+     * shouldn't override this method, so that the event is
+     * just marked as removed and discarded when it reaches the head of the queue.
+     *
+     * @param event the event to remove, that is ensured to be stored in the queue
+     * @return true if the event was removed, false if it must be marked as removed
+     */
+    protected boolean delete(SimEvent event) {
+        return false;
+    }
+
+    @Override
+    public Iterator<SimEvent> iterator() {
+        return stream().iterator();
+    }
+
+    @Override
+    public final Stream<SimEvent> stream() {
+        return removedCount == 0 ? storedEvents() : storedEvents().filter(evt -> !isRemovedFromQueue(evt));
+    }
+
+    @Override
+    public Stream<SimEvent> stream(int source, int tag) {
+        final List<CloudSimEvent> events = indexedEvents(source, tag, false);
+        if (events.isEmpty()) {
+            return Stream.empty();
+        }
+
+        //Events from different negative sources are stored into the same list
+        return events.stream()
+            .filter(evt -> evt.getSource() == source)
+            .map(evt -> (SimEvent) evt);
+    }
+
+    @Override
+    public final int size() {
+        return storedEventsCount() - removedCount;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public final SimEvent first() throws NoSuchElementException {
+        discardRemovedEventsFromHead();
+        return peek();
+    }
+
+    @Override
+    public final SimEvent pollFirst() throws NoSuchElementException {
+        discardRemovedEventsFromHead();
+        final SimEvent first = poll();
+        removeFromIndex((CloudSimEvent) first);
+        return first;
+    }
+
+    /**
+     * Physically removes the events at the head of the queue
+     * which were already flagged as removed.
+     */
+    private void discardRemovedEventsFromHead() {
+        while (removedCount > 0 && storedEventsCount() > 0 && isRemovedFromQueue(peek())) {
+            final CloudSimEvent evt = (CloudSimEvent) poll();
+            evt.setRemovedFromQueue(false);
+            removedCount--;
+        }
+    }
+
+    private static boolean isRemovedFromQueue(SimEvent evt) {
+        return ((CloudSimEvent) evt).isRemovedFromQueue();
+    }
+
+    @Override
+    public final boolean remove(SimEvent event) {
+        if (!(event instanceof CloudSimEvent) || !removeFromIndex((CloudSimEvent) event)) {
+            return false;
+        }
+
+        markAsRemoved((CloudSimEvent) event);
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<SimEvent> events) {
+        boolean removed = false;
+        for (SimEvent evt : events) {
+            removed |= remove(evt);
+        }
+
+        return removed;
+    }
+
+    @Override
+    public final boolean removeAll(int source, int tag) {
+        final List<CloudSimEvent> events = indexedEvents(source, tag, false);
+        if (source >= 0) {
+            final boolean removed = !events.isEmpty();
+            events.forEach(evt -> {
+                evt.setSourceIndexPosition(-1);
+                markAsRemoved(evt);
+            });
+            events.clear();
+            return removed;
+        }
+
+        boolean removed = false;
+        //Iterates backwards since removing an event moves the last one to its position
+        for (int i = events.size() - 1; i >= 0; i--) {
+            final CloudSimEvent evt = events.get(i);
+            if (evt.getSource() == source) {
+                removeFromIndex(evt);
+                markAsRemoved(evt);
+                removed = true;
+            }
+        }
+
+        return removed;
+    }
+
+    /**
+     * Removes an event that was already removed from the index
+     * from the underlying data structure or, if it's not possible,
+     * flags it as removed.
+     *
+     * @param event the event to remove
+     */
+    private void markAsRemoved(CloudSimEvent event) {
+        if (!delete(event)) {
+            event.setRemovedFromQueue(true);
+            removedCount++;
+        }
+    }
+
+    @Override
+    public final void clear() {
+        storedEvents().forEach(evt -> ((CloudSimEvent) evt).setRemovedFromQueue(false));
+        clearStoredEvents();
+        eventsBySource.forEach(this::clearIndexPositions);
+        clearIndexPositions(eventsFromNegativeSources);
+        removedCount = 0;
+    }
+
+    private void clearIndexPositions(Map<Integer, List<CloudSimEvent>> eventsByTag) {
+        eventsByTag.values().forEach(events -> events.forEach(evt -> evt.setSourceIndexPosition(-1)));
+        eventsByTag.clear();
+    }
+
+    /**
+     * Gets the map of events sent by a given entity, where each key is a tag
+     * and each value is the list of events with such a tag.
+     * Events from negative entity ids are stored into the same map.
+     *
+     * @param source the id of the entity that sent the events
+     * @param create true to create the map if it doesn't exist yet
+     * @return the map of events from the entity
+     */
+    private Map<Integer, List<CloudSimEvent>> sourceEvents(int source, boolean create) {
+        if (source < 0) {
+            return eventsFromNegativeSources;
+        }
+
+        if (source >= eventsBySource.size()) {
+            if (!create) {
+                return Collections.emptyMap();
+            }
+
+            while (eventsBySource.size() <= source) {
+                eventsBySource.add(new HashMap<>());
+            }
+        }
+
+        return eventsBySource.get(source);
+    }
+
+    /**
+     * Gets the list of events sent by a given entity with a given tag.
+     * Events from negative entity ids are stored into the same list.
+     *
+     * @param source the id of the entity that sent the events
+     * @param tag the tag of the events
+     * @param create true to create the list if it doesn't exist yet
+     * @return the list of events from the entity with the tag
+     */
+    private List<CloudSimEvent> indexedEvents(int source, int tag, boolean create) {
+        final Map<Integer, List<CloudSimEvent>> eventsByTag = sourceEvents(source, create);
+        return create ?
+            eventsByTag.computeIfAbsent(tag, t -> new ArrayList<>()) :
+            eventsByTag.getOrDefault(tag, Collections.emptyList());
+    }
+
+    private void addToIndex(CloudSimEvent evt) {
+        final List<CloudSimEvent> events = indexedEvents(evt.getSource(), evt.getTag(), true);
+        evt.setSourceIndexPosition(events.size());
+        events.add(evt);
+    }
+
+    /**
+     * Removes an event from the index, moving the last event
+     * sent by the same entity with the same tag to the position of the removed one.
+     *
+     * @param evt the event to remove
+     * @return true if the event was in the index (and thus in the queue), false otherwise
+     */
+    private boolean removeFromIndex(CloudSimEvent evt) {
+        final int position = evt.getSourceIndexPosition();
+        final List<CloudSimEvent> events = indexedEvents(evt.getSource(), evt.getTag(), false);
+        if (position < 0 || position >= events.size() || events.get(position) != evt) {
+            return false;
+        }
+
+        final CloudSimEvent last = events.remove(events.size() - 1);
+        if (last != evt) {
+            events.set(position, last);
+            last.setSourceIndexPosition(position);
+        }
+
+        evt.setSourceIndexPosition(-1);
+        return true;
+    }
+}
@@ -10,98 +10,63 @@ package org.cloudbus.cloudsim.core.events;
 
 import org.cloudbus.cloudsim.core.CloudSim;
 
-import java.util.Collection;
-import java.util.Iterator;
+import java.util.NavigableSet;
 import java.util.NoSuchElementException;
-import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.stream.Stream;
 
 /**
  * This class implements the future event queue used by {@link CloudSim}.
  * The event queue uses a {@link TreeSet} in order to store the events.
+ * It is the default {@link FutureEventQueue} used by {@link CloudSim}.
  *
  * @author Marcos Dias de Assuncao
  * @see java.util.TreeSet
  * @since CloudSim Toolkit 1.0
  */
-public class FutureQueue implements EventQueue {
+public class FutureQueue extends FutureEventQueueAbstract {
 
     /**
      * The sorted set of events.
      */
-    private final SortedSet<SimEvent> sortedSet = new TreeSet<>();
-
-    /**
-     * A incremental number used for {@link SimEvent#getSerial()} event attribute.
-     */
-    private long serial = 0;
+    private final NavigableSet<SimEvent> sortedSet = new TreeSet<>();
 
     @Override
-    public void addEvent(SimEvent newEvent) {
-        newEvent.setSerial(serial++);
-        sortedSet.add(newEvent);
-    }
-
-    /**
-     * Adds a new event to the head of the queue.
-     *
-     * @param newEvent The event to be put in the queue.
-     */
-    public void addEventFirst(SimEvent newEvent) {
-        newEvent.setSerial(0);
+    protected void insert(SimEvent newEvent) {
         sortedSet.add(newEvent);
     }
 
     @Override
-    public Iterator<SimEvent> iterator() {
-        return sortedSet.iterator();
-    }
-
-    @Override
-    public Stream<SimEvent> stream() {
+    protected Stream<SimEvent> storedEvents() {
         return sortedSet.stream();
     }
 
     @Override
-    public int size() {
+    protected int storedEventsCount() {
         return sortedSet.size();
     }
 
     @Override
-    public boolean isEmpty() {
-        return sortedSet.isEmpty();
-    }
-
-    /**
-     * Removes the event from the queue.
-     *
-     * @param event the event
-     * @return true, if successful
-     */
-    public boolean remove(SimEvent event) {
+    protected boolean delete(SimEvent event) {
         return sortedSet.remove(event);
     }
 
-    /**
-     * Removes all the events from the queue.
-     *
-     * @param events the events
-     * @return true, if successful
-     */
-    public boolean removeAll(Collection<SimEvent> events) {
-        return sortedSet.removeAll(events);
+    @Override
+    protected SimEvent peek() throws NoSuchElementException {
+        return sortedSet.first();
     }
 
     @Override
-    public SimEvent first() throws NoSuchElementException {
-        return sortedSet.first();
+    protected SimEvent poll() throws NoSuchElementException {
+        if (sortedSet.isEmpty()) {
+            throw new NoSuchElementException("The Future Queue is empty.");
+        }
+
+        return sortedSet.pollFirst();
     }
 
-    /**
-     * Clears the queue.
-     */
-    public void clear() {
+    @Override
+    protected void clearStoredEvents() {
         sortedSet.clear();
     }
 
@@ -0,0 +1,177 @@
+package org.cloudbus.cloudsim.core.events;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * A {@link FutureEventQueue} that stores events into an array-backed
+ * 4-ary min-heap.
+ *
+ * <p>Compared to the {@link FutureQueue}, it doesn't allocate a node for each added event
+ * and the wider nodes halve the heap height, reducing the number of
+ * cache misses when events are added or removed.
+ * Adding and polling events take O(log n) time. Since finding an arbitrary event
+ * would take O(n) time, removed events are just flagged and discarded when they reach the top of the heap.</p>
+ *
+ * <p>The {@link #iterator()} and {@link #stream()} methods return events
+ * in no particular order.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ */
+public class HeapQueue extends FutureEventQueueAbstract {
+    /**
+     * The number of children of each heap node.
+     */
+    private static final int ARITY = 4;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 64;
+
+    /**
+     * The heap of events, where the children of the event at index {@code i}
+     * are at indexes {@code ARITY*i+1} to {@code ARITY*i+ARITY}.
+     */
+    private SimEvent[] heap;
+
+    /**
+     * The number of events into the {@link #heap}.
+     */
+    private int size;
+
+    /**
+     * Creates a HeapQueue with a default initial capacity.
+     */
+    public HeapQueue() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a HeapQueue with a given initial capacity,
+     * that is automatically increased when needed.
+     *
+     * @param initialCapacity the number of events the queue can store
+     *                        before its internal array needs to be resized
+     */
+    public HeapQueue(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("The initial capacity must be greater than zero.");
+        }
+
+        this.heap = new SimEvent[initialCapacity];
+    }
+
+    @Override
+    protected void insert(SimEvent newEvent) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+
+        siftUp(size++, newEvent);
+    }
+
+    @Override
+    protected Stream<SimEvent> storedEvents() {
+        return Arrays.stream(heap, 0, size);
+    }
+
+    @Override
+    protected int storedEventsCount() {
+        return size;
+    }
+
+    @Override
+    protected SimEvent peek() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException("The Heap Queue is empty.");
+        }
+
+        return heap[0];
+    }
+
+    @Override
+    protected SimEvent poll() throws NoSuchElementException {
+        final SimEvent first = peek();
+        removeAt(0);
+        return first;
+    }
+
+    @Override
+    protected void clearStoredEvents() {
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Removes the event at a given heap position,
+     * moving the last event to such a position and restoring the heap order.
+     *
+     * @param index the position of the event to remove
+     */
+    private void removeAt(int index) {
+        final SimEvent last = heap[--size];
+        heap[size] = null;
+        if (index == size) {
+            return;
+        }
+
+        siftDown(index, last);
+        if (heap[index] == last) {
+            siftUp(index, last);
+        }
+    }
+
+    /**
+     * Moves an event up to the heap, starting from a given position,
+     * until its parent precedes it.
+     *
+     * @param index the position to start from
+     * @param evt the event to move
+     */
+    private void siftUp(int index, SimEvent evt) {
+        while (index > 0) {
+            final int parent = (index - 1) / ARITY;
+            if (evt.compareTo(heap[parent]) >= 0) {
+                break;
+            }
+
+            heap[index] = heap[parent];
+            index = parent;
+        }
+
+        heap[index] = evt;
+    }
+
+    /**
+     * Moves an event down to the heap, starting from a given position,
+     * until it precedes all its children.
+     *
+     * @param index the position to start from
+     * @param evt the event to move
+     */
+    private void siftDown(int index, SimEvent evt) {
+        while (true) {
+            final int firstChild = ARITY * index + 1;
+            if (firstChild >= size) {
+                break;
+            }
+
+            int minChild = firstChild;
+            final int lastChild = Math.min(firstChild + ARITY, size);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (heap[child].compareTo(heap[minChild]) < 0) {
+                    minChild = child;
+                }
+            }
+
+            if (evt.compareTo(heap[minChild]) < 0) {
+                break;
+            }
+
+            heap[index] = heap[minChild];
+            index = minChild;
+        }
+
+        heap[index] = evt;
+    }
+}
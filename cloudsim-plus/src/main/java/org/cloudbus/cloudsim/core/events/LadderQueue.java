@@ -0,0 +1,346 @@
+package org.cloudbus.cloudsim.core.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * A {@link FutureEventQueue} implemented as a Ladder Queue,
+ * that provides O(1) amortized time to add and poll events
+ * and, differently from the {@link CalendarQueue}, doesn't need
+ * to resize and re-estimate bucket widths when the event distribution changes.
+ *
+ * <p>The queue is divided into 3 tiers:
+ * <ul>
+ *     <li>the <b>top</b>, an unsorted list which receives events
+ *     far in the future;</li>
+ *     <li>the <b>ladder</b>, composed of rungs of buckets, where each rung
+ *     spreads the events of a single bucket from the rung above (or from the top)
+ *     into smaller time intervals;</li>
+ *     <li>the <b>bottom</b>, a sorted list containing the next events to be polled.</li>
+ * </ul>
+ * Events are sorted just when the bucket containing them is moved to the bottom.
+ * Since the top and the bottom would need to be searched to find an arbitrary event,
+ * removed events are just discarded when they reach the head of the queue.
+ * </p>
+ *
+ * <p>The {@link #iterator()} and {@link #stream()} methods return events
+ * in no particular order.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ * @see <a href="https://doi.org/10.1145/1103323.1103324">W. T. Tang, R. S. M. Goh, I. L. -J. Thng. Ladder queue: An O(1) priority queue structure for large-scale discrete event simulation. ACM TOMACS, 2005.</a>
+ */
+public class LadderQueue extends FutureEventQueueAbstract {
+    /**
+     * The maximum number of events into a bucket that can be directly sorted
+     * into the bottom. Larger buckets are spread into a new rung.
+     */
+    private static final int THRESHOLD = 50;
+
+    /**
+     * The maximum number of rungs into the ladder.
+     */
+    private static final int MAX_RUNGS = 8;
+
+    private static final Comparator<SimEvent> TIME_SERIAL_AND_SEQUENCE_COMPARATOR =
+        Comparator.comparingDouble(SimEvent::eventTime)
+            .thenComparingLong(SimEvent::getSerial)
+            .thenComparingLong(SimEvent::getSequence);
+
+    /**
+     * The unsorted list of events that happen at or after {@link #topStart}.
+     */
+    private final List<SimEvent> top;
+
+    /**
+     * The minimum time events must have to be added to the {@link #top}.
+     */
+    private double topStart;
+
+    private double topMinTime;
+    private double topMaxTime;
+
+    /**
+     * The rungs of the ladder, where the last one has the smallest buckets.
+     */
+    private final List<Rung> rungs;
+
+    /**
+     * The list of the next events to be polled, sorted in descending order
+     * so that the first event is always the last element,
+     * enabling it to be removed in constant time.
+     */
+    private final List<SimEvent> bottom;
+
+    /**
+     * The number of events into the queue.
+     */
+    private int size;
+
+    /**
+     * Creates a LadderQueue.
+     */
+    public LadderQueue() {
+        this.top = new ArrayList<>();
+        this.rungs = new ArrayList<>(MAX_RUNGS);
+        this.bottom = new ArrayList<>();
+        resetTop(Double.NEGATIVE_INFINITY);
+    }
+
+    private void resetTop(double start) {
+        topStart = start;
+        topMinTime = Double.POSITIVE_INFINITY;
+        topMaxTime = Double.NEGATIVE_INFINITY;
+    }
+
+    @Override
+    protected void insert(SimEvent newEvent) {
+        if (size++ == 0) {
+            resetTop(Double.NEGATIVE_INFINITY);
+        }
+
+        final double time = newEvent.eventTime();
+        if (time >= topStart) {
+            top.add(newEvent);
+            topMinTime = Math.min(topMinTime, time);
+            topMaxTime = Math.max(topMaxTime, time);
+            return;
+        }
+
+        for (final Rung rung : rungs) {
+            if (!rung.isExhausted() && time >= rung.currentStart()) {
+                rung.add(newEvent);
+                return;
+            }
+        }
+
+        addToBottom(newEvent);
+    }
+
+    /**
+     * Adds an event to the {@link #bottom}, keeping it sorted in descending order.
+     * Since events are totally ordered by time, serial and {@link SimEvent#getSequence() sequence},
+     * events having the same time and serial are polled in the order they were added.
+     *
+     * @param newEvent the event to add
+     */
+    private void addToBottom(SimEvent newEvent) {
+        int low = 0;
+        int high = bottom.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (newEvent.compareTo(bottom.get(mid)) > 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        bottom.add(low, newEvent);
+    }
+
+    @Override
+    protected Stream<SimEvent> storedEvents() {
+        final Stream<SimEvent> rungEvents = rungs.stream()
+            .flatMap(rung -> rung.buckets.stream())
+            .filter(Objects::nonNull)
+            .flatMap(List::stream);
+        return Stream.concat(Stream.concat(bottom.stream(), rungEvents), top.stream());
+    }
+
+    @Override
+    protected int storedEventsCount() {
+        return size;
+    }
+
+    @Override
+    protected SimEvent peek() throws NoSuchElementException {
+        fillBottom();
+        return bottom.get(bottom.size() - 1);
+    }
+
+    @Override
+    protected SimEvent poll() throws NoSuchElementException {
+        fillBottom();
+        size--;
+        return bottom.remove(bottom.size() - 1);
+    }
+
+    /**
+     * Ensures the {@link #bottom} has the next events to be polled,
+     * moving events from the ladder or from the top when it is empty.
+     *
+     * @throws NoSuchElementException when the queue is empty
+     */
+    private void fillBottom() {
+        if (size == 0) {
+            throw new NoSuchElementException("The Ladder Queue is empty.");
+        }
+
+        while (bottom.isEmpty()) {
+            if (rungs.isEmpty()) {
+                transferTopToLadder();
+                continue;
+            }
+
+            final Rung rung = rungs.get(rungs.size() - 1);
+            final List<SimEvent> bucket = rung.pollNextBucket();
+            if (bucket == null) {
+                rungs.remove(rungs.size() - 1);
+            } else if (bucket.size() > THRESHOLD && rungs.size() < MAX_RUNGS && !isSameTime(bucket)) {
+                rungs.add(new Rung(bucket));
+            } else {
+                sortIntoBottom(bucket);
+            }
+        }
+    }
+
+    /**
+     * Moves all events from the {@link #top} to a new rung
+     * (or directly to the bottom if there are few events or all of them happen at the same time).
+     */
+    private void transferTopToLadder() {
+        if (top.size() <= THRESHOLD || topMinTime == topMaxTime) {
+            sortIntoBottom(top);
+            resetTop(Math.nextUp(topMaxTime));
+        } else {
+            final Rung rung = new Rung(top);
+            rungs.add(rung);
+            resetTop(rung.end());
+        }
+
+        top.clear();
+    }
+
+    /**
+     * Sorts a list of events into the empty {@link #bottom}.
+     * The events are sorted in ascending order of time, serial and {@link SimEvent#getSequence() sequence},
+     * then the list is reversed so that the first event is the last element.
+     *
+     * @param events the events to move to the bottom
+     */
+    private void sortIntoBottom(List<SimEvent> events) {
+        bottom.addAll(events);
+        bottom.sort(TIME_SERIAL_AND_SEQUENCE_COMPARATOR);
+        Collections.reverse(bottom);
+    }
+
+    private static boolean isSameTime(List<SimEvent> events) {
+        final double time = events.get(0).eventTime();
+        for (final SimEvent evt : events) {
+            if (evt.eventTime() != time) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    protected void clearStoredEvents() {
+        top.clear();
+        rungs.clear();
+        bottom.clear();
+        resetTop(Double.NEGATIVE_INFINITY);
+        size = 0;
+    }
+
+    /**
+     * A rung of the ladder, containing unsorted buckets of events
+     * that are consumed from the first to the last one.
+     */
+    private static final class Rung {
+        /**
+         * The buckets of the rung, where a null element is a bucket
+         * that has no events yet or that was already consumed.
+         */
+        private final List<List<SimEvent>> buckets;
+        private final double start;
+        private final double width;
+
+        /**
+         * The index of the next bucket to be consumed.
+         */
+        private int current;
+
+        /**
+         * Creates a rung and spreads a given list of events into its buckets.
+         * @param events the events to add to the rung, that must not all happen at the same time
+         */
+        Rung(List<SimEvent> events) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (final SimEvent evt : events) {
+                min = Math.min(min, evt.eventTime());
+                max = Math.max(max, evt.eventTime());
+            }
+
+            this.start = min;
+            this.width = (max - min) / events.size();
+            this.buckets = new ArrayList<>(Collections.nCopies(events.size() + 1, null));
+            events.forEach(this::add);
+        }
+
+        /**
+         * Gets the start time of the next bucket to be consumed.
+         * Events happening before that time cannot be added to this rung.
+         * @return
+         */
+        double currentStart() {
+            return start + current * width;
+        }
+
+        /**
+         * Checks if all buckets of the rung were already consumed.
+         * @return
+         */
+        boolean isExhausted() {
+            return current == buckets.size();
+        }
+
+        /**
+         * Gets the time after the interval covered by the rung.
+         * @return
+         */
+        double end() {
+            return start + buckets.size() * width;
+        }
+
+        void add(SimEvent evt) {
+            final int index = bucketIndex(evt.eventTime());
+            List<SimEvent> bucket = buckets.get(index);
+            if (bucket == null) {
+                bucket = new ArrayList<>();
+                buckets.set(index, bucket);
+            }
+
+            bucket.add(evt);
+        }
+
+        private int bucketIndex(double time) {
+            final int index = (int) ((time - start) / width);
+            return Math.min(Math.max(current, index), buckets.size() - 1);
+        }
+
+        /**
+         * Removes the next non-empty bucket from the rung.
+         * @return the next bucket or null if the rung is empty
+         */
+        List<SimEvent> pollNextBucket() {
+            for (; current < buckets.size(); current++) {
+                final List<SimEvent> bucket = buckets.get(current);
+                if (bucket != null && !bucket.isEmpty()) {
+                    buckets.set(current++, null);
+                    return bucket;
+                }
+            }
+
+            return null;
+        }
+    }
+}
@@ -117,6 +117,24 @@ public interface SimEvent extends Comparable<SimEvent>, EventInfo {
      */
     void setSerial(long serial);
 
+    /**
+     * Gets the sequence number defining the order the event was added to a {@link FutureEventQueue}.
+     * It is used by the {@link #compareTo(SimEvent)} method to order events having
+     * the same time and {@link #getSerial() serial}, such as the ones added by
+     * {@link FutureEventQueue#addEventFirst(SimEvent)}, so that all queue implementations
+     * return such events in the order they were added.
+     *
+     * @return
+     */
+    long getSequence();
+
+    /**
+     * Sets the sequence number defining the order the event was added to a {@link FutureEventQueue}.
+     *
+     * @param sequence the sequence value to set
+     */
+    void setSequence(long sequence);
+
     /**
      * Gets the CloudSim instance that represents the simulation for with the Entity is related to.
      * @return
@@ -144,6 +162,8 @@ public interface SimEvent extends Comparable<SimEvent>, EventInfo {
         @Override public int compareTo(SimEvent o) { return 0; }
         @Override public long getSerial() { return 0; }
         @Override public void setSerial(long serial) {}
+        @Override public long getSequence() { return 0; }
+        @Override public void setSequence(long sequence) {}
         @Override public Simulation getSimulation() { return Simulation.NULL; }
     };
 
@@ -12,6 +12,7 @@ import org.cloudbus.cloudsim.core.events.SimEvent;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -50,6 +51,17 @@ public class PredicateType implements Predicate<SimEvent> {
         this.tags = Arrays.stream(tags).boxed().collect(Collectors.toList());
     }
 
+    /**
+     * Gets the list of {@link SimEvent#getTag() tags} that events must have to be matched.
+     * It enables the simulation to directly find such events
+     * instead of testing every event using this predicate.
+     *
+     * @return a read-only list of tags
+     */
+    public List<Integer> getTags() {
+        return Collections.unmodifiableList(tags);
+    }
+
     /**
      * Matches any event that has one of the specified {@link #tags}.
      *
@@ -59,7 +71,13 @@ public class PredicateType implements Predicate<SimEvent> {
      */
     @Override
     public boolean test(SimEvent ev) {
-        return tags.stream().anyMatch(tag -> tag == ev.getTag());
+        for (final int tag : tags) {
+            if (tag == ev.getTag()) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
 }
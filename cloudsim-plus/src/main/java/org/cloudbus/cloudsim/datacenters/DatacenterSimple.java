@@ -6,11 +6,14 @@
  */
 package org.cloudbus.cloudsim.datacenters;
 
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.network.IcmpPacket;
 import org.cloudbus.cloudsim.util.DataCloudTags;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.LogContext;
+import org.cloudbus.cloudsim.util.SideEffectBuffer;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.*;
@@ -19,6 +22,11 @@ import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.ToDoubleFunction;
 
 import org.cloudbus.cloudsim.resources.FileStorage;
 
@@ -32,6 +40,14 @@ import org.cloudbus.cloudsim.resources.FileStorage;
  * @since CloudSim Toolkit 1.0
  */
 public class DatacenterSimple extends CloudSimEntity implements Datacenter {
+    /**
+     * The number of chunks of Hosts per available processor
+     * the Host list is split into when the {@link #getHostsProcessingExecutor() Hosts are processed in parallel}.
+     * Using more chunks than processors balances the load when some Hosts
+     * take longer to be processed than others.
+     */
+    private static final int HOST_CHUNKS_PER_PROCESSOR = 4;
+
     /** @see #getCharacteristics() */
     private DatacenterCharacteristics characteristics;
 
@@ -53,6 +69,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     /** @see #getSchedulingInterval() */
     private double schedulingInterval;
 
+    /** @see #getHostsProcessingExecutor() */
+    private ExecutorService hostsProcessingExecutor;
+
     /**
      * Creates a Datacenter.
      *
@@ -240,6 +259,16 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
                 processCloudletSubmit(ev, true);
                 return 1;
 
+            // A list of new Cloudlets arrives at once
+            case CloudSimTags.CLOUDLET_SUBMIT_LIST:
+                processCloudletSubmitList(ev, false);
+                return 1;
+
+            // A list of new Cloudlets arrives, but the sender asks for a single ack
+            case CloudSimTags.CLOUDLET_SUBMIT_LIST_ACK:
+                processCloudletSubmitList(ev, true);
+                return 1;
+
             // Cancels a previously submitted Cloudlet
             case CloudSimTags.CLOUDLET_CANCEL:
                 processCloudlet(ev, CloudSimTags.CLOUDLET_CANCEL);
@@ -442,7 +471,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         if (ack) {
             sendNow(vm.getBroker().getId(), CloudSimTags.VM_DESTROY_ACK, vm);
         }
-        Log.printFormatted("Time %.2f: Vm %d destroyed\n", getSimulation().clock(), vm.getId());
+        Log.print(() -> String.format("Time %.2f: Vm %d destroyed\n", getSimulation().clock(), vm.getId()));
 
         getVmList().remove(vm);
     }
@@ -472,7 +501,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         host.removeMigratingInVm(vm);
         boolean result = getVmAllocationPolicy().allocateHostForVm(vm, host);
         if (!result) {
-            Log.printFormattedLine("[Datacenter.processVmMigrate] VM %d allocation to the destination host failed", vm.getId());
+            Log.printLine(() -> "[Datacenter.processVmMigrate] VM " + vm.getId() + " allocation to the destination host failed");
         }
 
         if (ack) {
@@ -480,9 +509,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         }
 
         vm.setInMigration(false);
-        Log.printFormattedLine(
+        Log.printLine(() -> String.format(
             "%.2f: Migration of VM #%d to Host #%d is completed",
-            getSimulation().clock(), vm.getId(), host.getId());
+            getSimulation().clock(), vm.getId(), host.getId()));
     }
 
     /**
@@ -587,6 +616,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     /**
      * Processes the submission of a Cloudlet by a DatacenterBroker.
+     * It's also called for each Cloudlet submitted inside a list of Cloudlets.
      *
      * @param ev information about the event just happened
      * @param ack indicates if the event's sender expects to receive an
@@ -596,11 +626,60 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * @post $none
      */
     protected void processCloudletSubmit(SimEvent ev, boolean ack) {
+        try {
+            processCloudletSubmit((Cloudlet) ev.getData(), ack);
+        } catch (ClassCastException c) {
+            Log.printLine(getName() + ".processCloudletSubmit(): " + "ClassCastException error.");
+            c.printStackTrace();
+        }
+    }
+
+    /**
+     * Processes the submission of a list of Cloudlets by a DatacenterBroker
+     * using a single event.
+     * The Cloudlets are processed in the order they are in the list,
+     * exactly as if each one was submitted by a different {@link CloudSimTags#CLOUDLET_SUBMIT} event.
+     * That is, {@link #processCloudletSubmit(SimEvent, boolean)} is called for each Cloudlet,
+     * using an event that is a view of the given one, having the Cloudlet as data.
+     *
+     * @param ev information about the event just happened,
+     *           containing the list of Cloudlets
+     * @param ack indicates if the event's sender expects to receive a
+     * single acknowledge message containing the status of each Cloudlet,
+     * when all of them are processed
+     * @see CloudSimTags#CLOUDLET_SUBMIT_LIST
+     * @see CloudSimTags#CLOUDLET_SUBMIT_LIST_ACK
+     */
+    protected void processCloudletSubmitList(SimEvent ev, boolean ack) {
+        final Map<Cloudlet, Cloudlet.Status> statuses = new LinkedHashMap<>();
+        try {
+            for (Object data : (List<?>) ev.getData()) {
+                final Cloudlet cloudlet = (Cloudlet) data;
+                processCloudletSubmit(new CloudSimEvent(ev, CloudSimTags.CLOUDLET_SUBMIT, cloudlet), false);
+                statuses.put(cloudlet, cloudlet.getStatus());
+            }
+        } catch (ClassCastException c) {
+            Log.printLine(getName() + ".processCloudletSubmitList(): " + "ClassCastException error.");
+            c.printStackTrace();
+        }
+
+        if (ack) {
+            sendNow(ev.getSource(), CloudSimTags.CLOUDLET_SUBMIT_LIST_ACK, Collections.unmodifiableMap(statuses));
+        }
+    }
+
+    /**
+     * Processes the submission of a Cloudlet, that may have been sent
+     * alone or inside a list of Cloudlets.
+     *
+     * @param cl the submitted Cloudlet
+     * @param ack indicates if the sender expects to receive an
+     * acknowledge message when the Cloudlet is processed
+     */
+    protected void processCloudletSubmit(Cloudlet cl, boolean ack) {
         updateCloudletProcessing();
 
         try {
-            // gets the Cloudlet object
-            Cloudlet cl = (Cloudlet) ev.getData();
             if (checksIfSubmittedCloudletIsAlreadyFinishedAndNotifyBroker(cl, ack)) {
                 return;
             }
@@ -609,9 +688,6 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             cl.assignToDatacenter(this);
 
             submitCloudletToVm(cl, ack);
-        } catch (ClassCastException c) {
-            Log.printLine(getName() + ".processCloudletSubmit(): " + "ClassCastException error.");
-            c.printStackTrace();
         } catch (Exception e) {
             Log.printLine(getName() + ".processCloudletSubmit(): " + "Exception error.");
             e.printStackTrace();
@@ -838,12 +914,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      *
      */
     protected double updateVmsProcessingOfAllHosts() {
-        List<? extends Host> list = getVmAllocationPolicy().getHostList();
-        double nextSimulationTime = Double.MAX_VALUE;
-        for (Host host : list) {
-            double time = host.updateVmsProcessing(getSimulation().clock());
-            nextSimulationTime = Math.min(time, nextSimulationTime);
-        }
+        final double currentTime = getSimulation().clock();
+        double nextSimulationTime = updateVmsProcessingOfHosts(
+            getVmAllocationPolicy().getHostList(), host -> host.updateVmsProcessing(currentTime));
 
         // Guarantees a minimal interval before scheduling the event
         final double minTimeBetweenEvents = getSimulation().clock()+getSimulation().getMinTimeBetweenEvents()+0.01;
@@ -856,6 +929,92 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return nextSimulationTime;
     }
 
+    /**
+     * Processes a list of Hosts, usually updating the processing of their VMs,
+     * either sequentially or in parallel, if a {@link #setHostsProcessingExecutor(ExecutorService)
+     * Hosts processing executor} is set.
+     *
+     * <p>In the parallel mode, the Host list is split into ordered chunks that are processed
+     * by the executor. The {@link Log} messages, listener notifications and sent events
+     * generated while processing each chunk are {@link SideEffectBuffer recorded}
+     * and replayed by the current thread in Host order, after all chunks are processed.
+     * Selecting or cancelling events and pausing entities while processing a Host
+     * throws an {@link IllegalStateException} in this mode.
+     * Chunks are processed using the {@link Log#getContext() logging context} of the current thread.
+     * This way, the log output and the returned value are the same in both modes.</p>
+     *
+     * @param hosts the list of Hosts to process
+     * @param hostProcessing a function that processes a given Host,
+     * returning the next simulation time such a Host needs to be processed again
+     * @param <T> the class of Hosts inside the list
+     * @return the minimum next simulation time returned by the function for all Hosts
+     * or {@link Double#MAX_VALUE} if the list is empty
+     */
+    protected <T extends Host> double updateVmsProcessingOfHosts(
+        final List<T> hosts, final ToDoubleFunction<T> hostProcessing)
+    {
+        final int chunks = Objects.isNull(hostsProcessingExecutor) ? 1 :
+            Math.min(hosts.size(), HOST_CHUNKS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors());
+        if (chunks < 2) {
+            return updateVmsProcessingOfHostsSequentially(hosts, hostProcessing);
+        }
+
+        final double[] chunkNextTimes = new double[chunks];
+        final LogContext logContext = Log.getContext();
+        final List<Callable<List<Runnable>>> tasks = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            final int chunk = i;
+            final List<T> chunkHosts = hosts.subList(
+                (int)((long)hosts.size() * i / chunks), (int)((long)hosts.size() * (i + 1) / chunks));
+            tasks.add(() -> Log.runInContext(logContext, () -> SideEffectBuffer.record(
+                () -> chunkNextTimes[chunk] = updateVmsProcessingOfHostsSequentially(chunkHosts, hostProcessing))));
+        }
+
+        final List<Future<List<Runnable>>> futures;
+        try {
+            futures = hostsProcessingExecutor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing the Hosts of " + this, e);
+        }
+
+        double nextSimulationTime = Double.MAX_VALUE;
+        for (int i = 0; i < chunks; i++) {
+            SideEffectBuffer.replay(getChunkSideEffects(futures.get(i)));
+            nextSimulationTime = Math.min(chunkNextTimes[i], nextSimulationTime);
+        }
+
+        return nextSimulationTime;
+    }
+
+    private <T extends Host> double updateVmsProcessingOfHostsSequentially(
+        final List<T> hosts, final ToDoubleFunction<T> hostProcessing)
+    {
+        double nextSimulationTime = Double.MAX_VALUE;
+        for (T host : hosts) {
+            nextSimulationTime = Math.min(hostProcessing.applyAsDouble(host), nextSimulationTime);
+        }
+
+        return nextSimulationTime;
+    }
+
+    private List<Runnable> getChunkSideEffects(final Future<List<Runnable>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing the Hosts of " + this, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     /**
      * Verifies if some cloudlet inside the hosts of this Datacenter have already finished.
      * If yes, send them to the User/Broker
@@ -980,6 +1139,45 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return getCharacteristics().getHostList();
     }
 
+    /**
+     * Adds a Host to the Datacenter, notifying the {@link #getVmAllocationPolicy() VmAllocationPolicy}.
+     * Hosts have to be added and removed using this method and {@link #removeHost(Host)},
+     * instead of changing the {@link #getHostList() Host list} directly,
+     * so that the VmAllocationPolicy can update the data it keeps about Hosts.
+     *
+     * @param host the Host to add
+     * @return
+     */
+    public DatacenterSimple addHost(Host host) {
+        Objects.requireNonNull(host);
+        getCharacteristics().<Host>getHostList().add(host);
+        host.setSimulation(getSimulation());
+        host.setDatacenter(this);
+        getVmAllocationPolicy().processHostAddition(host);
+        return this;
+    }
+
+    /**
+     * Removes a Host from the Datacenter, notifying the {@link #getVmAllocationPolicy() VmAllocationPolicy}.
+     *
+     * @param host the Host to remove, which must not have VMs
+     * @return true if the Host was removed, false if it doesn't belong to the Datacenter
+     * @see #addHost(Host)
+     */
+    public boolean removeHost(Host host) {
+        if (!host.getVmList().isEmpty()) {
+            throw new IllegalArgumentException("A Host can't be removed from a Datacenter while it has VMs.");
+        }
+
+        if (!getHostList().remove(host)) {
+            return false;
+        }
+
+        host.setDatacenter(Datacenter.NULL);
+        getVmAllocationPolicy().processHostRemoval(host);
+        return true;
+    }
+
     @Override
     public DatacenterCharacteristics getCharacteristics() {
         return characteristics;
@@ -1111,6 +1309,44 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return this;
     }
 
+    /**
+     * Gets the executor used to update the processing of Hosts in parallel,
+     * or null if Hosts are processed sequentially (the default).
+     *
+     * @return the Hosts processing executor or null
+     * @see #setHostsProcessingExecutor(ExecutorService)
+     */
+    public ExecutorService getHostsProcessingExecutor() {
+        return hostsProcessingExecutor;
+    }
+
+    /**
+     * Sets an executor to update the processing of Hosts in parallel,
+     * such as a {@link java.util.concurrent.ForkJoinPool}, which is useful
+     * for Datacenters with a large number of Hosts.
+     * The executor is not shut down by the Datacenter.
+     *
+     * <p>The processing of each Host must be independent of the others.
+     * Log messages and listener notifications are
+     * replayed in Host order after all Hosts are processed, thus the
+     * listeners see the state of the Host at the end of its processing.
+     * Hosts which interact with other entities while being processed,
+     * such as {@link org.cloudbus.cloudsim.hosts.network.NetworkHost}s,
+     * and {@link org.cloudbus.cloudsim.utilizationmodels.UtilizationModel}s shared
+     * among Cloudlets of different Hosts which keep internal state,
+     * such as {@link org.cloudbus.cloudsim.utilizationmodels.UtilizationModelStochastic},
+     * must not be used in this mode.</p>
+     *
+     * @param hostsProcessingExecutor the executor to process Hosts in parallel
+     * or null to process them sequentially
+     * @return this Datacenter
+     * @see #updateVmsProcessingOfHosts(List, ToDoubleFunction)
+     */
+    public final DatacenterSimple setHostsProcessingExecutor(ExecutorService hostsProcessingExecutor) {
+        this.hostsProcessingExecutor = hostsProcessingExecutor;
+        return this;
+    }
+
     @Override
     public Host getHost(int index) {
         if (index >= 0 && index < getHostList().size()) {
@@ -132,7 +132,7 @@ public class NetworkDatacenter extends DatacenterSimple {
             return false;
 
         Vm vm = (Vm) ev.getData();
-        Log.printLine(vm.getId() + " VM is created on " + vm.getHost().getId());
+        Log.printLine(() -> vm.getId() + " VM is created on " + vm.getHost().getId());
         return true;
     }
 
@@ -145,13 +145,10 @@ public class NetworkDatacenter extends DatacenterSimple {
     }
 
     @Override
-    protected void processCloudletSubmit(SimEvent ev, boolean ack) {
+    protected void processCloudletSubmit(Cloudlet cl, boolean ack) {
         updateCloudletProcessing();
 
         try {
-            // gets the Cloudlet object
-            Cloudlet cl = (Cloudlet) ev.getData();
-
             // checks whether this Cloudlet has finished or not
             if (cl.isFinished()) {
                 String name = getSimulation().getEntityName(cl.getBroker().getId());
@@ -201,9 +198,6 @@ public class NetworkDatacenter extends DatacenterSimple {
                 // unique tag = operation tag
                 sendNow(cl.getBroker().getId(), CloudSimTags.CLOUDLET_SUBMIT_ACK, cl);
             }
-        } catch (ClassCastException c) {
-            Log.printLine(getName() + ".processCloudletSubmit(): " + "ClassCastException error.");
-            c.printStackTrace();
         } catch (Exception e) {
             Log.printLine(getName() + ".processCloudletSubmit(): " + "Exception error.");
             e.printStackTrace();
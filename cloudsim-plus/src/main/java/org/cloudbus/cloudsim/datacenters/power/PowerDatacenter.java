@@ -12,6 +12,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristics;
 import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
 import org.cloudbus.cloudsim.hosts.Host;
@@ -135,17 +136,7 @@ public class PowerDatacenter extends DatacenterSimple {
                     Host targetHost = migrate.getValue();
                     Host oldHost = migrate.getKey().getHost();
 
-                    if (oldHost == Host.NULL) {
-                        Log.printFormattedLine(
-                            "%.2f: Migration of VM #%d to Host #%d is started",
-                            currentTime, migrate.getKey().getId(), targetHost.getId());
-                    } else {
-                        Log.printFormattedLine(
-                            "%.2f: Migration of VM #%d from Host #%d to Host #%d is started",
-                            currentTime, migrate.getKey().getId(),
-                            oldHost.getId(), targetHost.getId());
-                    }
-
+                    printMigrationStartMessage(migrate.getKey(), oldHost, targetHost);
                     targetHost.addMigratingInVm(migrate.getKey());
                     incrementMigrationCount();
 
@@ -197,7 +188,6 @@ public class PowerDatacenter extends DatacenterSimple {
      * expected in this host
      */
     protected double updateCloudetProcessingWithoutSchedulingFutureEvents() {
-        double minTime = Double.MAX_VALUE;
         final double currentTime = getSimulation().clock();
         final double timeDiff = currentTime - getLastProcessTime();
         double timeFrameDatacenterEnergy = 0.0;
@@ -205,20 +195,19 @@ public class PowerDatacenter extends DatacenterSimple {
         Log.printLine("\n\n--------------------------------------------------------------\n\n");
         Log.printFormattedLine("New resource usage for the time frame starting at %.2f:", currentTime);
 
-        for (PowerHostSimple host : this.<PowerHostSimple>getHostList()) {
+        final double minTime = updateVmsProcessingOfHosts(this.<PowerHostSimple>getHostList(), host -> {
             Log.printLine();
 
-            double time = host.updateVmsProcessing(currentTime); // inform VMs to update processing
-            if (time < minTime) {
-                minTime = time;
+            final double time = host.updateVmsProcessing(currentTime); // inform VMs to update processing
+            if (Log.isEnabled()) {
+                Log.printFormattedLine(
+                        "%.2f: [Host #%d] utilization is %.2f%%",
+                        currentTime,
+                        host.getId(),
+                        host.getUtilizationOfCpu() * 100);
             }
-
-            Log.printFormattedLine(
-                    "%.2f: [Host #%d] utilization is %.2f%%",
-                    currentTime,
-                    host.getId(),
-                    host.getUtilizationOfCpu() * 100);
-        }
+            return time;
+        });
 
         if (timeDiff > 0) {
             Log.printFormattedLine(
@@ -235,19 +224,21 @@ public class PowerDatacenter extends DatacenterSimple {
                         timeDiff);
                 timeFrameDatacenterEnergy += timeFrameHostEnergy;
 
-                Log.printLine();
-                Log.printFormattedLine(
-                        "%.2f: [Host #%d] utilization at %.2f was %.2f%%, now is %.2f%%",
-                        currentTime,
-                        host.getId(),
-                        getLastProcessTime(),
-                        previousUtilizationOfCpu * 100,
-                        utilizationOfCpu * 100);
-                Log.printFormattedLine(
-                        "%.2f: [Host #%d] energy is %.2f W*sec",
-                        currentTime,
-                        host.getId(),
-                        timeFrameHostEnergy);
+                if (Log.isEnabled()) {
+                    Log.printLine();
+                    Log.printFormattedLine(
+                            "%.2f: [Host #%d] utilization at %.2f was %.2f%%, now is %.2f%%",
+                            currentTime,
+                            host.getId(),
+                            getLastProcessTime(),
+                            previousUtilizationOfCpu * 100,
+                            utilizationOfCpu * 100);
+                    Log.printFormattedLine(
+                            "%.2f: [Host #%d] energy is %.2f W*sec",
+                            currentTime,
+                            host.getId(),
+                            timeFrameHostEnergy);
+                }
             }
 
             Log.printFormattedLine(
@@ -268,12 +259,36 @@ public class PowerDatacenter extends DatacenterSimple {
         return minTime;
     }
 
+    /**
+     * Prints a message informing that the migration of a VM has started,
+     * which is just built if the {@link Log} is enabled.
+     *
+     * @param vm the VM being migrated
+     * @param sourceHost the Host the VM is being migrated from or {@link Host#NULL} if it isn't placed yet
+     * @param targetHost the Host the VM is being migrated to
+     */
+    protected void printMigrationStartMessage(Vm vm, Host sourceHost, Host targetHost) {
+        if (!Log.isEnabled()) {
+            return;
+        }
+
+        if (sourceHost == Host.NULL) {
+            Log.printFormattedLine(
+                "%.2f: Migration of VM #%d to Host #%d is started",
+                getSimulation().clock(), vm.getId(), targetHost.getId());
+        } else {
+            Log.printFormattedLine(
+                "%.2f: Migration of VM #%d from Host #%d to Host #%d is started",
+                getSimulation().clock(), vm.getId(), sourceHost.getId(), targetHost.getId());
+        }
+    }
+
     protected void removeFinishedVmsFromEveryHost() {
         for (PowerHostSimple host : this.<PowerHostSimple>getHostList()) {
             for (Vm vm : host.getFinishedVms()) {
                 getVmAllocationPolicy().deallocateHostForVm(vm);
                 getVmList().remove(vm);
-                Log.printLine("VM #" + vm.getId() + " has been deallocated from host #" + host.getId());
+                Log.printLine(() -> "VM #" + vm.getId() + " has been deallocated from host #" + host.getId());
             }
         }
     }
@@ -289,8 +304,8 @@ public class PowerDatacenter extends DatacenterSimple {
     }
 
     @Override
-    protected void processCloudletSubmit(SimEvent ev, boolean ack) {
-        super.processCloudletSubmit(ev, ack);
+    protected void processCloudletSubmit(Cloudlet cl, boolean ack) {
+        super.processCloudletSubmit(cl, ack);
         setCloudletSubmitted(getSimulation().clock());
     }
 
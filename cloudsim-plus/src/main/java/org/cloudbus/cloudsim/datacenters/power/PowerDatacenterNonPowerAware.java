@@ -100,8 +100,11 @@ public class PowerDatacenterNonPowerAware extends PowerDatacenter {
 
             Log.printLine("\n");
 
+            final boolean logEnabled = Log.isEnabled();
             for (PowerHostSimple host : this.<PowerHostSimple>getHostList()) {
-                Log.printFormattedLine("%.2f: Host #%d", getSimulation().clock(), host.getId());
+                if (logEnabled) {
+                    Log.printFormattedLine("%.2f: Host #%d", getSimulation().clock(), host.getId());
+                }
 
                 double hostPower = 0.0;
 
@@ -112,16 +115,18 @@ public class PowerDatacenterNonPowerAware extends PowerDatacenter {
                     e.printStackTrace();
                 }
 
-                Log.printFormattedLine(
-                        "%.2f: Host #%d utilization is %.2f%%",
-                        getSimulation().clock(),
-                        host.getId(),
-                        host.getUtilizationOfCpu() * 100);
-                Log.printFormattedLine(
-                        "%.2f: Host #%d energy is %.2f W*sec",
-                        getSimulation().clock(),
-                        host.getId(),
-                        hostPower);
+                if (logEnabled) {
+                    Log.printFormattedLine(
+                            "%.2f: Host #%d utilization is %.2f%%",
+                            getSimulation().clock(),
+                            host.getId(),
+                            host.getUtilizationOfCpu() * 100);
+                    Log.printFormattedLine(
+                            "%.2f: Host #%d energy is %.2f W*sec",
+                            getSimulation().clock(),
+                            host.getId(),
+                            hostPower);
+                }
             }
 
             Log.printFormattedLine("\n%.2f: Consumed energy is %.2f W*sec\n", getSimulation().clock(), timeframePower);
@@ -129,7 +134,9 @@ public class PowerDatacenterNonPowerAware extends PowerDatacenter {
             Log.printLine("\n\n--------------------------------------------------------------\n\n");
 
             for (PowerHostSimple host : this.<PowerHostSimple>getHostList()) {
-                Log.printFormattedLine("\n%.2f: Host #%d", getSimulation().clock(), host.getId());
+                if (logEnabled) {
+                    Log.printFormattedLine("\n%.2f: Host #%d", getSimulation().clock(), host.getId());
+                }
 
                 double time = host.updateVmsProcessing(currentTime); // inform VMs to update
                 // processing
@@ -153,21 +160,7 @@ public class PowerDatacenterNonPowerAware extends PowerDatacenter {
                     Host targetHost = entry.getValue();
                     Host oldHost = entry.getKey().getHost();
 
-                    if (oldHost == Host.NULL) {
-                        Log.printFormattedLine(
-                            "%.2f: Migration of VM #%d to Host #%d is started",
-                            getSimulation().clock(),
-                            entry.getKey().getId(),
-                            targetHost.getId());
-                    } else {
-                        Log.printFormattedLine(
-                            "%.2f: Migration of VM #%d from Host #%d to Host #%d is started",
-                            getSimulation().clock(),
-                            entry.getKey().getId(),
-                            oldHost.getId(),
-                            targetHost.getId());
-                    }
-
+                    printMigrationStartMessage(entry.getKey(), oldHost, targetHost);
                     targetHost.addMigratingInVm(entry.getKey());
                     incrementMigrationCount();
 
@@ -12,12 +12,17 @@ import org.cloudbus.cloudsim.provisioners.ResourceProvisioner;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.SideEffectBuffer;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmStateHistoryEntry;
+import org.cloudsimplus.listeners.EventListener;
+import org.cloudsimplus.listeners.HostEventInfo;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +48,11 @@ public class HostDynamicWorkloadSimple extends HostSimple implements HostDynamic
      */
     private final List<HostStateHistoryEntry> stateHistory;
 
+    /**
+     * @see #addOnUtilizationUpdateListener(EventListener)
+     */
+    private final List<EventListener<HostEventInfo>> onUtilizationUpdateListeners;
+
     /**
      * Creates a host.
      *
@@ -56,6 +66,7 @@ public class HostDynamicWorkloadSimple extends HostSimple implements HostDynamic
         setUtilizationMips(0);
         setPreviousUtilizationMips(0);
         stateHistory = new LinkedList<>();
+        onUtilizationUpdateListeners = new ArrayList<>();
     }
 
     /**
@@ -131,12 +142,12 @@ public class HostDynamicWorkloadSimple extends HostSimple implements HostDynamic
             }
 
             if (getVmsMigratingIn().contains(vm)) {
-                Log.printFormattedLine("%.2f: [Host #" + getId() + "] VM #" + vm.getId()
-                        + " is being migrated to Host #" + getId(), getSimulation().clock());
+                Log.printLine(() -> String.format("%.2f: [Host #%d] VM #%d is being migrated to Host #%d",
+                        getSimulation().clock(), getId(), vm.getId(), getId()));
             } else {
-                if (totalAllocatedMips + 0.1 < totalRequestedMips) {
-                    Log.printFormattedLine("%.2f: [Host #" + getId() + "] Under allocated MIPS for VM #" + vm.getId()
-                            + ": %.2f", getSimulation().clock(), totalRequestedMips - totalAllocatedMips);
+                if (totalAllocatedMips + 0.1 < totalRequestedMips && Log.isEnabled()) {
+                    Log.printFormattedLine("%.2f: [Host #%d] Under allocated MIPS for VM #%d: %.2f",
+                            getSimulation().clock(), getId(), vm.getId(), totalRequestedMips - totalAllocatedMips);
                 }
 
                 VmStateHistoryEntry entry = new VmStateHistoryEntry(
@@ -147,9 +158,8 @@ public class HostDynamicWorkloadSimple extends HostSimple implements HostDynamic
                 vm.addStateHistoryEntry(entry);
 
                 if (vm.isInMigration()) {
-                    Log.printFormattedLine(
-                            "%.2f: [Host #" + getId() + "] VM #" + vm.getId() + " is in migration",
-                            getSimulation().clock());
+                    Log.printLine(() -> String.format("%.2f: [Host #%d] VM #%d is in migration",
+                            getSimulation().clock(), getId(), vm.getId()));
                     totalAllocatedMips /= 0.9; // performance degradation due to migration - 10%
                 }
             }
@@ -159,10 +169,48 @@ public class HostDynamicWorkloadSimple extends HostSimple implements HostDynamic
         }
 
         addStateHistoryEntry(currentTime, getUtilizationOfCpuMips(), hostTotalRequestedMips, (getUtilizationOfCpuMips() > 0));
+        notifyOnUtilizationUpdateListeners();
 
         return smallerTime;
     }
 
+    /**
+     * Adds a listener object that will be notified every time the
+     * {@link #getUtilizationOfCpuMips() CPU utilization} of the Host is updated
+     * (even if it doesn't change), that happens when the Host
+     * {@link #updateVmsProcessing(double) updates the processing of its VMs}
+     * and adds a new entry to its {@link #getStateHistory() state history}.
+     *
+     * @param listener the listener to add
+     * @return
+     */
+    public HostDynamicWorkload addOnUtilizationUpdateListener(EventListener<HostEventInfo> listener) {
+        if (!Objects.isNull(listener)) {
+            onUtilizationUpdateListeners.add(listener);
+        }
+
+        return this;
+    }
+
+    /**
+     * Removes a listener from the onUtilizationUpdateListener List.
+     *
+     * @param listener the listener to remove
+     * @return true if the listener was found and removed, false otherwise
+     */
+    public boolean removeOnUtilizationUpdateListener(EventListener<HostEventInfo> listener) {
+        return onUtilizationUpdateListeners.remove(listener);
+    }
+
+    private void notifyOnUtilizationUpdateListeners() {
+        if (onUtilizationUpdateListeners.isEmpty()) {
+            return;
+        }
+
+        final HostEventInfo info = HostEventInfo.of(this);
+        onUtilizationUpdateListeners.forEach(l -> SideEffectBuffer.notify(l, info));
+    }
+
     @Override
     public List<Vm> getFinishedVms() {
         return getVmList().stream()
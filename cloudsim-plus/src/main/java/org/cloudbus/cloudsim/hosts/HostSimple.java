@@ -7,6 +7,7 @@
 package org.cloudbus.cloudsim.hosts;
 
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.SideEffectBuffer;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.resources.Pe;
@@ -152,7 +153,7 @@ public class HostSimple implements Host {
             nextSimulationTime = Math.min(time, nextSimulationTime);
         }
 
-        onUpdateVmsProcessingListener.update(
+        SideEffectBuffer.notify(onUpdateVmsProcessingListener,
             HostUpdatesVmsProcessingEventInfo.of(this, nextSimulationTime));
         return nextSimulationTime;
     }
@@ -234,27 +235,23 @@ public class HostSimple implements Host {
     @Override
     public boolean vmCreate(Vm vm) {
         if (!storage.isResourceAmountAvailable(vm.getSize())) {
-            Log.printConcatLine("[VmAllocationPolicy] Allocation of VM #", vm.getId(), " to Host #", getId(),
-                    " failed by storage");
+            logAllocationError(vm, "storage");
             return false;
         }
 
         if (!getRamProvisioner().allocateResourceForVm(vm, vm.getCurrentRequestedRam())) {
-            Log.printConcatLine("[VmAllocationPolicy] Allocation of VM #", vm.getId(), " to Host #", getId(),
-                    " failed by RAM");
+            logAllocationError(vm, "RAM");
             return false;
         }
 
         if (!getBwProvisioner().allocateResourceForVm(vm, vm.getCurrentRequestedBw())) {
-            Log.printConcatLine("[VmAllocationPolicy] Allocation of VM #", vm.getId(), " to Host #", getId(),
-                    " failed by BW");
+            logAllocationError(vm, "BW");
             getRamProvisioner().deallocateResourceForVm(vm);
             return false;
         }
 
         if (!getVmScheduler().allocatePesForVm(vm, vm.getCurrentRequestedMips())) {
-            Log.printConcatLine("[VmAllocationPolicy] Allocation of VM #", vm.getId(), " to Host #", getId(),
-                    " failed by MIPS");
+            logAllocationError(vm, "MIPS");
             getRamProvisioner().deallocateResourceForVm(vm);
             getBwProvisioner().deallocateResourceForVm(vm);
             return false;
@@ -267,6 +264,18 @@ public class HostSimple implements Host {
         return true;
     }
 
+    /**
+     * Prints a message informing that a VM couldn't be placed into this Host,
+     * which is just built if the {@link Log} is enabled.
+     *
+     * @param vm the VM that couldn't be placed
+     * @param resourceName the name of the resource the Host doesn't have enough capacity for the VM
+     */
+    private void logAllocationError(Vm vm, String resourceName) {
+        Log.printLine(() -> "[VmAllocationPolicy] Allocation of VM #" + vm.getId() + " to Host #" + getId() +
+                " failed by " + resourceName);
+    }
+
     @Override
     public void destroyVm(Vm vm) {
         if (!Objects.isNull(vm)) {
@@ -155,14 +155,16 @@ public class NetworkHost extends HostSimple {
                 NetworkCloudletSpaceSharedScheduler sched = getVmCloudletScheduler(destinationVm);
 
                 sched.addPacketToListOfPacketsSentFromVm(hostPkt.getVmPacket());
-                Log.println(
-                    Log.Level.DEBUG, getClass(), getSimulation().clock(),
-                    "Host %d received pkt with %d bytes from Cloudlet %d in VM %d and forwarded it to Cloudlet %d in VM %d",
-                    getId(), hostPkt.getVmPacket().getSize(),
-                    hostPkt.getVmPacket().getSenderCloudlet().getId(),
-                    hostPkt.getVmPacket().getSource().getId(),
-                    hostPkt.getVmPacket().getReceiverCloudlet().getId(),
-                    hostPkt.getVmPacket().getDestination().getId());
+                if (Log.isEnabled(Log.Level.DEBUG)) {
+                    Log.println(
+                        Log.Level.DEBUG, getClass(), getSimulation().clock(),
+                        "Host %d received pkt with %d bytes from Cloudlet %d in VM %d and forwarded it to Cloudlet %d in VM %d",
+                        getId(), hostPkt.getVmPacket().getSize(),
+                        hostPkt.getVmPacket().getSenderCloudlet().getId(),
+                        hostPkt.getVmPacket().getSource().getId(),
+                        hostPkt.getVmPacket().getReceiverCloudlet().getId(),
+                        hostPkt.getVmPacket().getDestination().getId());
+                }
             }
 
             hostPacketsReceived.clear();
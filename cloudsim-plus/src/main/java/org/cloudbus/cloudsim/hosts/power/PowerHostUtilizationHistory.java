@@ -8,6 +8,7 @@
 
 package org.cloudbus.cloudsim.hosts.power;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.cloudbus.cloudsim.vms.power.PowerVm;
@@ -36,6 +37,33 @@ import org.cloudbus.cloudsim.util.MathUtil;
  * @since CloudSim Toolkit 2.0
  */
 public class PowerHostUtilizationHistory extends PowerHostSimple {
+    /**
+     * The last computed utilization history, which may have zeros at the end.
+     * @see #getUtilizationHistory()
+     */
+    private final double[] utilizationHistory = new double[PowerVm.MAX_HISTORY_ENTRIES];
+
+    /**
+     * The VMs whose utilization history was used to compute the {@link #utilizationHistory}.
+     */
+    private PowerVm[] historyVms = new PowerVm[0];
+
+    /**
+     * The {@link PowerVm#getUtilizationHistoryVersion() utilization history version}
+     * of each VM in {@link #historyVms} when the {@link #utilizationHistory} was computed.
+     */
+    private long[] historyVmVersions = new long[0];
+
+    /**
+     * The MIPS capacity of each VM in {@link #historyVms} when the {@link #utilizationHistory} was computed.
+     */
+    private double[] historyVmMips = new double[0];
+
+    /**
+     * The Host total MIPS capacity when the {@link #utilizationHistory} was computed.
+     */
+    private double historyHostMips = -1;
+
     /**
      * Creates a PowerHostUtilizationHistory.
      *
@@ -81,18 +109,90 @@ public class PowerHostUtilizationHistory extends PowerHostSimple {
     }
 
 	/**
-	 * Gets the host CPU utilization percentage history.
+	 * Gets the host CPU utilization percentage history,
+	 * which is the sum of the utilization history of its VMs,
+	 * weighted by the VMs MIPS capacity.
 	 *
+	 * <p>The sum is stored and just computed again
+	 * when the history of some VM, the VM list or the MIPS capacity of
+	 * the Host or its VMs change. Since some callers change the returned array,
+	 * every call returns a new array.</p>
+	 *
+	 * @return the host CPU utilization percentage history,
+	 * where the first element is the most recent value
 	 */
 	public double[] getUtilizationHistory() {
-		double[] utilizationHistory = new double[PowerVm.MAX_HISTORY_ENTRIES];
-		double hostMips = getTotalMips();
-		for (PowerVm vm : this.<PowerVm>getVmList()) {
+		if (isUtilizationHistoryChanged()) {
+			computeUtilizationHistory();
+		}
+
+		return MathUtil.trimZeroTail(utilizationHistory);
+	}
+
+	/**
+	 * Checks if the Host or its VMs changed since the last time
+	 * the {@link #utilizationHistory} was computed.
+	 *
+	 * @return true if the history has to be computed again, false otherwise
+	 */
+	private boolean isUtilizationHistoryChanged() {
+		final List<PowerVm> vmList = getVmList();
+		if (vmList.size() != historyVms.length || getTotalMips() != historyHostMips) {
+			return true;
+		}
+
+		for (int i = 0; i < historyVms.length; i++) {
+			final PowerVm vm = vmList.get(i);
+			if (vm != historyVms[i] ||
+				vm.getUtilizationHistoryVersion() != historyVmVersions[i] ||
+				vm.getMips() != historyVmMips[i])
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void computeUtilizationHistory() {
+		final List<PowerVm> vmList = getVmList();
+		final double hostMips = getTotalMips();
+		historyVms = vmList.toArray(new PowerVm[vmList.size()]);
+		historyVmVersions = new long[historyVms.length];
+		historyVmMips = new double[historyVms.length];
+		historyHostMips = hostMips;
+		for (int j = 0; j < historyVms.length; j++) {
+			historyVmVersions[j] = historyVms[j].getUtilizationHistoryVersion();
+			historyVmMips[j] = historyVms[j].getMips();
+		}
+		computeUtilizationHistory(vmList, utilizationHistory);
+	}
+
+	/**
+	 * Gets the host CPU utilization percentage history the Host would have
+	 * if a given list of VMs were placed into it.
+	 * The history is computed every time this method is called
+	 * and the Host is not changed.
+	 *
+	 * @param vmList the VMs to compute the Host utilization history from
+	 * @return the host CPU utilization percentage history,
+	 * where the first element is the most recent value
+	 * @see #getUtilizationHistory()
+	 */
+	public double[] getUtilizationHistory(List<? extends PowerVm> vmList) {
+		final double[] history = new double[PowerVm.MAX_HISTORY_ENTRIES];
+		computeUtilizationHistory(vmList, history);
+		return MathUtil.trimZeroTail(history);
+	}
+
+	private void computeUtilizationHistory(List<? extends PowerVm> vmList, double[] history) {
+		final double hostMips = getTotalMips();
+		Arrays.fill(history, 0);
+		for (PowerVm vm : vmList) {
 			for (int i = 0; i < vm.getUtilizationHistory().size(); i++) {
-				utilizationHistory[i] += vm.getUtilizationHistory().get(i) * vm.getMips() / hostMips;
+				history[i] += vm.getUtilizationHistoryValue(i) * vm.getMips() / hostMips;
 			}
 		}
-		return MathUtil.trimZeroTail(utilizationHistory);
 	}
 
 }
@@ -0,0 +1,206 @@
+package org.cloudbus.cloudsim.network;
+
+import java.util.stream.IntStream;
+
+/**
+ * A cache-blocked (tiled) implementation of the Floyd-Warshall algorithm
+ * to calculate the delay between all pairs of nodes.
+ *
+ * <p>The delay matrix is split into square tiles
+ * of {@link #getBlockSize() blockSize x blockSize} elements. For each block of intermediate nodes,
+ * the algorithm runs in three phases: it first updates the tile in the diagonal,
+ * then the other tiles in the same row and column of the diagonal tile
+ * and finally all the remaining tiles. The tiles updated in the second
+ * and third phases only depend on tiles updated in previous phases,
+ * thus they are independent from each other and can be updated
+ * in parallel, with the same results as a sequential execution.
+ * While a tile is updated, the rows it reads from other tiles stay into the CPU cache.</p>
+ *
+ * <p>Differently from the {@link FloydWarshall} class, it doesn't compute the predecessor matrix
+ * and it can {@link #computeShortestPaths(double[][]) update a delay matrix in place},
+ * without allocating any other matrix.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ */
+public class BlockedFloydWarshall {
+    /**
+     * The default number of rows and columns of each tile the delay matrix is split into.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    /**
+     * The minimum number of nodes for the tiles to be updated in parallel,
+     * when the {@link #isParallel() parallel execution} is enabled.
+     * Below this number, the overhead of splitting the work among threads
+     * is higher than the time to update the tiles sequentially.
+     */
+    public static final int MIN_NODES_FOR_PARALLEL_EXECUTION = 256;
+
+    /**
+     * @see #getBlockSize()
+     */
+    private final int blockSize;
+
+    /**
+     * @see #isParallel()
+     */
+    private final boolean parallel;
+
+    /**
+     * Creates an object to calculate the delay between all pairs of nodes
+     * using tiles with {@link #DEFAULT_BLOCK_SIZE} rows and columns, updating them in parallel.
+     */
+    public BlockedFloydWarshall() {
+        this(DEFAULT_BLOCK_SIZE, true);
+    }
+
+    /**
+     * Creates an object to calculate the delay between all pairs of nodes.
+     *
+     * @param blockSize the number of rows and columns of each tile the delay matrix is split into
+     * @param parallel true to update independent tiles in parallel, false to update them sequentially
+     */
+    public BlockedFloydWarshall(final int blockSize, final boolean parallel) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("The block size must be greater than zero.");
+        }
+
+        this.blockSize = blockSize;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Calculates the delay between all pairs of nodes.
+     * As in the {@link FloydWarshall} class, zero delays in the given matrix
+     * are considered as non-existing links and the delay between unconnected nodes
+     * is {@link Double#MAX_VALUE}.
+     *
+     * @param adjMatrix original delay matrix, which is not changed
+     * @return a new delay matrix
+     * @see #computeShortestPaths(double[][])
+     */
+    public double[][] allPairsShortestPaths(final double[][] adjMatrix) {
+        final double[][] delays = new double[adjMatrix.length][];
+        for (int i = 0; i < adjMatrix.length; i++) {
+            delays[i] = adjMatrix[i].clone();
+        }
+
+        computeShortestPaths(delays);
+        return delays;
+    }
+
+    /**
+     * Calculates the delay between all pairs of nodes, replacing
+     * the delay of each link in the given matrix by the delay of the shortest path
+     * between its nodes. This way, no memory other than the given matrix is used.
+     * As in {@link #allPairsShortestPaths(double[][])}, zero delays
+     * are considered as non-existing links and the delay between unconnected nodes
+     * is {@link Double#MAX_VALUE}.
+     *
+     * @param delays a square matrix with the delay of the link between every pair of nodes,
+     *               which is updated with the delay of the shortest paths
+     * @throws IllegalArgumentException when the matrix is not square
+     */
+    public void computeShortestPaths(final double[][] delays) {
+        final int numVertices = delays.length;
+        for (int i = 0; i < numVertices; i++) {
+            final double[] row = delays[i];
+            if (row.length != numVertices) {
+                throw new IllegalArgumentException(String.format(
+                    "The delay matrix must be square, but it has %d rows and row %d has %d columns.",
+                    numVertices, i, row.length));
+            }
+
+            for (int j = 0; j < numVertices; j++) {
+                row[j] = i == j ? 0 : (row[j] != 0 ? row[j] : Double.MAX_VALUE);
+            }
+        }
+
+        final int blocks = (int) ((numVertices + (long) blockSize - 1) / blockSize);
+        final boolean runInParallel = parallel && blocks > 1 && numVertices >= MIN_NODES_FOR_PARALLEL_EXECUTION;
+
+        for (int k = 0; k < blocks; k++) {
+            final int kBlock = k;
+
+            // phase 1: the tile in the diagonal
+            updateTile(delays, kBlock, kBlock, kBlock);
+
+            // phase 2: the other tiles in the same row and column of the diagonal tile
+            stream(blocks - 1, runInParallel).forEach(t -> {
+                final int block = t < kBlock ? t : t + 1;
+                updateTile(delays, kBlock, block, kBlock);
+                updateTile(delays, block, kBlock, kBlock);
+            });
+
+            // phase 3: the remaining tiles, where each row of tiles is updated by a task
+            stream(blocks - 1, runInParallel).forEach(r -> {
+                final int rowBlock = r < kBlock ? r : r + 1;
+                for (int colBlock = 0; colBlock < blocks; colBlock++) {
+                    if (colBlock != kBlock) {
+                        updateTile(delays, rowBlock, colBlock, kBlock);
+                    }
+                }
+            });
+        }
+    }
+
+    private static IntStream stream(final int tiles, final boolean parallel) {
+        final IntStream stream = IntStream.range(0, tiles);
+        return parallel ? stream.parallel() : stream;
+    }
+
+    /**
+     * Updates the delays inside a tile, checking if the path
+     * between each pair of nodes is shorter going through
+     * each node inside a given block of intermediate nodes.
+     *
+     * @param delays the delay matrix
+     * @param rowBlock the index of the block of source nodes (the tile row)
+     * @param colBlock the index of the block of destination nodes (the tile column)
+     * @param kBlock the index of the block of intermediate nodes
+     */
+    private void updateTile(final double[][] delays, final int rowBlock, final int colBlock, final int kBlock) {
+        final int numVertices = delays.length;
+        final int rowEnd = (int) Math.min((rowBlock + 1L) * blockSize, numVertices);
+        final int colStart = colBlock * blockSize;
+        final int colEnd = (int) Math.min((colBlock + 1L) * blockSize, numVertices);
+        final int kEnd = (int) Math.min((kBlock + 1L) * blockSize, numVertices);
+
+        for (int k = kBlock * blockSize; k < kEnd; k++) {
+            final double[] kRow = delays[k];
+            for (int i = rowBlock * blockSize; i < rowEnd; i++) {
+                final double[] iRow = delays[i];
+                final double delayToK = iRow[k];
+                if (delayToK == Double.MAX_VALUE) {
+                    continue;
+                }
+
+                for (int j = colStart; j < colEnd; j++) {
+                    final double delayThroughK = delayToK + kRow[j];
+                    if (delayThroughK < iRow[j]) {
+                        iRow[j] = delayThroughK;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of rows and columns of each tile the delay matrix is split into.
+     *
+     * @return the block size
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Checks if independent tiles are updated in parallel.
+     *
+     * @return true if tiles are updated in parallel, false otherwise
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+}
@@ -11,6 +11,7 @@ package org.cloudbus.cloudsim.network;
 import org.cloudbus.cloudsim.network.topologies.TopologicalGraph;
 import org.cloudbus.cloudsim.network.topologies.TopologicalLink;
 
+import java.util.Arrays;
 import java.util.Iterator;
 
 /**
@@ -32,6 +33,12 @@ public class DelayMatrix {
 	 */
     private int mTotalNodeNum = 0;
 
+	/**
+	 * The object used to calculate the shortest path between all pairs of nodes,
+	 * which updates the {@link #mDelayMatrix} in place.
+	 */
+    private final BlockedFloydWarshall floydWarshall = new BlockedFloydWarshall();
+
 	public DelayMatrix() {
         mDelayMatrix = new double[0][0];
 	}
@@ -60,7 +67,7 @@ public class DelayMatrix {
 	 */
 	public double getDelay(int srcID, int destID) {
 		// check the nodeIDs against internal array-boundarys
-		if (srcID > mTotalNodeNum || destID > mTotalNodeNum) {
+		if (srcID >= mTotalNodeNum || destID >= mTotalNodeNum) {
 			throw new ArrayIndexOutOfBoundsException("srcID or destID is higher than highest stored node-ID!");
 		}
 
@@ -106,11 +113,105 @@ public class DelayMatrix {
 	}
 
 	/**
-	 * Calculates the shortest path between all pairs of nodes.
+	 * Calculates the shortest path between all pairs of nodes,
+	 * replacing the link delays in the matrix, so that no other matrix is allocated.
+	 *
+	 * @see BlockedFloydWarshall#computeShortestPaths(double[][])
 	 */
 	private void calculateShortestPath() {
-		FloydWarshall floyd = new FloydWarshall(mTotalNodeNum);
-		mDelayMatrix = floyd.allPairsShortestPaths(mDelayMatrix);
+		floydWarshall.computeShortestPaths(mDelayMatrix);
+	}
+
+	/**
+	 * Updates the delays after a link is added to the network topology
+	 * the matrix was created from, just checking if the shortest path between
+	 * each pair of nodes becomes shorter by going through the new link.
+	 * That takes O(n^2) time, instead of the O(n^3) time required
+	 * to calculate the shortest paths between all pairs of nodes again.
+	 *
+	 * <p>The link must not replace an existing link between the same nodes,
+	 * since removing or increasing the delay of a link may make some shortest paths longer,
+	 * which requires the matrix to be created again from the topological graph.
+	 * As in the {@link FloydWarshall} algorithm, links with zero delay
+	 * are considered as non-existing.</p>
+	 *
+	 * @param link the link added to the topology
+	 * @param numberOfNodes the number of nodes in the topology after the link was added,
+	 *                      which may be greater than the number of nodes in the matrix
+	 * @param directed indicates if the link is directed (true) or not (false)
+	 */
+	public void addLink(TopologicalLink link, int numberOfNodes, boolean directed) {
+		ensureCapacity(numberOfNodes);
+
+		final int src = link.getSrcNodeID();
+		final int dest = link.getDestNodeID();
+		final double delay = link.getLinkDelay();
+		if (src == dest || delay == 0) {
+			return;
+		}
+
+		updateShortestPaths(src, dest, delay);
+		if (!directed) {
+			updateShortestPaths(dest, src, delay);
+		}
+	}
+
+	/**
+	 * Updates the shortest path between each pair of nodes (i, j)
+	 * if going from i to the source node, through the new link and then
+	 * from the destination node to j is shorter.
+	 * Since delays are non-negative, the shortest paths to the source node
+	 * and from the destination node don't change, thus they can be updated in place.
+	 *
+	 * @param src the id of the source node of the new link
+	 * @param dest the id of the destination node of the new link
+	 * @param delay the delay of the new link
+	 */
+	private void updateShortestPaths(int src, int dest, double delay) {
+		final double[] destRow = mDelayMatrix[dest];
+		for (int row = 0; row < mTotalNodeNum; ++row) {
+			final double delayToSrc = mDelayMatrix[row][src];
+			if (delayToSrc == Double.MAX_VALUE) {
+				continue;
+			}
+
+			final double delayToDest = delayToSrc + delay;
+			final double[] currentRow = mDelayMatrix[row];
+			for (int col = 0; col < mTotalNodeNum; ++col) {
+				final double delayThroughLink = delayToDest + destRow[col];
+				if (row != col && delayThroughLink < currentRow[col]) {
+					currentRow[col] = delayThroughLink;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Increases the number of nodes in the matrix, if the given number is greater than it.
+	 * The new nodes are not connected to any other one.
+	 * The matrix grows at least twice its size to avoid copying it every time
+	 * a node is added. Its unused positions are always kept as if they were
+	 * nodes without any link.
+	 *
+	 * @param numberOfNodes the new number of nodes
+	 */
+	private void ensureCapacity(int numberOfNodes) {
+		if (numberOfNodes > mDelayMatrix.length) {
+			final int capacity = Math.max(numberOfNodes, mDelayMatrix.length * 2);
+			final double[][] matrix = new double[capacity][capacity];
+			for (int row = 0; row < capacity; ++row) {
+				Arrays.fill(matrix[row], Double.MAX_VALUE);
+				if (row < mTotalNodeNum) {
+					System.arraycopy(mDelayMatrix[row], 0, matrix[row], 0, mTotalNodeNum);
+				} else {
+					matrix[row][row] = 0;
+				}
+			}
+
+			mDelayMatrix = matrix;
+		}
+
+		mTotalNodeNum = Math.max(mTotalNodeNum, numberOfNodes);
 	}
 
 	@Override
@@ -0,0 +1,288 @@
+package org.cloudbus.cloudsim.network;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.cloudbus.cloudsim.network.topologies.TopologicalGraph;
+import org.cloudbus.cloudsim.network.topologies.TopologicalLink;
+
+/**
+ * Computes the delay between pairs of nodes inside a network topology on demand,
+ * running the Dijkstra algorithm from a source node the first time a delay from it is requested.
+ * The delays from a limited number of the most recently used source nodes are cached,
+ * evicting the least recently used ones when the cache is full.
+ *
+ * <p>Differently from the {@link DelayMatrix}, which stores the delay between every pair of nodes
+ * and requires O(n^2) memory, this class stores just the links of the topology as a sparse graph
+ * and the delays from the cached source nodes.
+ * That enables simulating large network topologies where a dense matrix doesn't fit into memory,
+ * as long as entities communicate with a small set of other ones.</p>
+ *
+ * <p>The computed delays are the same as the ones computed by the {@link DelayMatrix},
+ * apart from floating-point rounding, since path delays may be summed in a different order:
+ * if there are multiple links between the same nodes, the last one prevails
+ * and links with zero delay are considered as non-existing.
+ * The delay between unconnected nodes is {@link Double#MAX_VALUE}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ */
+public class DijkstraDelayCache {
+    /**
+     * The default maximum number of source nodes having their delays to all other nodes cached.
+     */
+    public static final int DEFAULT_MAX_CACHED_SOURCES = 256;
+
+    /**
+     * @see #getNumberOfNodes()
+     */
+    private final int numberOfNodes;
+
+    /**
+     * The position in the {@link #linkDest} and {@link #linkDelay} arrays
+     * where the links leaving each node start, where the links leaving
+     * node i are the ones in the interval [linkStart[i], linkStart[i+1]).
+     */
+    private final int[] linkStart;
+
+    /**
+     * The destination node of each link, grouped by source node.
+     */
+    private final int[] linkDest;
+
+    /**
+     * The delay of each link, grouped by source node.
+     */
+    private final double[] linkDelay;
+
+    /**
+     * A map where each key is a source node and each value is the
+     * array of delays from it to every other node,
+     * ordered from the least to the most recently used source.
+     */
+    private final Map<Integer, double[]> cachedDelays;
+
+    /**
+     * Creates a delay cache for a given network topology graph,
+     * caching the delays from up to {@link #DEFAULT_MAX_CACHED_SOURCES} source nodes.
+     *
+     * @param graph the network topological graph
+     * @param directed indicates if the graph is directed (true) or not (false)
+     */
+    public DijkstraDelayCache(TopologicalGraph graph, boolean directed) {
+        this(graph, directed, DEFAULT_MAX_CACHED_SOURCES);
+    }
+
+    /**
+     * Creates a delay cache for a given network topology graph.
+     * Changes in the graph after this object is created are not considered.
+     *
+     * @param graph the network topological graph
+     * @param directed indicates if the graph is directed (true) or not (false)
+     * @param maxCachedSources the maximum number of source nodes having their delays to all other nodes cached
+     */
+    public DijkstraDelayCache(TopologicalGraph graph, boolean directed, int maxCachedSources) {
+        if (maxCachedSources <= 0) {
+            throw new IllegalArgumentException("The maximum number of cached source nodes must be greater than zero.");
+        }
+
+        this.numberOfNodes = graph.getNumberOfNodes();
+        this.cachedDelays = new LinkedHashMap<Integer, double[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, double[]> eldest) {
+                return size() > maxCachedSources;
+            }
+        };
+
+        final Map<Long, Double> links = getLinks(graph, directed);
+        this.linkStart = new int[numberOfNodes + 1];
+        this.linkDest = new int[links.size()];
+        this.linkDelay = new double[links.size()];
+        for (long key : links.keySet()) {
+            linkStart[getSrc(key) + 1]++;
+        }
+
+        for (int node = 0; node < numberOfNodes; node++) {
+            linkStart[node + 1] += linkStart[node];
+        }
+
+        final int[] nextPosition = Arrays.copyOf(linkStart, numberOfNodes);
+        for (Map.Entry<Long, Double> link : links.entrySet()) {
+            final int position = nextPosition[getSrc(link.getKey())]++;
+            linkDest[position] = getDest(link.getKey());
+            linkDelay[position] = link.getValue();
+        }
+    }
+
+    /**
+     * Gets the delay of the links between each pair of nodes,
+     * where the last link between two nodes replaces the previous ones.
+     *
+     * @param graph the network topological graph
+     * @param directed indicates if the graph is directed (true) or not (false)
+     * @return a map where each key represents a pair of nodes and each value is the delay between them
+     * @see #getLinkKey(int, int)
+     */
+    private static Map<Long, Double> getLinks(TopologicalGraph graph, boolean directed) {
+        final Map<Long, Double> links = new HashMap<>(graph.getNumberOfLinks() * 2);
+        final Iterator<TopologicalLink> iter = graph.getLinkIterator();
+        while (iter.hasNext()) {
+            final TopologicalLink edge = iter.next();
+            final double delay = edge.getLinkDelay();
+            links.put(getLinkKey(edge.getSrcNodeID(), edge.getDestNodeID()), delay);
+            if (!directed) {
+                links.put(getLinkKey(edge.getDestNodeID(), edge.getSrcNodeID()), delay);
+            }
+        }
+
+        links.entrySet().removeIf(link -> link.getValue() == 0 || getSrc(link.getKey()) == getDest(link.getKey()));
+        return links;
+    }
+
+    private static long getLinkKey(int src, int dest) {
+        return ((long) src << Integer.SIZE) | (dest & 0xFFFFFFFFL);
+    }
+
+    private static int getSrc(long linkKey) {
+        return (int) (linkKey >>> Integer.SIZE);
+    }
+
+    private static int getDest(long linkKey) {
+        return (int) linkKey;
+    }
+
+    /**
+     * Gets the delay between two nodes, computing the delays from the source node
+     * to all other ones if they aren't cached.
+     *
+     * @param srcID the id of the source node
+     * @param destID the id of the destination node
+     * @return the delay between the given two nodes
+     */
+    public double getDelay(int srcID, int destID) {
+        if (srcID < 0 || destID < 0 || srcID >= numberOfNodes || destID >= numberOfNodes) {
+            throw new ArrayIndexOutOfBoundsException("srcID or destID is out of the range of stored node-IDs!");
+        }
+
+        double[] delays = cachedDelays.get(srcID);
+        if (Objects.isNull(delays)) {
+            delays = computeDelays(srcID);
+            cachedDelays.put(srcID, delays);
+        }
+
+        return delays[destID];
+    }
+
+    /**
+     * Computes the delay from a source node to all other nodes using the Dijkstra algorithm.
+     * The priority queue is a binary heap that may contain multiple entries for the same node,
+     * where the outdated ones are just ignored when removed.
+     *
+     * @param src the id of the source node
+     * @return an array containing the delay from the source node to each node
+     */
+    private double[] computeDelays(int src) {
+        final double[] delays = new double[numberOfNodes];
+        Arrays.fill(delays, Double.MAX_VALUE);
+        delays[src] = 0;
+
+        double[] heapDelays = new double[Math.max(16, numberOfNodes)];
+        int[] heapNodes = new int[heapDelays.length];
+        heapDelays[0] = 0;
+        heapNodes[0] = src;
+        int heapSize = 1;
+
+        while (heapSize > 0) {
+            final double delay = heapDelays[0];
+            final int node = heapNodes[0];
+            heapSize--;
+            siftDown(heapDelays, heapNodes, heapSize, heapDelays[heapSize], heapNodes[heapSize]);
+            if (delay > delays[node]) {
+                continue;
+            }
+
+            for (int i = linkStart[node]; i < linkStart[node + 1]; i++) {
+                final int dest = linkDest[i];
+                final double delayThroughNode = delay + linkDelay[i];
+                if (delayThroughNode < delays[dest]) {
+                    delays[dest] = delayThroughNode;
+                    if (heapSize == heapDelays.length) {
+                        heapDelays = Arrays.copyOf(heapDelays, heapSize * 2);
+                        heapNodes = Arrays.copyOf(heapNodes, heapSize * 2);
+                    }
+
+                    siftUp(heapDelays, heapNodes, heapSize++, delayThroughNode, dest);
+                }
+            }
+        }
+
+        return delays;
+    }
+
+    private static void siftUp(double[] heapDelays, int[] heapNodes, int position, double delay, int node) {
+        while (position > 0) {
+            final int parent = (position - 1) >>> 1;
+            if (heapDelays[parent] <= delay) {
+                break;
+            }
+
+            heapDelays[position] = heapDelays[parent];
+            heapNodes[position] = heapNodes[parent];
+            position = parent;
+        }
+
+        heapDelays[position] = delay;
+        heapNodes[position] = node;
+    }
+
+    private static void siftDown(double[] heapDelays, int[] heapNodes, int heapSize, double delay, int node) {
+        if (heapSize == 0) {
+            return;
+        }
+
+        int position = 0;
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= heapSize) {
+                break;
+            }
+
+            if (child + 1 < heapSize && heapDelays[child + 1] < heapDelays[child]) {
+                child++;
+            }
+
+            if (delay <= heapDelays[child]) {
+                break;
+            }
+
+            heapDelays[position] = heapDelays[child];
+            heapNodes[position] = heapNodes[child];
+            position = child;
+        }
+
+        heapDelays[position] = delay;
+        heapNodes[position] = node;
+    }
+
+    /**
+     * Gets the number of nodes in the network topology.
+     *
+     * @return the number of nodes
+     */
+    public int getNumberOfNodes() {
+        return numberOfNodes;
+    }
+
+    /**
+     * Gets the number of source nodes which currently have their delays cached.
+     *
+     * @return the number of cached source nodes
+     */
+    public int getNumberOfCachedSources() {
+        return cachedDelays.size();
+    }
+}
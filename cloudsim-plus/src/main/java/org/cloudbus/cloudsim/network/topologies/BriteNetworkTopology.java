@@ -9,9 +9,11 @@ package org.cloudbus.cloudsim.network.topologies;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.network.DelayMatrix;
@@ -30,6 +32,12 @@ import org.cloudbus.cloudsim.network.topologies.readers.TopologyReaderBrite;
  * changing the topology file. Nevertheless, each CloudSim entity must be mapped
  * to one (and only one) BRITE node to allow proper work of the network
  * simulation. Each BRITE node can be mapped to only one entity at a time.
+ * <p/>
+ * The delay between every pair of nodes is just computed when it's
+ * {@link #getDelay(int, int) requested} for the first time,
+ * thus a topology can be built by adding a batch of links without computing
+ * the shortest paths after each one. Links added after that
+ * just update the existing delays.
  *
  * @author Rodrigo N. Calheiros
  * @author Anton Beloglazov
@@ -66,6 +74,27 @@ public class BriteNetworkTopology implements NetworkTopology {
      */
     private Map<Integer, Integer> map;
 
+    /**
+     * Indicates if the {@link #delayMatrix} and {@link #bwMatrix} don't
+     * reflect the topological graph anymore and must be generated
+     * again before they are used.
+     */
+    private boolean matricesOutdated;
+
+    /**
+     * The number of links in the topological graph
+     * when the matrices were last updated, used to check if
+     * the graph was changed without using {@link #addLink(int, int, double, double)}.
+     */
+    private int linksInMatrices;
+
+    /**
+     * The pairs of BRITE nodes which are connected by some link
+     * in the matrices, where each pair is represented by
+     * the {@link #getLinkKey(int, int) key} of the link between them.
+     */
+    private Set<Long> linkedNodes;
+
     /**
      * Creates a network topology
      *
@@ -75,6 +104,8 @@ public class BriteNetworkTopology implements NetworkTopology {
         bwMatrix = new double[0][0];
         graph = new TopologicalGraph();
         delayMatrix = new DelayMatrix();
+        linkedNodes = new HashSet<>();
+        matricesOutdated = true;
     }
 
     /**
@@ -93,7 +124,7 @@ public class BriteNetworkTopology implements NetworkTopology {
         TopologyReaderBrite reader = new TopologyReaderBrite();
         try {
             graph = reader.readGraphFile(fileName);
-            generateMatrices();
+            networkEnabled = true;
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -110,9 +141,81 @@ public class BriteNetworkTopology implements NetworkTopology {
         // creates the bw matrix
         bwMatrix = createBwMatrix(getTopologycalGraph(), false);
 
+        linkedNodes.clear();
+        final Iterator<TopologicalLink> iter = getTopologycalGraph().getLinkIterator();
+        while (iter.hasNext()) {
+            final TopologicalLink edge = iter.next();
+            linkedNodes.add(getLinkKey(edge.getSrcNodeID(), edge.getDestNodeID()));
+        }
+
+        linksInMatrices = getTopologycalGraph().getNumberOfLinks();
+        matricesOutdated = false;
         networkEnabled = true;
     }
 
+    /**
+     * Generates the matrices if they {@link #matricesOutdated are outdated}.
+     */
+    private void generateMatricesIfOutdated() {
+        if (matricesOutdated) {
+            generateMatrices();
+        }
+    }
+
+    /**
+     * Updates the matrices after a link is added to the topological graph,
+     * without computing the shortest paths between all pairs of nodes again.
+     * If the link connects nodes which were already connected or the graph was changed
+     * in some other way, the matrices are just marked as outdated.
+     *
+     * @param link the added link
+     */
+    private void updateMatrices(TopologicalLink link) {
+        final boolean newLink = linkedNodes.add(getLinkKey(link.getSrcNodeID(), link.getDestNodeID()));
+        if (matricesOutdated || !newLink || getTopologycalGraph().getNumberOfLinks() != linksInMatrices + 1) {
+            matricesOutdated = true;
+            return;
+        }
+
+        final int nodes = getTopologycalGraph().getNumberOfNodes();
+        delayMatrix.addLink(link, nodes, false);
+        updateBwMatrix(link, nodes);
+        linksInMatrices++;
+    }
+
+    /**
+     * Sets the bandwidth of a link added to the topological graph into the {@link #bwMatrix},
+     * increasing the matrix size if required.
+     *
+     * @param link the added link
+     * @param nodes the number of nodes in the topological graph
+     */
+    private void updateBwMatrix(TopologicalLink link, int nodes) {
+        if (nodes > bwMatrix.length) {
+            final int capacity = Math.max(nodes, bwMatrix.length * 2);
+            final double[][] mtx = new double[capacity][capacity];
+            for (int i = 0; i < bwMatrix.length; i++) {
+                System.arraycopy(bwMatrix[i], 0, mtx[i], 0, bwMatrix.length);
+            }
+
+            bwMatrix = mtx;
+        }
+
+        bwMatrix[link.getSrcNodeID()][link.getDestNodeID()] = link.getLinkBw();
+        bwMatrix[link.getDestNodeID()][link.getSrcNodeID()] = link.getLinkBw();
+    }
+
+    /**
+     * Gets a key representing the undirected link between two nodes.
+     *
+     * @param srcId the id of one node of the link
+     * @param destId the id of the other node of the link
+     * @return the link key, which is the same regardless the order of the nodes
+     */
+    private static long getLinkKey(int srcId, int destId) {
+        return ((long) Math.min(srcId, destId) << Integer.SIZE) | Math.max(srcId, destId);
+    }
+
     /**
      * Creates the matrix containing the available bandwidth between every pair
      * of nodes.
@@ -172,10 +275,11 @@ public class BriteNetworkTopology implements NetworkTopology {
         }
 
         // generate a new link
-        getTopologycalGraph().addLink(new TopologicalLink(map.get(srcId), map.get(destId), (float) lat, (float) bw));
-
-        generateMatrices();
+        final TopologicalLink link = new TopologicalLink(map.get(srcId), map.get(destId), (float) lat, (float) bw);
+        getTopologycalGraph().addLink(link);
 
+        updateMatrices(link);
+        networkEnabled = true;
     }
 
     @Override
@@ -216,7 +320,7 @@ public class BriteNetworkTopology implements NetworkTopology {
         if (networkEnabled) {
             try {
                 // add the network latency
-                return delayMatrix.getDelay(map.get(srcID), map.get(destID));
+                return getBriteNodesDelay(map.get(srcID), map.get(destID));
             } catch (Exception e) {
                 // in case of error, just keep running and return 0.0
             }
@@ -225,6 +329,21 @@ public class BriteNetworkTopology implements NetworkTopology {
         return 0.0;
     }
 
+    /**
+     * Gets the delay between two BRITE nodes,
+     * generating the delay matrix if it {@link #matricesOutdated is outdated}.
+     * Subclasses may override this method to compute delays in a different way,
+     * for instance, without using a dense delay matrix.
+     *
+     * @param srcBriteID the BRITE id of the source node
+     * @param destBriteID the BRITE id of the destination node
+     * @return the delay between the given two nodes
+     */
+    protected double getBriteNodesDelay(int srcBriteID, int destBriteID) {
+        generateMatricesIfOutdated();
+        return delayMatrix.getDelay(srcBriteID, destBriteID);
+    }
+
     @Override
     public boolean isNetworkEnabled() {
         return networkEnabled;
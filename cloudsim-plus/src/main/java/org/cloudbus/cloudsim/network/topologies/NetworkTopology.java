@@ -7,6 +7,7 @@ package org.cloudbus.cloudsim.network.topologies;
  *
  * @author Manoel Campos da Silva Filho
  * @see BriteNetworkTopology
+ * @see SparseBriteNetworkTopology
  */
 public interface NetworkTopology {
     /**
@@ -0,0 +1,105 @@
+package org.cloudbus.cloudsim.network.topologies;
+
+import java.util.Objects;
+
+import org.cloudbus.cloudsim.network.DelayMatrix;
+import org.cloudbus.cloudsim.network.DijkstraDelayCache;
+
+/**
+ * A {@link BriteNetworkTopology} for large networks, which computes the delay between nodes on demand
+ * using a {@link DijkstraDelayCache}, instead of a dense {@link DelayMatrix}.
+ * This way, the required memory is proportional to the number of links in the topology
+ * and the number of cached source nodes, instead of the square of the number of nodes.
+ *
+ * <p>The cache is just created when a delay is requested for the first time.
+ * Adding a link after that discards all cached delays.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ */
+public class SparseBriteNetworkTopology extends BriteNetworkTopology {
+    /**
+     * @see #getMaxCachedSources()
+     */
+    private final int maxCachedSources;
+
+    /**
+     * The cache used to compute delays, or null if it wasn't created yet.
+     */
+    private DijkstraDelayCache delayCache;
+
+    /**
+     * The number of links in the topological graph when the {@link #delayCache} was created.
+     */
+    private int linksInCache;
+
+    /**
+     * Creates a network topology which caches the delays from up to
+     * {@link DijkstraDelayCache#DEFAULT_MAX_CACHED_SOURCES} source nodes.
+     */
+    public SparseBriteNetworkTopology() {
+        this(DijkstraDelayCache.DEFAULT_MAX_CACHED_SOURCES);
+    }
+
+    /**
+     * Creates a network topology.
+     *
+     * @param maxCachedSources the maximum number of source nodes having their delays to all other nodes cached
+     */
+    public SparseBriteNetworkTopology(int maxCachedSources) {
+        super();
+        this.maxCachedSources = validateMaxCachedSources(maxCachedSources);
+    }
+
+    /**
+     * Creates a network topology from a file in the BRITE format, which caches the delays from up to
+     * {@link DijkstraDelayCache#DEFAULT_MAX_CACHED_SOURCES} source nodes.
+     *
+     * @param fileName name of the BRITE file
+     */
+    public SparseBriteNetworkTopology(String fileName) {
+        this(fileName, DijkstraDelayCache.DEFAULT_MAX_CACHED_SOURCES);
+    }
+
+    /**
+     * Creates a network topology from a file in the BRITE format.
+     *
+     * @param fileName name of the BRITE file
+     * @param maxCachedSources the maximum number of source nodes having their delays to all other nodes cached
+     */
+    public SparseBriteNetworkTopology(String fileName, int maxCachedSources) {
+        super(fileName);
+        this.maxCachedSources = validateMaxCachedSources(maxCachedSources);
+    }
+
+    private static int validateMaxCachedSources(int maxCachedSources) {
+        if (maxCachedSources <= 0) {
+            throw new IllegalArgumentException("The maximum number of cached source nodes must be greater than zero.");
+        }
+
+        return maxCachedSources;
+    }
+
+    @Override
+    protected double getBriteNodesDelay(int srcBriteID, int destBriteID) {
+        final TopologicalGraph graph = getTopologycalGraph();
+        if (Objects.isNull(delayCache) ||
+            linksInCache != graph.getNumberOfLinks() ||
+            delayCache.getNumberOfNodes() != graph.getNumberOfNodes())
+        {
+            delayCache = new DijkstraDelayCache(graph, false, maxCachedSources);
+            linksInCache = graph.getNumberOfLinks();
+        }
+
+        return delayCache.getDelay(srcBriteID, destBriteID);
+    }
+
+    /**
+     * Gets the maximum number of source nodes having their delays to all other nodes cached.
+     *
+     * @return the maximum number of cached source nodes
+     */
+    public int getMaxCachedSources() {
+        return maxCachedSources;
+    }
+}
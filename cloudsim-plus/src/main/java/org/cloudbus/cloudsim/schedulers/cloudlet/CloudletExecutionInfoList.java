@@ -0,0 +1,357 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
+
+/**
+ * A doubly linked list of {@link CloudletExecutionInfo} used by a {@link CloudletSchedulerAbstract}
+ * that keeps an index of its nodes by {@link CloudletExecutionInfo#getCloudletId() Cloudlet id}.
+ * The index is updated whenever an element is added or removed,
+ * even if the list is changed directly through its {@link List} methods or iterators,
+ * enabling a Cloudlet to be found, checked or removed by its id in constant time,
+ * without changing the order of the remaining elements.
+ *
+ * <p>The list keeps the same order and semantics of a {@link LinkedList}.
+ * Since Cloudlets from different brokers may have the same id,
+ * the list accepts elements with a duplicated id, but while there is any of them,
+ * searching and removing by id fall back to a linear search, ensuring the first
+ * element with the given id is always the one returned or removed.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ * @see CloudletSchedulerAbstract#findCloudletInList(double, List)
+ */
+final class CloudletExecutionInfoList extends AbstractSequentialList<CloudletExecutionInfo> {
+    /**
+     * A sentinel node whose {@link Node#next} is the first node of the list
+     * and {@link Node#prev} is the last one.
+     */
+    private final Node header = new Node(null);
+
+    private int size;
+
+    /**
+     * A map where each key is a Cloudlet id and each value
+     * is the node of an element from the list having such an id.
+     */
+    private final Map<Integer, Node> index = new HashMap<>();
+
+    /**
+     * The number of elements whose Cloudlet id is shared with another element
+     * of the list (and thus are not stored into the {@link #index}).
+     */
+    private int duplicates;
+
+    CloudletExecutionInfoList() {
+        super();
+        header.next = header;
+        header.prev = header;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(CloudletExecutionInfo cloudlet) {
+        linkBefore(cloudlet, header);
+        return true;
+    }
+
+    @Override
+    public ListIterator<CloudletExecutionInfo> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        return new NodeIterator(index);
+    }
+
+    @Override
+    public boolean remove(Object obj) {
+        if (!(obj instanceof CloudletExecutionInfo) || duplicates > 0) {
+            return super.remove(obj);
+        }
+
+        final Node node = index.get(((CloudletExecutionInfo) obj).getCloudletId());
+        if (Objects.isNull(node)) {
+            return false;
+        }
+
+        unlink(node);
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super CloudletExecutionInfo> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        for (Node node = header.next; node != header; node = node.next) {
+            if (filter.test(node.item)) {
+                node.prev.next = node.next;
+                node.next.prev = node.prev;
+                size--;
+                removed = true;
+            }
+        }
+
+        if (removed) {
+            rebuildIndex();
+            modCount++;
+        }
+
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        header.next = header;
+        header.prev = header;
+        size = 0;
+        index.clear();
+        duplicates = 0;
+        modCount++;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Since {@link CloudletExecutionInfo} objects are equal when they have the same Cloudlet id,
+     * the check is performed in constant time.
+     */
+    @Override
+    public boolean contains(Object obj) {
+        if (obj instanceof CloudletExecutionInfo) {
+            return index.containsKey(((CloudletExecutionInfo) obj).getCloudletId());
+        }
+
+        return super.contains(obj);
+    }
+
+    @Override
+    public int indexOf(Object obj) {
+        if (obj instanceof CloudletExecutionInfo &&
+            !index.containsKey(((CloudletExecutionInfo) obj).getCloudletId()))
+        {
+            return -1;
+        }
+
+        return super.indexOf(obj);
+    }
+
+    /**
+     * Gets the first element in the list with a given Cloudlet id.
+     *
+     * @param cloudletId the id of the Cloudlet to search for
+     * @return an {@link Optional} containing the found element
+     * or an empty {@link Optional} if not found
+     */
+    Optional<CloudletExecutionInfo> findById(int cloudletId) {
+        if (duplicates > 0) {
+            return stream()
+                    .filter(c -> Objects.nonNull(c) && c.getCloudletId() == cloudletId)
+                    .findFirst();
+        }
+
+        final Node node = index.get(cloudletId);
+        return Objects.isNull(node) ? Optional.empty() : Optional.ofNullable(node.item);
+    }
+
+    private void linkBefore(CloudletExecutionInfo cloudlet, Node successor) {
+        final Node node = new Node(cloudlet);
+        node.prev = successor.prev;
+        node.next = successor;
+        successor.prev.next = node;
+        successor.prev = node;
+        size++;
+        addToIndex(node);
+        modCount++;
+    }
+
+    private void unlink(Node node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        size--;
+        removeFromIndex(node.item);
+        modCount++;
+    }
+
+    private Node node(int index) {
+        if (index < size / 2) {
+            Node node = header.next;
+            for (int i = 0; i < index; i++) {
+                node = node.next;
+            }
+            return node;
+        }
+
+        Node node = header;
+        for (int i = size; i > index; i--) {
+            node = node.prev;
+        }
+        return node;
+    }
+
+    private void addToIndex(Node node) {
+        if (Objects.nonNull(node.item) && Objects.nonNull(index.putIfAbsent(node.item.getCloudletId(), node))) {
+            duplicates++;
+        }
+    }
+
+    /**
+     * Removes an element that was already removed from the list from the {@link #index}.
+     * If there are elements with duplicated ids, another element
+     * with the same id which is still in the list may take its place into the index.
+     *
+     * @param cloudlet the removed element
+     */
+    private void removeFromIndex(CloudletExecutionInfo cloudlet) {
+        if (Objects.isNull(cloudlet)) {
+            return;
+        }
+
+        final int id = cloudlet.getCloudletId();
+        if (duplicates == 0) {
+            index.remove(id);
+            return;
+        }
+
+        for (Node node = header.next; node != header; node = node.next) {
+            if (Objects.nonNull(node.item) && node.item.getCloudletId() == id) {
+                duplicates--;
+                index.put(id, node);
+                return;
+            }
+        }
+
+        index.remove(id);
+    }
+
+    private void rebuildIndex() {
+        index.clear();
+        duplicates = 0;
+        for (Node node = header.next; node != header; node = node.next) {
+            addToIndex(node);
+        }
+    }
+
+    private static final class Node {
+        private CloudletExecutionInfo item;
+        private Node prev;
+        private Node next;
+
+        private Node(CloudletExecutionInfo item) {
+            this.item = item;
+        }
+    }
+
+    /**
+     * A {@link ListIterator} that keeps the {@link #index} updated
+     * when elements are changed through it.
+     */
+    private final class NodeIterator implements ListIterator<CloudletExecutionInfo> {
+        private Node next;
+        private Node lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        private NodeIterator(int index) {
+            this.next = node(index);
+            this.nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public CloudletExecutionInfo next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.item;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public CloudletExecutionInfo previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            next = next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.item;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (Objects.isNull(lastReturned)) {
+                throw new IllegalStateException();
+            }
+
+            if (next == lastReturned) {
+                next = lastReturned.next;
+            } else {
+                nextIndex--;
+            }
+
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(CloudletExecutionInfo cloudlet) {
+            checkForComodification();
+            if (Objects.isNull(lastReturned)) {
+                throw new IllegalStateException();
+            }
+
+            final CloudletExecutionInfo previous = lastReturned.item;
+            lastReturned.item = cloudlet;
+            removeFromIndex(previous);
+            addToIndex(lastReturned);
+        }
+
+        @Override
+        public void add(CloudletExecutionInfo cloudlet) {
+            checkForComodification();
+            lastReturned = null;
+            linkBefore(cloudlet, next);
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
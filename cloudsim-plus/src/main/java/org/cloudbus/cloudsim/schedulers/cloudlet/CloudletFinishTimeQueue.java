@@ -0,0 +1,259 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
+import org.cloudbus.cloudsim.util.Conversion;
+
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Keeps the Cloudlets running into a {@link CloudletSchedulerAbstract} ordered
+ * by their predicted finish, so that the next Cloudlet to finish can be found
+ * and finished Cloudlets can be removed without scanning the execution list.
+ *
+ * <p>Along a processing update, every running Cloudlet executes the same number
+ * of instructions by PE. Thus, the queue has a virtual clock that just counts
+ * the number of instructions executed by PE so far and the finished length of
+ * each Cloudlet is computed lazily from such a clock, when the Cloudlet finishes,
+ * leaves the queue or is one of the next Cloudlets to finish.</p>
+ *
+ * <p>Cloudlets which are waiting the transfer of their required files
+ * are kept apart until they actually start executing.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ * @see CloudletSchedulerAbstract#setFinishTimeQueueEnabled(boolean)
+ */
+final class CloudletFinishTimeQueue {
+    /**
+     * The data of a Cloudlet into the queue.
+     */
+    private static final class Entry {
+        private final CloudletExecutionInfo cloudlet;
+
+        /**
+         * The order the Cloudlet was added to the queue,
+         * that is the same order it was added to the execution list.
+         */
+        private final long order;
+
+        /**
+         * The value of the queue clock when the Cloudlet finishes.
+         */
+        private long finishClock;
+
+        /**
+         * The value of the queue clock when the
+         * {@link CloudletExecutionInfo#getRemainingCloudletLength() remaining length}
+         * of the Cloudlet, that considers all its PEs, reaches zero.
+         * For Cloudlets with the same number of PEs, it gives the same order
+         * as the {@link CloudletSchedulerAbstract#getEstimatedFinishTimeOfCloudlet(CloudletExecutionInfo, double) estimated finish time}.
+         */
+        private long remainingLengthClock;
+
+        /**
+         * The value of the queue clock up to which
+         * the Cloudlet finished length was updated.
+         */
+        private long updatedClock;
+
+        private boolean removed;
+
+        private Entry(CloudletExecutionInfo cloudlet, long order) {
+            this.cloudlet = cloudlet;
+            this.order = order;
+        }
+    }
+
+    /**
+     * The number of instructions executed by each PE
+     * of the running Cloudlets since the queue was created.
+     */
+    private long clock;
+
+    /**
+     * The last simulation time the {@link #clock} was advanced.
+     */
+    private double lastProcessingTime;
+
+    private long nextOrder;
+
+    /**
+     * A map from the Cloudlets into the queue to their entries.
+     * Since {@link CloudletExecutionInfo} doesn't override hashCode,
+     * the map uses identity comparison.
+     */
+    private final Map<CloudletExecutionInfo, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * Cloudlets which didn't start executing yet.
+     */
+    private final List<Entry> notStarted = new ArrayList<>();
+
+    /**
+     * Running Cloudlets ordered by the {@link #clock} value they finish.
+     * Removed entries are just discarded when they reach the head of the queue.
+     */
+    private final PriorityQueue<Entry> finishQueue = new PriorityQueue<>(comparingLong(e -> e.finishClock));
+
+    /**
+     * Running Cloudlets grouped by number of PEs, where each group is ordered
+     * by {@link Entry#remainingLengthClock}.
+     * Removed entries are just discarded when they reach the head of a queue.
+     */
+    private final Map<Integer, PriorityQueue<Entry>> estimateQueues = new HashMap<>();
+
+    /**
+     * Adds a Cloudlet which was just included into the execution list.
+     *
+     * @param cloudlet the Cloudlet to add
+     */
+    void add(CloudletExecutionInfo cloudlet) {
+        final Entry entry = new Entry(cloudlet, nextOrder++);
+        entries.put(cloudlet, entry);
+        notStarted.add(entry);
+    }
+
+    /**
+     * Removes a Cloudlet from the queue, updating its finished length.
+     *
+     * @param cloudlet the Cloudlet to remove
+     * @return true if the Cloudlet was into the queue, false otherwise
+     */
+    boolean remove(CloudletExecutionInfo cloudlet) {
+        final Entry entry = entries.remove(cloudlet);
+        if (Objects.isNull(entry)) {
+            return false;
+        }
+
+        if (!notStarted.remove(entry)) {
+            updateFinishedLength(entry);
+            entry.removed = true;
+        }
+
+        return true;
+    }
+
+    /**
+     * Starts executing the Cloudlets which weren't executing yet and are allowed to.
+     *
+     * @param canExecute a predicate to check if a Cloudlet can start executing
+     */
+    void start(Predicate<CloudletExecutionInfo> canExecute) {
+        final Iterator<Entry> it = notStarted.iterator();
+        while (it.hasNext()) {
+            final Entry entry = it.next();
+            if (canExecute.test(entry.cloudlet)) {
+                it.remove();
+                enqueue(entry);
+            }
+        }
+    }
+
+    private void enqueue(Entry entry) {
+        final CloudletExecutionInfo cloudlet = entry.cloudlet;
+        final long finishedSoFar = cloudlet.getInstructionsFinishedSoFar();
+        entry.updatedClock = clock;
+        entry.finishClock = clock + cloudlet.getCloudletLength() * Conversion.MILLION - finishedSoFar;
+        entry.remainingLengthClock = clock + cloudlet.getCloudlet().getTotalLength() * Conversion.MILLION - finishedSoFar;
+        finishQueue.add(entry);
+        estimateQueues
+            .computeIfAbsent(cloudlet.getNumberOfPes(), pes -> new PriorityQueue<>(comparingLong(e -> e.remainingLengthClock)))
+            .add(entry);
+    }
+
+    /**
+     * Advances the clock of the running Cloudlets.
+     *
+     * @param instructions the number of instructions each PE executed since the last advance
+     * @param time the current simulation time
+     */
+    void advance(long instructions, double time) {
+        if (instructions > 0) {
+            clock += instructions;
+            lastProcessingTime = time;
+        }
+    }
+
+    /**
+     * Removes the Cloudlets which have finished from the queue,
+     * updating their finished length.
+     *
+     * @return the list of finished Cloudlets, in the order they were added to the queue
+     */
+    List<CloudletExecutionInfo> pollFinished() {
+        final List<Entry> finished = new ArrayList<>();
+        while (!finishQueue.isEmpty()) {
+            final Entry head = finishQueue.peek();
+            if (!head.removed && head.finishClock > clock) {
+                break;
+            }
+
+            finishQueue.poll();
+            if (!head.removed) {
+                entries.remove(head.cloudlet);
+                updateFinishedLength(head);
+                head.removed = true;
+                finished.add(head);
+            }
+        }
+
+        finished.sort(comparingLong(e -> e.order));
+        return finished.stream().map(e -> e.cloudlet).collect(toList());
+    }
+
+    /**
+     * Gets the lowest estimated finish time among the Cloudlets into the queue.
+     * Only the Cloudlets which may have the lowest estimated finish time
+     * have their finished length updated.
+     *
+     * @param estimator a function that gets the estimated finish time of a Cloudlet
+     * @return the lowest estimated finish time or {@link Double#MAX_VALUE} if the queue is empty
+     */
+    double nextFinishTime(ToDoubleFunction<CloudletExecutionInfo> estimator) {
+        double next = Double.MAX_VALUE;
+        for (PriorityQueue<Entry> queue : estimateQueues.values()) {
+            while (!queue.isEmpty() && queue.peek().removed) {
+                queue.poll();
+            }
+
+            if (!queue.isEmpty()) {
+                final Entry head = queue.peek();
+                updateFinishedLength(head);
+                next = Math.min(next, estimator.applyAsDouble(head.cloudlet));
+            }
+        }
+
+        for (Entry entry : notStarted) {
+            next = Math.min(next, estimator.applyAsDouble(entry.cloudlet));
+        }
+
+        return next;
+    }
+
+    /**
+     * Removes all Cloudlets from the queue, updating their finished length.
+     */
+    void clear() {
+        finishQueue.forEach(this::updateFinishedLength);
+        entries.clear();
+        notStarted.clear();
+        finishQueue.clear();
+        estimateQueues.clear();
+    }
+
+    private void updateFinishedLength(Entry entry) {
+        final long instructions = clock - entry.updatedClock;
+        if (entry.removed || instructions <= 0) {
+            return;
+        }
+
+        entry.cloudlet.updateCloudletFinishedSoFar(instructions);
+        entry.cloudlet.setLastProcessingTime(lastProcessingTime);
+        entry.updatedClock = clock;
+    }
+}
@@ -84,6 +84,11 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     private Vm vm;
 
+    /**
+     * @see #isFinishTimeQueueEnabled()
+     */
+    private CloudletFinishTimeQueue finishTimeQueue;
+
     /**
      * Creates a new CloudletScheduler object. A CloudletScheduler must be
      * created before starting the actual simulation.
@@ -96,11 +101,11 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         processor = new Processor();
         usedPes = 0;
         vm = Vm.NULL;
-        cloudletExecList = new ArrayList<>();
-        cloudletPausedList = new ArrayList<>();
-        cloudletFinishedList = new ArrayList<>();
-        cloudletFailedList = new ArrayList<>();
-        cloudletWaitingList = new ArrayList<>();
+        cloudletExecList = new CloudletExecutionInfoList();
+        cloudletPausedList = new CloudletExecutionInfoList();
+        cloudletFinishedList = new CloudletExecutionInfoList();
+        cloudletFailedList = new CloudletExecutionInfoList();
+        cloudletWaitingList = new CloudletExecutionInfoList();
         currentMipsShare = new ArrayList<>();
     }
 
@@ -248,6 +253,9 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         cloudlet.setLastProcessingTime(getVm().getSimulation().clock());
         cloudletExecList.add(cloudlet);
         addUsedPes(cloudlet.getNumberOfPes());
+        if (isFinishTimeQueueEnabled()) {
+            finishTimeQueue.add(cloudlet);
+        }
     }
 
     @Override
@@ -311,27 +319,26 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     /**
      * Search for a Cloudlet into all Cloudlet lists.
+     * The search takes constant time for the lists which are indexed by Cloudlet id,
+     * that are all the lists created by default by the scheduler.
      *
      * @param cloudletId the id of the Cloudlet to search for
      * @return an {@link Optional} value that is able to indicate if the
      * Cloudlet was found or not
      */
     protected Optional<CloudletExecutionInfo> findCloudletInAllLists(double cloudletId) {
-        //Concatenate all lists into a strem
-        Stream<List<CloudletExecutionInfo>> streamOfAllLists
-                = Stream.of(getCloudletExecList(), getCloudletPausedList(), getCloudletWaitingList(),
-                        getCloudletFinishedList(), getCloudletFailedList());
-
-        //Gets all elements in each list and makes them a single full list,
-        //returning the first Cloudlet with the given id
-        return streamOfAllLists
-                .flatMap(List::stream)
-                .filter(c -> c.getCloudletId() == cloudletId)
+        return Stream.of(getCloudletExecList(), getCloudletPausedList(), getCloudletWaitingList(),
+                        getCloudletFinishedList(), getCloudletFailedList())
+                .map(list -> findCloudletInList(cloudletId, list))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
                 .findFirst();
     }
 
     /**
      * Search for a Cloudlet into a given list.
+     * If the list is indexed by Cloudlet id, the search takes constant time,
+     * otherwise the list is linearly searched.
      *
      * @param cloudletId the id of the Cloudlet to search for
      * @param list the list to search the Cloudlet into
@@ -339,6 +346,11 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * Cloudlet was found or not
      */
     protected Optional<CloudletExecutionInfo> findCloudletInList(double cloudletId, List<CloudletExecutionInfo> list) {
+        if (list instanceof CloudletExecutionInfoList) {
+            final int id = (int) cloudletId;
+            return id == cloudletId ? ((CloudletExecutionInfoList) list).findById(id) : Optional.empty();
+        }
+
         return list.stream()
                 .filter(rcl -> rcl.getCloudletId() == cloudletId)
                 .findFirst();
@@ -437,14 +449,13 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
             List<CloudletExecutionInfo> cloudletList, int cloudletId,
             Consumer<CloudletExecutionInfo> cloudletStatusUpdaterConsumer) {
         Function<CloudletExecutionInfo, Cloudlet> removeCloudletFromListAndUpdateItsStatus = c -> {
+            removeCloudletFromFinishTimeQueue(c);
             cloudletList.remove(c);
             cloudletStatusUpdaterConsumer.accept(c);
             return c.getCloudlet();
         };
 
-        return cloudletList.stream()
-                .filter(c -> c.getCloudlet().getId() == cloudletId)
-                .findFirst()
+        return findCloudletInList(cloudletId, cloudletList)
                 .map(removeCloudletFromListAndUpdateItsStatus)
                 .orElse(Cloudlet.NULL);
     }
@@ -476,6 +487,12 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @param currentTime current simulation time
      */
     private void updateCloudletsProcessing(double currentTime) {
+        if (isFinishTimeQueueEnabled()) {
+            finishTimeQueue.start(rcl -> hasCloudletFileTransferTimePassed(rcl, currentTime));
+            finishTimeQueue.advance(executedLengthByPe(timeSpan(currentTime)), currentTime);
+            return;
+        }
+
         getCloudletExecList().forEach(rcl -> updateCloudletProcessing(rcl, currentTime));
     }
 
@@ -543,7 +560,18 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         final double actualProcessingTime = (hasCloudletFileTransferTimePassed(rcl, currentTime) ? timeSpan(currentTime) : 0);
 
         //Log.println(Log.Level.DEBUG, getClass(), currentTime, "Cloudlet: %d Processing time: %.2f Last processed time: %.2f Actual process time: %.2f MI so far: %d",  rcl.getCloudletId(), currentTime, rcl.getLastProcessingTime(),  actualProcessingTime, rcl.getCloudlet().getCloudletFinishedSoFar());
-        return (long) (processor.getAvailableMipsByPe() * actualProcessingTime * Conversion.MILLION);
+        return executedLengthByPe(actualProcessingTime);
+    }
+
+    /**
+     * Computes the length, in number of Instructions (I), executed by each PE
+     * along a given processing time.
+     *
+     * @param processingTime the time the PEs spent processing
+     * @return the executed length, in number of Instructions (I)
+     */
+    private long executedLengthByPe(double processingTime) {
+        return (long) (processor.getAvailableMipsByPe() * processingTime * Conversion.MILLION);
     }
 
     /**
@@ -584,10 +612,12 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * {@link #getCloudletExecList() execution list}
      */
     protected int removeFinishedCloudletsFromExecutionListAndAddToFinishedList() {
-        List<CloudletExecutionInfo> finishedCloudlets
-                = getCloudletExecList().stream()
-                .filter(c -> c.getCloudlet().isFinished())
-                .collect(Collectors.toList());
+        List<CloudletExecutionInfo> finishedCloudlets =
+            isFinishTimeQueueEnabled() ?
+                finishTimeQueue.pollFinished() :
+                getCloudletExecList().stream()
+                    .filter(c -> c.getCloudlet().isFinished())
+                    .collect(Collectors.toList());
 
         for (CloudletExecutionInfo c : finishedCloudlets) {
             removeCloudletFromExecListAndAddToFinishedList(c);
@@ -597,6 +627,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     }
 
     protected void removeCloudletFromExecListAndAddToFinishedList(CloudletExecutionInfo cloudlet) {
+        removeCloudletFromFinishTimeQueue(cloudlet);
         setCloudletFinishTimeAndAddToFinishedList(cloudlet);
         removeCloudletFromExecList(cloudlet);
     }
@@ -609,10 +640,23 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * list.
      */
     protected boolean removeCloudletFromExecList(CloudletExecutionInfo cloudlet) {
+        removeCloudletFromFinishTimeQueue(cloudlet);
         removeUsedPes(cloudlet.getNumberOfPes());
         return cloudletExecList.remove(cloudlet);
     }
 
+    /**
+     * Removes a Cloudlet from the {@link #isFinishTimeQueueEnabled() finish time queue}
+     * (if it's enabled), updating the Cloudlet finished length.
+     *
+     * @param cloudlet the Cloudlet to remove
+     */
+    private void removeCloudletFromFinishTimeQueue(CloudletExecutionInfo cloudlet) {
+        if (isFinishTimeQueueEnabled()) {
+            finishTimeQueue.remove(cloudlet);
+        }
+    }
+
     /**
      * Sets the finish time of a cloudlet and adds it to the
      * finished list.
@@ -632,6 +676,10 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @return the estimated finish time of sooner finishing cloudlet, that represents a future simulation time
      */
     protected double getEstimatedFinishTimeOfSoonerFinishingCloudlet(double currentTime) {
+        if (isFinishTimeQueueEnabled()) {
+            return finishTimeQueue.nextFinishTime(c -> getEstimatedFinishTimeOfCloudlet(c, currentTime));
+        }
+
         return getCloudletExecList()
                 .stream()
                 .mapToDouble(c -> getEstimatedFinishTimeOfCloudlet(c, currentTime))
@@ -787,4 +835,71 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         this.usedPes -= usedPesToRemove;
     }
 
+    /**
+     * Checks if the scheduler keeps the running Cloudlets into a queue ordered by
+     * their predicted finish, instead of updating the processing of every
+     * running Cloudlet at each {@link #updateVmProcessing(double, List) processing update}.
+     *
+     * @return true if the finish time queue is enabled, false otherwise
+     * @see #setFinishTimeQueueEnabled(boolean)
+     */
+    public boolean isFinishTimeQueueEnabled() {
+        return Objects.nonNull(finishTimeQueue);
+    }
+
+    /**
+     * Enables or disables the finish time queue, that keeps the running Cloudlets
+     * ordered by their predicted finish. This way, each
+     * {@link #updateVmProcessing(double, List) processing update} just gets the
+     * next Cloudlet to finish and removes the finished ones from the head of the queue,
+     * instead of updating and checking every running Cloudlet.
+     * It's disabled by default.
+     *
+     * <p>Since every running Cloudlet executes the same number of instructions by PE,
+     * the queue just accounts the instructions executed by PE along the time.
+     * The {@link Cloudlet#getFinishedLengthSoFar() finished length} of a running Cloudlet
+     * is updated lazily: when it finishes, when it's removed from the execution list
+     * or when it's one of the next Cloudlets to finish.
+     * Accordingly, {@link Cloudlet#addOnUpdateCloudletProcessingListener(org.cloudsimplus.listeners.EventListener) processing update listeners}
+     * are notified just at these moments.
+     * The finish time of Cloudlets is the same in both modes.</p>
+     *
+     * <p>The queue is just supported by schedulers which don't change
+     * the way the processing of Cloudlets is updated.</p>
+     *
+     * @param enabled true to enable the finish time queue, false to disable it
+     * @throws UnsupportedOperationException when trying to enable the queue
+     * for a scheduler that doesn't support it
+     * @see #isFinishTimeQueueSupported()
+     */
+    public void setFinishTimeQueueEnabled(boolean enabled) {
+        if (enabled == isFinishTimeQueueEnabled()) {
+            return;
+        }
+
+        if (!enabled) {
+            finishTimeQueue.clear();
+            finishTimeQueue = null;
+            return;
+        }
+
+        if (!isFinishTimeQueueSupported()) {
+            throw new UnsupportedOperationException(getClass().getSimpleName() + " doesn't support the finish time queue.");
+        }
+
+        finishTimeQueue = new CloudletFinishTimeQueue();
+        cloudletExecList.forEach(finishTimeQueue::add);
+    }
+
+    /**
+     * Checks if the scheduler supports the {@link #setFinishTimeQueueEnabled(boolean) finish time queue}.
+     * Schedulers that override the way the processing of Cloudlets is updated
+     * must return false.
+     *
+     * @return true if the finish time queue is supported, false otherwise
+     */
+    protected boolean isFinishTimeQueueSupported() {
+        return true;
+    }
+
 }
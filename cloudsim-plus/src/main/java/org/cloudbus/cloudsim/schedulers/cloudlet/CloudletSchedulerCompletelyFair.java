@@ -35,7 +35,14 @@ import static java.util.stream.Collectors.toList;
  *     <li>Computes process timeslice based on its weight, that in turn is computed based on its niceness.
  *     The timeslice is the amount of time that a process is allowed to use the CPU before be preempted to make
  *     room for other process to run.
- *     The CFS scheduler uses a dynamic defined timeslice.</li>
+ *     The CFS scheduler uses a dynamic defined timeslice.
+ *     The weight sum of running processes is updated as they start or stop running,
+ *     instead of being computed for every timeslice.</li>
+ *     <li>Uses a Red-Black tree (a {@link TreeSet}), as in real implementations of CFS, to ascendingly sort
+ *     Cloudlets in the waiting list (runqueue) based on their virtual runtime
+ *     (placing the Cloudlets that have run the least at the top of the tree).
+ *     Cloudlets having the same virtual runtime are sorted by priority and id,
+ *     so that each Cloudlet has a unique position in the tree.</li>
  * </ul>
  *
  * And it currently <b>DOES NOT</b> implement the following features:
@@ -58,13 +65,6 @@ import static java.util.stream.Collectors.toList;
  *     that can be run), it doesn't matter which PEs are "running" the application.
  *     </li>
  *	   </li>
- *	   <li>It doesn't use a Red-Black tree (such as the TreeSet), as in real implementations of CFS, to accendingly sort
- *	   Cloudlets in the waiting list (runqueue) based on their virtual runtime
- *	   (placing the Cloudlets that have run the least at the top of the tree) because
- *	   the use of such a data structure added some complexity to the implementation. And once different Cloudlets
- *	   may have the same virtual runtime, this introduced some issues when adding or
- *	   removing elements in a structure such as the TreeSet, that requires
- *	   each value (the virtual runtime in this case) used to sort the Set to be unique.</li>
  * </ul>
  *
  * The implementation was based on the book of Robert Love: Linux Kernel Development, 3rd ed. Addison-Wesley, 2010
@@ -92,10 +92,84 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 	 */
 	private int latency = 3; //The default value for linux schedueler is 0.02 s
 
+    /**
+     * @see #getWeightSumOfRunningCloudlets()
+     */
+    private double weightSumOfRunningCloudlets;
+
 	public CloudletSchedulerCompletelyFair(){
 		super();
+		setCloudletWaitingList(new RunQueue());
 	}
 
+    /**
+     * A {@link List} view of the runqueue (the waiting list) that stores Cloudlets into a
+     * Red-Black tree sorted by {@link #waitingCloudletsComparator(CloudletExecutionInfo, CloudletExecutionInfo)}.
+     * Adding or removing a Cloudlet takes O(log n) time and iterating the list
+     * gets Cloudlets starting from the one that has run the least.
+     * Since a Cloudlet is found into the tree by its virtual runtime,
+     * such an attribute must not be changed while the Cloudlet is into the runqueue.
+     * Positional access takes linear time and isn't used by the scheduler.
+     */
+    private static final class RunQueue extends AbstractList<CloudletExecutionInfo> {
+        private final TreeSet<CloudletExecutionInfo> tree =
+            new TreeSet<>(CloudletSchedulerCompletelyFair::waitingCloudletsComparator);
+
+        @Override
+        public boolean add(CloudletExecutionInfo cloudlet) {
+            return tree.add(cloudlet);
+        }
+
+        @Override
+        public boolean remove(Object cloudlet) {
+            return cloudlet instanceof CloudletExecutionInfo && tree.remove(cloudlet);
+        }
+
+        @Override
+        public boolean contains(Object cloudlet) {
+            return cloudlet instanceof CloudletExecutionInfo && tree.contains(cloudlet);
+        }
+
+        @Override
+        public CloudletExecutionInfo get(int index) {
+            if (index < 0 || index >= tree.size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + tree.size());
+            }
+
+            final Iterator<CloudletExecutionInfo> it = tree.iterator();
+            for (int i = 0; i < index; i++) {
+                it.next();
+            }
+
+            return it.next();
+        }
+
+        @Override
+        public Iterator<CloudletExecutionInfo> iterator() {
+            return tree.iterator();
+        }
+
+        @Override
+        public Spliterator<CloudletExecutionInfo> spliterator() {
+            return tree.spliterator();
+        }
+
+        @Override
+        public int size() {
+            return tree.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return tree.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            tree.clear();
+        }
+    }
+
     /**
      * A comparator used to ascendingly sort Cloudlets into the waiting list
      * based on their virtual runtime. By this way, the Cloudlets in the beginning
@@ -108,15 +182,16 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      * @return a negative value if c1 is lower than c2, zero if they are equals,
      * a positive value if c1 is greater than c2
      */
-    private int waitingCloudletsComparator(CloudletExecutionInfo c1, CloudletExecutionInfo c2){
-        double diff = c1.getVirtualRuntime() - c2.getVirtualRuntime();
-
-        if(diff == 0)
-            diff = c1.getCloudlet().getPriority()-c2.getCloudlet().getPriority();
-        if(diff == 0)
-            diff = c1.getCloudletId()-c2.getCloudletId();
-
-        return (int)diff;
+    private static int waitingCloudletsComparator(CloudletExecutionInfo c1, CloudletExecutionInfo c2){
+        int result = Double.compare(c1.getVirtualRuntime(), c2.getVirtualRuntime());
+        if(result == 0)
+            result = Integer.compare(c1.getCloudlet().getPriority(), c2.getCloudlet().getPriority());
+        if(result == 0)
+            result = Integer.compare(c1.getCloudletId(), c2.getCloudletId());
+        if(result == 0)
+            result = Integer.compare(c1.getCloudlet().getBroker().getId(), c2.getCloudlet().getBroker().getId());
+
+        return result;
     }
 
 	/**
@@ -193,7 +268,7 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 
     /**
      * {@inheritDoc}
-     * The cloudlet waiting list (runqueue) is sorted according to the virtual runtime (vruntime),
+     * The cloudlet waiting list (runqueue) is kept sorted according to the virtual runtime (vruntime),
      * which indicates the amount of time the Cloudlet has run.
      * This runtime increases as the Cloudlet executes.
      *
@@ -201,7 +276,6 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      */
     @Override
     protected Optional<CloudletExecutionInfo> findSuitableWaitingCloudletToStartExecutingAndRemoveIt() {
-        getCloudletWaitingList().sort(this::waitingCloudletsComparator);
         return super.findSuitableWaitingCloudletToStartExecutingAndRemoveIt();
     }
 
@@ -251,13 +325,76 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 	}
 
 	/**
-	 * Gets the weight sum of all cloudlets in the executing list.
+	 * Gets the weight sum of all cloudlets in the executing list,
+	 * that is updated as Cloudlets are added to or removed from such a list.
 	 */
 	private double getWeightSumOfRunningCloudlets() {
-		return getCloudletExecList().stream()
+		return weightSumOfRunningCloudlets;
+	}
+
+    /**
+     * Computes the weight sum of all cloudlets in the executing list from scratch.
+     */
+    private void computeWeightSumOfRunningCloudlets() {
+        weightSumOfRunningCloudlets = getCloudletExecList().stream()
             .mapToDouble(this::getCloudletWeight)
             .sum();
-	}
+    }
+
+    @Override
+    protected void addCloudletToExecList(CloudletExecutionInfo cloudlet) {
+        super.addCloudletToExecList(cloudlet);
+        weightSumOfRunningCloudlets += getCloudletWeight(cloudlet);
+    }
+
+    @Override
+    protected boolean removeCloudletFromExecList(CloudletExecutionInfo cloudlet) {
+        if (!super.removeCloudletFromExecList(cloudlet)) {
+            return false;
+        }
+
+        /*Restarts the sum when there is no running Cloudlet,
+        avoiding accumulating floating-point errors.*/
+        if (getCloudletExecList().isEmpty()) {
+            weightSumOfRunningCloudlets = 0;
+        } else {
+            weightSumOfRunningCloudlets -= getCloudletWeight(cloudlet);
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Since a paused Cloudlet is removed from the execution list
+     * without calling {@link #removeCloudletFromExecList(CloudletExecutionInfo)},
+     * the weight sum of running Cloudlets is computed again.
+     *
+     * @param cloudletId {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean cloudletPause(int cloudletId) {
+        final boolean paused = super.cloudletPause(cloudletId);
+        computeWeightSumOfRunningCloudlets();
+        return paused;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Since a canceled Cloudlet is removed from the execution list
+     * without calling {@link #removeCloudletFromExecList(CloudletExecutionInfo)},
+     * the weight sum of running Cloudlets is computed again.
+     *
+     * @param cloudletId {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Cloudlet cloudletCancel(int cloudletId) {
+        final Cloudlet cloudlet = super.cloudletCancel(cloudletId);
+        computeWeightSumOfRunningCloudlets();
+        return cloudlet;
+    }
 
 	/**
 	 * Gets the minimum granularity that is the minimum amount of
@@ -453,9 +590,15 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
         and next Cloudlets on the beginning of this list are moved
         to the execution list, the virtual runtime of these preempted Cloudlets
         is reseted so that they can compete with other waiting Cloudlets to use
-        the processor again.*/
+        the processor again.
+        Since the runqueue is sorted by the virtual runtime, the Cloudlets still
+        into it are removed and added back to be placed at their new position.*/
         for(CloudletExecutionInfo c: preemptedCloudlets) {
+            final boolean waiting = getCloudletWaitingList().remove(c);
             c.setVirtualRuntime(computeCloudletInitialVirtualRuntime(c));
+            if(waiting) {
+                getCloudletWaitingList().add(c);
+            }
         }
     }
 
@@ -505,6 +648,18 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
         return expiredVRuntimeCloudlets;
     }
 
+    /**
+     * {@inheritDoc}
+     * This scheduler has its own way to update the processing of Cloudlets,
+     * thus it doesn't support such a queue.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isFinishTimeQueueSupported() {
+        return false;
+    }
+
 
 }
 
@@ -319,4 +319,16 @@ public class CloudletSchedulerDynamicWorkload extends CloudletSchedulerTimeShare
         this.cacheCurrentRequestedMips = cacheCurrentRequestedMips;
     }
 
+    /**
+     * {@inheritDoc}
+     * This scheduler has its own way to update the processing of Cloudlets,
+     * thus it doesn't support such a queue.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isFinishTimeQueueSupported() {
+        return false;
+    }
+
 }
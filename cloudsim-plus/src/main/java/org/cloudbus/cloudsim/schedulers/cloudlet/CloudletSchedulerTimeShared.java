@@ -112,9 +112,7 @@ public class CloudletSchedulerTimeShared extends CloudletSchedulerAbstract {
 
 	@Override
     public double cloudletResume(int cloudletId) {
-        return getCloudletPausedList().stream()
-                .filter(c -> c.getCloudletId() == cloudletId)
-                .findFirst()
+        return findCloudletInList(cloudletId, getCloudletPausedList())
                 .map(this::movePausedCloudletToExecListAndGetExpectedFinishTime)
                 .orElse(0.0);
     }
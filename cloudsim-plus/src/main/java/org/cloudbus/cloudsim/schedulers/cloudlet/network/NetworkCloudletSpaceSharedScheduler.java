@@ -123,10 +123,12 @@ public class NetworkCloudletSpaceSharedScheduler extends CloudletSchedulerSpaceS
         final List<VmPacket> packetsToSendFromVmOfCloudlet =
                 getListOfPacketsToBeSentFromVm(sourceCloudlet.getVm());
 
-        Log.println(Log.Level.DEBUG, getClass(), sourceCloudlet.getSimulation().clock(),
-                "%d pkts added to be sent from cloudlet %d in VM %d",
-                dataTask.getPacketsToSend().size(), sourceCloudlet.getId(),
-                sourceCloudlet.getVm().getId());
+        if (Log.isEnabled(Log.Level.DEBUG)) {
+            Log.println(Log.Level.DEBUG, getClass(), sourceCloudlet.getSimulation().clock(),
+                    "%d pkts added to be sent from cloudlet %d in VM %d",
+                    dataTask.getPacketsToSend().size(), sourceCloudlet.getId(),
+                    sourceCloudlet.getVm().getId());
+        }
 
         packetsToSendFromVmOfCloudlet.addAll(dataTask.getPacketsToSend(sourceCloudlet.getSimulation().clock()));
 
@@ -157,16 +159,18 @@ public class NetworkCloudletSpaceSharedScheduler extends CloudletSchedulerSpaceS
         final List<VmPacket> receivedPkts = getPacketsSentToGivenTask(task);
         // Asumption: packet will not arrive in the same cycle
         receivedPkts.forEach(task::receivePacket);
-        receivedPkts.forEach(pkt ->
-            Log.println(
-                Log.Level.DEBUG, getClass(), sourceCloudlet.getSimulation().clock(),
-                "Cloudlet %d in VM %d received pkt with %d bytes from Cloudlet %d in VM %d",
-                pkt.getReceiverCloudlet().getId(),
-                pkt.getDestination().getId(),
-                pkt.getSize(),
-                pkt.getSenderCloudlet().getId(),
-                pkt.getSource().getId())
-        );
+        if (Log.isEnabled(Log.Level.DEBUG)) {
+            receivedPkts.forEach(pkt ->
+                Log.println(
+                    Log.Level.DEBUG, getClass(), sourceCloudlet.getSimulation().clock(),
+                    "Cloudlet %d in VM %d received pkt with %d bytes from Cloudlet %d in VM %d",
+                    pkt.getReceiverCloudlet().getId(),
+                    pkt.getDestination().getId(),
+                    pkt.getSize(),
+                    pkt.getSenderCloudlet().getId(),
+                    pkt.getSource().getId())
+            );
+        }
 
 
         /*Removes the received packets from the list of sent packets of the VM,
@@ -262,5 +266,17 @@ public class NetworkCloudletSpaceSharedScheduler extends CloudletSchedulerSpaceS
         return getListOfPacketsSentFromVm(pkt.getSource()).add(pkt);
     }
 
+    /**
+     * {@inheritDoc}
+     * This scheduler has its own way to update the processing of Cloudlets,
+     * thus it doesn't support such a queue.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isFinishTimeQueueSupported() {
+        return false;
+    }
+
 
 }
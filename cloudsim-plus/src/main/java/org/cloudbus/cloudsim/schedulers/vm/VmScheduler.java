@@ -93,6 +93,39 @@ public interface VmScheduler {
      */
     boolean isSuitableForVm(Vm vm);
 
+    /**
+     * Checks if the PM using this scheduler would have enough MIPS capacity
+     * to host a given VM if some MIPS and PEs were released (or used) by other VMs,
+     * without changing any allocation.
+     * It enables checking tentative VM placements before actually placing VMs.
+     *
+     * <p>The default implementation just requires each PE of the VM to request
+     * no more MIPS than the {@link #getPeCapacity() capacity of a Host PE},
+     * the Host to have at least the number of PEs of the VM and the
+     * available MIPS to be enough for the VM.
+     * Schedulers that decide in a different way should override it.</p>
+     *
+     * @param vm the vm to check if there would be enough available resource on the PM to host it
+     * @param releasedMips the amount of MIPS to be released by other VMs (if positive)
+     *                     or used by them (if negative)
+     * @param releasedPes the number of PEs to be released by other VMs (if positive)
+     *                    or used by them (if negative)
+     * @return true, if it would be possible to allocate the VM into the host; false otherwise
+     * @see #isSuitableForVm(Vm)
+     */
+    default boolean isSuitableForVm(Vm vm, double releasedMips, int releasedPes) {
+        final List<Double> requestedMips = vm.getCurrentRequestedMips();
+        double totalRequestedMips = 0;
+        for (double mips : requestedMips) {
+            if (mips > getPeCapacity()) {
+                return false;
+            }
+            totalRequestedMips += mips;
+        }
+
+        return getPeList().size() >= requestedMips.size() && getAvailableMips() + releasedMips >= totalRequestedMips;
+    }
+
     /**
      * Gets the maximum available MIPS among all the host's PEs.
      *
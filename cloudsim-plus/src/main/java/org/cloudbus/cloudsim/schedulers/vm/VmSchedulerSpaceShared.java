@@ -66,6 +66,23 @@ public class VmSchedulerSpaceShared extends VmSchedulerAbstract {
         return !getTotalCapacityToBeAllocatedToVm(vm.getCurrentRequestedMips()).isEmpty();
     }
 
+    /**
+     * {@inheritDoc}
+     * Since it's not known which PEs would be released by other VMs,
+     * each PE of the VM is just required to request no more MIPS than
+     * the {@link #getPeCapacity() capacity of a Host PE} when there are released or used PEs.
+     */
+    @Override
+    public boolean isSuitableForVm(Vm vm, double releasedMips, int releasedPes) {
+        if (releasedPes == 0) {
+            return isSuitableForVm(vm);
+        }
+
+        final List<Double> requestedMips = vm.getCurrentRequestedMips();
+        return getFreePesList().size() + releasedPes >= requestedMips.size() &&
+               requestedMips.stream().allMatch(mips -> mips <= getPeCapacity());
+    }
+
     /**
      * Checks if the requested amount of MIPS is available to be allocated to a VM
      * @param vmRequestedMipsShare a VM's list of requested MIPS
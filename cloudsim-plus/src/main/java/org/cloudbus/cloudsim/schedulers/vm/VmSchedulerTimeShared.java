@@ -95,7 +95,7 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
         //Iterate over the list of MIPS requested by each VM PE
         for (double requestedMipsForVmPe : entry.getValue()) {
             double allocatedMipsForVmPe = allocateMipsFromHostPesToGivenVirtualPe(vm, requestedMipsForVmPe);
-            if(requestedMipsForVmPe > 0.1 && allocatedMipsForVmPe <= 0.1){
+            if(requestedMipsForVmPe > 0.1 && allocatedMipsForVmPe <= 0.1 && Log.isEnabled()){
                 Log.printFormattedLine(
                     "Vm %s is requiring a total of %.0f MIPS for its PE %d but the Host PEs currently don't have such an available MIPS amount. Only %.0f MIPS were allocated.",
                     vm, requestedMipsForVmPe, vmPeId, allocatedMipsForVmPe);
@@ -192,6 +192,11 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
         return getTotalCapacityToBeAllocatedToVm(vm.getCurrentRequestedMips()) > 0.0;
     }
 
+    @Override
+    public boolean isSuitableForVm(Vm vm, double releasedMips, int releasedPes) {
+        return getTotalCapacityToBeAllocatedToVm(vm.getCurrentRequestedMips(), releasedMips) > 0.0;
+    }
+
     /**
      * Checks if the requested amount of MIPS is available to be allocated to a
      * VM
@@ -201,6 +206,20 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
      * allocated to the VM, 0 otherwise.
      */
     protected double getTotalCapacityToBeAllocatedToVm(List<Double> vmRequestedMipsShare) {
+        return getTotalCapacityToBeAllocatedToVm(vmRequestedMipsShare, 0);
+    }
+
+    /**
+     * Checks if the requested amount of MIPS would be available to be allocated to a
+     * VM if some MIPS were released (or used) by other VMs.
+     *
+     * @param vmRequestedMipsShare a VM's list of requested MIPS
+     * @param releasedMips the amount of MIPS to be released by other VMs (if positive)
+     *                     or used by them (if negative)
+     * @return the sum of total requested mips if there would be enough capacity to be
+     * allocated to the VM, 0 otherwise.
+     */
+    private double getTotalCapacityToBeAllocatedToVm(List<Double> vmRequestedMipsShare, double releasedMips) {
         double peMips = getPeCapacity();
         double totalRequestedMips = 0;
         for (Double mips : vmRequestedMipsShare) {
@@ -212,7 +231,7 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
         }
 
         // This scheduler does not allow over-subscription
-        if (getAvailableMips() < totalRequestedMips || getPeList().size() < vmRequestedMipsShare.size()) {
+        if (getAvailableMips() + releasedMips < totalRequestedMips || getPeList().size() < vmRequestedMipsShare.size()) {
             return 0.0;
         }
 
@@ -8,7 +8,10 @@
 
 package org.cloudbus.cloudsim.selectionpolicies.power;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.cloudbus.cloudsim.hosts.power.PowerHost;
@@ -33,6 +36,10 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Toolkit 3.0
  */
 public abstract class PowerVmSelectionPolicy {
+	/**
+	 * @see #getIgnoredVms()
+	 */
+	private Set<? extends Vm> ignoredVms = Collections.emptySet();
 
 	/**
 	 * Gets a VM to migrate from a given host.
@@ -43,14 +50,46 @@ public abstract class PowerVmSelectionPolicy {
 	public abstract Vm getVmToMigrate(PowerHost host);
 
 	/**
-	 * Gets the list of migratable VMs from a given host.
+	 * Gets a VM to migrate from a given host, disregarding some VMs placed into it.
+	 * It enables selecting several VMs from the same Host while migrations are just
+	 * being planned, without removing the already selected VMs from the Host.
+	 *
+	 * @param host the host to get a Vm to migrate from
+	 * @param ignoredVms the VMs that must not be selected, even if they are placed into the Host
+	 * @return the vm to migrate or {@link Vm#NULL} if there is not Vm to migrate
+	 * @see #getIgnoredVms()
+	 */
+	public Vm getVmToMigrate(PowerHost host, Set<? extends Vm> ignoredVms) {
+		final Set<? extends Vm> previousIgnoredVms = this.ignoredVms;
+		this.ignoredVms = Objects.requireNonNull(ignoredVms);
+		try {
+			return getVmToMigrate(host);
+		} finally {
+			this.ignoredVms = previousIgnoredVms;
+		}
+	}
+
+	/**
+	 * Gets the VMs that must not be selected by the current call to
+	 * {@link #getVmToMigrate(PowerHost, Set)}, which are not
+	 * {@link #getMigratableVms(PowerHost) migratable}.
+	 *
+	 * @return the VMs to ignore or an empty set if no VM has to be ignored
+	 */
+	protected Set<? extends Vm> getIgnoredVms() {
+		return ignoredVms;
+	}
+
+	/**
+	 * Gets the list of migratable VMs from a given host,
+	 * which are the ones not in migration and not {@link #getIgnoredVms() ignored}.
 	 *
 	 * @param host the host to get VMs to migrate from
 	 * @return the list of migratable VMs
 	 */
 	protected List<PowerVm> getMigratableVms(PowerHost host) {
         return host.<PowerVm>getVmList().stream()
-            .filter(vm -> !vm.isInMigration())
+            .filter(vm -> !vm.isInMigration() && !ignoredVms.contains(vm))
             .collect(Collectors.toList());
 	}
 
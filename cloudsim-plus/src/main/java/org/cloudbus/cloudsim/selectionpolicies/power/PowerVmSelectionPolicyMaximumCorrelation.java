@@ -63,7 +63,7 @@ public class PowerVmSelectionPolicyMaximumCorrelation extends PowerVmSelectionPo
         try {
             metrics = getCorrelationCoefficients(getUtilizationMatrix(migratableVms));
         } catch (IllegalArgumentException e) { // the degrees of freedom must be greater than zero
-            return getFallbackPolicy().getVmToMigrate(host);
+            return getFallbackPolicy().getVmToMigrate(host, getIgnoredVms());
         }
 
         double maxMetric = Double.MIN_VALUE;
@@ -92,9 +92,9 @@ public class PowerVmSelectionPolicyMaximumCorrelation extends PowerVmSelectionPo
         double[][] utilization = new double[numberVms][minHistorySize];
 
         for (int i = 0; i < numberVms; i++) {
-            List<Double> vmUtilization = vmList.get(i).getUtilizationHistory();
+            final PowerVm vm = vmList.get(i);
             for (int j = 0; j < minHistorySize; j++) {
-                utilization[i][j] = vmUtilization.get(j);
+                utilization[i][j] = vm.getUtilizationHistoryValue(j);
             }
         }
         return utilization;
@@ -0,0 +1,271 @@
+package org.cloudbus.cloudsim.util;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * An {@link OutputStream} that writes data to another stream asynchronously,
+ * to be used as the {@link Log#setOutput(OutputStream) Log output}.
+ * The written bytes are stored into a bounded ring buffer and a background thread
+ * writes them, in batches, to the underlying stream, which is flushed just when
+ * the ring buffer becomes empty. This way, the simulation thread doesn't wait
+ * for the output (such as the console or a file) to be written, unless the
+ * ring buffer is full.
+ *
+ * <p>The stream must be {@link #close() closed} at the end of the simulation
+ * to make sure all data was written.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ */
+public class AsyncLogOutputStream extends OutputStream {
+    /**
+     * The default size of the ring buffer (in bytes).
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * The stream where data is written to by the background thread.
+     */
+    private final OutputStream output;
+
+    /**
+     * The ring buffer storing the bytes yet to be written to the {@link #output}.
+     */
+    private final byte[] ring;
+
+    /**
+     * The total number of bytes written to the {@link #ring} buffer.
+     */
+    private long head;
+
+    /**
+     * The total number of bytes written from the {@link #ring} buffer to the {@link #output}.
+     */
+    private long tail;
+
+    /**
+     * The total number of bytes written to the {@link #output} when it was last flushed.
+     */
+    private long flushedBytes;
+
+    /**
+     * The error thrown when writing to the {@link #output}, or null if no error has happened.
+     */
+    private IOException error;
+
+    /**
+     * Indicates if the stream was closed, so that the {@link #writer} thread
+     * has just to write the remaining bytes before finishing.
+     */
+    private boolean closed;
+
+    /**
+     * The background thread writing the bytes from the {@link #ring} buffer to the {@link #output}.
+     */
+    private final Thread writer;
+
+    /**
+     * Creates a stream that asynchronously writes to a given output stream, using a
+     * ring buffer with {@link #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param output the stream to write data to
+     */
+    public AsyncLogOutputStream(OutputStream output) {
+        this(output, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a stream that asynchronously writes to a given output stream.
+     * The output is wrapped into a {@link BufferedOutputStream} with the same size of the ring buffer.
+     *
+     * @param output the stream to write data to
+     * @param bufferSize the size of the ring buffer (in bytes)
+     */
+    public AsyncLogOutputStream(OutputStream output, int bufferSize) {
+        Objects.requireNonNull(output);
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("The buffer size must be greater than zero.");
+        }
+
+        this.output = new BufferedOutputStream(output, bufferSize);
+        this.ring = new byte[bufferSize];
+        this.writer = new Thread(this::writeBatches, getClass().getSimpleName());
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        while (length > 0) {
+            checkOpen();
+            if (head - tail == ring.length) {
+                await();
+                continue;
+            }
+
+            final int position = (int) (head % ring.length);
+            final int free = (int) (ring.length - (head - tail));
+            final int count = Math.min(length, Math.min(free, ring.length - position));
+            System.arraycopy(bytes, offset, ring, position, count);
+            head += count;
+            offset += count;
+            length -= count;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Waits until all written bytes are written and flushed to the underlying stream.
+     *
+     * @throws IOException if an error happened when writing to the underlying stream
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        final long writtenBytes = head;
+        while (flushedBytes < writtenBytes) {
+            checkOpen();
+            await();
+        }
+
+        checkError();
+    }
+
+    /**
+     * Writes all remaining bytes to the underlying stream, stops the background thread
+     * and closes the underlying stream.
+     *
+     * @throws IOException if an error happened when writing to or closing the underlying stream
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            notifyAll();
+        }
+
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting the log to be written.");
+        }
+
+        output.close();
+        checkError();
+    }
+
+    private void checkOpen() throws IOException {
+        checkError();
+        if (closed) {
+            throw new IOException("The stream is closed.");
+        }
+    }
+
+    private void checkError() throws IOException {
+        if (!Objects.isNull(error)) {
+            throw error;
+        }
+    }
+
+    private void await() throws InterruptedIOException {
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting the log to be written.");
+        }
+    }
+
+    /**
+     * Writes the bytes in the ring buffer to the underlying stream,
+     * until the stream is closed and all bytes were written.
+     * The bytes are written and flushed outside the lock, so that other threads can
+     * keep writing to the free positions of the ring buffer meanwhile.
+     */
+    private void writeBatches() {
+        while (true) {
+            final int position;
+            final int count;
+            synchronized (this) {
+                while (head == tail && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        setError(new InterruptedIOException("The log writer thread was interrupted."));
+                        return;
+                    }
+                }
+
+                if (head == tail) {
+                    return;
+                }
+
+                position = (int) (tail % ring.length);
+                count = (int) Math.min(head - tail, ring.length - position);
+            }
+
+            if (!writeToOutput(position, count)) {
+                return;
+            }
+
+            final long writtenBytes;
+            synchronized (this) {
+                tail += count;
+                writtenBytes = head == tail ? tail : -1;
+                notifyAll();
+            }
+
+            if (writtenBytes >= 0 && !flushOutput(writtenBytes)) {
+                return;
+            }
+        }
+    }
+
+    private boolean writeToOutput(int position, int count) {
+        try {
+            output.write(ring, position, count);
+            return true;
+        } catch (IOException e) {
+            setError(e);
+            return false;
+        }
+    }
+
+    private boolean flushOutput(long writtenBytes) {
+        try {
+            output.flush();
+        } catch (IOException e) {
+            setError(e);
+            return false;
+        }
+
+        synchronized (this) {
+            flushedBytes = writtenBytes;
+            notifyAll();
+        }
+
+        return true;
+    }
+
+    private synchronized void setError(IOException e) {
+        error = e;
+        notifyAll();
+    }
+}
@@ -14,19 +14,23 @@ import java.util.Map;
 /**
  * Measurement of execution times of CloudSim's methods.
  *
+ * <p>Measurements are kept per thread, so that simulations
+ * running concurrently in different threads don't interfere with each other,
+ * even if they measure methods/processes with the same name.</p>
+ *
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 3.0
  */
 public final class ExecutionTimeMeasurer {
 
     /**
-     * A map of execution start times where each key
+     * A map of execution start times for each thread, where each key
      * represents the name of the method/process and each key is the
      * time the method/process started (in milliseconds).
      * Usually, this name is the method/process name, making
      * it easy to identify the execution start times into the map.
      */
-    private static final Map<String, Long> executionStartTimes = new HashMap<>();
+    private static final ThreadLocal<Map<String, Long>> executionStartTimes = ThreadLocal.withInitial(HashMap::new);
 
     /**
      * Starts measuring the execution time of a method/process.
@@ -54,13 +58,13 @@ public final class ExecutionTimeMeasurer {
     }
 
     /**
-     * Gets map the execution times.
+     * Gets map the execution times of the methods/processes being measured by the current thread.
      *
      * @return the execution times map
      * @see #executionStartTimes
      */
     public static Map<String, Long> getExecutionStartTimes() {
-        return executionStartTimes;
+        return executionStartTimes.get();
     }
 
     /**
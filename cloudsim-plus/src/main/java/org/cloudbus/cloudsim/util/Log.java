@@ -11,11 +11,24 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.management.ManagementFactory;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Logger used for performing logging of the simulation process. It provides the
  * ability to substitute the output stream by any OutputStream subclass.
  *
+ * <p>Messages are just built when the logger is enabled: formatted messages
+ * aren't formatted and {@link Supplier}s of messages aren't called
+ * when the logger is disabled. To avoid blocking the simulation on slow outputs,
+ * such as the console, the output stream can be set to an {@link AsyncLogOutputStream}.</p>
+ *
+ * <p>The output stream and the disabled flag are stored into the {@link #getContext() logging context}
+ * of the current thread. While a {@link org.cloudbus.cloudsim.core.Simulation} is running,
+ * the context used is the one of that simulation, so that concurrent simulations
+ * have independent settings. Otherwise, a default context of the current thread is used.
+ * Since each thread has its own default context, changing the settings
+ * outside a simulation just affects the thread which has changed them.</p>
+ *
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 2.0
  */
@@ -40,20 +53,25 @@ public final class Log {
     private static final String LINE_SEPARATOR = System.getProperty("line.separator");
 
     /**
-     * The stream where the log will the outputted.
+     * The root of all logging contexts, which writes to {@link System#out} and is enabled.
+     * It is never returned by {@link #getContext()}, thus its settings can't be changed.
      */
-    private static OutputStream output;
+    private static final LogContext ROOT_CONTEXT = new LogContext(null);
 
     /**
-     * Indicates if the logger is disabled or not. If set to true, the call for
-     * any print method has no effect.
+     * The logging context used by the current thread when it isn't
+     * {@link #runInContext(LogContext, Supplier) running in a specific context}.
+     * Each thread has its own default context inheriting the settings of the {@link #ROOT_CONTEXT},
+     * so that changing the settings in a thread doesn't affect the others.
      */
-    private static boolean disabled;
+    private static final ThreadLocal<LogContext> defaultContext =
+        ThreadLocal.withInitial(() -> new LogContext(ROOT_CONTEXT));
 
     /**
-     * Buffer to avoid creating new string builder upon every print.
+     * The logging context set for the current thread, or null if the
+     * {@link #defaultContext} has to be used.
      */
-    private static StringBuilder buffer = new StringBuilder();
+    private static final ThreadLocal<LogContext> context = new ThreadLocal<>();
 
     /**
      * Checks if application is running in debug mode.
@@ -69,16 +87,16 @@ public final class Log {
 
     /**
      * Prints a message.
+     * If the current thread is {@link SideEffectBuffer#isRecording() recording side effects},
+     * the message is just written to the output when such side effects are replayed.
      *
      * @param message the message
      */
     public static void print(String message) {
-        if (isEnabled()) {
-            try {
-                getOutput().write(message.getBytes());
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+        final LogContext context = getContext();
+        if (context.isEnabled()) {
+            final byte[] bytes = message.getBytes();
+            SideEffectBuffer.run(() -> context.write(bytes));
         }
     }
 
@@ -91,6 +109,17 @@ public final class Log {
         print(String.valueOf(message));
     }
 
+    /**
+     * Prints a message which is just built if the logger {@link #isEnabled() is enabled}.
+     *
+     * @param message a {@link Supplier} that builds the message
+     */
+    public static void print(Supplier<?> message) {
+        if (isEnabled()) {
+            print(String.valueOf(message.get()));
+        }
+    }
+
     /**
      * Prints a message and a new line.
      *
@@ -116,6 +145,17 @@ public final class Log {
         printLine(String.valueOf(message));
     }
 
+    /**
+     * Prints a message, which is just built if the logger {@link #isEnabled() is enabled}, and a new line.
+     *
+     * @param message a {@link Supplier} that builds the message
+     */
+    public static void printLine(Supplier<?> message) {
+        if (isEnabled()) {
+            printLine(String.valueOf(message.get()));
+        }
+    }
+
     /**
      * Prints the concatenated text representation of the arguments.
      *
@@ -123,7 +163,7 @@ public final class Log {
      */
     public static void printConcat(Object... messages) {
         if (isEnabled()) {
-            buffer = new StringBuilder(messages.length);
+            final StringBuilder buffer = new StringBuilder(messages.length);
             for (Object message : messages) {
                 buffer.append(String.valueOf(message));
             }
@@ -139,7 +179,7 @@ public final class Log {
      */
     public static void printConcatLine(Object... messages) {
         if (isEnabled()) {
-            buffer = new StringBuilder(messages.length);
+            final StringBuilder buffer = new StringBuilder(messages.length);
             for (Object message : messages) {
                 buffer.append(String.valueOf(message));
             }
@@ -149,23 +189,29 @@ public final class Log {
 
     /**
      * Prints a string formated as in String.printFormatted().
+     * The string is just formatted if the logger {@link #isEnabled() is enabled}.
      *
      * @param format the printFormatted
      * @param args the args
      */
     public static void printFormatted(String format, Object... args) {
-        print(String.format(format, args));
+        if (isEnabled()) {
+            print(String.format(format, args));
+        }
     }
 
     /**
      * Prints a string formated as in String.printFormatted(), followed by a new
      * line.
+     * The string is just formatted if the logger {@link #isEnabled() is enabled}.
      *
      * @param format the printFormatted
      * @param args the args
      */
     public static void printFormattedLine(String format, Object... args) {
-        printLine(String.format(format, args));
+        if (isEnabled()) {
+            printLine(String.format(format, args));
+        }
     }
 
     /**
@@ -181,58 +227,130 @@ public final class Log {
      * @param args the args
      */
     public static void println(Level level, Class klass, double time, String format, Object... args) {
-        if((level == Level.DEBUG && isDebug()) || (level != Level.DEBUG)){
+        if(isEnabled(level)){
             String msg = String.format(format, args);
             printFormattedLine("Time %.1f %s/%s\n   %s", time, level.name(), klass.getSimpleName(), msg);
         }
     }
 
     /**
-     * Sets the output stream.
+     * Gets the logging context used by the current thread, which stores
+     * the output stream and the disabled flag.
+     *
+     * @return the logging context of the current thread
+     * @see #runInContext(LogContext, Supplier)
+     */
+    public static LogContext getContext() {
+        final LogContext current = context.get();
+        return Objects.isNull(current) ? defaultContext.get() : current;
+    }
+
+    /**
+     * Executes a task in the current thread using a given logging context.
+     * After the task finishes, the previous context of the thread is restored.
+     *
+     * @param context the logging context to use
+     * @param task the task to execute
+     * @param <T> the type of the value returned by the task
+     * @return the value returned by the task
+     */
+    public static <T> T runInContext(LogContext context, Supplier<T> task) {
+        Objects.requireNonNull(context);
+        final LogContext previous = Log.context.get();
+        Log.context.set(context);
+        try {
+            return task.get();
+        } finally {
+            if (Objects.isNull(previous)) {
+                Log.context.remove();
+            } else {
+                Log.context.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Executes a task that doesn't return a value in the current thread using a given logging context.
+     * After the task finishes, the previous context of the thread is restored.
+     *
+     * @param context the logging context to use
+     * @param task the task to execute
+     * @see #runInContext(LogContext, Supplier)
+     */
+    public static void runInContext(LogContext context, Runnable task) {
+        runInContext(context, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Sets the output stream of the {@link #getContext() current logging context}.
      *
      * @param newOutput the new output
      */
     public static void setOutput(OutputStream newOutput) {
-        output = newOutput;
+        getContext().setOutput(newOutput);
     }
 
     /**
-     * Gets the output stream.
+     * Gets the output stream of the {@link #getContext() current logging context}.
      *
      * @return the output
      */
     public static OutputStream getOutput() {
-        if (Objects.isNull(output)) {
-            setOutput(System.out);
-        }
-        return output;
+        return getContext().getOutput();
     }
 
     /**
-     * Sets the disable output flag.
+     * Sets the disable output flag of the {@link #getContext() current logging context}.
      *
      * @param _disabled the new disabled
      */
     public static void setDisabled(boolean _disabled) {
-        disabled = _disabled;
+        getContext().setDisabled(_disabled);
     }
 
     /**
-     * Checks if the output is disabled.
+     * Checks if the output of the {@link #getContext() current logging context} is disabled.
      *
      * @return true, if it is disable
      */
     public static boolean isDisabled() {
-        return disabled;
+        return getContext().isDisabled();
     }
 
     /**
-     * Checks if the output is enabled.
+     * Checks if the output of the {@link #getContext() current logging context} is enabled.
      *
      * @return true, if it is enable
      */
     public static boolean isEnabled() {
-        return !disabled;
+        return getContext().isEnabled();
+    }
+
+    /**
+     * Checks if messages of a given level are printed,
+     * that is, if the output is enabled and, for {@link Level#DEBUG} messages,
+     * if the application {@link #isDebug() is running in debug mode}.
+     *
+     * @param level the level of the messages
+     * @return true if messages of the given level are printed, false otherwise
+     */
+    public static boolean isEnabled(Level level) {
+        return isEnabled() && (level != Level.DEBUG || isDebug());
+    }
+
+    /**
+     * Flushes the output stream, making sure that all printed messages
+     * were written, even if the output is an {@link AsyncLogOutputStream}.
+     */
+    public static void flush() {
+        try {
+            getOutput().flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
     }
 
     /**
@@ -0,0 +1,141 @@
+package org.cloudbus.cloudsim.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * Stores the logging settings, namely the output stream and the disabled flag,
+ * used by the {@link Log} methods called from a given thread.
+ * Each {@link org.cloudbus.cloudsim.core.Simulation} has its own context,
+ * which is used while the simulation {@link org.cloudbus.cloudsim.core.Simulation#start() is running},
+ * so that multiple simulations can be executed concurrently in the same JVM,
+ * each one writing to its own output.
+ *
+ * <p>A context inherits the settings that weren't changed for it
+ * from the parent context, which is the one {@link Log#getContext() used by the current thread}
+ * when the context is created. That is, the logging settings of a simulation are the same
+ * of the code that has created it, unless they are changed in the simulation context.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ * @see Log#runInContext(LogContext, java.util.function.Supplier)
+ */
+public class LogContext {
+    /**
+     * The context the settings not set in this one are got from,
+     * or null if this is the root context.
+     */
+    private final LogContext parent;
+
+    /**
+     * @see #getOutput()
+     */
+    private OutputStream output;
+
+    /**
+     * Indicates if the output is disabled or null
+     * if the setting must be got from the {@link #parent} context.
+     * @see #isDisabled()
+     */
+    private Boolean disabled;
+
+    /**
+     * Creates a logging context inheriting the settings from the
+     * context {@link Log#getContext() used by the current thread}.
+     */
+    public LogContext() {
+        this(Log.getContext());
+    }
+
+    /**
+     * Creates a logging context inheriting the settings from a given context.
+     *
+     * @param parent the parent context or null to create a root context,
+     *               which writes to {@link System#out} and is enabled by default
+     */
+    LogContext(LogContext parent) {
+        this.parent = parent;
+        if (Objects.isNull(parent)) {
+            this.disabled = false;
+        }
+    }
+
+    /**
+     * Gets the output stream, which is the one from the parent context
+     * if it wasn't set for this context.
+     *
+     * @return the output stream
+     */
+    public OutputStream getOutput() {
+        if (!Objects.isNull(output)) {
+            return output;
+        }
+
+        return Objects.isNull(parent) ? System.out : parent.getOutput();
+    }
+
+    /**
+     * Sets the output stream.
+     *
+     * @param output the new output or null to use the output of the parent context
+     */
+    public void setOutput(OutputStream output) {
+        this.output = output;
+    }
+
+    /**
+     * Checks if the output is disabled, which is the setting from the parent context
+     * if it wasn't set for this context.
+     *
+     * @return true, if it is disabled
+     */
+    public boolean isDisabled() {
+        return Objects.isNull(disabled) ? parent.isDisabled() : disabled;
+    }
+
+    /**
+     * Checks if the output is enabled.
+     *
+     * @return true, if it is enabled
+     */
+    public boolean isEnabled() {
+        return !isDisabled();
+    }
+
+    /**
+     * Sets the disable output flag.
+     *
+     * @param disabled the new disabled flag
+     */
+    public void setDisabled(boolean disabled) {
+        this.disabled = disabled;
+    }
+
+    /**
+     * Disables the output.
+     */
+    public void disable() {
+        setDisabled(true);
+    }
+
+    /**
+     * Enables the output.
+     */
+    public void enable() {
+        setDisabled(false);
+    }
+
+    /**
+     * Writes bytes to the output stream.
+     *
+     * @param bytes the bytes to write
+     */
+    void write(byte[] bytes) {
+        try {
+            getOutput().write(bytes);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.cloudbus.cloudsim.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.cloudsimplus.listeners.EventInfo;
+import org.cloudsimplus.listeners.EventListener;
+
+/**
+ * Enables recording, instead of performing, the side effects
+ * (such as {@link Log} messages and {@link EventListener} notifications)
+ * of a task executed by the current thread, so that they can be replayed later.
+ *
+ * <p>It is used to process objects such as Hosts in parallel,
+ * while their side effects are replayed in the same order they would happen
+ * if the objects were processed sequentially.
+ * When the current thread is not {@link #record(Runnable) recording},
+ * side effects are performed immediately.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ */
+public final class SideEffectBuffer {
+    /**
+     * The side effects recorded by the current thread,
+     * or null if it isn't recording.
+     */
+    private static final ThreadLocal<List<Runnable>> recorded = new ThreadLocal<>();
+
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private SideEffectBuffer(){}
+
+    /**
+     * Executes a task in the current thread, recording its side effects.
+     *
+     * @param task the task to execute
+     * @return the list of side effects performed by the task, in the order they happened
+     * @see #replay(List)
+     */
+    public static List<Runnable> record(final Runnable task) {
+        final List<Runnable> previous = recorded.get();
+        final List<Runnable> sideEffects = new ArrayList<>();
+        recorded.set(sideEffects);
+        try {
+            task.run();
+        } finally {
+            if (Objects.isNull(previous)) {
+                recorded.remove();
+            } else {
+                recorded.set(previous);
+            }
+        }
+
+        return sideEffects.isEmpty() ? Collections.emptyList() : sideEffects;
+    }
+
+    /**
+     * Performs a list of side effects previously {@link #record(Runnable) recorded}.
+     *
+     * @param sideEffects the side effects to perform
+     */
+    public static void replay(final List<Runnable> sideEffects) {
+        sideEffects.forEach(Runnable::run);
+    }
+
+    /**
+     * Checks if the current thread is recording side effects.
+     *
+     * @return true if the current thread is recording, false otherwise
+     */
+    public static boolean isRecording() {
+        return !Objects.isNull(recorded.get());
+    }
+
+    /**
+     * Performs a side effect or records it if the current thread {@link #isRecording() is recording}.
+     *
+     * @param sideEffect the side effect to perform
+     */
+    public static void run(final Runnable sideEffect) {
+        final List<Runnable> sideEffects = recorded.get();
+        if (Objects.isNull(sideEffects)) {
+            sideEffect.run();
+        } else {
+            sideEffects.add(sideEffect);
+        }
+    }
+
+    /**
+     * Notifies a listener or records such a notification if the current thread
+     * {@link #isRecording() is recording}.
+     *
+     * @param listener the listener to notify
+     * @param info the information about the event to send to the listener
+     * @param <T> the type of the event information
+     */
+    public static <T extends EventInfo> void notify(final EventListener<T> listener, final T info) {
+        final List<Runnable> sideEffects = recorded.get();
+        if (Objects.isNull(sideEffects)) {
+            listener.update(info);
+        } else {
+            sideEffects.add(() -> listener.update(info));
+        }
+    }
+}
@@ -14,10 +14,15 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -144,9 +149,9 @@ public class WorkloadFileReader implements WorkloadModel {
     private final int IRRELEVANT = -1;
 
     /**
-     * A temp array storing all the fields read from a line of the trace file.
+     * @see #isSubmissionDelayEnabled()
      */
-    private String[] fieldArray = null;
+    private boolean submissionDelayEnabled;
 
     /**
      * @see #getMaxNumberOfLinesToRead()
@@ -190,9 +195,6 @@ public class WorkloadFileReader implements WorkloadModel {
     @Override
     public List<Cloudlet> generateWorkload() throws IOException {
         if (jobs.isEmpty()) {
-            // create a temp array
-            fieldArray = new String[MAX_FIELD];
-
                 /*@todo It would be implemented
                 using specific classes to avoid using ifs.
                 If a new format is included, the code has to be
@@ -302,8 +304,7 @@ public class WorkloadFileReader implements WorkloadModel {
     }
 
     /**
-     * Creates a Cloudlet with the given information and adds to the list of
-     * {@link #jobs}.
+     * Creates a Cloudlet with the given information.
      *
      * @param id         a Cloudlet ID
      * @param submitTime Cloudlet's submit time
@@ -313,14 +314,16 @@ public class WorkloadFileReader implements WorkloadModel {
      * @param numProc    number of Cloudlet's PEs
      * @param userID     user id
      * @param groupID    user's group id
+     * @return the created Cloudlet
      * @pre id >= 0
      * @pre submitTime >= 0
      * @pre runTime >= 0
      * @pre numProc > 0
      * @post $none
      * @see #rating
+     * @see #isSubmissionDelayEnabled()
      */
-    private void createJob(
+    private Cloudlet createJob(
         final int id,
         final long submitTime,
         final int runTime,
@@ -333,126 +336,25 @@ public class WorkloadFileReader implements WorkloadModel {
             .setFileSize(DataCloudTags.DEFAULT_MTU)
             .setOutputSize(DataCloudTags.DEFAULT_MTU)
             .setUtilizationModel(utilizationModel);
-        jobs.add(cloudlet);
-    }
-
-    /**
-     * Extracts relevant information from a given array of fields, representing
-     * a line from the trace file, and creates a cloudlet using this
-     * information.
-     *
-     * @param array the array of fields generated from a line of the trace file.
-     * @param line  the line number
-     * @pre array != null
-     * @pre line > 0
-     */
-    private void createCloudletFromOneTraceFileLine(final String[] array, final int line) {
-        Integer obj;
-
-        // get the job number
-        int id;
-        if (JOB_NUM == IRRELEVANT) {
-            id = jobs.size() + 1;
-        } else {
-            obj = new Integer(array[JOB_NUM].trim());
-            id = obj;
-        }
-
-        // get the submit time
-        final Long l = new Long(array[SUBMIT_TIME].trim());
-        final long submitTime = l.intValue();
-
-        // get the user estimated run time
-        obj = new Integer(array[REQ_RUN_TIME].trim());
-        final int reqRunTime = obj;
-
-        // if the required run time field is ignored, then use
-        // the actual run time
-        obj = new Integer(array[RUN_TIME].trim());
-        int runTime = obj;
-
-        final int userID = new Integer(array[USER_ID].trim());
-        final int groupID = new Integer(array[GROUP_ID].trim());
-
-        // according to the SWF manual, runtime of 0 is possible due
-        // to rounding down. E.g. runtime is 0.4 seconds -> runtime = 0
-        if (runTime <= 0) {
-            runTime = 1; // change to 1 second
-        }
-
-        // get the number of allocated processors
-        obj = new Integer(array[REQ_NUM_PROC].trim());
-        int numProc = obj;
-
-        // if the required num of allocated processors field is ignored
-        // or zero, then use the actual field
-        if (numProc == IRRELEVANT || numProc == 0) {
-            obj = new Integer(array[NUM_PROC].trim());
-            numProc = obj;
-        }
-
-        // finally, check if the num of PEs required is valid or not
-        if (numProc <= 0) {
-            numProc = 1;
-        }
-        createJob(id, submitTime, runTime, numProc, userID, groupID);
-    }
-
-    /**
-     * Breaks a line from the trace file into many fields into the
-     * {@link #fieldArray}.
-     *
-     * @param line    a line from the trace file
-     * @param lineNum the line number
-     * @return true if the line was parsed, false otherwise
-     * @pre line != null
-     * @pre lineNum > 0
-     * @post $none
-     */
-    private boolean parseValue(final String line, final int lineNum) {
-        // skip a comment line
-        if (line.startsWith(COMMENT)) {
-            return false;
+        if (submissionDelayEnabled) {
+            cloudlet.setSubmissionDelay(submitTime);
         }
 
-        final String[] sp = line.split("\\s+"); // split the fields based on a
-        // space
-        int index = 0; // the index of an array
-
-        // check for each field in the array
-        for (String elem : sp) {
-
-            // if it is empty then ignore
-            if (elem.length() == 0) {
-                continue;
-            }
-            fieldArray[index] = elem;
-            index++;
-        }
-
-        if (index == MAX_FIELD) {
-            createCloudletFromOneTraceFileLine(fieldArray, lineNum);
-        }
-
-        return true;
+        return cloudlet;
     }
 
     /**
      * Reads traces from a InputStream to a workload file
-     * in any supported format.
+     * in any supported format, adding the created Cloudlets to the {@link #jobs} list.
      *
      * @param inputStream the stream that is able to read data from a workload file
-     * @return <code>true</code> if successful, <code>false</code> otherwise.
      * @throws IOException           if the there was any error reading the file
      */
     private void readFile(final InputStream inputStream) throws IOException {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-            int line = 1;
-            String readLine;
-            while ((readLine = readNextLine(reader, line)) != null) {
-                parseValue(readLine, line);
-                line++;
-            }
+        try (SwfParser parser = new SwfParser(inputStream, jobs.size())) {
+            parser.forEachRemaining(jobs::add);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
     }
 
@@ -498,22 +400,6 @@ public class WorkloadFileReader implements WorkloadModel {
         }
     }
 
-    /**
-     * Reads the next line of the workload file.
-     *
-     * @param reader     the object that is reading the workload file
-     * @param lineNumber the number of the line that that will be read from the workload file
-     * @return the line read; or null if there isn't any more lines to read or if
-     * the number of lines read reached the {@link #getMaxNumberOfLinesToRead()}
-     */
-    private String readNextLine(BufferedReader reader, int lineNumber) throws IOException {
-        if (reader.ready() && (maxNumberOfLinesToRead == -1 || lineNumber <= maxNumberOfLinesToRead)) {
-            return reader.readLine();
-        }
-
-        return null;
-    }
-
     /**
      * Gets the maximum number of lines of the workload file that will be read.
      * The value -1 indicates that all lines will be read, creating
@@ -535,4 +421,479 @@ public class WorkloadFileReader implements WorkloadModel {
     public void setMaxNumberOfLinesToRead(int maxNumberOfLinesToRead) {
         this.maxNumberOfLinesToRead = maxNumberOfLinesToRead;
     }
+
+    /**
+     * Checks if the submit time of each job read from the trace file is set as the
+     * {@link Cloudlet#getSubmissionDelay() submission delay} of the created Cloudlet,
+     * so that jobs are submitted at the time they were submitted in the trace.
+     * By default, the submit time is ignored.
+     *
+     * @return true if the submit time is set as the Cloudlet submission delay, false otherwise
+     */
+    public boolean isSubmissionDelayEnabled() {
+        return submissionDelayEnabled;
+    }
+
+    /**
+     * Sets if the submit time of each job read from the trace file has to be set as the
+     * {@link Cloudlet#getSubmissionDelay() submission delay} of the created Cloudlet,
+     * so that jobs are submitted at the time they were submitted in the trace.
+     *
+     * @param submissionDelayEnabled true to set the submit time as the Cloudlet submission delay, false to ignore it
+     */
+    public void setSubmissionDelayEnabled(boolean submissionDelayEnabled) {
+        this.submissionDelayEnabled = submissionDelayEnabled;
+    }
+
+    /**
+     * Creates an iterator that reads the trace file as Cloudlets are requested,
+     * creating one Cloudlet at a time.
+     * Differently from {@link #generateWorkload()}, the Cloudlets aren't
+     * stored into a list, thus traces of any size can be read without
+     * requiring much memory.
+     * The Cloudlets created are the same ones returned by {@link #generateWorkload()}.
+     *
+     * @return an iterator over the Cloudlets created from the trace file
+     * @throws IOException if the trace file could not be opened
+     */
+    @Override
+    public WorkloadIterator workloadIterator() throws IOException {
+        return new SwfParser(file, 0);
+    }
+
+    /**
+     * Creates an iterator that reads the trace file in a background thread,
+     * which decompresses and parses the file while the Cloudlets
+     * are requested. Created Cloudlets are stored into a bounded queue
+     * until they are requested, then the background thread waits if the queue is full.
+     * This way, the time spent reading compressed (zip or gz) files
+     * doesn't delay the simulation, which gets Cloudlets as the simulation time advances.
+     *
+     * <p>The iterator must be {@link WorkloadIterator#close() closed} if it isn't iterated until the end,
+     * otherwise the background thread keeps waiting for space in the queue.</p>
+     *
+     * @param queueCapacity the maximum number of created Cloudlets waiting to be requested
+     * @return an iterator over the Cloudlets created from the trace file
+     * @throws IOException if the trace file could not be opened
+     * @see #workloadIterator()
+     */
+    public WorkloadIterator workloadIterator(final int queueCapacity) throws IOException {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be greater than zero.");
+        }
+
+        return new BackgroundWorkloadIterator(new SwfParser(file, 0), queueCapacity);
+    }
+
+    /**
+     * Reads the lines of one or more trace files as Cloudlets are requested,
+     * creating a Cloudlet for each line which isn't a comment and has {@link #MAX_FIELD} fields.
+     * Instead of splitting lines using regular expressions,
+     * it just finds the position of each field into the line and parses the required ones
+     * directly from there.
+     */
+    private final class SwfParser implements WorkloadIterator {
+        /**
+         * The zip file being read or null if the trace file isn't a zip file.
+         */
+        private final ZipFile zipFile;
+
+        /**
+         * The entries of the {@link #zipFile} yet to be read.
+         */
+        private final Enumeration<? extends ZipEntry> zipEntries;
+
+        /**
+         * The reader of the trace file currently being read or null if all trace files were read.
+         */
+        private BufferedReader reader;
+
+        /**
+         * The number of the next line to be read from the current trace file.
+         */
+        private int lineNumber;
+
+        /**
+         * The number of Cloudlets created up to now, used to generate Cloudlet IDs
+         * when they aren't read from the trace file.
+         */
+        private int createdCloudlets;
+
+        /**
+         * The position where each field of the last read line starts.
+         */
+        private final int[] fieldStart = new int[MAX_FIELD];
+
+        /**
+         * The position right after the end of each field of the last read line.
+         */
+        private final int[] fieldEnd = new int[MAX_FIELD];
+
+        /**
+         * The next Cloudlet to be returned or null if it wasn't created yet.
+         */
+        private Cloudlet next;
+
+        /**
+         * Creates a parser for a trace file in any supported format.
+         *
+         * @param file the trace file
+         * @param createdCloudlets the number of Cloudlets already created
+         * @throws IOException if the file could not be opened
+         */
+        SwfParser(final File file, final int createdCloudlets) throws IOException {
+            this.createdCloudlets = createdCloudlets;
+            if (file.getName().endsWith(".zip")) {
+                zipFile = new ZipFile(file);
+                zipEntries = zipFile.entries();
+                openNextZipEntry();
+            } else {
+                zipFile = null;
+                zipEntries = Collections.emptyEnumeration();
+                final InputStream inputStream = new FileInputStream(file);
+                try {
+                    open(file.getName().endsWith(".gz") ? new GZIPInputStream(inputStream) : inputStream);
+                } catch (IOException e) {
+                    inputStream.close();
+                    throw e;
+                }
+            }
+        }
+
+        /**
+         * Creates a parser for a single trace file.
+         *
+         * @param inputStream the stream that is able to read data from the trace file
+         * @param createdCloudlets the number of Cloudlets already created
+         */
+        SwfParser(final InputStream inputStream, final int createdCloudlets) {
+            this.zipFile = null;
+            this.zipEntries = Collections.emptyEnumeration();
+            this.createdCloudlets = createdCloudlets;
+            open(inputStream);
+        }
+
+        private void open(final InputStream inputStream) {
+            reader = new BufferedReader(new InputStreamReader(inputStream));
+            lineNumber = 1;
+        }
+
+        private void openNextZipEntry() throws IOException {
+            if (zipEntries.hasMoreElements()) {
+                open(zipFile.getInputStream(zipEntries.nextElement()));
+            } else {
+                reader = null;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (Objects.isNull(next)) {
+                try {
+                    next = readNextCloudlet();
+                } catch (IOException e) {
+                    close();
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            return !Objects.isNull(next);
+        }
+
+        @Override
+        public Cloudlet next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Cloudlet cloudlet = next;
+            next = null;
+            return cloudlet;
+        }
+
+        /**
+         * Reads lines from the trace files until a Cloudlet is created from one of them.
+         *
+         * @return the created Cloudlet or null if there aren't more lines to read
+         * @throws IOException if the there was any error reading the file
+         */
+        private Cloudlet readNextCloudlet() throws IOException {
+            while (!Objects.isNull(reader)) {
+                final String line = readNextLine();
+                if (Objects.isNull(line)) {
+                    reader.close();
+                    openNextZipEntry();
+                    if (Objects.isNull(reader)) {
+                        close();
+                    }
+                } else if (!line.startsWith(COMMENT) && findFields(line) == MAX_FIELD) {
+                    return createCloudlet(line);
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Reads the next line of the current trace file.
+         *
+         * @return the line read; or null if there isn't any more lines to read or if
+         * the number of lines read reached the {@link #getMaxNumberOfLinesToRead()}
+         */
+        private String readNextLine() throws IOException {
+            if (reader.ready() && (maxNumberOfLinesToRead == -1 || lineNumber <= maxNumberOfLinesToRead)) {
+                lineNumber++;
+                return reader.readLine();
+            }
+
+            return null;
+        }
+
+        /**
+         * Finds the position of the fields into a line, which are separated by white spaces.
+         *
+         * @param line the line to find the fields
+         * @return the number of fields found, up to {@link #MAX_FIELD} + 1
+         */
+        private int findFields(final String line) {
+            int fields = 0;
+            int i = 0;
+            final int length = line.length();
+            while (i < length) {
+                while (i < length && isWhitespace(line.charAt(i))) {
+                    i++;
+                }
+
+                if (i == length) {
+                    break;
+                }
+
+                if (fields == MAX_FIELD) {
+                    return fields + 1;
+                }
+
+                fieldStart[fields] = i;
+                while (i < length && !isWhitespace(line.charAt(i))) {
+                    i++;
+                }
+
+                fieldEnd[fields++] = i;
+            }
+
+            return fields;
+        }
+
+        /**
+         * Checks if a char is one of the white spaces matched by the "\\s" regular expression.
+         *
+         * @param c the char to check
+         * @return true if the char is a white space, false otherwise
+         */
+        private boolean isWhitespace(final char c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+        }
+
+        /**
+         * Creates a Cloudlet from the fields found into a line of the trace file.
+         *
+         * @param line the line of the trace file
+         * @return the created Cloudlet
+         */
+        private Cloudlet createCloudlet(final String line) {
+            // get the job number
+            final int id = JOB_NUM == IRRELEVANT ? createdCloudlets + 1 : parseInt(line, JOB_NUM);
+
+            // get the submit time
+            final long submitTime = (int) parseLong(line, SUBMIT_TIME);
+
+            // validates the user estimated run time, even if it's not used
+            parseInt(line, REQ_RUN_TIME);
+
+            int runTime = parseInt(line, RUN_TIME);
+            final int userID = parseInt(line, USER_ID);
+            final int groupID = parseInt(line, GROUP_ID);
+
+            // according to the SWF manual, runtime of 0 is possible due
+            // to rounding down. E.g. runtime is 0.4 seconds -> runtime = 0
+            if (runTime <= 0) {
+                runTime = 1; // change to 1 second
+            }
+
+            // get the number of allocated processors
+            int numProc = parseInt(line, REQ_NUM_PROC);
+
+            // if the required num of allocated processors field is ignored
+            // or zero, then use the actual field
+            if (numProc == IRRELEVANT || numProc == 0) {
+                numProc = parseInt(line, NUM_PROC);
+            }
+
+            // finally, check if the num of PEs required is valid or not
+            if (numProc <= 0) {
+                numProc = 1;
+            }
+
+            createdCloudlets++;
+            return createJob(id, submitTime, runTime, numProc, userID, groupID);
+        }
+
+        private int parseInt(final String line, final int field) {
+            final long value = parseLong(line, field);
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw new NumberFormatException(getInvalidNumberMessage(line, field));
+            }
+
+            return (int) value;
+        }
+
+        /**
+         * Parses a field of a line as a decimal integer number,
+         * without creating a String for it.
+         *
+         * @param line the line of the trace file
+         * @param field the index of the field to parse
+         * @return the field value
+         * @throws NumberFormatException if the field isn't a valid long value
+         */
+        private long parseLong(final String line, final int field) {
+            int i = fieldStart[field];
+            final int end = fieldEnd[field];
+            final boolean negative = line.charAt(i) == '-';
+            if (negative || line.charAt(i) == '+') {
+                i++;
+            }
+
+            if (i == end || end - i > 18) {
+                return slowParseLong(line, field);
+            }
+
+            long value = 0;
+            for (; i < end; i++) {
+                final int digit = line.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new NumberFormatException(getInvalidNumberMessage(line, field));
+                }
+
+                value = value * 10 + digit;
+            }
+
+            return negative ? -value : value;
+        }
+
+        /**
+         * Parses a field having too many digits to be parsed by {@link #parseLong(String, int)}
+         * without overflow checking.
+         */
+        private long slowParseLong(final String line, final int field) {
+            return Long.parseLong(line.substring(fieldStart[field], fieldEnd[field]));
+        }
+
+        private String getInvalidNumberMessage(final String line, final int field) {
+            return "For input string: \"" + line.substring(fieldStart[field], fieldEnd[field]) + "\"";
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (!Objects.isNull(reader)) {
+                    reader.close();
+                    reader = null;
+                }
+
+                if (!Objects.isNull(zipFile)) {
+                    zipFile.close();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Reads Cloudlets from a {@link SwfParser} into a bounded queue using a background thread.
+     */
+    private static final class BackgroundWorkloadIterator implements WorkloadIterator {
+        /**
+         * An object added to the {@link #queue} to indicate there are no more Cloudlets.
+         */
+        private static final Object END = new Object();
+
+        /**
+         * The queue containing the created Cloudlets, followed by the {@link #END} object
+         * or the {@link RuntimeException} or {@link Error} that stopped the parsing.
+         */
+        private final BlockingQueue<Object> queue;
+
+        private final Thread thread;
+
+        /**
+         * The next object taken from the {@link #queue} or null if it wasn't taken yet.
+         */
+        private Object next;
+
+        BackgroundWorkloadIterator(final SwfParser parser, final int queueCapacity) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.thread = new Thread(() -> parse(parser), "WorkloadFileReader");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        private void parse(final SwfParser parser) {
+            try {
+                try {
+                    while (parser.hasNext()) {
+                        queue.put(parser.next());
+                    }
+                } catch (RuntimeException | Error e) {
+                    queue.put(e);
+                    return;
+                } finally {
+                    parser.close();
+                }
+
+                queue.put(END);
+            } catch (InterruptedException e) {
+                // the iterator was closed
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (Objects.isNull(next)) {
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the workload file to be read", e);
+                }
+            }
+
+            if (next instanceof RuntimeException) {
+                throw (RuntimeException) next;
+            }
+
+            if (next instanceof Error) {
+                throw (Error) next;
+            }
+
+            return next != END;
+        }
+
+        @Override
+        public Cloudlet next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Cloudlet cloudlet = (Cloudlet) next;
+            next = null;
+            return cloudlet;
+        }
+
+        @Override
+        public void close() {
+            thread.interrupt();
+            next = END;
+        }
+    }
 }
@@ -0,0 +1,39 @@
+package org.cloudbus.cloudsim.util;
+
+import java.util.Iterator;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+
+/**
+ * An {@link Iterator} that lazily generates the jobs ({@link Cloudlet Cloudlets})
+ * of a {@link WorkloadModel}, enabling to submit them to a broker
+ * without creating all of them in advance.
+ * It must be {@link #close() closed} if it isn't iterated until the end,
+ * to release the resources it uses (such as an open trace file).
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ * @see WorkloadModel#workloadIterator()
+ */
+public interface WorkloadIterator extends Iterator<Cloudlet>, AutoCloseable {
+    /**
+     * Releases the resources used by the iterator.
+     * After that, no more Cloudlets are generated.
+     */
+    @Override
+    void close();
+
+    /**
+     * Creates a WorkloadIterator for Cloudlets that were already created.
+     *
+     * @param iterator an iterator over the already created Cloudlets
+     * @return the new WorkloadIterator
+     */
+    static WorkloadIterator of(final Iterator<Cloudlet> iterator) {
+        return new WorkloadIterator() {
+            @Override public boolean hasNext() { return iterator.hasNext(); }
+            @Override public Cloudlet next() { return iterator.next(); }
+            @Override public void close() {}
+        };
+    }
+}
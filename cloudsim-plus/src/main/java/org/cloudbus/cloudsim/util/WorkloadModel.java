@@ -34,4 +34,16 @@ public interface WorkloadModel {
      * @return a generated Cloudlet list
      */
     List<Cloudlet> generateWorkload() throws IOException;
+
+    /**
+     * Creates an iterator that generates the jobs ({@link Cloudlet Cloudlets})
+     * lazily, as they are requested.
+     * This default implementation just iterates over the Cloudlets
+     * returned by {@link #generateWorkload()}.
+     *
+     * @return an iterator over the generated Cloudlets
+     */
+    default WorkloadIterator workloadIterator() throws IOException {
+        return WorkloadIterator.of(generateWorkload().iterator());
+    }
 }
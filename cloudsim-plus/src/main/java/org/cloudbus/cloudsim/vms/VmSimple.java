@@ -11,6 +11,7 @@ import java.util.*;
 import org.cloudbus.cloudsim.core.UniquelyIdentificable;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.SideEffectBuffer;
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.Simulation;
@@ -713,7 +714,7 @@ public class VmSimple implements Vm {
          */
     public void notifyOnUpdateVmProcessing() {
         VmHostEventInfo info = VmHostEventInfo.of(this);
-        onUpdateVmProcessingListeners.forEach(l -> l.update(info));
+        onUpdateVmProcessingListeners.forEach(l -> SideEffectBuffer.notify(l, info));
     }
 
     @Override
@@ -7,9 +7,9 @@
  */
 package org.cloudbus.cloudsim.vms.power;
 
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.resources.Pe;
@@ -47,7 +47,7 @@ public class PowerVm extends VmSimple {
     /**
      * @see #getUtilizationHistory()
      */
-    private final List<Double> utilizationHistory = new LinkedList<>();
+    private final UtilizationHistoryBuffer utilizationHistory = new UtilizationHistoryBuffer(MAX_HISTORY_ENTRIES);
 
     /**
      * @see #getPreviousTime()
@@ -138,12 +138,12 @@ public class PowerVm extends VmSimple {
      * Gets the utilization Median Absolute Deviation (MAD) in MIPS.
      */
     public double getUtilizationMad() {
-        if (!getUtilizationHistory().isEmpty()) {
-            int n = Math.min(MAX_HISTORY_ENTRIES, getUtilizationHistory().size());
-            double median = MathUtil.median(getUtilizationHistory());
-            double[] deviationSum = new double[n];
-            for (int i = 0; i < n; i++) {
-                deviationSum[i] = Math.abs(median - getUtilizationHistory().get(i));
+        if (!utilizationHistory.isEmpty()) {
+            final double[] history = utilizationHistory.toDoubleArray();
+            double median = MathUtil.median(history);
+            double[] deviationSum = new double[history.length];
+            for (int i = 0; i < history.length; i++) {
+                deviationSum[i] = Math.abs(median - history[i]);
             }
             return MathUtil.median(deviationSum);
         }
@@ -155,11 +155,8 @@ public class PowerVm extends VmSimple {
      * Gets the utilization mean in MIPS.
      */
     public double getUtilizationMean() {
-        if (!getUtilizationHistory().isEmpty()) {
-	        final int maxNumOfEntriesToAverage = Math.min(MAX_HISTORY_ENTRIES, getUtilizationHistory().size());
-            final double usagePercentMean = getUtilizationHistory().stream()
-                .limit(maxNumOfEntriesToAverage)
-                .mapToDouble(usagePercent -> usagePercent)
+        if (!utilizationHistory.isEmpty()) {
+            final double usagePercentMean = utilizationHistoryStream()
                 .average()
                 .orElse(0);
 
@@ -175,12 +172,10 @@ public class PowerVm extends VmSimple {
      * @return the utilization variance in MIPS
      */
     public double getUtilizationVariance() {
-        if (!getUtilizationHistory().isEmpty()) {
+        if (!utilizationHistory.isEmpty()) {
 	        final double mean = getUtilizationMean();
-	        final int maxNumOfEntriesToAverage = Math.min(MAX_HISTORY_ENTRIES, getUtilizationHistory().size());
-            return getUtilizationHistory().stream()
-                .limit(maxNumOfEntriesToAverage)
-                .mapToDouble(usagePercent -> usagePercent * getMips())
+            return utilizationHistoryStream()
+                .map(usagePercent -> usagePercent * getMips())
                 .map(usageValue -> usageValue - mean)
                 .map(usageValue -> usageValue*usageValue)
                 .average().orElse(0);
@@ -189,24 +184,59 @@ public class PowerVm extends VmSimple {
         return 0;
     }
 
+    /**
+     * Gets a stream of the CPU utilization percentage history values,
+     * without boxing them.
+     *
+     * @return the utilization history stream, starting from the most recent value
+     */
+    private DoubleStream utilizationHistoryStream() {
+        return IntStream.range(0, utilizationHistory.size()).mapToDouble(utilizationHistory::getDouble);
+    }
+
     /**
      * Adds a CPU utilization percentage history value.
+     * If the history already has {@link #MAX_HISTORY_ENTRIES} values,
+     * the oldest one is discarded.
      *
      * @param utilization the CPU utilization percentage to add
      */
     public void addUtilizationHistoryValue(final double utilization) {
-        utilizationHistory.add(0, utilization);
-        if (getUtilizationHistory().size() > MAX_HISTORY_ENTRIES) {
-            utilizationHistory.remove(MAX_HISTORY_ENTRIES);
-        }
+        utilizationHistory.addFirst(utilization);
     }
 
     /**
-     * Gets a <b>read-only</b> CPU utilization percentage history.
+     * Gets a <b>read-only</b> CPU utilization percentage history,
+     * where the first element is the most recent value.
+     * The returned list is a view of the history stored into the VM
+     * (it isn't copied), thus it reflects values added afterwards.
      *
      */
     public List<Double> getUtilizationHistory() {
-	    return Collections.unmodifiableList(utilizationHistory);
+	    return utilizationHistory;
+    }
+
+    /**
+     * Gets a CPU utilization percentage value from the history, without boxing it.
+     *
+     * @param index the index of the value, where 0 is the most recent one
+     * @return the CPU utilization percentage at the given index
+     * @throws IndexOutOfBoundsException if the index is not lower than the size of the
+     * {@link #getUtilizationHistory() utilization history}
+     */
+    public double getUtilizationHistoryValue(final int index) {
+        return utilizationHistory.getDouble(index);
+    }
+
+    /**
+     * Gets a number that is incremented every time a value
+     * is added to the {@link #getUtilizationHistory() utilization history},
+     * enabling to check if the history has changed.
+     *
+     * @return the current version of the utilization history
+     */
+    public long getUtilizationHistoryVersion() {
+        return utilizationHistory.getVersion();
     }
 
     /**
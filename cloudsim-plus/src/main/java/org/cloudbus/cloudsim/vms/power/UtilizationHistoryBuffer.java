@@ -0,0 +1,115 @@
+package org.cloudbus.cloudsim.vms.power;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * A fixed-capacity circular buffer of primitive CPU utilization values
+ * used to store the {@link PowerVm#getUtilizationHistory() utilization history of a PowerVm}.
+ * When the buffer is full, adding a new value overwrites the oldest one,
+ * without shifting or allocating anything.
+ *
+ * <p>The buffer is a <b>read-only</b> {@link java.util.List} view of the values,
+ * where the element at index 0 is the most recently added one.
+ * Since it implements {@link RandomAccess}, any value can be got in constant time,
+ * either boxed by {@link #get(int)} or as a primitive by {@link #getDouble(int)}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.0
+ */
+final class UtilizationHistoryBuffer extends AbstractList<Double> implements RandomAccess {
+    private final double[] values;
+
+    /**
+     * The position into the {@link #values} array of the most recently added value.
+     */
+    private int head;
+
+    private int size;
+
+    /**
+     * @see #getVersion()
+     */
+    private long version;
+
+    /**
+     * Creates a buffer with a given capacity.
+     *
+     * @param capacity the maximum number of values the buffer stores
+     */
+    UtilizationHistoryBuffer(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The utilization history capacity must be greater than zero.");
+        }
+
+        this.values = new double[capacity];
+        this.head = capacity - 1;
+    }
+
+    /**
+     * Adds a value as the first element of the buffer,
+     * discarding the oldest value if the buffer is full.
+     *
+     * @param value the value to add
+     */
+    void addFirst(final double value) {
+        head = head == 0 ? values.length - 1 : head - 1;
+        values[head] = value;
+        if (size < values.length) {
+            size++;
+        }
+
+        version++;
+        modCount++;
+    }
+
+    /**
+     * Gets a value from the buffer without boxing it.
+     *
+     * @param index the index of the value, where 0 is the most recently added one
+     * @return the value at the given index
+     */
+    double getDouble(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        final int i = head + index;
+        return values[i < values.length ? i : i - values.length];
+    }
+
+    @Override
+    public Double get(final int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets a number that is incremented every time a value is added to the buffer,
+     * enabling to check if the buffer has changed.
+     *
+     * @return the current version of the buffer
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Copies the values from the buffer into a new array,
+     * where the first element is the most recently added value.
+     *
+     * @return an array with the values in the buffer
+     */
+    double[] toDoubleArray() {
+        final double[] array = new double[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = getDouble(i);
+        }
+
+        return array;
+    }
+}
@@ -43,4 +43,18 @@ public interface HostEventInfo extends EventInfo {
      * @return
      */
     Host getHost();
+
+    /**
+     * Gets a HostEventInfo instance from the given parameters.
+     * The {@link #getTime()} is the current simulation time.
+     *
+     * @param host the {@link Host} where the event happened
+     */
+    static HostEventInfo of(Host host) {
+        final double time = host.getSimulation().clock();
+        return new HostEventInfo() {
+            @Override public Host getHost() { return host; }
+            @Override public double getTime() { return time; }
+        };
+    }
 }
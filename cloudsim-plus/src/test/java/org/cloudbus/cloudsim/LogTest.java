@@ -14,9 +14,15 @@ import static org.junit.Assert.assertTrue;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.text.DecimalFormatSymbols;
+import java.util.Collections;
 import java.util.Locale;
 
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.LogContext;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -175,4 +181,115 @@ public class LogTest {
         OUTPUT.reset();
     }
 
+    @Test
+    public void testMessagesAreNotBuiltWhenDisabled() throws IOException {
+        OUTPUT.reset();
+        final Object failOnToString = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("The message shouldn't be built when the Log is disabled");
+            }
+        };
+
+        Log.disable();
+        try {
+            Log.printFormatted("%s", failOnToString);
+            Log.printFormattedLine("%s", failOnToString);
+            Log.print(() -> failOnToString.toString());
+            Log.printLine(() -> failOnToString.toString());
+            Log.println(Log.Level.INFO, getClass(), 0, "%s", failOnToString);
+            assertFalse(Log.isEnabled(Log.Level.INFO));
+            assertEquals("", OUTPUT.toString());
+        } finally {
+            Log.enable();
+        }
+    }
+
+    @Test
+    public void testPrintSupplier() throws IOException {
+        OUTPUT.reset();
+        Log.print(() -> "test " + 123);
+        assertEquals("test 123", OUTPUT.toString());
+        OUTPUT.reset();
+
+        Log.printLine(() -> "test " + 123);
+        assertEquals("test 123" + LINE_SEPARATOR, OUTPUT.toString());
+        OUTPUT.reset();
+    }
+
+    @Test
+    public void testRunInContext() throws IOException {
+        OUTPUT.reset();
+        final ByteArrayOutputStream contextOutput = new ByteArrayOutputStream();
+        final LogContext context = new LogContext();
+        context.setOutput(contextOutput);
+
+        final LogContext usedContext = Log.runInContext(context, () -> {
+            Log.print("inside context");
+            return Log.getContext();
+        });
+        Log.print("outside context");
+
+        assertTrue(usedContext == context);
+        assertEquals("inside context", contextOutput.toString());
+        assertEquals("outside context", OUTPUT.toString());
+        OUTPUT.reset();
+    }
+
+    @Test
+    public void testContextInheritsSettingsFromParent() throws IOException {
+        final LogContext context = new LogContext();
+        assertTrue(context.getOutput() == OUTPUT);
+        assertFalse(context.isDisabled());
+
+        Log.disable();
+        try {
+            assertTrue(context.isDisabled());
+            context.enable();
+            assertTrue(context.isEnabled());
+        } finally {
+            Log.enable();
+        }
+    }
+
+    @Test
+    public void testSimulationUsesItsOwnContext() throws IOException {
+        OUTPUT.reset();
+        final ByteArrayOutputStream simulationOutput = new ByteArrayOutputStream();
+        final CloudSim simulation = new CloudSim();
+        OUTPUT.reset();
+        simulation.getLog().setOutput(simulationOutput);
+        simulation.start();
+
+        assertTrue(simulationOutput.toString().startsWith("Starting CloudSim Plus"));
+        assertEquals("", OUTPUT.toString());
+    }
+
+    @Test
+    public void testSimulationSetupUsesItsOwnContext() throws IOException {
+        final ByteArrayOutputStream simulationOutput = new ByteArrayOutputStream();
+        final CloudSim simulation = new CloudSim();
+        simulation.getLog().setOutput(simulationOutput);
+        OUTPUT.reset();
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        broker.submitCloudletList(Collections.singletonList(new CloudletSimple(0, 1000, 1)));
+
+        assertTrue(simulationOutput.toString().contains("Cloudlets submitted to the broker"));
+        assertEquals("", OUTPUT.toString());
+    }
+
+    @Test
+    public void testDefaultContextIsPerThread() throws InterruptedException {
+        final ByteArrayOutputStream threadOutput = new ByteArrayOutputStream();
+        final Thread thread = new Thread(() -> {
+            Log.setOutput(threadOutput);
+            Log.disable();
+        });
+        thread.start();
+        thread.join();
+
+        assertTrue(Log.isEnabled());
+        assertTrue(Log.getOutput() == OUTPUT);
+    }
 }
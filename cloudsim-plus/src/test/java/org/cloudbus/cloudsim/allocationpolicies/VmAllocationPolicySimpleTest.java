@@ -87,5 +87,26 @@ public class VmAllocationPolicySimpleTest {
         assertFalse(policy.allocateHostForVm(vm));
     }
 
+    @Test
+    public void allocateHostForVm_WhenHostsHaveTheSameFreePes_AllocateHostsInListOrder() {
+        policy = createVmAllocationPolicy(new Integer[]{4, 4, 4});
+        List<Host> hosts = policy.getDatacenter().getHostList();
+        List<Vm> vms = new ArrayList<>();
+        for(int i = 0; i < 5; i++) {
+            Vm vm = VmSimpleTest.createVm(i, 1000, 2, 1, 1, 100, CloudletScheduler.NULL);
+            assertTrue(policy.allocateHostForVm(vm));
+            vms.add(vm);
+        }
+
+        final int[] expectedHostIndexes = {0, 1, 2, 0, 1};
+        for(int i = 0; i < vms.size(); i++) {
+            assertEquals(hosts.get(expectedHostIndexes[i]), policy.getVmHostMap().get(vms.get(i)));
+        }
+
+        policy.deallocateHostForVm(vms.get(2));
+        Vm vm = VmSimpleTest.createVm(5, 1000, 2, 1, 1, 100, CloudletScheduler.NULL);
+        assertTrue(policy.allocateHostForVm(vm));
+        assertEquals(hosts.get(2), policy.getVmHostMap().get(vm));
+    }
 
 }
@@ -0,0 +1,160 @@
+package org.cloudbus.cloudsim.allocationpolicies.power;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostDynamicWorkload;
+import org.cloudbus.cloudsim.hosts.power.PowerHost;
+import org.cloudbus.cloudsim.hosts.power.PowerHostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudsimplus.listeners.EventListener;
+import org.cloudsimplus.listeners.HostEventInfo;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class HostUtilizationIndexTest {
+    /**
+     * A Host whose utilization is directly set,
+     * notifying the registered listener.
+     */
+    private static final class HostWithUtilization extends PowerHostSimple {
+        private double utilization;
+        private EventListener<HostEventInfo> listener = EventListener.NULL;
+
+        private HostWithUtilization(int id, double utilization) {
+            super(id, 1000, new ArrayList<Pe>());
+            this.utilization = utilization;
+        }
+
+        @Override
+        public double getUtilizationOfCpu() {
+            return utilization;
+        }
+
+        @Override
+        public HostDynamicWorkload addOnUtilizationUpdateListener(EventListener<HostEventInfo> listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        @Override
+        public boolean removeOnUtilizationUpdateListener(EventListener<HostEventInfo> listener) {
+            this.listener = EventListener.NULL;
+            return true;
+        }
+
+        private void setUtilization(double utilization) {
+            this.utilization = utilization;
+            listener.update(HostEventInfo.of(this));
+        }
+    }
+
+    private static List<HostWithUtilization> createHosts(double... utilizations) {
+        final List<HostWithUtilization> hosts = new ArrayList<>();
+        for (int i = 0; i < utilizations.length; i++) {
+            hosts.add(new HostWithUtilization(i, utilizations[i]));
+        }
+
+        return hosts;
+    }
+
+    @Test
+    public void testFindActiveHost_ReturnsLessUtilizedHostInListOrder() {
+        final List<HostWithUtilization> hosts = createHosts(0.5, 0, 0.2, 0.2, 0.9);
+        final HostUtilizationIndex instance = new HostUtilizationIndex();
+        instance.update(hosts);
+
+        assertEquals(Collections.singleton(hosts.get(1)), instance.getSwitchedOffHosts());
+
+        final Set<Host> excluded = new HashSet<>();
+        final List<PowerHost> found = new ArrayList<>();
+        PowerHost host;
+        while ((host = instance.findActiveHost(excluded, h -> true)) != PowerHost.NULL) {
+            found.add(host);
+            excluded.add(host);
+        }
+
+        assertEquals(4, found.size());
+        assertSame(hosts.get(2), found.get(0));
+        assertSame(hosts.get(3), found.get(1));
+        assertSame(hosts.get(0), found.get(2));
+        assertSame(hosts.get(4), found.get(3));
+    }
+
+    @Test
+    public void testFindActiveHost_SkipsHostsNotMeetingCondition() {
+        final List<HostWithUtilization> hosts = createHosts(0.1, 0.2, 0.3);
+        final HostUtilizationIndex instance = new HostUtilizationIndex();
+        instance.update(hosts);
+
+        assertSame(hosts.get(1), instance.findActiveHost(new HashSet<>(), h -> h.getId() != 0));
+        assertSame(PowerHost.NULL, instance.findActiveHost(new HashSet<>(), h -> false));
+    }
+
+    @Test
+    public void testUtilizationChange_MovesHost() {
+        final List<HostWithUtilization> hosts = createHosts(0.1, 0.2, 0);
+        final HostUtilizationIndex instance = new HostUtilizationIndex();
+        instance.update(hosts);
+        final Set<Host> excluded = new HashSet<>();
+        assertSame(hosts.get(0), instance.findActiveHost(excluded, h -> true));
+
+        hosts.get(0).setUtilization(0);
+        hosts.get(2).setUtilization(0.05);
+        assertEquals(Collections.singleton(hosts.get(0)), instance.getSwitchedOffHosts());
+        assertSame(hosts.get(2), instance.findActiveHost(excluded, h -> true));
+
+        hosts.get(2).setUtilization(0.5);
+        assertSame(hosts.get(1), instance.findActiveHost(excluded, h -> true));
+    }
+
+    @Test
+    public void testUpdate_RebuildsIndexJustWhenInvalidated() {
+        final List<HostWithUtilization> hosts = createHosts(0.3, 0.5);
+        final HostUtilizationIndex instance = new HostUtilizationIndex();
+        instance.update(hosts);
+        assertSame(hosts.get(0), instance.findActiveHost(new HashSet<>(), h -> true));
+
+        hosts.set(0, new HostWithUtilization(2, 0.1));
+        instance.update(hosts);
+        assertNotSame(hosts.get(0), instance.findActiveHost(new HashSet<>(), h -> true));
+
+        instance.invalidate();
+        instance.update(hosts);
+        assertSame(hosts.get(0), instance.findActiveHost(new HashSet<>(), h -> true));
+    }
+
+    @Test
+    public void testGetOverUtilizedHosts_ChecksJustUpdatedHosts() {
+        final List<HostWithUtilization> hosts = createHosts(0.9, 0.5, 0.95);
+        final HostUtilizationIndex instance = new HostUtilizationIndex();
+        instance.update(hosts);
+        final List<PowerHost> checkedHosts = new ArrayList<>();
+        final Predicate<PowerHost> overUtilized = host -> {
+            checkedHosts.add(host);
+            return host.getUtilizationOfCpu() > 0.8;
+        };
+
+        assertEquals(Arrays.asList(hosts.get(0), hosts.get(2)), new ArrayList<>(instance.getOverUtilizedHosts(overUtilized)));
+        assertEquals(3, checkedHosts.size());
+
+        checkedHosts.clear();
+        assertEquals(Arrays.asList(hosts.get(0), hosts.get(2)), new ArrayList<>(instance.getOverUtilizedHosts(overUtilized)));
+        assertTrue(checkedHosts.isEmpty());
+
+        hosts.get(1).setUtilization(0.85);
+        hosts.get(2).setUtilization(0.95);
+        assertEquals(hosts, new ArrayList<>(instance.getOverUtilizedHosts(overUtilized)));
+        assertEquals(2, checkedHosts.size());
+    }
+}
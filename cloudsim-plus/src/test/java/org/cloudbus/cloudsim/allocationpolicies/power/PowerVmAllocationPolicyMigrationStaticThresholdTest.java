@@ -0,0 +1,127 @@
+package org.cloudbus.cloudsim.allocationpolicies.power;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.power.PowerHost;
+import org.cloudbus.cloudsim.hosts.power.PowerHostTest;
+import org.cloudbus.cloudsim.selectionpolicies.power.PowerVmSelectionPolicyMinimumUtilization;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.power.PowerVm;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class PowerVmAllocationPolicyMigrationStaticThresholdTest {
+    /**
+     * Creates a policy managing a given list of Hosts
+     * without requiring a Datacenter.
+     */
+    private static PowerVmAllocationPolicyMigrationStaticThreshold createPolicy(List<PowerHost> hosts) {
+        return new PowerVmAllocationPolicyMigrationStaticThreshold(
+                new PowerVmSelectionPolicyMinimumUtilization(), 0.9)
+        {
+            @Override
+            public <T extends Host> List<T> getHostList() {
+                return (List<T>) hosts;
+            }
+        };
+    }
+
+    /**
+     * Creates Hosts where the ones with more PEs have a lower
+     * increase in power consumption when a VM is placed into them.
+     */
+    private static List<PowerHost> createHosts(int numberOfHosts, int biggestHostIndex) {
+        final List<PowerHost> hosts = new ArrayList<>(numberOfHosts);
+        for (int i = 0; i < numberOfHosts; i++) {
+            hosts.add(PowerHostTest.createPowerHost(i, i == biggestHostIndex ? 4 : 2));
+        }
+
+        return hosts;
+    }
+
+    private static Vm createVm() {
+        return createVm(0);
+    }
+
+    private static Vm createVm(int id) {
+        final PowerVm vm = new PowerVm(id, 1000, 1);
+        vm.setRam(256);
+        return vm;
+    }
+
+    @Test
+    public void testFindHostForVm_SelectsHostWithLowestPowerIncrease() {
+        final List<PowerHost> hosts = createHosts(10, 7);
+        final PowerVmAllocationPolicyMigrationStaticThreshold instance = createPolicy(hosts);
+        assertSame(hosts.get(7), instance.findHostForVm(createVm(), new HashSet<>()));
+    }
+
+    @Test
+    public void testFindHostForVm_SameHostsWithSamePowerIncreaseSelectsTheFirstOne() {
+        final List<PowerHost> hosts = createHosts(10, -1);
+        final PowerVmAllocationPolicyMigrationStaticThreshold instance = createPolicy(hosts);
+        final HashSet<Host> excludedHosts = new HashSet<>();
+        excludedHosts.add(hosts.get(0));
+        assertSame(hosts.get(1), instance.findHostForVm(createVm(), excludedHosts));
+    }
+
+    @Test
+    public void testFindHostForVm_ParallelScoringSelectsTheSameHost() throws InterruptedException {
+        final int numberOfHosts = 100;
+        final List<PowerHost> hosts = createHosts(numberOfHosts, numberOfHosts - 10);
+        final PowerVmAllocationPolicyMigrationStaticThreshold instance = createPolicy(hosts);
+        final Vm vm = createVm();
+        final PowerHost sequentialHost = instance.findHostForVm(vm, new HashSet<>());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            instance.setHostScoringExecutor(executor);
+            assertSame(executor, instance.getHostScoringExecutor());
+            assertSame(sequentialHost, instance.findHostForVm(vm, new HashSet<>()));
+            assertSame(hosts.get(numberOfHosts - 10), sequentialHost);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testGetNewVmPlacement_ComputesHostUtilizationOnceUntilAVmIsPlacedIntoIt() {
+        final List<PowerHost> hosts = createHosts(10, 7);
+        final Map<PowerHost, Integer> utilizationComputations = new HashMap<>();
+        final PowerVmAllocationPolicyMigrationStaticThreshold instance =
+            new PowerVmAllocationPolicyMigrationStaticThreshold(new PowerVmSelectionPolicyMinimumUtilization(), 0.9) {
+                @Override
+                public <T extends Host> List<T> getHostList() {
+                    return (List<T>) hosts;
+                }
+
+                @Override
+                protected double getUtilizationOfCpuMips(PowerHost host) {
+                    utilizationComputations.merge(host, 1, Integer::sum);
+                    return super.getUtilizationOfCpuMips(host);
+                }
+            };
+
+        final List<Vm> vms = Arrays.asList(createVm(0), createVm(1), createVm(2));
+        final Map<Vm, Host> placement = instance.getNewVmPlacement(new ArrayList<>(vms), new HashSet<>());
+
+        assertEquals(3, placement.size());
+        assertSame(hosts.get(7), placement.get(vms.get(0)));
+        for (PowerHost host : hosts) {
+            final long placedVms = placement.values().stream().filter(placedHost -> placedHost == host).count();
+            assertTrue(utilizationComputations.get(host) <= 1 + placedVms);
+        }
+    }
+}
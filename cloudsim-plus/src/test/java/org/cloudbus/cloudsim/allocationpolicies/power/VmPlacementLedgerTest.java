@@ -0,0 +1,128 @@
+package org.cloudbus.cloudsim.allocationpolicies.power;
+
+import java.util.Arrays;
+
+import org.cloudbus.cloudsim.hosts.power.PowerHostSimple;
+import org.cloudbus.cloudsim.hosts.power.PowerHostTest;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerSpaceShared;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.power.PowerVm;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class VmPlacementLedgerTest {
+    private static Vm createVm(int id) {
+        return createVm(id, 1000, 1);
+    }
+
+    private static Vm createVm(int id, double mips, int pes) {
+        final PowerVm vm = new PowerVm(id, mips, pes);
+        vm.setRam(256);
+        return vm;
+    }
+
+    @Test
+    public void testPlannedChanges_DontChangeHosts() {
+        final PowerHostSimple source = PowerHostTest.createPowerHost(0, 2);
+        final PowerHostSimple target = PowerHostTest.createPowerHost(1, 2);
+        final PowerHostSimple untouched = PowerHostTest.createPowerHost(2, 2);
+        final Vm vm0 = createVm(0);
+        final Vm vm1 = createVm(1);
+        final Vm vm2 = createVm(2);
+        assertTrue(source.vmCreate(vm0));
+        assertTrue(source.vmCreate(vm1));
+        assertTrue(untouched.vmCreate(vm2));
+        final double sourceAvailableMips = source.getAvailableMips();
+
+        final VmPlacementLedger instance = new VmPlacementLedger();
+        instance.destroyVm(source, vm0);
+        assertTrue(instance.createVm(target, vm0));
+
+        assertEquals(Arrays.asList(vm1), instance.getVmList(source));
+        assertEquals(Arrays.asList(vm0), instance.getVmList(target));
+        assertSame(untouched.getVmList(), instance.getVmList(untouched));
+        assertEquals(2, instance.getChangedHosts().size());
+        assertFalse(instance.getChangedHosts().contains(untouched));
+        assertEquals(1000, instance.getTotalAllocatedMipsForVm(target, vm0), 0);
+
+        assertEquals(Arrays.asList(vm0, vm1), source.getVmList());
+        assertTrue(target.getVmList().isEmpty());
+        assertEquals(sourceAvailableMips, source.getAvailableMips(), 0);
+        assertEquals(2000, target.getAvailableMips(), 0);
+        assertSame(source, vm0.getHost());
+
+        instance.clear();
+        assertTrue(instance.getChangedHosts().isEmpty());
+        assertEquals(Arrays.asList(vm0, vm1), instance.getVmList(source));
+        assertTrue(instance.getVmList(target).isEmpty());
+    }
+
+    @Test
+    public void testIsSuitableForVm_ConsidersPlannedResources() {
+        final PowerHostSimple source = PowerHostTest.createPowerHost(0, 2);
+        final PowerHostSimple target = PowerHostTest.createPowerHost(1, 2);
+        final Vm vm0 = createVm(0);
+        final Vm vm1 = createVm(1);
+        final Vm vm2 = createVm(2);
+        assertTrue(source.vmCreate(vm0));
+        assertTrue(source.vmCreate(vm1));
+
+        final VmPlacementLedger instance = new VmPlacementLedger();
+        assertFalse(instance.isSuitableForVm(source, vm2));
+        instance.destroyVm(source, vm0);
+        assertTrue(instance.isSuitableForVm(source, vm2));
+
+        assertTrue(instance.createVm(target, vm0));
+        assertTrue(instance.createVm(target, vm1));
+        assertFalse(instance.isSuitableForVm(target, vm2));
+        assertFalse(instance.createVm(target, vm2));
+        assertTrue(target.isSuitableForVm(vm2));
+
+        instance.destroyVm(target, vm1);
+        assertTrue(instance.isSuitableForVm(target, vm2));
+    }
+
+    @Test
+    public void testIsSuitableForVm_VmWithMorePesThanHost() {
+        final PowerHostSimple host = PowerHostTest.createPowerHost(0, 2);
+        final Vm vm = createVm(0, 500, 3);
+
+        final VmPlacementLedger instance = new VmPlacementLedger();
+        assertFalse(instance.isSuitableForVm(host, vm));
+        assertFalse(instance.createVm(host, vm));
+        assertFalse(host.vmCreate(vm));
+    }
+
+    @Test
+    public void testIsSuitableForVm_ConsidersPlannedFreePesOfSpaceSharedHost() {
+        final PowerHostSimple host = PowerHostTest.createPowerHost(0, 2);
+        host.setVmScheduler(new VmSchedulerSpaceShared());
+        final Vm vm0 = createVm(0, 100, 1);
+        final Vm vm1 = createVm(1, 100, 2);
+        assertTrue(host.vmCreate(vm0));
+
+        final VmPlacementLedger instance = new VmPlacementLedger();
+        assertFalse(instance.isSuitableForVm(host, vm1));
+        instance.destroyVm(host, vm0);
+        assertTrue(instance.isSuitableForVm(host, vm1));
+        assertTrue(instance.createVm(host, vm1));
+        assertFalse(instance.isSuitableForVm(host, createVm(2, 100, 1)));
+    }
+
+    @Test
+    public void testDestroyVm_UndoingAllChangesOfHostMakesItUnchanged() {
+        final PowerHostSimple host = PowerHostTest.createPowerHost(0, 2);
+        final Vm vm = createVm(0);
+
+        final VmPlacementLedger instance = new VmPlacementLedger();
+        assertTrue(instance.createVm(host, vm));
+        assertTrue(instance.getChangedHosts().contains(host));
+        instance.destroyVm(host, vm);
+        assertTrue(instance.getChangedHosts().isEmpty());
+        assertSame(host.getVmList(), instance.getVmList(host));
+    }
+}
@@ -0,0 +1,227 @@
+package org.cloudbus.cloudsim.brokers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristicsSimple;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimpleTest;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.util.WorkloadIterator;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class DatacenterBrokerSimpleTest {
+    private static final double WORKLOAD_WINDOW = 10;
+    private static final double[] SUBMISSION_TIMES = {0, 5, 100, 1000};
+
+    /**
+     * A WorkloadIterator which counts how many Cloudlets were pulled from it.
+     */
+    private static class CountingWorkloadIterator implements WorkloadIterator {
+        private final Iterator<Cloudlet> iterator;
+        private int pulledCloudlets;
+        private boolean closed;
+
+        CountingWorkloadIterator(List<Cloudlet> cloudlets) {
+            this.iterator = cloudlets.iterator();
+        }
+
+        @Override public boolean hasNext() { return !closed && iterator.hasNext(); }
+        @Override public Cloudlet next() { pulledCloudlets++; return iterator.next(); }
+        @Override public void close() { closed = true; }
+    }
+
+    private static DatacenterBrokerSimple createScenario(CloudSim simulation) {
+        return createScenario(simulation, 1);
+    }
+
+    private static DatacenterBrokerSimple createScenario(CloudSim simulation, int numberOfVms) {
+        final List<Host> hosts = new ArrayList<>(1);
+        hosts.add(HostSimpleTest.createHostSimple(0, numberOfVms, 1000, 512 * numberOfVms, 1000 * numberOfVms, 1000 * numberOfVms));
+        new DatacenterSimple(simulation, new DatacenterCharacteristicsSimple(hosts), new VmAllocationPolicySimple());
+
+        final DatacenterBrokerSimple broker = new DatacenterBrokerSimple(simulation);
+        for (int i = 0; i < numberOfVms; i++) {
+            broker.submitVm(
+                new VmSimple(i, 1000, 1)
+                    .setRam(512).setBw(1000).setSize(1000).setBroker(broker)
+                    .setCloudletScheduler(new CloudletSchedulerTimeShared()));
+        }
+        return broker;
+    }
+
+    private static List<Cloudlet> createCloudlets(DatacenterBroker broker) {
+        final List<Cloudlet> cloudlets = new ArrayList<>(SUBMISSION_TIMES.length);
+        for (int i = 0; i < SUBMISSION_TIMES.length; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(i, 1000, 1)
+                .setUtilizationModel(new UtilizationModelFull())
+                .setBroker(broker);
+            cloudlet.setSubmissionDelay(SUBMISSION_TIMES[i]);
+            cloudlets.add(cloudlet);
+        }
+
+        return cloudlets;
+    }
+
+    @Test
+    public void testSubmitWorkload_PullsJustTheCloudletsOfTheFirstWindowUpfront() {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterBrokerSimple broker = createScenario(simulation);
+        final CountingWorkloadIterator workload = new CountingWorkloadIterator(createCloudlets(broker));
+
+        broker.submitWorkload(workload, WORKLOAD_WINDOW);
+
+        assertEquals(2, broker.getCloudletsWaitingList().size());
+        assertEquals(3, workload.pulledCloudlets);
+        assertTrue(broker.isSubmittingWorkload());
+        assertFalse(workload.closed);
+    }
+
+    @Test
+    public void testSubmitWorkload_CloudletsStartAtTheirSubmissionTime() {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterBrokerSimple broker = createScenario(simulation);
+        final List<Cloudlet> cloudlets = createCloudlets(broker);
+        final CountingWorkloadIterator workload = new CountingWorkloadIterator(cloudlets);
+
+        broker.submitWorkload(workload, WORKLOAD_WINDOW);
+        simulation.start();
+
+        assertEquals(SUBMISSION_TIMES.length, broker.getCloudletsFinishedList().size());
+        for (int i = 0; i < SUBMISSION_TIMES.length; i++) {
+            final double startTime = cloudlets.get(i).getExecStartTime();
+            assertTrue(
+                String.format("Cloudlet %d started at %.2f", i, startTime),
+                startTime >= SUBMISSION_TIMES[i] && startTime < SUBMISSION_TIMES[i] + 1);
+        }
+
+        assertTrue(workload.closed);
+        assertFalse(broker.isSubmittingWorkload());
+    }
+
+    @Test
+    public void testSelectVmForWaitingCloudlet_RoundRobinContinuesFromBoundVm() {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterBrokerSimple broker = createScenario(simulation, 3);
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            cloudlets.add(new CloudletSimple(i, 1000, 1)
+                .setUtilizationModel(new UtilizationModelFull())
+                .setBroker(broker));
+        }
+        broker.submitCloudletList(cloudlets);
+        broker.bindCloudletToVm(cloudlets.get(1), broker.getVmsWaitingList().get(2));
+
+        simulation.start();
+
+        final int[] expectedVmIds = {0, 2, 0, 1, 2};
+        for (int i = 0; i < expectedVmIds.length; i++) {
+            assertEquals("Cloudlet " + i, expectedVmIds[i], cloudlets.get(i).getVm().getId());
+        }
+        assertTrue(broker.getCloudletsWaitingList().isEmpty());
+        assertEquals(cloudlets.size(), broker.getCloudletsFinishedList().size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetVmsCreatedList_IsReadOnly() {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterBrokerSimple broker = createScenario(simulation, 2);
+        broker.getVmsCreatedList().add(broker.getVmsWaitingList().get(0));
+    }
+
+    @Test
+    public void testAddAndRemoveVmFromCreatedList_KeepIndexesUpdated() {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterBrokerSimple broker = createScenario(simulation, 3);
+        final List<Vm> vms = new ArrayList<>(broker.getVmsWaitingList());
+        vms.forEach(broker::addVmToCreatedList);
+
+        assertTrue(broker.removeVmFromCreatedList(vms.get(0)));
+        assertFalse(broker.removeVmFromCreatedList(vms.get(0)));
+        assertFalse(broker.isVmCreated(vms.get(0)));
+        assertEquals(Arrays.asList(vms.get(1), vms.get(2)), broker.getVmsCreatedList());
+        assertEquals(0, broker.getVmCreatedIndex(vms.get(1)));
+        assertEquals(1, broker.getVmCreatedIndex(vms.get(2)));
+        assertSame(vms.get(2), broker.getVmFromCreatedList(1));
+
+        broker.addVmToCreatedList(vms.get(0));
+        assertEquals(2, broker.getVmCreatedIndex(vms.get(0)));
+    }
+
+    @Test
+    public void testRequestDatacentersToCreateWaitingCloudlets_SendsOneEventForEachSubmissionDelay() {
+        final int[] submitEvents = runCloudletsWithTwoSubmissionDelays(true);
+        assertEquals(2, submitEvents[0]);
+        assertEquals(0, submitEvents[1]);
+    }
+
+    @Test
+    public void testRequestDatacentersToCreateWaitingCloudlets_SendsOneEventForEachCloudletByDefault() {
+        final int[] submitEvents = runCloudletsWithTwoSubmissionDelays(false);
+        assertEquals(0, submitEvents[0]);
+        assertEquals(6, submitEvents[1]);
+    }
+
+    /**
+     * Runs 6 Cloudlets, half of them with a submission delay,
+     * and counts the events used to submit them.
+     *
+     * @param batches if Cloudlets have to be submitted in batches
+     * @return an array with the number of {@link CloudSimTags#CLOUDLET_SUBMIT_LIST}
+     * and {@link CloudSimTags#CLOUDLET_SUBMIT} events, respectively
+     */
+    private int[] runCloudletsWithTwoSubmissionDelays(boolean batches) {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterBrokerSimple broker = createScenario(simulation, 2);
+        broker.setSubmittingCloudletsInBatches(batches);
+        final List<Cloudlet> cloudlets = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(i, 1000, 1)
+                .setUtilizationModel(new UtilizationModelFull())
+                .setBroker(broker);
+            cloudlet.setSubmissionDelay(i % 2 == 0 ? 0 : 5);
+            cloudlets.add(cloudlet);
+        }
+        broker.submitCloudletList(cloudlets);
+
+        final int[] submitEvents = new int[2];
+        simulation.addOnEventProcessingListener(evt -> {
+            if (evt.getTag() == CloudSimTags.CLOUDLET_SUBMIT_LIST) {
+                submitEvents[0]++;
+            } else if (evt.getTag() == CloudSimTags.CLOUDLET_SUBMIT) {
+                submitEvents[1]++;
+            }
+        });
+        simulation.start();
+
+        assertEquals(cloudlets.size(), broker.getCloudletsFinishedList().size());
+        for (Cloudlet cloudlet : cloudlets) {
+            assertTrue(cloudlet.getExecStartTime() >= cloudlet.getSubmissionDelay());
+        }
+
+        return submitEvents;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSubmitWorkload_ZeroWindow() {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterBrokerSimple broker = createScenario(simulation);
+        broker.submitWorkload(WorkloadIterator.of(createCloudlets(broker).iterator()), 0);
+    }
+}
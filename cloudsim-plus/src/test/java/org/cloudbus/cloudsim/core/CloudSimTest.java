@@ -0,0 +1,46 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.core.predicates.PredicateType;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudSimTest {
+    private static final int SOURCE = 1;
+    private static final int DESTINATION = 2;
+    private static final int TAG = 100;
+
+    @Test
+    public void testCancel_PredicateType() {
+        final CloudSim simulation = new CloudSim();
+        simulation.send(SOURCE, DESTINATION, 5, TAG, "a");
+        simulation.send(SOURCE, DESTINATION, 2, TAG, "b");
+        simulation.send(DESTINATION, SOURCE, 1, TAG, "c");
+
+        assertEquals("b", simulation.cancel(SOURCE, new PredicateType(TAG)).getData());
+        assertEquals("a", simulation.cancel(SOURCE, new PredicateType(TAG)).getData());
+        assertSame(SimEvent.NULL, simulation.cancel(SOURCE, new PredicateType(TAG)));
+    }
+
+    @Test
+    public void testCancelAll_PredicateTypeSubclassOverridingTest() {
+        final CloudSim simulation = new CloudSim();
+        simulation.send(SOURCE, DESTINATION, 1, TAG, "a");
+        simulation.send(SOURCE, DESTINATION, 2, TAG, "b");
+
+        final PredicateType dataIsA = new PredicateType(TAG) {
+            @Override
+            public boolean test(SimEvent ev) {
+                return super.test(ev) && "a".equals(ev.getData());
+            }
+        };
+
+        assertTrue(simulation.cancelAll(SOURCE, dataIsA));
+        assertFalse(simulation.cancelAll(SOURCE, dataIsA));
+        assertEquals("b", simulation.cancel(SOURCE, new PredicateType(TAG)).getData());
+    }
+}
@@ -0,0 +1,68 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudSimEventPoolTest {
+    private static CloudSimEvent createEvent(CloudSimEventPool pool, double time) {
+        return pool.newEvent(null, SimEvent.Type.SEND, time, 1, 2, 3, "data");
+    }
+
+    @Test
+    public void testNewEvent_ReusesReleasedEvent() {
+        final CloudSimEventPool pool = new CloudSimEventPool(2);
+        final CloudSimEvent evt = createEvent(pool, 1);
+        evt.setSerial(10);
+        assertTrue(pool.release(evt));
+        assertEquals(1, pool.size());
+        assertNull(evt.getData());
+
+        final CloudSimEvent reused = pool.newEvent(null, SimEvent.Type.HOLD_DONE, 5, 4, 5, 6, null);
+        assertSame(evt, reused);
+        assertEquals(0, pool.size());
+        assertEquals(SimEvent.Type.HOLD_DONE, reused.getType());
+        assertEquals(5, reused.eventTime(), 0);
+        assertEquals(4, reused.getSource());
+        assertEquals(5, reused.getDestination());
+        assertEquals(6, reused.getTag());
+        assertEquals(-1, reused.getSerial());
+    }
+
+    @Test
+    public void testRelease_SameEventTwice() {
+        final CloudSimEventPool pool = new CloudSimEventPool(2);
+        final CloudSimEvent evt = createEvent(pool, 1);
+        assertTrue(pool.release(evt));
+        assertFalse(pool.release(evt));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void testRelease_FullPool() {
+        final CloudSimEventPool pool = new CloudSimEventPool(1);
+        final CloudSimEvent evt1 = createEvent(pool, 1);
+        final CloudSimEvent evt2 = createEvent(pool, 2);
+        assertTrue(pool.release(evt1));
+        assertFalse(pool.release(evt2));
+        assertFalse(pool.release(SimEvent.NULL));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void testRelease_ZeroCapacity() {
+        final CloudSimEventPool pool = new CloudSimEventPool(0);
+        final CloudSimEvent evt = createEvent(pool, 1);
+        assertFalse(pool.release(evt));
+        assertNotSame(evt, createEvent(pool, 1));
+        assertEquals("data", evt.getData());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() {
+        new CloudSimEventPool(-1);
+    }
+}
@@ -0,0 +1,111 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class DeferredQueueTest {
+    private static SimEvent createEvent(double time, int dest, int tag) {
+        return new CloudSimEvent(null, SimEvent.Type.SEND, time, 0, dest, tag, null);
+    }
+
+    @Test
+    public void testAddEvent_EventsOfEachDestinationOrderedByTime() {
+        final DeferredQueue queue = new DeferredQueue();
+        queue.addEvent(createEvent(2, 1, 0));
+        queue.addEvent(createEvent(5, 2, 0));
+        queue.addEvent(createEvent(1, 1, 1));
+        queue.addEvent(createEvent(2, 1, 2));
+        queue.addEvent(createEvent(3, 2, 0));
+
+        assertEquals(5, queue.size());
+        assertEquals(3, queue.size(1));
+        assertEquals(2, queue.size(2));
+        assertEquals(0, queue.size(3));
+
+        assertArrayEquals(new Object[]{1, 0, 2}, queue.stream(1).map(SimEvent::getTag).collect(toList()).toArray());
+        assertArrayEquals(new Object[]{3.0, 5.0}, queue.stream(2).map(SimEvent::eventTime).collect(toList()).toArray());
+        assertEquals(1, queue.first().eventTime(), 0);
+    }
+
+    @Test
+    public void testRemove() {
+        final DeferredQueue queue = new DeferredQueue();
+        final SimEvent evt = createEvent(1, 1, 0);
+        queue.addEvent(createEvent(0, 1, 0));
+        queue.addEvent(evt);
+
+        assertFalse(queue.remove(SimEvent.NULL));
+        assertTrue(queue.remove(evt));
+        assertFalse(queue.remove(evt));
+        assertEquals(1, queue.size());
+        assertEquals(1, queue.size(1));
+    }
+
+    @Test
+    public void testFirst_NoEventsForDestination() {
+        final DeferredQueue queue = new DeferredQueue();
+        queue.addEvent(createEvent(0, 1, 0));
+        assertSame(SimEvent.NULL, queue.first(2));
+        assertEquals(0, queue.stream(2).count());
+    }
+
+    @Test
+    public void testFirst_EventWithGivenTags() {
+        final DeferredQueue queue = new DeferredQueue();
+        final SimEvent evt1 = createEvent(2, 1, 1);
+        final SimEvent evt2 = createEvent(2, 1, 2);
+        final SimEvent evt3 = createEvent(1, 1, 2);
+        queue.addEvent(createEvent(0, 1, 0));
+        queue.addEvent(evt1);
+        queue.addEvent(evt2);
+        queue.addEvent(evt3);
+        queue.addEvent(createEvent(0, 2, 1));
+
+        assertSame(evt3, queue.first(1, Collections.singletonList(2)));
+        assertSame(evt3, queue.first(1, Arrays.asList(1, 2)));
+        assertSame(SimEvent.NULL, queue.first(1, Collections.singletonList(3)));
+        assertEquals(3, queue.size(1, Arrays.asList(1, 2, 2)));
+
+        assertTrue(queue.remove(evt3));
+        assertSame(evt1, queue.first(1, Arrays.asList(2, 1)));
+        assertSame(evt2, queue.first(1, Collections.singletonList(2)));
+        assertEquals(2, queue.size(1, Arrays.asList(1, 2)));
+    }
+
+    @Test
+    public void testFirst_FollowsEventsAddedAndRemoved() {
+        final DeferredQueue queue = new DeferredQueue();
+        final SimEvent evt1 = createEvent(3, 1, 0);
+        final SimEvent evt2 = createEvent(2, 2, 0);
+        final SimEvent evt3 = createEvent(1, 1, 0);
+        queue.addEvent(evt1);
+        assertSame(evt1, queue.first());
+        queue.addEvent(evt2);
+        assertSame(evt2, queue.first());
+        queue.addEvent(evt3);
+        assertSame(evt3, queue.first());
+
+        assertTrue(queue.remove(evt3));
+        assertSame(evt2, queue.first());
+        assertTrue(queue.remove(evt2));
+        assertSame(evt1, queue.first());
+        assertSame(SimEvent.NULL, queue.first(2));
+        assertEquals(0, queue.size(2));
+        assertTrue(queue.remove(evt1));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testFirst_EmptyQueue() {
+        new DeferredQueue().first();
+    }
+}
@@ -0,0 +1,260 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that all {@link FutureEventQueue} implementations
+ * return events in the same order of the {@link FutureQueue}.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+public class FutureEventQueueTest {
+    private static final List<Supplier<FutureEventQueue>> QUEUES =
+        Arrays.asList(HeapQueue::new, CalendarQueue::new, LadderQueue::new);
+
+    private static SimEvent createEvent(double time, int src) {
+        return new CloudSimEvent(null, SimEvent.Type.SEND, time, src, 0, 0, null);
+    }
+
+    @Test
+    public void testPollFirst_EventsAtSameTimeFollowAdditionOrder() {
+        for (Supplier<FutureEventQueue> supplier : QUEUES) {
+            final FutureEventQueue queue = supplier.get();
+            for (int i = 0; i < 200; i++) {
+                queue.addEvent(createEvent(i % 2 == 0 ? 10 : 5, i));
+            }
+
+            double previousTime = 0;
+            int previousSrc = -1;
+            while (!queue.isEmpty()) {
+                final SimEvent evt = queue.pollFirst();
+                if (evt.eventTime() == previousTime) {
+                    assertTrue(queue.getClass().getSimpleName(), evt.getSource() > previousSrc);
+                }
+                assertTrue(queue.getClass().getSimpleName(), evt.eventTime() >= previousTime);
+                previousTime = evt.eventTime();
+                previousSrc = evt.getSource();
+            }
+        }
+    }
+
+    @Test
+    public void testHoldModel_SameOrderAsFutureQueue() {
+        for (Supplier<FutureEventQueue> supplier : QUEUES) {
+            final List<SimEvent> expected = runHoldModel(new FutureQueue());
+            final List<SimEvent> actual = runHoldModel(supplier.get());
+            assertEquals(queueName(supplier), expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(queueName(supplier), expected.get(i).eventTime(), actual.get(i).eventTime(), 0);
+                assertEquals(queueName(supplier), expected.get(i).getSource(), actual.get(i).getSource());
+            }
+        }
+    }
+
+    @Test
+    public void testPollFirst_EventsAddedFirstAtSameTimeHaveSameOrderAsFutureQueue() {
+        for (Supplier<FutureEventQueue> supplier : QUEUES) {
+            final List<SimEvent> expected = addEventsFirstAtSameTime(new FutureQueue());
+            final List<SimEvent> actual = addEventsFirstAtSameTime(supplier.get());
+            assertEquals(queueName(supplier), expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(queueName(supplier), expected.get(i).eventTime(), actual.get(i).eventTime(), 0);
+                assertEquals(queueName(supplier), expected.get(i).getSource(), actual.get(i).getSource());
+            }
+        }
+    }
+
+    /**
+     * Adds many events at a few distinct times, mixing events added to the head of the queue
+     * (which all have the same serial) and regular events, polling some events meanwhile.
+     * Events added to the head of the queue at the same time must be polled in the order they were added.
+     *
+     * @param queue the queue to add events
+     * @return the list of polled events
+     */
+    private List<SimEvent> addEventsFirstAtSameTime(FutureEventQueue queue) {
+        final Random random = new Random(2);
+        final List<SimEvent> polled = new ArrayList<>();
+        for (int src = 0; src < 5000; src++) {
+            final SimEvent evt = createEvent(random.nextInt(5), src);
+            if (random.nextBoolean()) {
+                queue.addEventFirst(evt);
+            } else {
+                queue.addEvent(evt);
+            }
+
+            if (src % 10 == 0) {
+                polled.add(queue.pollFirst());
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            polled.add(queue.pollFirst());
+        }
+
+        return polled;
+    }
+
+    /**
+     * Runs a hold model, where each polled event schedules a new one,
+     * also adding events to the head of the queue and removing some events.
+     * @param queue the queue to run the model
+     * @return the list of polled events
+     */
+    private List<SimEvent> runHoldModel(FutureEventQueue queue) {
+        final Random random = new Random(1);
+        final List<SimEvent> polled = new ArrayList<>();
+        final List<SimEvent> added = new ArrayList<>();
+        int src = 0;
+        for (; src < 1000; src++) {
+            final SimEvent evt = createEvent(random.nextInt(100), src);
+            queue.addEvent(evt);
+            added.add(evt);
+        }
+
+        while (!queue.isEmpty()) {
+            final SimEvent first = queue.first();
+            final SimEvent evt = queue.pollFirst();
+            assertSame(first, evt);
+            polled.add(evt);
+            if (src < 20000) {
+                final double delay = src % 7 == 0 ? 0 : random.nextDouble() * (src % 3 == 0 ? 1000 : 10);
+                final SimEvent newEvent = createEvent(evt.eventTime() + delay, src++);
+                if (src % 11 == 0) {
+                    queue.addEventFirst(newEvent);
+                } else {
+                    queue.addEvent(newEvent);
+                }
+                added.add(newEvent);
+            }
+
+            if (src % 13 == 0) {
+                queue.remove(added.get(random.nextInt(added.size())));
+            }
+        }
+
+        return polled;
+    }
+
+    @Test
+    public void testRemove() {
+        for (Supplier<FutureEventQueue> supplier : QUEUES) {
+            final FutureEventQueue queue = supplier.get();
+            final List<SimEvent> events = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final SimEvent evt = createEvent(i, i);
+                events.add(evt);
+                queue.addEvent(evt);
+            }
+
+            assertTrue(queue.remove(events.get(0)));
+            assertTrue(queue.remove(events.get(50)));
+            assertFalse(queue.remove(events.get(50)));
+            assertEquals(98, queue.size());
+            assertEquals(98, queue.stream().count());
+            assertSame(events.get(1), queue.pollFirst());
+        }
+    }
+
+    @Test
+    public void testRemoveAllBySourceAndTag() {
+        final List<Supplier<FutureEventQueue>> queues = new ArrayList<>(QUEUES);
+        queues.add(FutureQueue::new);
+        for (Supplier<FutureEventQueue> supplier : queues) {
+            final FutureEventQueue queue = supplier.get();
+            for (int i = 0; i < 300; i++) {
+                queue.addEvent(new CloudSimEvent(null, SimEvent.Type.SEND, i, i % 3, 0, i % 2, null));
+            }
+
+            assertEquals(queueName(supplier), 50, queue.stream(1, 1).count());
+            assertTrue(queueName(supplier), queue.removeAll(1, 1));
+            assertFalse(queueName(supplier), queue.removeAll(1, 1));
+            assertEquals(queueName(supplier), 0, queue.stream(1, 1).count());
+            assertEquals(queueName(supplier), 250, queue.size());
+            assertEquals(queueName(supplier), 250, queue.stream().count());
+
+            double previousTime = -1;
+            while (!queue.isEmpty()) {
+                final SimEvent evt = queue.pollFirst();
+                assertFalse(queueName(supplier), evt.getSource() == 1 && evt.getTag() == 1);
+                assertTrue(queueName(supplier), evt.eventTime() > previousTime);
+                previousTime = evt.eventTime();
+            }
+
+            assertEquals(queueName(supplier), 0, queue.stream(0, 0).count());
+        }
+    }
+
+    @Test
+    public void testRemoveAllBySourceAndTag_NegativeSourcesAndSingleRemovals() {
+        for (Supplier<FutureEventQueue> supplier : QUEUES) {
+            final FutureEventQueue queue = supplier.get();
+            final List<SimEvent> events = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                final SimEvent evt = new CloudSimEvent(null, SimEvent.Type.SEND, i, -1 - i % 2, 0, i % 3, null);
+                events.add(evt);
+                queue.addEvent(evt);
+            }
+
+            assertTrue(queueName(supplier), queue.remove(events.get(0)));
+            assertEquals(queueName(supplier), 9, queue.stream(-1, 0).count());
+            assertEquals(queueName(supplier), 10, queue.stream(-2, 0).count());
+            assertTrue(queueName(supplier), queue.removeAll(-1, 0));
+            assertEquals(queueName(supplier), 0, queue.stream(-1, 0).count());
+            assertEquals(queueName(supplier), 10, queue.stream(-2, 0).count());
+            assertEquals(queueName(supplier), 10, queue.stream(-1, 1).count());
+            assertFalse(queueName(supplier), queue.remove(events.get(6)));
+            assertTrue(queueName(supplier), queue.remove(events.get(3)));
+            assertEquals(queueName(supplier), 9, queue.stream(-2, 0).count());
+            assertEquals(queueName(supplier), 49, queue.size());
+        }
+    }
+
+    @Test
+    public void testRemove_EventNotInQueue() {
+        for (Supplier<FutureEventQueue> supplier : QUEUES) {
+            final FutureEventQueue queue = supplier.get();
+            queue.addEvent(createEvent(1, 0));
+            assertFalse(queueName(supplier), queue.remove(SimEvent.NULL));
+            assertFalse(queueName(supplier), queue.remove(createEvent(1, 0)));
+            assertEquals(queueName(supplier), 1, queue.size());
+        }
+    }
+
+    @Test
+    public void testClear() {
+        for (Supplier<FutureEventQueue> supplier : QUEUES) {
+            final FutureEventQueue queue = supplier.get();
+            queue.addEvent(createEvent(1, 0));
+            queue.clear();
+            assertTrue(queue.isEmpty());
+            queue.addEvent(createEvent(0.5, 1));
+            assertEquals(1, queue.pollFirst().getSource());
+        }
+    }
+
+    @Test
+    public void testFirst_EmptyQueue() {
+        for (Supplier<FutureEventQueue> supplier : QUEUES) {
+            try {
+                supplier.get().first();
+                fail(queueName(supplier));
+            } catch (NoSuchElementException e) {
+                //the expected exception was thrown
+            }
+        }
+    }
+
+    private String queueName(Supplier<FutureEventQueue> supplier) {
+        return supplier.get().getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,341 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.core.predicates.PredicateType;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimpleTest;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class DatacenterSimpleTest {
+    private static final int HOSTS = 100;
+
+    /**
+     * Number of Hosts for the tests running an entire simulation.
+     */
+    private static final int SIMULATION_HOSTS = 20;
+
+    private static DatacenterSimple createDatacenter() {
+        final List<Host> hosts = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            hosts.add(HostSimpleTest.createHostSimple(i, 1));
+        }
+
+        return new DatacenterSimple(
+            new CloudSim(), new DatacenterCharacteristicsSimple(hosts), new VmAllocationPolicySimple());
+    }
+
+    /**
+     * Processes all Hosts of a Datacenter, logging each Host id and
+     * returning a different next simulation time for each Host.
+     *
+     * @param datacenter the Datacenter to process the Hosts
+     * @param log the stream to write the log to
+     * @return the minimum next simulation time
+     */
+    private static double processHosts(DatacenterSimple datacenter, ByteArrayOutputStream log) {
+        final OutputStream previousOutput = Log.getOutput();
+        final boolean disabled = Log.isDisabled();
+        Log.setOutput(log);
+        Log.enable();
+        try {
+            return datacenter.updateVmsProcessingOfHosts(datacenter.getHostList(), host -> {
+                Log.printConcatLine("Host #", host.getId());
+                return (host.getId() * 37 % HOSTS) + 10;
+            });
+        } finally {
+            Log.setOutput(previousOutput);
+            Log.setDisabled(disabled);
+        }
+    }
+
+    @Test
+    public void testUpdateVmsProcessingOfHosts_ParallelIsEqualToSequential() {
+        final DatacenterSimple datacenter = createDatacenter();
+        final ByteArrayOutputStream sequentialLog = new ByteArrayOutputStream();
+        final double sequentialTime = processHosts(datacenter, sequentialLog);
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            datacenter.setHostsProcessingExecutor(pool);
+            final ByteArrayOutputStream parallelLog = new ByteArrayOutputStream();
+            final double parallelTime = processHosts(datacenter, parallelLog);
+
+            assertEquals(10, sequentialTime, 0);
+            assertEquals(sequentialTime, parallelTime, 0);
+            assertEquals(sequentialLog.toString(), parallelLog.toString());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Runs a simulation with real Hosts, VMs and Cloudlets, recording the times the simulation clock
+     * advanced to and the notifications of listeners of Hosts, VMs and Cloudlets.
+     * Each listener also logs the notification, so that the order of its messages
+     * among the ones logged by the simulation entities is checked too.
+     *
+     * @param executor the executor to process the Hosts in parallel or null to process them sequentially
+     * @param clockTimes the list to add the times the clock advanced to
+     * @param notifications the list to add the listener notifications
+     * @return the log of the simulation
+     */
+    private static String runSimulation(
+        ExecutorService executor, List<Double> clockTimes, List<String> notifications)
+    {
+        final Thread simulationThread = Thread.currentThread();
+        final CloudSim simulation = new CloudSim();
+        final ByteArrayOutputStream log = new ByteArrayOutputStream();
+        simulation.getLog().setOutput(log);
+        simulation.getLog().enable();
+        simulation.addOnClockTickListener(info -> clockTimes.add(info.getTime()));
+
+        final List<Host> hosts = new ArrayList<>(SIMULATION_HOSTS);
+        for (int i = 0; i < SIMULATION_HOSTS; i++) {
+            final Host host = HostSimpleTest.createHostSimple(i, 2);
+            host.setOnUpdateVmsProcessingListener(info -> notify(notifications, simulationThread,
+                String.format("%.2f: Host #%d next completion %.2f",
+                    info.getTime(), info.getHost().getId(), info.getNextCloudletCompletionTime())));
+            hosts.add(host);
+        }
+
+        final DatacenterSimple datacenter = new DatacenterSimple(
+            simulation, new DatacenterCharacteristicsSimple(hosts), new VmAllocationPolicySimple());
+        datacenter.setHostsProcessingExecutor(executor);
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vms = new ArrayList<>(SIMULATION_HOSTS * 2);
+        final List<Cloudlet> cloudlets = new ArrayList<>(SIMULATION_HOSTS * 4);
+        for (int i = 0; i < SIMULATION_HOSTS * 2; i++) {
+            final Vm vm = new VmSimple(i, 1000, 1)
+                .setRam(512).setBw(1000).setSize(10000).setBroker(broker)
+                .setCloudletScheduler(new CloudletSchedulerTimeShared())
+                .addOnUpdateVmProcessingListener(info -> notify(notifications, simulationThread,
+                    String.format("%.2f: VM #%d processed", info.getTime(), info.getVm().getId())));
+            vms.add(vm);
+
+            for (int j = 0; j < 2; j++) {
+                final Cloudlet cloudlet = new CloudletSimple(i * 2 + j, 1000 + (i * 7 + j * 13) % 50 * 100, 1)
+                    .setUtilizationModel(new UtilizationModelFull())
+                    .setBroker(broker)
+                    .addOnCloudletFinishListener(info -> notify(notifications, simulationThread,
+                        String.format("%.2f: Cloudlet #%d finished", info.getTime(), info.getCloudlet().getId())));
+                cloudlet.setVm(vm);
+                cloudlets.add(cloudlet);
+            }
+        }
+
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+        return log.toString();
+    }
+
+    /**
+     * Records and logs a listener notification, checking it is performed by the simulation thread,
+     * as the notifications performed while Hosts are processed in parallel must be deferred.
+     */
+    private static void notify(List<String> notifications, Thread simulationThread, String notification) {
+        assertSame("Listeners must be notified by the simulation thread", simulationThread, Thread.currentThread());
+        notifications.add(notification);
+        Log.printLine(notification);
+    }
+
+    @Test
+    public void testUpdateVmsProcessingOfHosts_ParallelSimulationIsEqualToSequential() {
+        final List<Double> sequentialClockTimes = new ArrayList<>();
+        final List<String> sequentialNotifications = new ArrayList<>();
+        final String sequentialLog = runSimulation(null, sequentialClockTimes, sequentialNotifications);
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<Double> parallelClockTimes = new ArrayList<>();
+            final List<String> parallelNotifications = new ArrayList<>();
+            final String parallelLog = runSimulation(pool, parallelClockTimes, parallelNotifications);
+
+            assertTrue(sequentialClockTimes.size() > 2);
+            assertTrue(sequentialNotifications.size() > SIMULATION_HOSTS * 4);
+            assertEquals(sequentialClockTimes, parallelClockTimes);
+            assertEquals(sequentialNotifications, parallelNotifications);
+            assertEquals(sequentialLog, parallelLog);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUpdateVmsProcessingOfHosts_ParallelThrowsHostProcessingException() {
+        final DatacenterSimple datacenter = createDatacenter();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            datacenter.setHostsProcessingExecutor(pool);
+            datacenter.updateVmsProcessingOfHosts(datacenter.getHostList(), host -> {
+                if (host.getId() == HOSTS / 2) {
+                    throw new IllegalStateException();
+                }
+                return 0;
+            });
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testUpdateVmsProcessingOfHosts_ParallelSchedulesEventsInHostOrder() {
+        final int tag = CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING_EVENT;
+        final DatacenterSimple datacenter = createDatacenter();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            datacenter.setHostsProcessingExecutor(pool);
+            datacenter.updateVmsProcessingOfHosts(datacenter.getHostList(), host -> {
+                datacenter.getSimulation().send(datacenter.getId(), datacenter.getId(), 1, tag, host.getId());
+                return 0;
+            });
+        } finally {
+            pool.shutdown();
+        }
+
+        final List<Object> scheduledHostIds = new ArrayList<>(HOSTS);
+        for (SimEvent evt = datacenter.getSimulation().cancel(datacenter.getId(), new PredicateType(tag));
+             evt != SimEvent.NULL;
+             evt = datacenter.getSimulation().cancel(datacenter.getId(), new PredicateType(tag)))
+        {
+            scheduledHostIds.add(evt.getData());
+        }
+
+        final List<Object> expectedHostIds = new ArrayList<>(HOSTS);
+        datacenter.getHostList().forEach(host -> expectedHostIds.add(host.getId()));
+        assertEquals(expectedHostIds, scheduledHostIds);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUpdateVmsProcessingOfHosts_ParallelThrowsWhenCancellingEvents() {
+        final DatacenterSimple datacenter = createDatacenter();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            datacenter.setHostsProcessingExecutor(pool);
+            datacenter.updateVmsProcessingOfHosts(datacenter.getHostList(), host -> {
+                datacenter.getSimulation().cancelAll(datacenter.getId(), new PredicateType(CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING_EVENT));
+                return 0;
+            });
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testProcessCloudletSubmitList_ProcessesEachCloudletEventAndSendsSingleAck() {
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hosts = new ArrayList<>(2);
+        for (int i = 0; i < 2; i++) {
+            hosts.add(HostSimpleTest.createHostSimple(i, 2));
+        }
+
+        final List<SimEvent> cloudletEvents = new ArrayList<>();
+        new DatacenterSimple(simulation, new DatacenterCharacteristicsSimple(hosts), new VmAllocationPolicySimple()) {
+            @Override
+            protected void processCloudletSubmit(SimEvent ev, boolean ack) {
+                cloudletEvents.add(ev);
+                super.processCloudletSubmit(ev, ack);
+            }
+
+            @Override
+            protected void processCloudletSubmitList(SimEvent ev, boolean ack) {
+                super.processCloudletSubmitList(ev, true);
+            }
+        };
+
+        final List<Map<Cloudlet, Cloudlet.Status>> acks = new ArrayList<>();
+        final DatacenterBrokerSimple broker = new DatacenterBrokerSimple(simulation) {
+            @Override
+            protected void processOtherEvent(SimEvent ev) {
+                if (ev.getTag() == CloudSimTags.CLOUDLET_SUBMIT_LIST_ACK) {
+                    acks.add((Map<Cloudlet, Cloudlet.Status>) ev.getData());
+                } else super.processOtherEvent(ev);
+            }
+        };
+        broker.setSubmittingCloudletsInBatches(true);
+
+        final List<Vm> vms = new ArrayList<>(2);
+        for (int i = 0; i < 2; i++) {
+            vms.add(new VmSimple(i, 1000, 1)
+                .setRam(512).setBw(1000).setSize(10000).setBroker(broker)
+                .setCloudletScheduler(new CloudletSchedulerTimeShared()));
+        }
+
+        final List<Cloudlet> cloudlets = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++) {
+            cloudlets.add(new CloudletSimple(i, 1000, 1)
+                .setUtilizationModel(new UtilizationModelFull())
+                .setBroker(broker));
+        }
+
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+
+        assertEquals(cloudlets.size(), cloudletEvents.size());
+        for (int i = 0; i < cloudlets.size(); i++) {
+            assertEquals(CloudSimTags.CLOUDLET_SUBMIT, cloudletEvents.get(i).getTag());
+            assertSame(cloudlets.get(i), cloudletEvents.get(i).getData());
+        }
+
+        assertEquals(1, acks.size());
+        assertEquals(cloudlets, new ArrayList<>(acks.get(0).keySet()));
+        for (Cloudlet.Status status : acks.get(0).values()) {
+            assertEquals(Cloudlet.Status.INEXEC, status);
+        }
+        assertEquals(cloudlets.size(), broker.getCloudletsFinishedList().size());
+    }
+
+    @Test
+    public void testAddHost_VmAllocationPolicyConsidersAddedHost() {
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hosts = new ArrayList<>(1);
+        hosts.add(HostSimpleTest.createHostSimple(0, 1));
+        final DatacenterSimple datacenter = new DatacenterSimple(
+            simulation, new DatacenterCharacteristicsSimple(hosts), new VmAllocationPolicySimple());
+
+        final Host host = HostSimpleTest.createHostSimple(1, 2);
+        datacenter.addHost(host);
+        assertSame(datacenter, host.getDatacenter());
+
+        final Vm vm = new VmSimple(0, 1000, 2).setRam(512).setBw(1000).setSize(10000);
+        assertTrue(datacenter.getVmAllocationPolicy().allocateHostForVm(vm));
+        assertSame(host, vm.getHost());
+    }
+
+    @Test
+    public void testRemoveHost() {
+        final DatacenterSimple datacenter = createDatacenter();
+        final Host host = datacenter.getHost(0);
+        assertTrue(datacenter.removeHost(host));
+        assertFalse(datacenter.getHostList().contains(host));
+        assertSame(Datacenter.NULL, host.getDatacenter());
+        assertFalse(datacenter.removeHost(host));
+    }
+}
@@ -0,0 +1,101 @@
+package org.cloudbus.cloudsim.network;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.cloudbus.cloudsim.network.topologies.TopologicalGraph;
+import org.cloudbus.cloudsim.network.topologies.TopologicalLink;
+import org.cloudbus.cloudsim.network.topologies.readers.TopologyReaderBrite;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class BlockedFloydWarshallTest {
+    private static final String BRITE_FILE = "src" + File.separator + "test" + File.separator + "topology.brite";
+
+    /**
+     * Creates a random undirected adjacency matrix where some nodes are unconnected.
+     * Delays are integer numbers, so that the delay of any path is exact.
+     */
+    private static double[][] createAdjMatrix(long seed, int nodes) {
+        final Random random = new Random(seed);
+        final double[][] adjMatrix = new double[nodes][nodes];
+        for (int l = 0; l < nodes * 2; l++) {
+            final int i = random.nextInt(nodes - 10);
+            final int j = random.nextInt(nodes - 10);
+            adjMatrix[i][j] = adjMatrix[j][i] = random.nextInt(20);
+        }
+
+        return adjMatrix;
+    }
+
+    private static void assertSameDelays(double[][] expected, double[][] actual, double delta) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(String.format("Delays from node %d", i), expected[i], actual[i], delta);
+        }
+    }
+
+    @Test
+    public void testAllPairsShortestPaths_IsEqualToFloydWarshall() {
+        final int nodes = 300;
+        final double[][] adjMatrix = createAdjMatrix(1, nodes);
+        final double[][] expected = new FloydWarshall(nodes).allPairsShortestPaths(adjMatrix);
+
+        assertSameDelays(expected, new BlockedFloydWarshall(16, false).allPairsShortestPaths(adjMatrix), 0);
+        assertSameDelays(expected, new BlockedFloydWarshall(32, true).allPairsShortestPaths(adjMatrix), 0);
+        assertSameDelays(expected, new BlockedFloydWarshall(nodes * 2, false).allPairsShortestPaths(adjMatrix), 0);
+    }
+
+    @Test
+    public void testAllPairsShortestPaths_ReusesInstanceForDifferentSizes() {
+        final BlockedFloydWarshall instance = new BlockedFloydWarshall(8, false);
+        for (int nodes : new int[]{50, 20, 35}) {
+            final double[][] adjMatrix = createAdjMatrix(nodes, nodes);
+            assertSameDelays(
+                new FloydWarshall(nodes).allPairsShortestPaths(adjMatrix),
+                instance.allPairsShortestPaths(adjMatrix), 0);
+        }
+    }
+
+    @Test
+    public void testComputeShortestPaths_UpdatesMatrixInPlace() {
+        final int nodes = 100;
+        final double[][] adjMatrix = createAdjMatrix(2, nodes);
+        final double[][] expected = new FloydWarshall(nodes).allPairsShortestPaths(adjMatrix);
+
+        new BlockedFloydWarshall(1, true).computeShortestPaths(adjMatrix);
+        assertSameDelays(expected, adjMatrix, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testComputeShortestPaths_NonSquareMatrix() {
+        new BlockedFloydWarshall().computeShortestPaths(new double[3][2]);
+    }
+
+    @Test
+    public void testDelayMatrix_IsEqualToFloydWarshallForBriteFile() throws IOException {
+        final TopologicalGraph graph = new TopologyReaderBrite().readGraphFile(BRITE_FILE);
+        final int nodes = graph.getNumberOfNodes();
+        final double[][] adjMatrix = new double[nodes][nodes];
+        final Iterator<TopologicalLink> iter = graph.getLinkIterator();
+        while (iter.hasNext()) {
+            final TopologicalLink link = iter.next();
+            adjMatrix[link.getSrcNodeID()][link.getDestNodeID()] = link.getLinkDelay();
+            adjMatrix[link.getDestNodeID()][link.getSrcNodeID()] = link.getLinkDelay();
+        }
+
+        final double[][] expected = new FloydWarshall(nodes).allPairsShortestPaths(adjMatrix);
+        final DelayMatrix instance = new DelayMatrix(graph, false);
+        for (int i = 0; i < nodes; i++) {
+            for (int j = 0; j < nodes; j++) {
+                assertEquals(String.format("Delay from %d to %d", i, j), expected[i][j], instance.getDelay(i, j), 1e-9);
+            }
+        }
+    }
+}
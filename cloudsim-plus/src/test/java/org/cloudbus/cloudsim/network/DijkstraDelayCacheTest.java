@@ -0,0 +1,73 @@
+package org.cloudbus.cloudsim.network;
+
+import java.util.Random;
+
+import org.cloudbus.cloudsim.network.topologies.TopologicalGraph;
+import org.cloudbus.cloudsim.network.topologies.TopologicalLink;
+import org.cloudbus.cloudsim.network.topologies.TopologicalNode;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class DijkstraDelayCacheTest {
+    private static final int NODES = 50;
+
+    /**
+     * Creates a random graph including duplicated links, self loops and links with zero delay.
+     * Delays are integer numbers, so that the delay of any path is exact.
+     */
+    private static TopologicalGraph createGraph(long seed, int links) {
+        final Random random = new Random(seed);
+        final TopologicalGraph graph = new TopologicalGraph();
+        for (int i = 0; i < NODES; i++) {
+            graph.addNode(new TopologicalNode(i));
+        }
+
+        for (int i = 0; i < links; i++) {
+            graph.addLink(new TopologicalLink(random.nextInt(NODES), random.nextInt(NODES), random.nextInt(50), 1000));
+        }
+
+        return graph;
+    }
+
+    @Test
+    public void testGetDelay_IsEqualToDelayMatrix() {
+        for (boolean directed : new boolean[]{false, true}) {
+            final TopologicalGraph graph = createGraph(2, 120);
+            final DelayMatrix matrix = new DelayMatrix(graph, directed);
+            final DijkstraDelayCache instance = new DijkstraDelayCache(graph, directed, 4);
+            for (int src = 0; src < NODES; src++) {
+                for (int dest = 0; dest < NODES; dest++) {
+                    assertEquals(
+                        String.format("Delay from %d to %d (directed: %s)", src, dest, directed),
+                        matrix.getDelay(src, dest), instance.getDelay(src, dest), 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGetDelay_EvictsLeastRecentlyUsedSource() {
+        final DijkstraDelayCache instance = new DijkstraDelayCache(createGraph(3, 100), false, 2);
+        instance.getDelay(0, 1);
+        instance.getDelay(1, 0);
+        assertEquals(2, instance.getNumberOfCachedSources());
+
+        instance.getDelay(0, 2);
+        instance.getDelay(2, 0);
+        assertEquals(2, instance.getNumberOfCachedSources());
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetDelay_InvalidNode() {
+        new DijkstraDelayCache(createGraph(4, 10), false).getDelay(0, NODES);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNew_InvalidMaxCachedSources() {
+        new DijkstraDelayCache(createGraph(4, 10), false, 0);
+    }
+}
@@ -0,0 +1,97 @@
+package org.cloudbus.cloudsim.network.topologies;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class BriteNetworkTopologyTest {
+    private static final int NODES = 60;
+    private static final int LINKS = 150;
+
+    /**
+     * Creates random links between nodes, where each row contains
+     * the source node, destination node and latency of a link.
+     * Latencies are integer numbers, so that the delay of any path is exact.
+     */
+    private static int[][] createLinks(long seed) {
+        final Random random = new Random(seed);
+        final int[][] links = new int[LINKS][];
+        for (int i = 0; i < LINKS; i++) {
+            links[i] = new int[]{random.nextInt(NODES), random.nextInt(NODES), 1 + random.nextInt(100)};
+        }
+
+        return links;
+    }
+
+    private static void assertSameDelays(BriteNetworkTopology expected, BriteNetworkTopology actual) {
+        for (int src = 0; src < NODES; src++) {
+            for (int dest = 0; dest < NODES; dest++) {
+                assertEquals(
+                    String.format("Delay from %d to %d", src, dest),
+                    expected.getDelay(src, dest), actual.getDelay(src, dest), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testAddLink_IncrementalUpdateIsEqualToBatchComputation() {
+        final int[][] links = createLinks(1);
+        final BriteNetworkTopology batch = new BriteNetworkTopology();
+        final BriteNetworkTopology incremental = new BriteNetworkTopology();
+        for (int[] link : links) {
+            batch.addLink(link[0], link[1], 1000, link[2]);
+            incremental.addLink(link[0], link[1], 1000, link[2]);
+            //requests a delay to compute the matrices, making next links to just update them
+            incremental.getDelay(link[0], link[1]);
+        }
+
+        assertSameDelays(batch, incremental);
+    }
+
+    @Test
+    public void testAddLink_ReplacingLinkIsEqualToBatchComputation() {
+        final BriteNetworkTopology batch = new BriteNetworkTopology();
+        final BriteNetworkTopology incremental = new BriteNetworkTopology();
+        for (BriteNetworkTopology topology : new BriteNetworkTopology[]{batch, incremental}) {
+            topology.addLink(0, 1, 1000, 5);
+            topology.addLink(1, 2, 1000, 5);
+            topology.addLink(0, 2, 1000, 20);
+        }
+
+        assertEquals(10, incremental.getDelay(0, 2), 0);
+        incremental.addLink(2, 1, 1000, 30);
+        batch.addLink(2, 1, 1000, 30);
+
+        assertEquals(20, incremental.getDelay(0, 2), 0);
+        assertEquals(25, incremental.getDelay(1, 2), 0);
+        assertEquals(batch.getDelay(1, 2), incremental.getDelay(1, 2), 0);
+    }
+
+    @Test
+    public void testSparseTopologyIsEqualToDenseTopology() {
+        final BriteNetworkTopology dense = new BriteNetworkTopology();
+        final BriteNetworkTopology sparse = new SparseBriteNetworkTopology(3);
+        final int[][] links = createLinks(2);
+        for (int i = 0; i < links.length; i++) {
+            dense.addLink(links[i][0], links[i][1], 1000, links[i][2]);
+            sparse.addLink(links[i][0], links[i][1], 1000, links[i][2]);
+            if (i == links.length / 2) {
+                assertSameDelays(dense, sparse);
+            }
+        }
+
+        assertSameDelays(dense, sparse);
+    }
+
+    @Test
+    public void testGetDelay_WithoutLinks() {
+        final BriteNetworkTopology instance = new BriteNetworkTopology();
+        assertFalse(instance.isNetworkEnabled());
+        assertEquals(0, instance.getDelay(0, 1), 0);
+    }
+}
@@ -0,0 +1,113 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudletExecutionInfoListTest {
+    private static CloudletExecutionInfo createCloudletExecInfo(int id) {
+        final Cloudlet cloudlet = new CloudletSimple(id, 1000, 1);
+        cloudlet.assignToDatacenter(Datacenter.NULL);
+        return new CloudletExecutionInfo(cloudlet);
+    }
+
+    @Test
+    public void testFindById_AfterAddAndRemove() {
+        final CloudletExecutionInfoList instance = new CloudletExecutionInfoList();
+        final CloudletExecutionInfo c0 = createCloudletExecInfo(0);
+        final CloudletExecutionInfo c1 = createCloudletExecInfo(1);
+        instance.add(c0);
+        instance.add(c1);
+        assertSame(c1, instance.findById(1).get());
+        assertTrue(instance.contains(c0));
+
+        assertTrue(instance.remove(c1));
+        assertFalse(instance.findById(1).isPresent());
+        assertFalse(instance.remove(c1));
+        assertSame(c0, instance.remove(0));
+        assertFalse(instance.findById(0).isPresent());
+        assertTrue(instance.isEmpty());
+    }
+
+    @Test
+    public void testFindById_AfterRemovingThroughIterator() {
+        final CloudletExecutionInfoList instance = new CloudletExecutionInfoList();
+        for (int id = 0; id < 5; id++) {
+            instance.add(createCloudletExecInfo(id));
+        }
+
+        final Iterator<CloudletExecutionInfo> it = instance.iterator();
+        while (it.hasNext()) {
+            if (it.next().getCloudletId() % 2 == 0) {
+                it.remove();
+            }
+        }
+
+        assertEquals(2, instance.size());
+        assertFalse(instance.findById(2).isPresent());
+        assertEquals(3, instance.findById(3).get().getCloudletId());
+
+        instance.removeIf(c -> c.getCloudletId() == 3);
+        assertFalse(instance.findById(3).isPresent());
+        assertTrue(instance.findById(1).isPresent());
+    }
+
+    @Test
+    public void testRemove_FromTheMiddleKeepsTheOrderOfRemainingElements() {
+        final CloudletExecutionInfoList instance = new CloudletExecutionInfoList();
+        final List<CloudletExecutionInfo> expected = new ArrayList<>();
+        for (int id = 0; id < 5; id++) {
+            final CloudletExecutionInfo cloudlet = createCloudletExecInfo(id);
+            instance.add(cloudlet);
+            expected.add(cloudlet);
+        }
+
+        final CloudletExecutionInfo middle = expected.remove(2);
+        assertTrue(instance.remove(middle));
+        assertEquals(expected, instance);
+        assertFalse(instance.contains(middle));
+        assertFalse(instance.findById(2).isPresent());
+        assertEquals(-1, instance.indexOf(middle));
+        assertEquals(2, instance.indexOf(expected.get(2)));
+
+        assertSame(expected.remove(1), instance.remove(1));
+        assertEquals(expected, instance);
+        assertFalse(instance.findById(1).isPresent());
+
+        final CloudletExecutionInfo added = createCloudletExecInfo(5);
+        instance.add(1, added);
+        expected.add(1, added);
+        assertEquals(expected, instance);
+        assertSame(added, instance.findById(5).get());
+        assertTrue(instance.remove(added));
+        expected.remove(added);
+        assertEquals(expected, instance);
+    }
+
+    @Test
+    public void testFindById_DuplicatedIdsReturnTheFirstOne() {
+        final CloudletExecutionInfoList instance = new CloudletExecutionInfoList();
+        final CloudletExecutionInfo first = createCloudletExecInfo(1);
+        final CloudletExecutionInfo second = createCloudletExecInfo(1);
+        instance.add(first);
+        instance.add(0, second);
+        assertEquals(2, instance.size());
+        assertSame(second, instance.findById(1).get());
+
+        instance.remove(0);
+        assertSame(first, instance.findById(1).get());
+        instance.remove(first);
+        assertFalse(instance.findById(1).isPresent());
+    }
+}
@@ -0,0 +1,52 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import java.util.List;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudletSchedulerCompletelyFairTest {
+    private static final double MIPS = 1000;
+
+    @Test
+    public void testGetCloudletWaitingList_SortedByVirtualRuntime() {
+        final CloudletSchedulerCompletelyFair instance = createSchedulerAndSubmitCloudlets(0, 3, 1, 2);
+        assertEquals(1, instance.getCloudletExecList().size());
+        assertArrayEquals(new Object[]{1, 2, 3}, waitingCloudletIds(instance).toArray());
+    }
+
+    @Test
+    public void testCloudletCancel_RemovesCloudletFromWaitingList() {
+        final CloudletSchedulerCompletelyFair instance = createSchedulerAndSubmitCloudlets(0, 3, 1, 2);
+        assertEquals(2, instance.cloudletCancel(2).getId());
+        assertArrayEquals(new Object[]{1, 3}, waitingCloudletIds(instance).toArray());
+        assertFalse(instance.getCloudletWaitingList().contains(new CloudletExecutionInfo(Cloudlet.NULL)));
+    }
+
+    private List<Integer> waitingCloudletIds(CloudletSchedulerCompletelyFair instance) {
+        return instance.getCloudletWaitingList().stream().map(CloudletExecutionInfo::getCloudletId).collect(toList());
+    }
+
+    private CloudletSchedulerCompletelyFair createSchedulerAndSubmitCloudlets(int... ids) {
+        final CloudletSchedulerCompletelyFair instance = new CloudletSchedulerCompletelyFair();
+        instance.setCurrentMipsShare(CloudletSchedulerUtil.createUnitaryMipsList(MIPS));
+        instance.setVm(new VmSimple(0, MIPS, 1));
+        for (int id : ids) {
+            final Cloudlet cloudlet = new CloudletSimple(id, 10000, 1);
+            cloudlet.assignToDatacenter(Datacenter.NULL);
+            instance.cloudletSubmit(cloudlet);
+        }
+
+        return instance;
+    }
+}
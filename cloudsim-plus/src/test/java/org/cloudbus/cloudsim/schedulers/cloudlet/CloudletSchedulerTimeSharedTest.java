@@ -1,6 +1,7 @@
 package org.cloudbus.cloudsim.schedulers.cloudlet;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
@@ -98,6 +99,37 @@ public class CloudletSchedulerTimeSharedTest {
         assertEquals(expResult, result, 0.0);
     }
 
+    @Test
+    public void testCloudletPauseResumeAndCancel_FindCloudletsById() {
+        final double mips = 1000;
+        CloudletSchedulerTimeShared instance = createCloudletSchedulerWithMipsList(1, mips);
+        final int numberOfCloudlets = 10;
+        final long[] lengths = new long[numberOfCloudlets];
+        final int[] pes = new int[numberOfCloudlets];
+        Arrays.fill(lengths, 10000);
+        Arrays.fill(pes, 1);
+        submitCloudlets(instance, lengths, pes);
+
+        for (int id = 0; id < numberOfCloudlets; id += 2) {
+            assertTrue(instance.cloudletPause(id));
+        }
+
+        assertEquals(numberOfCloudlets/2, instance.getCloudletPausedList().size());
+        assertEquals(numberOfCloudlets/2, instance.getCloudletExecList().size());
+        assertEquals(Cloudlet.Status.PAUSED.ordinal(), instance.getCloudletStatus(4));
+        assertEquals(Cloudlet.Status.INEXEC.ordinal(), instance.getCloudletStatus(5));
+        assertEquals(-1, instance.getCloudletStatus(numberOfCloudlets));
+        assertFalse(instance.cloudletPause(4));
+
+        assertTrue(instance.cloudletResume(4) > 0);
+        assertEquals(Cloudlet.Status.INEXEC.ordinal(), instance.getCloudletStatus(4));
+        assertEquals(4, instance.cloudletCancel(4).getId());
+        assertEquals(2, instance.cloudletCancel(2).getId());
+        assertEquals(-1, instance.getCloudletStatus(4));
+        assertEquals(-1, instance.getCloudletStatus(2));
+        assertEquals(numberOfCloudlets/2 - 2, instance.getCloudletPausedList().size());
+    }
+
     private CloudletSchedulerTimeShared createCloudletSchedulerWithMipsList(int numberOfPes, double mipsOfEachPe) {
         CloudletSchedulerTimeShared instance = new CloudletSchedulerTimeShared();
         List<Double> mipsList = CloudletSchedulerUtil.createMipsList(numberOfPes, mipsOfEachPe);
@@ -422,4 +454,65 @@ public class CloudletSchedulerTimeSharedTest {
         assertEquals(list.size(), instance.getCloudletExecList().size());
     }
 
+    @Test
+    public void testUpdateVmProcessing_FinishTimeQueueGivesSameResultsAsDefaultMode() {
+        final long[] lengths = {3000, 1000, 4000, 5000, 1000, 2500};
+        final int[] pes = {1, 1, 2, 1, 2, 1};
+        final CloudletSchedulerTimeShared defaultScheduler = newSchedulerWithRunningCloudlets(lengths, pes);
+        final CloudletSchedulerTimeShared queueScheduler = createCloudletSchedulerWithMipsList(4, 1000);
+        queueScheduler.setFinishTimeQueueEnabled(true);
+        assertTrue(queueScheduler.isFinishTimeQueueEnabled());
+        submitCloudlets(queueScheduler, lengths, pes);
+
+        for (double time = 0; time <= 20; time += 0.5) {
+            final List<Double> mipsShare = CloudletSchedulerUtil.createMipsList(4, 1000);
+            assertEquals(
+                defaultScheduler.updateVmProcessing(time, mipsShare),
+                queueScheduler.updateVmProcessing(time, mipsShare), 0);
+            assertEquals(defaultScheduler.runningCloudletsNumber(), queueScheduler.runningCloudletsNumber());
+            while (defaultScheduler.hasFinishedCloudlets()) {
+                final Cloudlet expected = defaultScheduler.removeNextFinishedCloudlet();
+                final Cloudlet finished = queueScheduler.removeNextFinishedCloudlet();
+                assertEquals(expected.getId(), finished.getId());
+                assertEquals(expected.getFinishedLengthSoFar(), finished.getFinishedLengthSoFar());
+            }
+            assertFalse(queueScheduler.hasFinishedCloudlets());
+        }
+
+        assertEquals(0, queueScheduler.runningCloudletsNumber());
+    }
+
+    @Test
+    public void testSetFinishTimeQueueEnabled_DisablingUpdatesRunningCloudlets() {
+        final CloudletSchedulerTimeShared instance = createCloudletSchedulerWithMipsList(1, 1000);
+        instance.setFinishTimeQueueEnabled(true);
+        submitCloudlets(instance, new long[]{10000}, new int[]{1});
+        final List<Double> mipsShare = CloudletSchedulerUtil.createUnitaryMipsList(1000);
+        instance.updateVmProcessing(1, mipsShare);
+        instance.updateVmProcessing(3, mipsShare);
+
+        instance.setFinishTimeQueueEnabled(false);
+        assertFalse(instance.isFinishTimeQueueEnabled());
+        assertEquals(3000, instance.getCloudletExecList().get(0).getCloudlet().getFinishedLengthSoFar());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSetFinishTimeQueueEnabled_UnsupportedScheduler() {
+        new CloudletSchedulerCompletelyFair().setFinishTimeQueueEnabled(true);
+    }
+
+    private CloudletSchedulerTimeShared newSchedulerWithRunningCloudlets(long[] lengths, int[] pes) {
+        final CloudletSchedulerTimeShared instance = createCloudletSchedulerWithMipsList(4, 1000);
+        submitCloudlets(instance, lengths, pes);
+        return instance;
+    }
+
+    private void submitCloudlets(CloudletSchedulerTimeShared instance, long[] lengths, int[] pes) {
+        for (int i = 0; i < lengths.length; i++) {
+            final Cloudlet c = new CloudletSimple(i, lengths[i], pes[i]);
+            c.assignToDatacenter(Datacenter.NULL);
+            instance.cloudletSubmit(c);
+        }
+    }
+
 }
@@ -0,0 +1,79 @@
+package org.cloudbus.cloudsim.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class AsyncLogOutputStreamTest {
+    private static final int LINES = 10000;
+
+    private static String createLine(int i) {
+        return String.format("Line %d of the log%n", i);
+    }
+
+    @Test
+    public void testWrite_AllBytesAreWrittenInOrder() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final StringBuilder expected = new StringBuilder();
+        final AsyncLogOutputStream stream = new AsyncLogOutputStream(output, 64);
+        for (int i = 0; i < LINES; i++) {
+            final String line = createLine(i);
+            expected.append(line);
+            stream.write(line.getBytes());
+        }
+
+        stream.close();
+        assertEquals(expected.toString(), output.toString());
+    }
+
+    @Test
+    public void testFlush_WaitsForAllBytesToBeWritten() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final AsyncLogOutputStream stream = new AsyncLogOutputStream(output);
+        try {
+            stream.write('a');
+            stream.write("bcd".getBytes());
+            stream.flush();
+            assertEquals("abcd", output.toString());
+        } finally {
+            stream.close();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testWrite_ThrowsErrorOfUnderlyingStream() throws IOException {
+        final OutputStream failingOutput = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException();
+            }
+        };
+
+        final AsyncLogOutputStream stream = new AsyncLogOutputStream(failingOutput, 16);
+        try {
+            for (int i = 0; i < LINES; i++) {
+                stream.write(createLine(i).getBytes());
+            }
+        } finally {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                //the error is already expected from the write
+            }
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testWrite_ClosedStream() throws IOException {
+        final AsyncLogOutputStream stream = new AsyncLogOutputStream(new ByteArrayOutputStream());
+        stream.close();
+        stream.write('a');
+    }
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class WorkloadFileReaderTest {
@@ -34,6 +35,63 @@ public class WorkloadFileReaderTest {
                 NUMBER_OF_JOGS_AT_SWF_LCG_FILE+NUMBER_OF_JOGS_AT_SWF_NASA_FILE);
     }
 
+    @Test
+    public void workloadIteratorCreatesSameCloudletsAsGenerateWorkload() throws IOException {
+        final List<Cloudlet> expected = createReader(ZIP_FILE).generateWorkload();
+        assertSameCloudlets(expected, createReader(ZIP_FILE).workloadIterator());
+        assertSameCloudlets(expected, createReader(ZIP_FILE).workloadIterator(100));
+    }
+
+    @Test
+    public void workloadIteratorSetsSubmitTimeAsSubmissionDelay() throws IOException {
+        final WorkloadFileReader reader = createReader(SWF_FILE + ".gz");
+        //the first lines of the file are comments
+        reader.setMaxNumberOfLinesToRead(400);
+        reader.setSubmissionDelayEnabled(true);
+        double previousDelay = 0;
+        int cloudlets = 0;
+        try (WorkloadIterator iterator = reader.workloadIterator(10)) {
+            while (iterator.hasNext()) {
+                final double delay = iterator.next().getSubmissionDelay();
+                assertTrue(delay >= previousDelay);
+                previousDelay = delay;
+                cloudlets++;
+            }
+        }
+
+        assertTrue(cloudlets > 0);
+        assertTrue(previousDelay > 0);
+    }
+
+    @Test
+    public void closedWorkloadIteratorHasNoNext() throws IOException {
+        final WorkloadIterator iterator = createReader(SWF_FILE + ".gz").workloadIterator(10);
+        assertTrue(iterator.hasNext());
+        iterator.next();
+        iterator.close();
+        assertFalse(iterator.hasNext());
+    }
+
+    private static void assertSameCloudlets(List<Cloudlet> expected, WorkloadIterator iterator) {
+        try {
+            for (Cloudlet cloudlet : expected) {
+                assertTrue(iterator.hasNext());
+                final Cloudlet actual = iterator.next();
+                assertEquals(cloudlet.getId(), actual.getId());
+                assertEquals(cloudlet.getLength(), actual.getLength());
+                assertEquals(cloudlet.getNumberOfPes(), actual.getNumberOfPes());
+            }
+
+            assertFalse(iterator.hasNext());
+        } finally {
+            iterator.close();
+        }
+    }
+
+    private static WorkloadFileReader createReader(String fileNameWithoutPath) throws IOException {
+        return new WorkloadFileReader("src" + File.separator + "test" + File.separator + fileNameWithoutPath, 1);
+    }
+
     private void readFile(String fileNameWithoutPath, int numberOfJobs) throws IOException {
         WorkloadModel r = new WorkloadFileReader("src"
                 + File.separator
@@ -0,0 +1,66 @@
+package org.cloudbus.cloudsim.vms.power;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class PowerVmTest {
+    private static final double DELTA = 0.000001;
+
+    @Test
+    public void testAddUtilizationHistoryValue_MostRecentValueIsTheFirstOne() {
+        final PowerVm vm = new PowerVm(0, 1000, 1);
+        final List<Double> history = vm.getUtilizationHistory();
+        assertTrue(history.isEmpty());
+
+        vm.addUtilizationHistoryValue(0.1);
+        vm.addUtilizationHistoryValue(0.2);
+        vm.addUtilizationHistoryValue(0.3);
+        assertEquals(Arrays.asList(0.3, 0.2, 0.1), history);
+        assertEquals(0.2, vm.getUtilizationHistoryValue(1), DELTA);
+        assertEquals(3, vm.getUtilizationHistoryVersion());
+    }
+
+    @Test
+    public void testAddUtilizationHistoryValue_DiscardsOldestValuesWhenFull() {
+        final PowerVm vm = new PowerVm(0, 1000, 1);
+        final int total = PowerVm.MAX_HISTORY_ENTRIES + 5;
+        for (int i = 0; i < total; i++) {
+            vm.addUtilizationHistoryValue(i);
+        }
+
+        final List<Double> history = vm.getUtilizationHistory();
+        assertEquals(PowerVm.MAX_HISTORY_ENTRIES, history.size());
+        for (int i = 0; i < history.size(); i++) {
+            assertEquals(total - 1 - i, history.get(i), DELTA);
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetUtilizationHistory_IsReadOnly() {
+        new PowerVm(0, 1000, 1).getUtilizationHistory().add(0.5);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetUtilizationHistoryValue_InvalidIndex() {
+        final PowerVm vm = new PowerVm(0, 1000, 1);
+        vm.addUtilizationHistoryValue(0.5);
+        vm.getUtilizationHistoryValue(1);
+    }
+
+    @Test
+    public void testGetUtilizationMeanAndVariance() {
+        final PowerVm vm = new PowerVm(0, 1000, 1);
+        assertEquals(0, vm.getUtilizationMean(), DELTA);
+        vm.addUtilizationHistoryValue(0.2);
+        vm.addUtilizationHistoryValue(0.4);
+        assertEquals(300, vm.getUtilizationMean(), DELTA);
+        assertEquals(10000, vm.getUtilizationVariance(), DELTA);
+    }
+}